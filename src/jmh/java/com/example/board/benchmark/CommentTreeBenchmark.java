@@ -0,0 +1,102 @@
+package com.example.board.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.board.domain.comment.dto.CommentResponse;
+import com.example.board.domain.comment.dto.CommentRow;
+import com.example.board.domain.comment.repository.CommentRepository;
+import com.example.board.domain.comment.service.CommentService;
+import com.example.board.domain.user.entity.User;
+
+/**
+ * 댓글 트리 조립 (부모 댓글 한 페이지 + 대댓글)
+ *
+ * - commentResponseOf: 부모별 대댓글 목록이 이미 나뉘어 있을 때 CommentResponse.of 변환만
+ * - getCommentsByPostId: 서비스 전체 경로 (부모 ID 추출, groupingBy, Page.map 변환)
+ * 두 값의 차이가 서비스에서 그룹핑/중간 컬렉션에 드는 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentTreeBenchmark {
+
+    @Param({"20"})
+    private int parents;
+
+    @Param({"0", "3", "20"})
+    private int repliesPerParent;
+
+    private CommentService commentService;
+    private List<CommentRow> parentComments;
+    private List<List<CommentRow>> repliesByParent;
+    private Pageable pageable;
+    private Long loginUserId;
+
+    @Setup
+    public void setUp() {
+        User writer = Fixtures.user(1L);
+        User replier = Fixtures.user(2L);
+
+        parentComments = new ArrayList<>(parents);
+        repliesByParent = new ArrayList<>(parents);
+        List<CommentRow> replies = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < parents; i++) {
+            parentComments.add(Fixtures.commentRow(id++, null, writer));
+        }
+        // 저장소는 대댓글을 작성 순으로 돌려주므로 부모가 섞인 순서로 둔다
+        for (int i = 0; i < parents; i++) {
+            repliesByParent.add(new ArrayList<>());
+        }
+        for (int r = 0; r < repliesPerParent; r++) {
+            for (int i = 0; i < parents; i++) {
+                CommentRow reply = Fixtures.commentRow(id++, parentComments.get(i).getId(), r % 2 == 0 ? replier : writer);
+                replies.add(reply);
+                repliesByParent.get(i).add(reply);
+            }
+        }
+
+        pageable = PageRequest.of(0, parents);
+        Page<CommentRow> page = new PageImpl<>(parentComments, pageable, parents);
+        CommentRepository commentRepository = Fixtures.repository(CommentRepository.class, Map.of(
+                "findParentRowsByPostId", args -> page,
+                "findReplyRowsByParentIds", args -> replies));
+        commentService = new CommentService(commentRepository, null, null, null);
+        loginUserId = writer.getId();
+    }
+
+    @Benchmark
+    public void commentResponseOf(Blackhole blackhole) {
+        for (int i = 0; i < parents; i++) {
+            blackhole.consume(CommentResponse.of(parentComments.get(i), repliesByParent.get(i), loginUserId));
+        }
+    }
+
+    @Benchmark
+    public Page<CommentResponse> getCommentsByPostId() {
+        return commentService.getCommentsByPostId(1L, loginUserId, pageable);
+    }
+}
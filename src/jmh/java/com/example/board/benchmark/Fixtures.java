@@ -0,0 +1,96 @@
+package com.example.board.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.comment.dto.CommentRow;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+
+/**
+ * 벤치마크용 엔티티/저장소 준비
+ *
+ * 영속성 계층 없이 서비스 메서드를 돌리도록 ID/시각 필드는 리플렉션으로 채우고,
+ * 저장소 인터페이스는 메서드 이름별 응답만 정한 동적 프록시로 대신한다.
+ * Mockito 같은 모킹 도구는 호출 기록 자체가 할당을 만들어 측정값을 흐리므로 쓰지 않는다.
+ */
+public final class Fixtures {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 31, 9, 30);
+
+    private Fixtures() {
+    }
+
+    public static User user(long id) {
+        User user = User.builder()
+                .loginId("user" + id)
+                .password("password")
+                .username("사용자" + id)
+                .role(Role.USER)
+                .build();
+        return withBaseFields(user, id);
+    }
+
+    public static Category category(long id, String name) {
+        return withBaseFields(Category.builder().name(name).build(), id);
+    }
+
+    public static Post post(long id, User user, Category category, int contentLength) {
+        Post post = Post.builder()
+                .user(user)
+                .title("벤치마크 게시글 제목 " + id)
+                .content("본문".repeat(Math.max(contentLength / 2, 1)))
+                .category(category)
+                .build();
+        return withBaseFields(post, id);
+    }
+
+    // 댓글 목록 쿼리가 돌려주는 행
+    public static CommentRow commentRow(long id, Long parentId, User writer) {
+        return new CommentRow(id, parentId, "댓글 내용입니다 " + id, writer.getId(), writer.getUsername(), false, CREATED_AT);
+    }
+
+    // 이름으로 지정한 메서드만 답하는 저장소 프록시 (그 밖의 호출은 실패)
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+
+    private static <T> T withBaseFields(T entity, long id) {
+        set(entity, "id", id);
+        set(entity, "createdAt", CREATED_AT);
+        set(entity, "updatedAt", CREATED_AT);
+        return entity;
+    }
+
+    private static void set(Object target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스(BaseTimeEntity)에서 찾는다
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(target.getClass().getSimpleName() + "에 " + name + " 필드가 없습니다.");
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.board.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.comment.entity.Comment;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostContent;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * 영속성 컨텍스트 flush (게시글 managed개 + 댓글 managed개를 읽고 게시글 하나만 바꾼 상태)
+ *
+ * - flush: flush 한 번만 (읽기/변경은 호출마다 준비 단계에서)
+ * - loadAndFlush: 읽기부터 flush까지 (gc.alloc.rate.norm에 엔티티 적재 할당이 함께 잡힌다)
+ * 바이트코드 향상 전후 비교는 같은 벤치마크를 -PhibernateEnhance=false로 한 번 더 돌린다.
+ * 향상이 켜져 있으면 flush는 엔티티가 기록한 변경 속성만 보고, 댓글 content(@Lob)는 읽지 않는다.
+ * 향상이 꺼져 있으면 모든 엔티티를 스냅샷과 비교하고 content도 함께 읽는다.
+ * 내장 PostgreSQL에 hbm2ddl로 스키마를 만든다 (마이그레이션과 무관하게 엔티티 매핑만 필요).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlushBenchmark {
+
+    @Param({"200", "2000"})
+    private int managed;
+
+    private EmbeddedPostgres postgres;
+    private SessionFactory sessionFactory;
+
+    // flush만 잴 때 쓰는 호출별 세션 (읽기/변경은 측정 밖에서)
+    @State(Scope.Thread)
+    public static class Loaded {
+        Session session;
+        Transaction transaction;
+
+        @Setup(Level.Invocation)
+        public void load(FlushBenchmark benchmark) {
+            session = benchmark.sessionFactory.openSession();
+            transaction = session.beginTransaction();
+            loadAndModify(session);
+        }
+
+        @TearDown(Level.Invocation)
+        public void rollback() {
+            transaction.rollback();
+            session.close();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(PostContent.class)
+                .addAnnotatedClass(Comment.class);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, postgres.getPostgresDatabase());
+        configuration.getProperties().put(AvailableSettings.HBM2DDL_AUTO, "create");
+        configuration.getProperties().put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+        configuration.getProperties().put(AvailableSettings.STATEMENT_BATCH_SIZE, "100");
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(s -> {
+            User writer = User.builder()
+                    .loginId("writer")
+                    .password("password")
+                    .username("작성자")
+                    .role(Role.USER)
+                    .build();
+            Category category = Category.builder().name("벤치마크").build();
+            s.persist(writer);
+            s.persist(category);
+            String body = "게시글 본문입니다. ".repeat(40);
+            String comment = "댓글 내용입니다. ".repeat(20);
+            for (int i = 0; i < managed; i++) {
+                Post post = Post.builder()
+                        .user(writer)
+                        .title("게시글 " + i)
+                        .content(body)
+                        .category(category)
+                        .build();
+                s.persist(post);
+                s.persist(new PostContent(post, body));
+                s.persist(Comment.builder().content(comment).user(writer).post(post).build());
+                if (i % 100 == 99) {
+                    s.flush();
+                    s.clear();
+                    writer = s.getReference(User.class, writer.getId());
+                    category = s.getReference(Category.class, category.getId());
+                }
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws IOException {
+        sessionFactory.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public void flush(Loaded loaded) {
+        loaded.session.flush();
+    }
+
+    @Benchmark
+    public void loadAndFlush() {
+        try (Session fresh = sessionFactory.openSession()) {
+            Transaction tx = fresh.beginTransaction();
+            loadAndModify(fresh);
+            fresh.flush();
+            tx.rollback();
+        }
+    }
+
+    // 게시글과 댓글을 모두 영속 상태로 올리고 첫 게시글의 조회수만 바꾼다
+    private static void loadAndModify(Session session) {
+        List<Post> posts = session.createSelectionQuery("FROM Post p ORDER BY p.id", Post.class).getResultList();
+        session.createSelectionQuery("FROM Comment c", Comment.class).getResultList();
+        posts.get(0).increaseViewCount();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.board.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.board.domain.bookmark.entity.Bookmark;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.global.BaseTimeEntity;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * INSERT 처리량 (초당 저장 건수, 북마크 ROWS건을 저장하고 롤백)
+ *
+ * - identity: IDENTITY 컬럼 테이블에 저장. ID를 알려면 INSERT를 실행해야 하므로 Hibernate가 건마다 바로 보낸다
+ * - sequence: 실제 Bookmark 엔티티 (pooled 시퀀스, allocationSize 50). ID를 먼저 정하고 batch_size마다 묶어 보낸다
+ * 두 방식 모두 batch_size마다 영속성 컨텍스트를 비워 ID 전략과 JDBC 배치 차이만 남긴다.
+ * 내장 PostgreSQL에 hbm2ddl로 스키마를 만든다 (IDENTITY 테이블은 벤치마크 전용 엔티티로만 존재).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBenchmark {
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50; // application.yml hibernate.jdbc.batch_size
+
+    @Param({"identity", "sequence"})
+    private String ids;
+
+    private EmbeddedPostgres postgres;
+    private SessionFactory sessionFactory;
+    private Long userId;
+    private Long postId;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Post.class)
+                .addAnnotatedClass(Bookmark.class)
+                .addAnnotatedClass(IdentityBookmark.class);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, postgres.getPostgresDatabase());
+        configuration.getProperties().put(AvailableSettings.HBM2DDL_AUTO, "create");
+        configuration.getProperties().put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+        configuration.getProperties().put(AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString(BATCH_SIZE));
+        configuration.getProperties().put(AvailableSettings.ORDER_INSERTS, "true");
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(s -> {
+            User user = User.builder()
+                    .loginId("bench")
+                    .password("benchmark")
+                    .username("benchmark")
+                    .role(Role.USER)
+                    .build();
+            Post post = Post.builder().user(user).title("insert benchmark").content("insert benchmark").build();
+            s.persist(user);
+            s.persist(post);
+            userId = user.getId();
+            postId = post.getId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws IOException {
+        sessionFactory.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        boolean identity = "identity".equals(ids);
+        try (Session session = sessionFactory.openSession()) {
+            Transaction tx = session.beginTransaction();
+            User user = session.getReference(User.class, userId);
+            Post post = session.getReference(Post.class, postId);
+            for (int i = 1; i <= ROWS; i++) {
+                session.persist(identity ? new IdentityBookmark(user, post) : Bookmark.builder().user(user).post(post).build());
+                if (i % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                    user = session.getReference(User.class, userId);
+                    post = session.getReference(Post.class, postId);
+                }
+            }
+            session.flush();
+            tx.rollback(); // 행은 남기지 않는다 (시퀀스/IDENTITY 값만 소모)
+        }
+    }
+
+    // 시퀀스 전환(V4) 전 bookmark 테이블과 같은 모양
+    @Entity
+    @Table(name = "bookmark_identity")
+    static class IdentityBookmark extends BaseTimeEntity {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "bookmark_id")
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "user_id", nullable = false)
+        private User user;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "post_id", nullable = false)
+        private Post post;
+
+        protected IdentityBookmark() {
+        }
+
+        IdentityBookmark(User user, Post post) {
+            this.user = user;
+            this.post = post;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.board.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.board.domain.comment.dto.CommentResponse;
+import com.example.board.domain.comment.dto.CommentRow;
+import com.example.board.domain.comment.repository.CommentRepository;
+import com.example.board.domain.comment.service.CommentService;
+import com.example.board.domain.user.entity.User;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * @Timed("board.service") 계측 비용
+ *
+ * 같은 CommentService를 계측 없이(bare) / TimedAspect 프록시를 거쳐(timed) 호출해 비교한다.
+ * 레지스트리는 운영과 같이 Prometheus + application.yml의 SLO 버킷 설정을 쓴다.
+ * 저장소가 메모리 프록시라 실제 요청보다 메서드 본문이 훨씬 짧으므로, 여기서 잰 비율은
+ * DB 왕복이 포함된 실제 호출에서의 비율보다 크게 나온다 (상한으로 보면 된다).
+ * 목표: (timed - bare) / bare < 1%
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    private static final long[] SLO_MILLIS = {5, 10, 25, 50, 100, 250, 500};
+
+    private CommentService bare;
+    private CommentService timed;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        User writer = Fixtures.user(1L);
+        List<CommentRow> parents = new ArrayList<>();
+        List<CommentRow> replies = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < 20; i++) {
+            CommentRow parent = Fixtures.commentRow(id++, null, writer);
+            parents.add(parent);
+            for (int r = 0; r < 3; r++) {
+                replies.add(Fixtures.commentRow(id++, parent.getId(), writer));
+            }
+        }
+        pageable = PageRequest.of(0, parents.size());
+        Page<CommentRow> page = new PageImpl<>(parents, pageable, parents.size());
+        CommentRepository commentRepository = Fixtures.repository(CommentRepository.class, Map.of(
+                "findParentRowsByPostId", args -> page,
+                "findReplyRowsByParentIds", args -> replies));
+
+        bare = new CommentService(commentRepository, null, null, null);
+
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(sloBuckets());
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CommentService(commentRepository, null, null, null));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new TimedAspect(registry));
+        timed = factory.getProxy();
+    }
+
+    @Benchmark
+    public Page<CommentResponse> bare() {
+        return bare.getCommentsByPostId(1L, 1L, pageable);
+    }
+
+    @Benchmark
+    public Page<CommentResponse> timed() {
+        return timed.getCommentsByPostId(1L, 1L, pageable);
+    }
+
+    // management.metrics.distribution.slo.board.service 와 같은 버킷
+    private static MeterFilter sloBuckets() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("board.service")) {
+                    return config;
+                }
+                double[] slo = new double[SLO_MILLIS.length];
+                for (int i = 0; i < slo.length; i++) {
+                    slo[i] = Duration.ofMillis(SLO_MILLIS[i]).toNanos();
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(slo)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
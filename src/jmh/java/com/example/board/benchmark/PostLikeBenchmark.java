@@ -0,0 +1,105 @@
+package com.example.board.benchmark;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.entity.LikeType;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostLike;
+import com.example.board.domain.post.repository.PostLikeRepository;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.post.service.PostLikeService;
+import com.example.board.domain.ranking.repository.PostRankingSnapshotRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.user.entity.User;
+import com.example.board.domain.user.repository.UserRepository;
+
+/**
+ * 좋아요/싫어요 상태 전이 (PostLikeService.handleExisting / createNew)
+ *
+ * 저장소는 메모리 프록시라 측정값은 상태 전이, 카운터 갱신, 랭킹 이벤트 반영 비용이다.
+ * - cancel: 같은 반응을 다시 눌러 취소 (기존 반응은 그대로 두어 매번 같은 경로를 탄다)
+ * - change: 싫어요 -> 좋아요 -> 싫어요 두 번 전환 (연산당 전이 2회)
+ * - create: 반응이 없는 상태에서 새로 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostLikeBenchmark {
+
+    @State(Scope.Thread)
+    public static class Existing {
+        PostLikeService service;
+
+        @Setup
+        public void setUp() {
+            service = service(true);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Empty {
+        PostLikeService service;
+
+        @Setup
+        public void setUp() {
+            service = service(false);
+        }
+    }
+
+    @Benchmark
+    public String cancel(Existing state) {
+        return state.service.toggleLike(1L, 2L);
+    }
+
+    @Benchmark
+    public void change(Existing state, Blackhole blackhole) {
+        blackhole.consume(state.service.toggleDisLike(1L, 2L));
+        blackhole.consume(state.service.toggleLike(1L, 2L));
+    }
+
+    @Benchmark
+    public String create(Empty state) {
+        return state.service.toggleLike(1L, 2L);
+    }
+
+    private static PostLikeService service(boolean existingLike) {
+        User writer = Fixtures.user(1L);
+        User reactor = Fixtures.user(2L);
+        Category category = Fixtures.category(1L, "자유게시판");
+        Post post = Fixtures.post(1L, writer, category, 100);
+        Optional<PostLike> existing = existingLike
+                ? Optional.of(PostLike.builder().post(post).user(reactor).likeType(LikeType.LIKE).build())
+                : Optional.empty();
+
+        PostRepository postRepository = Fixtures.repository(PostRepository.class, Map.of(
+                "findById", args -> Optional.of(post)));
+        UserRepository userRepository = Fixtures.repository(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(reactor)));
+        PostLikeRepository postLikeRepository = Fixtures.repository(PostLikeRepository.class, Map.of(
+                "findByPostAndUser", args -> existing,
+                "save", args -> args[0],
+                "delete", args -> null));
+        PostRankingService rankingService = new PostRankingService(
+                Fixtures.repository(PostRankingSnapshotRepository.class, Map.of()),
+                postRepository, 100, Duration.ofHours(6));
+        return new PostLikeService(postLikeRepository, userRepository, postRepository, rankingService);
+    }
+}
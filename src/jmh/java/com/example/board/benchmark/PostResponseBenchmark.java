@@ -0,0 +1,75 @@
+package com.example.board.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.user.entity.User;
+
+/**
+ * 게시글 엔티티 -> DTO 변환 (목록 한 페이지 / 상세 한 건)
+ *
+ * 목록은 서비스와 같이 stream().map(fromList).toList()로 한 페이지를 변환한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResponseBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"2000"})
+    private int contentLength;
+
+    private List<Post> page;
+    private Post detail;
+    private String detailContent; // 상세는 PostContent에서 읽은 본문을 함께 넘긴다
+    private Long ownerId;
+
+    @Setup
+    public void setUp() {
+        User writer = Fixtures.user(1L);
+        Category category = Fixtures.category(1L, "자유게시판");
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            page.add(Fixtures.post(i + 1L, writer, i % 3 == 0 ? null : category, contentLength));
+        }
+        detail = page.get(1);
+        detailContent = "본문".repeat(Math.max(contentLength / 2, 1));
+        ownerId = writer.getId();
+    }
+
+    @Benchmark
+    public List<PostResponse> fromListPage() {
+        return page.stream().map(PostResponse::fromList).toList();
+    }
+
+    @Benchmark
+    public PostResponse fromDetail() {
+        return PostResponse.fromDetail(detail, detailContent, ownerId);
+    }
+
+    @Benchmark
+    public PostResponse fromDetailAnonymous() {
+        return PostResponse.fromDetail(detail, detailContent, null);
+    }
+}
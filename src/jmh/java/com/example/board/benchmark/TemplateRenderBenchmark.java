@@ -0,0 +1,153 @@
+package com.example.board.benchmark;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.example.board.domain.category.dto.CategoryResponse;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.comment.dto.CommentResponse;
+import com.example.board.domain.comment.dto.CommentRow;
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.user.entity.User;
+import com.example.board.global.view.PrecompiledView;
+
+import gg.jte.ContentType;
+import gg.jte.TemplateEngine;
+
+/**
+ * 홈(게시글 pageSize개)과 게시글 상세(댓글 한 페이지, 댓글마다 답글 2개) 렌더링: Thymeleaf vs 미리 컴파일한 jte
+ *
+ * 두 엔진 모두 같은 모델을 재사용하는 writer에 쓴다 (응답 버퍼 복사는 빼고 템플릿 처리만 잰다).
+ * Thymeleaf는 템플릿 캐시가 켜진 상태라 파싱은 첫 호출에서만 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2) // Thymeleaf는 처리기/표현식 경로가 길어 JIT가 안정되기까지 오래 걸린다
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateRenderBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    private final StringWriter writer = new StringWriter(64 * 1024);
+
+    private SpringTemplateEngine thymeleaf;
+    private WebContext indexContext;
+    private WebContext detailContext;
+
+    private PrecompiledView indexView;
+    private PrecompiledView detailView;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private Map<String, Object> indexModel;
+    private Map<String, Object> detailModel;
+
+    @Setup
+    public void setUp() {
+        User writerUser = Fixtures.user(1L);
+        Category category = Fixtures.category(1L, "자유게시판");
+
+        List<PostResponse> posts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Post post = Fixtures.post(i + 1L, writerUser, i % 3 == 0 ? null : category, 400);
+            posts.add(PostResponse.fromList(post));
+        }
+        indexModel = new HashMap<>();
+        indexModel.put("posts", posts);
+        indexModel.put("categories", List.of(CategoryResponse.from(category), CategoryResponse.builder().id(2L).name("질문").build()));
+        indexModel.put("loginUser", writerUser);
+
+        Post detail = Fixtures.post(1L, writerUser, category, 2000);
+        List<CommentResponse> comments = new ArrayList<>(10);
+        for (long id = 1; id <= 10; id++) {
+            List<CommentRow> replies = List.of(
+                    Fixtures.commentRow(id * 100 + 1, id, writerUser),
+                    Fixtures.commentRow(id * 100 + 2, id, writerUser));
+            comments.add(CommentResponse.of(Fixtures.commentRow(id, null, writerUser), replies, writerUser.getId()));
+        }
+        detailModel = new HashMap<>();
+        detailModel.put("post", PostResponse.fromDetail(detail, "본문".repeat(1000), writerUser.getId()));
+        detailModel.put("loginUser", writerUser);
+        detailModel.put("isBookmarked", true);
+        detailModel.put("comments", new PageImpl<>(comments, PageRequest.of(2, 10), 60));
+        detailModel.put("totalCommentCount", 180L);
+
+        request = new MockHttpServletRequest("GET", "/");
+        request.getSession().setAttribute("loginUserId", writerUser.getId());
+        response = new MockHttpServletResponse();
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        thymeleaf = new SpringTemplateEngine();
+        thymeleaf.setTemplateResolver(resolver);
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+        indexContext = new WebContext(exchange, Locale.KOREA, indexModel);
+        detailContext = new WebContext(exchange, Locale.KOREA, detailModel);
+
+        TemplateEngine jte = TemplateEngine.createPrecompiled(ContentType.Plain);
+        indexView = new PrecompiledView(jte, "index.jte");
+        detailView = new PrecompiledView(jte, "post/detail.jte");
+    }
+
+    @Benchmark
+    public int indexThymeleaf() {
+        writer.getBuffer().setLength(0);
+        thymeleaf.process("index", indexContext, writer);
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public int indexPrecompiled() {
+        writer.getBuffer().setLength(0);
+        indexView.render(indexModel, request, response, writer);
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public int detailThymeleaf() {
+        writer.getBuffer().setLength(0);
+        thymeleaf.process("post/detail", detailContext, writer);
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public int detailPrecompiled() {
+        writer.getBuffer().setLength(0);
+        detailView.render(detailModel, request, response, writer);
+        return writer.getBuffer().length();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.board.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트가 호출하는 엔드포인트 (결과는 이 단위로 집계)
+ */
+enum Endpoint {
+    HOME("GET /", false),
+    DETAIL("GET /posts/{postId}", false),
+    LIKE("POST /api/posts/{postId}/like", true),
+    COMMENT("POST /api/posts/{postId}/comments", true),
+    BOOKMARK("POST /api/bookmarks/{postId}", true);
+
+    private final String route;
+    private final boolean write;
+
+    Endpoint(String route, boolean write) {
+        this.route = route;
+        this.write = write;
+    }
+
+    String route() {
+        return route;
+    }
+
+    // 로그인 세션이 필요한 쓰기 요청인지
+    boolean write() {
+        return write;
+    }
+
+    static Endpoint fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + name);
+        }
+    }
+}
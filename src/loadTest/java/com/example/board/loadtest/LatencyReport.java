@@ -0,0 +1,67 @@
+package com.example.board.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트별 지연 시간 백분위 (HDR 히스토그램, 나노초 기록 / 밀리초 출력)
+ */
+record LatencyReport(double rate, Duration duration, Map<Endpoint, Row> rows) {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    record Row(Histogram histogram, long errors, long dropped) {
+        long count() {
+            return histogram.getTotalCount();
+        }
+    }
+
+    void print(PrintStream out) {
+        out.println(format());
+    }
+
+    // 요약은 summary.txt, 엔드포인트별 전체 분포는 <endpoint>.hgrm (HdrHistogram 플로터 형식)
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), format(), StandardCharsets.UTF_8);
+        for (Map.Entry<Endpoint, Row> entry : rows.entrySet()) {
+            if (entry.getValue().count() == 0) {
+                continue;
+            }
+            Path file = dir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                entry.getValue().histogram().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private String format() {
+        StringBuilder text = new StringBuilder();
+        double seconds = duration.toMillis() / 1000.0;
+        text.append(String.format(Locale.ROOT, "목표 도착률 %.0f req/s, 측정 %.0fs%n", rate, seconds));
+        text.append(String.format(Locale.ROOT, "%-36s %8s %7s %7s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "dropped", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (Map.Entry<Endpoint, Row> entry : rows.entrySet()) {
+            Row row = entry.getValue();
+            if (row.count() + row.errors() + row.dropped() == 0) {
+                continue;
+            }
+            Histogram histogram = row.histogram();
+            text.append(String.format(Locale.ROOT, "%-36s %8d %7d %7d %8.1f",
+                    entry.getKey().route(), row.count(), row.errors(), row.dropped(), row.count() / seconds));
+            for (double percentile : PERCENTILES) {
+                text.append(String.format(Locale.ROOT, " %9.2f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI));
+            }
+            text.append(String.format(Locale.ROOT, " %9.2f%n", histogram.getMaxValue() / NANOS_PER_MILLI));
+        }
+        return text.toString();
+    }
+}
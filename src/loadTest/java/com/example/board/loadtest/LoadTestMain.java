@@ -0,0 +1,142 @@
+package com.example.board.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.board.BoardApplication;
+import com.example.board.global.datagen.DataShape;
+import com.example.board.global.datagen.SyntheticDataGenerator;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP 부하 테스트 (./gradlew loadTest)
+ *
+ * 1. 내장 PostgreSQL을 띄우고 Flyway 마이그레이션 후 합성 데이터를 넣는다.
+ *    (스키마가 oid, lo_from_bytea 등 PostgreSQL 기능을 쓰므로 H2 대신 실제 PostgreSQL 바이너리를 쓴다)
+ * 2. 데이터를 넣은 뒤 앱을 임의 포트로 띄워, 기동 시 색인/랭킹/자동완성이 시드 데이터로 구성되게 한다.
+ * 3. 시드 사용자로 로그인해 세션을 만든 뒤 개방형 부하를 걸고 엔드포인트별 백분위를 출력한다.
+ */
+@Slf4j
+public final class LoadTestMain {
+    private static final String PASSWORD = "password1234!";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        Path indexDir = Files.createTempDirectory("board-loadtest-index");
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            DataSource dataSource = postgres.getPostgresDatabase();
+            // 앱 설정(spring.flyway.postgresql.transactional-lock: false)과 같게: V3의 CONCURRENTLY 인덱스가 잠금 트랜잭션을 기다리지 않도록
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                    .load()
+                    .migrate();
+            seed(dataSource, options);
+            List<Long> postIds = postIds(dataSource);
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BoardApplication.class).run(
+                    "--spring.profiles.active=loadtest",
+                    "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--server.port=0",
+                    "--management.server.port=0",
+                    "--board.search.index-dir=" + indexDir);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                HttpClient client = HttpClient.newBuilder().executor(executor).build();
+
+                List<String> sessions = login(client, baseUri, options);
+                ScenarioMix mix = new ScenarioMix(baseUri, postIds, sessions, options.mix());
+                log.info("부하 시작: {} req/s, 워밍업 {}s, 측정 {}s, 세션 {}개",
+                        options.rate(), options.warmup().toSeconds(), options.duration().toSeconds(), sessions.size());
+
+                LatencyReport report = new OpenLoadDriver(client, mix, options.maxInFlight())
+                        .run(options.rate(), options.warmup(), options.duration(), options.seed());
+                report.print(System.out);
+                report.write(options.reportDir());
+                log.info("부하 테스트 결과 저장: {}", options.reportDir().toAbsolutePath());
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private static void seed(DataSource dataSource, LoadTestOptions options) throws SQLException {
+        DataShape shape = DataShape.builder()
+                .seed(options.seed())
+                .users(options.users())
+                .posts(options.posts())
+                .build();
+        SyntheticDataGenerator.Summary summary =
+                new SyntheticDataGenerator(dataSource, new BCryptPasswordEncoder().encode(PASSWORD), shape).generate();
+        log.info("시드 데이터: 사용자 {}, 게시글 {}, 댓글 {}, 좋아요 {}, 북마크 {}, {}ms",
+                summary.users(), summary.posts(), summary.comments(), summary.likes(), summary.bookmarks(),
+                summary.elapsedMs());
+    }
+
+    private static List<Long> postIds(DataSource dataSource) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT post_id FROM post ORDER BY post_id")) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    // 시드 사용자(gen<시드>_<번호>)로 로그인해 세션 쿠키를 모은다
+    private static List<String> login(HttpClient client, URI baseUri, LoadTestOptions options)
+            throws IOException, InterruptedException {
+        int count = Math.min(options.sessions(), options.users());
+        List<String> cookies = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            String loginId = "gen" + options.seed() + "_" + n;
+            String form = "loginId=" + URLEncoder.encode(loginId, StandardCharsets.UTF_8)
+                    + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/users/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form))
+                    .build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                    .map(cookie -> cookie.substring(0, cookie.indexOf(';') > 0 ? cookie.indexOf(';') : cookie.length()))
+                    .findFirst()
+                    .ifPresentOrElse(cookies::add,
+                            () -> log.warn("로그인 실패: {} (status {})", loginId, response.statusCode()));
+        }
+        return cookies;
+    }
+}
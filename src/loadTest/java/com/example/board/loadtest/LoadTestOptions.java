@@ -0,0 +1,64 @@
+package com.example.board.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadtest.*, ./gradlew loadTest -P로 넘긴다)
+ *
+ * @param rate        초당 요청 도착 수 (응답 속도와 무관하게 유지되는 개방형 부하)
+ * @param warmup      측정에서 빼는 초기 구간
+ * @param duration    측정 구간
+ * @param sessions    로그인해 둘 사용자 세션 수 (쓰기 요청을 나눠 보낸다)
+ * @param maxInFlight 동시에 응답을 기다리는 요청 상한 (넘으면 보내지 않고 누락으로 센다)
+ * @param users       시드 데이터 사용자 수
+ * @param posts       시드 데이터 게시글 수
+ * @param seed        시드 데이터와 요청 순서의 난수 시드
+ * @param mix         엔드포인트별 가중치
+ * @param reportDir   결과(요약, 엔드포인트별 HDR 분포) 저장 위치
+ */
+record LoadTestOptions(double rate, Duration warmup, Duration duration, int sessions, int maxInFlight,
+                       int users, int posts, long seed, Map<Endpoint, Integer> mix, Path reportDir) {
+
+    private static final String DEFAULT_MIX = "home=50,detail=30,like=8,comment=7,bookmark=5";
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Double.parseDouble(property("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(property("warmup", "15"))),
+                Duration.ofSeconds(Long.parseLong(property("duration", "60"))),
+                Integer.parseInt(property("sessions", "50")),
+                Integer.parseInt(property("maxInFlight", "2000")),
+                Integer.parseInt(property("users", "500")),
+                Integer.parseInt(property("posts", "2000")),
+                Long.parseLong(property("seed", "42")),
+                parseMix(property("mix", DEFAULT_MIX)),
+                Path.of(property("reportDir", "build/reports/loadtest")));
+    }
+
+    // "home=50,detail=30" 형식 (빠진 엔드포인트는 보내지 않는다)
+    static Map<Endpoint, Integer> parseMix(String text) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : text.split(",")) {
+            String[] pair = part.strip().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 요청 비율 형식입니다: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].strip());
+            if (weight < 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이어야 합니다: " + part);
+            }
+            mix.put(Endpoint.fromName(pair[0].strip()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("요청 비율이 모두 0입니다.");
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
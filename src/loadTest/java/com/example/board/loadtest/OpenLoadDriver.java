@@ -0,0 +1,114 @@
+package com.example.board.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 개방형(open model) 부하 발생기
+ *
+ * 요청 도착 시각을 포아송 과정(지수 분포 간격)으로 미리 정해 두고, 이전 응답을 기다리지 않고 보낸다.
+ * 지연 시간은 실제 전송 시각이 아니라 "보냈어야 할 시각"부터 재므로, 서버가 밀려
+ * 발생기가 늦게 보낸 시간까지 지연에 포함된다 (coordinated omission 보정).
+ * 응답 대기 중인 요청이 maxInFlight를 넘으면 그 도착은 보내지 않고 누락으로 센다.
+ */
+final class OpenLoadDriver {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ScenarioMix mix;
+    private final int maxInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Endpoint, Recorder> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> dropped = new EnumMap<>(Endpoint.class);
+
+    OpenLoadDriver(HttpClient client, ScenarioMix mix, int maxInFlight) {
+        this.client = client;
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(endpoint, new LongAdder());
+            dropped.put(endpoint, new LongAdder());
+        }
+    }
+
+    // 워밍업 후 측정 구간 동안 rate로 요청을 보내고, 측정 구간 결과만 돌려준다
+    LatencyReport run(double rate, Duration warmup, Duration duration, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + warmup.toNanos();
+        long endAt = measureFrom + duration.toNanos();
+
+        long intended = startedAt;
+        while (intended < endAt) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(mix.nextEndpoint(random), random, intended, intended >= measureFrom);
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+        }
+        awaitDrain();
+
+        Map<Endpoint, LatencyReport.Row> rows = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint).getIntervalHistogram();
+            rows.put(endpoint, new LatencyReport.Row(histogram,
+                    errors.get(endpoint).sum(), dropped.get(endpoint).sum()));
+        }
+        return new LatencyReport(rate, duration, rows);
+    }
+
+    // 워밍업 구간에 도착한 요청은 보내기만 하고 집계하지 않는다 (measured = false)
+    private void send(Endpoint endpoint, SplittableRandom random, long intended, boolean measured) {
+        if (inFlight.get() >= maxInFlight) {
+            if (measured) {
+                dropped.get(endpoint).increment();
+            }
+            return;
+        }
+        HttpRequest request = mix.request(endpoint, random);
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - intended;
+                    try {
+                        if (!measured) {
+                            return;
+                        }
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(endpoint).increment();
+                        } else {
+                            latencies.get(endpoint).recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    // 측정 구간 끝에 보낸 요청의 응답까지 기다린다
+    private void awaitDrain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.board.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치에 따라 다음 요청을 고른다
+ *
+ * 조회 대상 게시글은 최근 글에 몰리도록 고른다 (목록 상단에서 들어가는 실제 트래픽과 비슷하게).
+ * 쓰기 요청은 로그인 세션 중 하나로 보내며, 같은 글에 좋아요/북마크를 반복하면 토글되어
+ * 생성/취소 경로가 섞인다.
+ */
+final class ScenarioMix {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final List<Long> postIds; // 오름차순 (ID 순서 = 작성 순서)
+    private final List<String> sessionCookies;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    ScenarioMix(URI baseUri, List<Long> postIds, List<String> sessionCookies, Map<Endpoint, Integer> mix) {
+        if (postIds.isEmpty()) {
+            throw new IllegalArgumentException("시드 게시글이 없습니다.");
+        }
+        boolean needsSession = mix.entrySet().stream().anyMatch(e -> e.getKey().write() && e.getValue() > 0);
+        if (needsSession && sessionCookies.isEmpty()) {
+            throw new IllegalArgumentException("쓰기 요청에 쓸 로그인 세션이 없습니다.");
+        }
+        this.baseUri = baseUri;
+        this.postIds = postIds;
+        this.sessionCookies = sessionCookies;
+
+        List<Endpoint> weighted = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                weighted.add(entry.getKey());
+                cumulative.add(total);
+            }
+        }
+        this.endpoints = weighted.toArray(Endpoint[]::new);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    Endpoint nextEndpoint(RandomGenerator random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    HttpRequest request(Endpoint endpoint, RandomGenerator random) {
+        long postId = pickPost(random);
+        return switch (endpoint) {
+            case HOME -> get("/");
+            case DETAIL -> get("/posts/" + postId);
+            case LIKE -> post("/api/posts/" + postId + "/like", random, HttpRequest.BodyPublishers.noBody(), null);
+            case COMMENT -> post("/api/posts/" + postId + "/comments", random,
+                    HttpRequest.BodyPublishers.ofString("{\"content\":\"부하 테스트 댓글 " + random.nextInt(1_000_000) + "\"}"),
+                    "application/json");
+            case BOOKMARK -> post("/api/bookmarks/" + postId, random, HttpRequest.BodyPublishers.noBody(), null);
+        };
+    }
+
+    // 지수 3의 거듭제곱 분포: 최근 10% 게시글이 조회의 약 절반을 받는다
+    private long pickPost(RandomGenerator random) {
+        double u = random.nextDouble();
+        int fromNewest = (int) (u * u * u * postIds.size());
+        return postIds.get(postIds.size() - 1 - fromNewest);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String path, RandomGenerator random, HttpRequest.BodyPublisher body, String contentType) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Cookie", sessionCookies.get(random.nextInt(sessionCookies.size())))
+                .POST(body);
+        if (contentType != null) {
+            builder.header("Content-Type", contentType);
+        }
+        return builder.build();
+    }
+}
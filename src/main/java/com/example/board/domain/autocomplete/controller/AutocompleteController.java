@@ -0,0 +1,34 @@
+package com.example.board.domain.autocomplete.controller;
+
+import java.util.Locale;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.board.domain.autocomplete.dto.AutocompleteResponse;
+import com.example.board.domain.autocomplete.service.AutocompleteService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/autocomplete")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    // 카테고리 이름 / 최근 게시글 제목 접두사 자동완성 (DB 조회 없이 메모리 트라이에서 응답)
+    @GetMapping
+    public ResponseEntity<AutocompleteResponse> autocomplete(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        AutocompleteResponse response = autocompleteService.autocomplete(prefix, Math.max(size, 1));
+        return ResponseEntity.ok()
+                .header("Server-Timing", String.format(Locale.ROOT, "autocomplete;dur=%.3f", response.getTookMs()))
+                .body(response);
+    }
+}
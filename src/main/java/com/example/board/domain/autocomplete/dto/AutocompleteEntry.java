@@ -0,0 +1,13 @@
+package com.example.board.domain.autocomplete.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 자동완성 후보 (카테고리: weight = 게시글 수, 제목: weight = 게시글 ID로 최신일수록 큼)
+@Getter
+@AllArgsConstructor
+public class AutocompleteEntry {
+    private Long id;
+    private String text;
+    private Long weight;
+}
@@ -0,0 +1,29 @@
+package com.example.board.domain.autocomplete.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AutocompleteResponse {
+    private String prefix;
+    private List<Suggestion> categories;
+    private List<Suggestion> titles;
+    private double tookMs;
+
+    @Getter
+    @Builder
+    public static class Suggestion {
+        private Long id;
+        private String text;
+
+        public static Suggestion from(AutocompleteEntry entry) {
+            return Suggestion.builder()
+                    .id(entry.getId())
+                    .text(entry.getText())
+                    .build();
+        }
+    }
+}
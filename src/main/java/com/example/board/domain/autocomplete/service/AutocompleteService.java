@@ -0,0 +1,268 @@
+package com.example.board.domain.autocomplete.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.example.board.domain.autocomplete.dto.AutocompleteEntry;
+import com.example.board.domain.autocomplete.dto.AutocompleteResponse;
+import com.example.board.domain.autocomplete.trie.AutocompleteKeys;
+import com.example.board.domain.autocomplete.trie.CompactTrie;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.category.repository.CategoryRepository;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.global.datasource.BatchJob;
+import com.example.board.global.transaction.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리 이름 / 최근 게시글 제목 접두사 자동완성
+ *
+ * 기동 시 카테고리(게시글 수 포함)와 최근 제목을 읽어 CompactTrie를 만들고,
+ * 이후 글 작성/수정/삭제는 커밋 후 원본 목록에만 반영하고 바뀐 트라이를 표시해 둔다.
+ * 트라이 재구성은 전용 스레드 하나가 맡아, 그동안 쌓인 변경을 한 번의 재구성으로 묶는다
+ * (커밋 스레드는 원본 목록 갱신만 하고 재구성을 기다리지 않는다).
+ * 조회는 volatile 참조로 현재 트라이만 읽으므로 키 입력마다 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+    private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final int recentTitleLimit;
+    private final int maxSuggestions;
+
+    // 트라이 원본 (갱신은 this로 동기화)
+    private final Map<Long, AutocompleteEntry> categories = new HashMap<>();
+    private final TreeMap<Long, AutocompleteEntry> recentTitles = new TreeMap<>();
+
+    private volatile CompactTrie categoryTrie = CompactTrie.EMPTY;
+    private volatile CompactTrie titleTrie = CompactTrie.EMPTY;
+
+    // 원본이 바뀌어 다시 만들어야 하는 트라이 (this로 동기화), 재구성 작업이 이미 대기 중인지
+    private boolean titlesDirty;
+    private boolean categoriesDirty;
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final Object rebuildLock = new Object(); // 기동 시 구축과 재구성 스레드가 복사/교체 순서를 뒤집지 않게
+    private final Executor rebuilder;
+
+    @Autowired
+    public AutocompleteService(CategoryRepository categoryRepository,
+                               PostRepository postRepository,
+                               @Value("${board.autocomplete.recent-titles:5000}") int recentTitleLimit,
+                               @Value("${board.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this(categoryRepository, postRepository, recentTitleLimit, maxSuggestions,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("autocomplete-rebuild").daemon().factory()));
+    }
+
+    AutocompleteService(CategoryRepository categoryRepository,
+                        PostRepository postRepository,
+                        int recentTitleLimit, int maxSuggestions, Executor rebuilder) {
+        this.categoryRepository = categoryRepository;
+        this.postRepository = postRepository;
+        this.recentTitleLimit = recentTitleLimit;
+        this.maxSuggestions = maxSuggestions;
+        this.rebuilder = rebuilder;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (rebuilder instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    // 기동 시 트라이 구축
+    @EventListener(ApplicationReadyEvent.class)
+    @BatchJob
+    public void buildTries() {
+        long startedAt = System.nanoTime();
+        List<AutocompleteEntry> categoryEntries = categoryRepository.findAutocompleteEntries();
+        List<AutocompleteEntry> titleEntries = postRepository.findRecentTitleEntries(PageRequest.of(0, recentTitleLimit));
+
+        synchronized (this) {
+            categories.clear();
+            categoryEntries.forEach(entry -> categories.put(entry.getId(), entry));
+            recentTitles.clear();
+            titleEntries.forEach(entry -> recentTitles.put(entry.getId(), entry));
+            categoriesDirty = true;
+            titlesDirty = true;
+        }
+        rebuildDirtyTries(); // 기동 시에는 바로 만든다
+        log.info("자동완성 트라이 구축 완료: 카테고리 {}개, 제목 {}개, {}ms",
+                categoryEntries.size(), titleEntries.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 접두사 자동완성 (카테고리는 게시글 많은 순, 제목은 최신순)
+    public AutocompleteResponse autocomplete(String prefix, int size) {
+        long startedAt = System.nanoTime();
+        int limit = Math.min(size, maxSuggestions);
+
+        List<AutocompleteEntry> categoryMatches = lookup(categoryTrie, prefix, limit);
+        List<AutocompleteEntry> titleMatches = lookup(titleTrie, prefix, limit);
+
+        return AutocompleteResponse.builder()
+                .prefix(prefix)
+                .categories(categoryMatches.stream().map(AutocompleteResponse.Suggestion::from).toList())
+                .titles(titleMatches.stream().map(AutocompleteResponse.Suggestion::from).toList())
+                .tookMs((System.nanoTime() - startedAt) / 1_000_000.0)
+                .build();
+    }
+
+    // 게시글 작성 시: 제목 추가, 카테고리 게시글 수 증가 (새 카테고리면 추가)
+    public void addPost(Post post) {
+        AutocompleteEntry title = titleEntry(post);
+        AutocompleteEntry category = categoryEntry(post.getCategory());
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                putTitle(title);
+                if (category != null) {
+                    adjustCategory(category, 1);
+                }
+            }
+            scheduleRebuild();
+        });
+    }
+
+    // 게시글 수정 시: 제목 교체, 카테고리가 바뀌었으면 양쪽 게시글 수 조정
+    public void updatePost(Post post, Category previousCategory) {
+        AutocompleteEntry title = titleEntry(post);
+        AutocompleteEntry previous = categoryEntry(previousCategory);
+        AutocompleteEntry category = categoryEntry(post.getCategory());
+        boolean categoryChanged = !sameCategory(previous, category);
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                // 최근 제목 목록에 남아 있는 글만 교체 (밀려난 오래된 글은 다시 넣지 않는다)
+                if (recentTitles.containsKey(title.getId())) {
+                    recentTitles.put(title.getId(), title);
+                    titlesDirty = true;
+                }
+                if (categoryChanged) {
+                    if (previous != null) {
+                        adjustCategory(previous, -1);
+                    }
+                    if (category != null) {
+                        adjustCategory(category, 1);
+                    }
+                }
+            }
+            scheduleRebuild();
+        });
+    }
+
+    // 게시글 삭제 시: 제목 제거, 카테고리 게시글 수 감소
+    public void removePost(Post post) {
+        Long postId = post.getId();
+        AutocompleteEntry category = categoryEntry(post.getCategory());
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                if (recentTitles.remove(postId) != null) {
+                    titlesDirty = true;
+                }
+                if (category != null) {
+                    adjustCategory(category, -1);
+                }
+            }
+            scheduleRebuild();
+        });
+    }
+
+    private List<AutocompleteEntry> lookup(CompactTrie trie, String prefix, int limit) {
+        List<AutocompleteEntry> matches = trie.lookup(prefix, limit);
+
+        // 마지막 글자의 받침이 다음 글자 초성일 수도 있으면 ("장" -> "자유") 함께 찾아 합친다
+        String carried = AutocompleteKeys.carryOverFinal(prefix);
+        if (carried == null) {
+            return matches;
+        }
+        Map<Long, AutocompleteEntry> merged = new LinkedHashMap<>();
+        matches.forEach(entry -> merged.put(entry.getId(), entry));
+        trie.lookup(carried, limit).forEach(entry -> merged.putIfAbsent(entry.getId(), entry));
+
+        List<AutocompleteEntry> result = new ArrayList<>(merged.values());
+        result.sort((a, b) -> Long.compare(b.getWeight(), a.getWeight()));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private void putTitle(AutocompleteEntry title) {
+        recentTitles.put(title.getId(), title);
+        while (recentTitles.size() > recentTitleLimit) {
+            recentTitles.pollFirstEntry();
+        }
+        titlesDirty = true;
+    }
+
+    private void adjustCategory(AutocompleteEntry category, long delta) {
+        AutocompleteEntry current = categories.get(category.getId());
+        long count = Math.max((current != null ? current.getWeight() : 0L) + delta, 0L);
+        categories.put(category.getId(), new AutocompleteEntry(category.getId(), category.getText(), count));
+        categoriesDirty = true;
+    }
+
+    // 재구성 작업은 한 번에 하나만 대기시킨다 (대기 중에 들어온 변경은 그 작업이 함께 반영한다)
+    private void scheduleRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildQueued.set(false); // 이후 변경은 다음 작업으로 (이번 복사본에 빠질 수 있으므로)
+                rebuildDirtyTries();
+            });
+        }
+    }
+
+    // 원본은 this 잠금 안에서 복사만 하고, 트라이는 그 밖에서 만들어 교체한다 (그동안 원본 갱신은 막히지 않는다)
+    private void rebuildDirtyTries() {
+        synchronized (rebuildLock) {
+            List<AutocompleteEntry> titles = null;
+            List<AutocompleteEntry> categoryEntries = null;
+            synchronized (this) {
+                if (titlesDirty) {
+                    titles = List.copyOf(recentTitles.values());
+                    titlesDirty = false;
+                }
+                if (categoriesDirty) {
+                    categoryEntries = List.copyOf(categories.values());
+                    categoriesDirty = false;
+                }
+            }
+            if (titles != null) {
+                titleTrie = CompactTrie.build(titles, maxSuggestions);
+            }
+            if (categoryEntries != null) {
+                categoryTrie = CompactTrie.build(categoryEntries, maxSuggestions);
+            }
+        }
+    }
+
+    private static AutocompleteEntry titleEntry(Post post) {
+        return new AutocompleteEntry(post.getId(), post.getTitle(), post.getId());
+    }
+
+    // 커밋 후 지연 로딩 없이 쓸 수 있도록 ID와 이름만 미리 꺼내 둔다
+    private static AutocompleteEntry categoryEntry(Category category) {
+        return category != null ? new AutocompleteEntry(category.getId(), category.getName(), 0L) : null;
+    }
+
+    private static boolean sameCategory(AutocompleteEntry a, AutocompleteEntry b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getId().equals(b.getId());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.board.domain.autocomplete.trie;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 자동완성 키 정규화
+ *
+ * 대소문자와 연속 공백을 무시하고, 한글은 자모 단위로 분해(NFKD)해서 비교한다.
+ * 분해해 두면 "ㅈ", "자"처럼 입력 중인 글자도 "자유게시판"의 접두사가 된다.
+ */
+public final class AutocompleteKeys {
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char CHOSEONG_BASE = 0x1100;
+    private static final int JONGSEONG_COUNT = 28;
+
+    // 받침 인덱스별로, 받침을 다음 글자의 초성으로 넘겼을 때 남는 받침과 넘어가는 초성
+    // (예: 닭 -> 달 + ㄱ, 값 -> 갑 + ㅅ, 장 -> 자 + ㅇ)
+    private static final int[] REMAINING_JONGSEONG = {
+            0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8, 8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+    private static final int[] CARRIED_CHOSEONG = {
+            -1, 0, 1, 9, 2, 12, 18, 3, 5, 0, 6, 7, 9, 16, 17, 18, 6, 7, 9, 9, 10, 11, 12, 14, 15, 16, 17, 18};
+
+    private AutocompleteKeys() {
+    }
+
+    // 비교용 키로 변환
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = text.strip();
+        StringBuilder collapsed = new StringBuilder(stripped.length());
+        boolean space = false;
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space) {
+                collapsed.append(' ');
+                space = false;
+            }
+            collapsed.append(c);
+        }
+        return Normalizer.normalize(collapsed.toString().toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+    }
+
+    // 마지막 글자의 받침이 실제로는 다음 글자의 초성일 수 있는 경우의 대체 키
+    // ("장"까지 입력했을 때 "자유"도 찾을 수 있도록). 해당 없으면 null
+    public static String carryOverFinal(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        String stripped = prefix.strip();
+        if (stripped.isEmpty()) {
+            return null;
+        }
+        char last = stripped.charAt(stripped.length() - 1);
+        if (last < SYLLABLE_BASE || last > SYLLABLE_LAST) {
+            return null;
+        }
+        int offset = last - SYLLABLE_BASE;
+        int jongseong = offset % JONGSEONG_COUNT;
+        if (jongseong == 0) {
+            return null;
+        }
+        char withoutFinal = (char) (last - jongseong + REMAINING_JONGSEONG[jongseong]);
+        char carried = (char) (CHOSEONG_BASE + CARRIED_CHOSEONG[jongseong]);
+        return normalize(stripped.substring(0, stripped.length() - 1) + withoutFinal + carried);
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.board.domain.autocomplete.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.example.board.domain.autocomplete.dto.AutocompleteEntry;
+
+/**
+ * 접두사 자동완성용 압축 트라이 (불변)
+ *
+ * 자식이 하나뿐인 경로를 한 간선으로 합친 radix 트리를 객체 대신 배열로 펼쳐 둔다.
+ * - 간선 라벨은 하나의 char[]에 이어 붙이고 (시작, 길이)로 가리킨다.
+ * - 형제 노드는 연속된 인덱스에 첫 글자 순으로 놓여 이진 탐색으로 찾는다.
+ * - 각 노드는 하위 후보 중 weight 상위 topK개를 미리 골라 두므로
+ *   조회 비용은 접두사 길이에만 비례하고 하위 트리를 순회하지 않는다.
+ * 갱신은 새 트라이를 만들어 교체하는 방식이라 조회 중에는 잠금이 필요 없다.
+ */
+public final class CompactTrie {
+    public static final CompactTrie EMPTY = build(List.of(), 1);
+
+    private final AutocompleteEntry[] entries; // 정렬된 키 순서
+    private final char[] labels;
+
+    // 노드 번호 -> 노드 정보 (0번은 빈 라벨의 루트)
+    private final int[] labelStart;
+    private final int[] labelLength;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] topStart;  // tops 안의 시작 위치
+    private final int[] topCount;
+    private final int[] tops;      // 노드별 상위 후보의 entries 인덱스
+
+    private CompactTrie(AutocompleteEntry[] entries, Builder builder) {
+        this.entries = entries;
+        this.labels = builder.labels.toString().toCharArray();
+        this.labelStart = Arrays.copyOf(builder.labelStart, builder.nodeCount);
+        this.labelLength = Arrays.copyOf(builder.labelLength, builder.nodeCount);
+        this.firstChild = Arrays.copyOf(builder.firstChild, builder.nodeCount);
+        this.childCount = Arrays.copyOf(builder.childCount, builder.nodeCount);
+        this.topStart = Arrays.copyOf(builder.topStart, builder.nodeCount);
+        this.topCount = Arrays.copyOf(builder.topCount, builder.nodeCount);
+        this.tops = Arrays.copyOf(builder.tops, builder.topsSize);
+    }
+
+    // 후보 목록으로 트라이 생성 (노드마다 weight 상위 topK개 보관)
+    public static CompactTrie build(Collection<AutocompleteEntry> candidates, int topK) {
+        List<Keyed> keyed = new ArrayList<>(candidates.size());
+        for (AutocompleteEntry entry : candidates) {
+            String key = AutocompleteKeys.normalize(entry.getText());
+            if (!key.isEmpty()) {
+                keyed.add(new Keyed(key, entry));
+            }
+        }
+        keyed.sort(Comparator.comparing(Keyed::key));
+
+        String[] keys = new String[keyed.size()];
+        AutocompleteEntry[] entries = new AutocompleteEntry[keyed.size()];
+        for (int i = 0; i < keyed.size(); i++) {
+            keys[i] = keyed.get(i).key();
+            entries[i] = keyed.get(i).entry();
+        }
+
+        Builder builder = new Builder(keys, entries, Math.max(topK, 1));
+        builder.allocate();
+        builder.fill(0, 0, keys.length, 0);
+        return new CompactTrie(entries, builder);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // 접두사로 시작하는 후보를 weight 내림차순으로 최대 limit개 (limit은 topK 이하)
+    public List<AutocompleteEntry> lookup(String prefix, int limit) {
+        String key = AutocompleteKeys.normalize(prefix);
+        if (key.isEmpty() || entries.length == 0) {
+            return List.of();
+        }
+        int node = findNode(key);
+        if (node < 0) {
+            return List.of();
+        }
+        int count = Math.min(limit, topCount[node]);
+        List<AutocompleteEntry> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(entries[tops[topStart[node] + i]]);
+        }
+        return result;
+    }
+
+    // 정규화된 접두사가 끝나는 노드 (간선 중간에서 끝나면 그 간선의 아래 노드)
+    private int findNode(String key) {
+        int node = 0;
+        int pos = 0;
+        while (pos < key.length()) {
+            int child = findChild(node, key.charAt(pos));
+            if (child < 0) {
+                return -1;
+            }
+            int start = labelStart[child];
+            int matchable = Math.min(labelLength[child], key.length() - pos);
+            for (int i = 0; i < matchable; i++) {
+                if (labels[start + i] != key.charAt(pos + i)) {
+                    return -1;
+                }
+            }
+            pos += matchable;
+            node = child;
+        }
+        return node;
+    }
+
+    private int findChild(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char label = labels[labelStart[mid]];
+            if (label < c) {
+                lo = mid + 1;
+            } else if (label > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private record Keyed(String key, AutocompleteEntry entry) {}
+
+    // 정렬된 키 구간을 재귀적으로 나누며 노드 배열을 채운다
+    private static final class Builder {
+        private final String[] keys;
+        private final long[] weights;
+        private final long[] ids;
+        private final int topK;
+        private final StringBuilder labels = new StringBuilder();
+
+        private int[] labelStart;
+        private int[] labelLength;
+        private int[] firstChild;
+        private int[] childCount;
+        private int[] topStart;
+        private int[] topCount;
+        private int[] tops;
+        private int nodeCount;
+        private int topsSize;
+
+        private Builder(String[] keys, AutocompleteEntry[] entries, int topK) {
+            this.keys = keys;
+            this.weights = new long[entries.length];
+            this.ids = new long[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                weights[i] = entries[i].getWeight();
+                ids[i] = entries[i].getId();
+            }
+            this.topK = topK;
+        }
+
+        // 노드 수는 키 수의 두 배를 넘지 않는다 (리프 ≤ 키 수, 내부 노드는 분기점)
+        private void allocate() {
+            int capacity = keys.length * 2 + 1;
+            labelStart = new int[capacity];
+            labelLength = new int[capacity];
+            firstChild = new int[capacity];
+            childCount = new int[capacity];
+            topStart = new int[capacity];
+            topCount = new int[capacity];
+            tops = new int[16];
+            nodeCount = 1; // 루트
+        }
+
+        // keys[lo, hi)가 모두 depth까지 같은 접두사를 공유하는 노드를 채운다
+        private void fill(int node, int lo, int hi, int depth) {
+            // 구간의 공통 접두사 끝 (정렬되어 있으므로 처음과 끝만 비교)
+            int end = depth;
+            if (node != 0) {
+                end = commonPrefixLength(keys[lo], keys[hi - 1]);
+                labelStart[node] = labels.length();
+                labelLength[node] = end - depth;
+                labels.append(keys[lo], depth, end);
+            }
+
+            // 이 노드에서 끝나는 키는 정렬상 맨 앞에 모인다
+            int childLo = lo;
+            while (childLo < hi && keys[childLo].length() == end) {
+                childLo++;
+            }
+
+            // 다음 글자별로 자식 구간을 나누고, 형제가 연속 인덱스가 되도록 먼저 자리를 잡는다
+            List<int[]> ranges = new ArrayList<>();
+            for (int i = childLo; i < hi; ) {
+                char c = keys[i].charAt(end);
+                int j = i + 1;
+                while (j < hi && keys[j].charAt(end) == c) {
+                    j++;
+                }
+                ranges.add(new int[] {i, j});
+                i = j;
+            }
+            firstChild[node] = nodeCount;
+            childCount[node] = ranges.size();
+            nodeCount += ranges.size();
+            for (int i = 0; i < ranges.size(); i++) {
+                fill(firstChild[node] + i, ranges.get(i)[0], ranges.get(i)[1], end);
+            }
+
+            collectTops(node, lo, childLo);
+        }
+
+        // 이 노드에서 끝나는 후보와 자식들의 상위 후보(각각 이미 정렬됨)를 병합해 topK개만 남긴다
+        private void collectTops(int node, int terminalLo, int terminalHi) {
+            int children = childCount[node];
+            int[] cursors = new int[children];
+            int terminalCount = terminalHi - terminalLo;
+            boolean[] terminalTaken = new boolean[terminalCount];
+
+            int capacity = terminalCount;
+            for (int c = 0; c < children; c++) {
+                capacity += topCount[firstChild[node] + c];
+            }
+            int count = Math.min(topK, capacity);
+            if (topsSize + count > tops.length) {
+                tops = Arrays.copyOf(tops, Math.max(tops.length * 2, topsSize + count));
+            }
+            topStart[node] = topsSize;
+            topCount[node] = count;
+
+            for (int n = 0; n < count; n++) {
+                int best = -1;
+                int bestSource = -1; // 0 이상: 자식 번호, 음수: -(종료 후보 번호 + 1)
+                for (int t = 0; t < terminalCount; t++) {
+                    if (!terminalTaken[t] && isBetter(terminalLo + t, best)) {
+                        best = terminalLo + t;
+                        bestSource = -(t + 1);
+                    }
+                }
+                for (int c = 0; c < children; c++) {
+                    int child = firstChild[node] + c;
+                    if (cursors[c] < topCount[child]) {
+                        int candidate = tops[topStart[child] + cursors[c]];
+                        if (isBetter(candidate, best)) {
+                            best = candidate;
+                            bestSource = c;
+                        }
+                    }
+                }
+                if (bestSource >= 0) {
+                    cursors[bestSource]++;
+                } else {
+                    terminalTaken[-bestSource - 1] = true;
+                }
+                tops[topsSize++] = best;
+            }
+        }
+
+        // weight가 크고, 같으면 ID가 큰(최근) 후보가 앞선다
+        private boolean isBetter(int candidate, int best) {
+            if (best < 0) {
+                return true;
+            }
+            if (weights[candidate] != weights[best]) {
+                return weights[candidate] > weights[best];
+            }
+            return ids[candidate] > ids[best];
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -11,8 +11,9 @@ import com.example.board.domain.bookmark.entity.Bookmark;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long>{
     
-    // 사용자의 북마크 목록 조회
-    @Query("SELECT b FROM Bookmark b JOIN FETCH b.post WHERE b.user.id = :userId")
+    // 사용자의 북마크 목록 조회 (목록에 쓰는 작성자/카테고리까지 한 쿼리로)
+    @Query("SELECT b FROM Bookmark b JOIN FETCH b.post p JOIN FETCH p.user LEFT JOIN FETCH p.category "
+            + "WHERE b.user.id = :userId")
     List<Bookmark> findByUserId(@Param("userId") Long userId);
 
     // 특정 게시글 북마크 여부 확인
@@ -21,8 +22,8 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long>{
     // 북마크 존재 여부 확인
     boolean existsByUserIdAndPostId(Long userId, Long postId);
     
-    // 사용자의 북마크 삭제
-    void deleteByUserIdAndPostId(Long userId, Long postId);
+    // 사용자의 북마크 삭제 (삭제된 건수 반환)
+    long deleteByUserIdAndPostId(Long userId, Long postId);
 
 
 }
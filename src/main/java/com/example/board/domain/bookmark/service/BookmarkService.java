@@ -10,35 +10,48 @@ import com.example.board.domain.bookmark.repository.BookmarkRepository;
 import com.example.board.domain.post.dto.PostResponse;
 import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.ranking.service.RankingEvent;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
+import com.example.board.global.datasource.ReadYourWrites;
+import com.example.board.global.jfr.BookmarkToggleEvent;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostRankingService postRankingService;
 
 
     // 북마크 토글 (있으면 삭제, 없으면 추가)
     @Transactional
     public boolean toggleBookmark(Long userId, Long postId) {
+        ReadYourWrites.markWrite();
+        BookmarkToggleEvent event = BookmarkToggleEvent.started(postId, userId);
+        boolean bookmarked;
         if (bookmarkRepository.existsByUserIdAndPostId(userId, postId)) {
             removeBookmark(userId, postId); // 북마크 삭제
-            return false;
+            bookmarked = false;
         } else {
             addBookmark(userId, postId); // 북마크 추가
-            return true;
+            bookmarked = true;
         }
+        event.complete(bookmarked);
+        return bookmarked;
     }   
 
     // 북마크 추가
     @Transactional
     public void addBookmark(Long userId, Long postId) {
+        ReadYourWrites.markWrite();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         Post post = postRepository.findById(postId)
@@ -50,12 +63,19 @@ public class BookmarkService {
                 .build();
 
         bookmarkRepository.save(bookmark);
+        post.increaseBookmarkCount();
+        postRankingService.record(post, RankingEvent.BOOKMARK);
     }
 
     // 북마크 삭제
     @Transactional
     public void removeBookmark(Long userId, Long postId) {
-        bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
+        ReadYourWrites.markWrite();
+        if (bookmarkRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+            return;
+        }
+        postRepository.findById(postId).ifPresent(Post::decreaseBookmarkCount);
+        postRankingService.record(postId, RankingEvent.BOOKMARK_CANCELLED);
     }
 
     // 사용자의 북마크한 게시글 목록 조회
@@ -0,0 +1,19 @@
+package com.example.board.domain.bulkimport.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportSummary {
+    private long posts;
+    private long comments;
+    private long likes;
+    private long bookmarks;
+    private long rejected;
+    private long elapsedMs;
+
+    public long getRows() {
+        return posts + comments + likes + bookmarks;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.board.domain.bulkimport.runner;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.example.board.domain.bulkimport.dto.ImportSummary;
+import com.example.board.domain.bulkimport.service.BoardImportService;
+import com.example.board.domain.search.service.PostSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시판 대량 가져오기 CLI (import 프로필에서만 실행, 웹 서버 없이 가져오고 종료)
+ *
+ * 실행: ./gradlew bootRun --args='--spring.profiles.active=local,import --board.import.file=/backup/board.ndjson'
+ * 중단되면 같은 명령으로 다시 실행하면 재개 지점(기본: 입력 파일 옆 .checkpoint)부터 이어서 한다.
+ */
+@Slf4j
+@Component
+@Profile("import")
+@RequiredArgsConstructor
+public class BoardImportRunner implements ApplicationRunner {
+    private final BoardImportService boardImportService;
+    private final PostSearchService postSearchService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${board.import.file:}")
+    private String file;
+
+    @Value("${board.import.checkpoint:}")
+    private String checkpoint;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (file.isBlank()) {
+            throw new IllegalArgumentException("board.import.file에 가져올 파일을 지정하세요.");
+        }
+        Path input = Path.of(file);
+        Path checkpointFile = checkpoint.isBlank()
+                ? input.resolveSibling(input.getFileName() + ".checkpoint")
+                : Path.of(checkpoint);
+
+        ImportSummary summary = boardImportService.importFile(input, checkpointFile);
+        log.info("게시판 가져오기 종료: {}행 저장, {}행 거부, {}ms",
+                summary.getRows(), summary.getRejected(), summary.getElapsedMs());
+
+        // 가져온 게시글은 검색 색인을 거치지 않았으므로 다음 기동 때 전체 재색인하게 한다
+        postSearchService.invalidateIndex();
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
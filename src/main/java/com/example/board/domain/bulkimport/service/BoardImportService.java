@@ -0,0 +1,685 @@
+package com.example.board.domain.bulkimport.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.example.board.domain.bulkimport.dto.ImportSummary;
+import com.example.board.domain.export.dto.CommentExportRow;
+import com.example.board.domain.export.dto.PostExportRow;
+import com.example.board.domain.post.entity.CompressedTextConverter;
+import com.example.board.domain.post.entity.LikeType;
+import com.example.board.domain.post.entity.Post;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NDJSON 파일에서 게시글/댓글/좋아요/북마크 대량 가져오기
+ *
+ * 입력은 내보내기(BoardExportService)와 같은 한 줄 한 레코드 형식이고,
+ * 반응은 {"type":"like","postId":..,"userId":..,"likeType":"LIKE"}, {"type":"bookmark",...} 줄로 받는다.
+ * - 파일을 줄 경계에 맞춘 조각으로 나눠 메모리 매핑하고, 조각들을 여러 스레드가 동시에 파싱한다.
+ * - 사용자/카테고리는 시작 시 읽어 둔 메모리 사전으로 찾는다 (행마다 조회하지 않는다).
+ * - 저장은 한 스레드가 파일 순서대로 조각마다 한 트랜잭션으로 한다.
+ *   StatelessSession의 커넥션에 JDBC 배치를 직접 보내 엔티티/영속성 컨텍스트 비용이 없고,
+ *   reWriteBatchedInserts로 배치가 다중 VALUES INSERT 한 문장이 된다.
+ * - 게시글/댓글 ID는 파일 값을 그대로 쓰고, 끝나면 시퀀스를 최대 ID 뒤로 옮긴다.
+ * - 조각이 커밋될 때마다 재개 지점을 기록하므로 중단된 위치부터 다시 시작할 수 있다.
+ */
+@Slf4j
+@Service
+public class BoardImportService {
+    private static final int ID_BLOCK_SIZE = 50; // 엔티티 allocationSize와 같아야 pooled 구간이 겹치지 않는다
+    private static final long PROGRESS_INTERVAL_NANOS = 10_000_000_000L;
+    private static final long MAX_CHUNK_SIZE = 1L << 30; // 한 번에 매핑할 수 있는 크기(2GB 미만)에 줄 길이 여유를 둔다
+    private static final int MAX_LINE_LENGTH = 64 * 1024 * 1024;
+
+    private static final String POST_INSERT =
+            "INSERT INTO post (post_id, user_id, category_id, title, excerpt, view_count, like_count, " +
+            "dislike_count, bookmark_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 본문은 CompressedTextConverter 형식으로 인코딩해서 넣는다 (엔티티로 읽을 때와 같은 형식)
+    private static final String POST_CONTENT_INSERT =
+            "INSERT INTO post_content (post_id, body, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    // comment.content는 oid(대용량 객체) 컬럼이라 서버에서 UTF-8 바이트로 대용량 객체를 만들어 넣는다
+    private static final String COMMENT_INSERT =
+            "INSERT INTO comment (comment_id, content, user_id, parent_id, post_id, is_deleted, created_at, updated_at) " +
+            "VALUES (?, lo_from_bytea(0, convert_to(?, 'UTF8')), ?, ?, ?, ?, ?, ?)";
+    private static final String LIKE_INSERT =
+            "INSERT INTO post_like (post_like_id, post_id, user_id, like_type, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String BOOKMARK_INSERT =
+            "INSERT INTO bookmark (bookmark_id, user_id, post_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String CATEGORY_INSERT =
+            "INSERT INTO category (category_id, name, created_at, updated_at) VALUES (?, ?, now(), now()) " +
+            "ON CONFLICT (name) DO NOTHING";
+
+    // 시퀀스를 (최대 ID + 구간 크기)와 현재 값 중 큰 쪽으로 옮긴다 (V4 마이그레이션과 같은 기준, 되감지 않음)
+    private static final String SEQUENCE_ADVANCE =
+            "SELECT setval('%1$s', GREATEST((SELECT COALESCE(MAX(%3$s), 0) + %4$d FROM %2$s), " +
+            "(SELECT last_value + %4$d FROM %1$s)), false)";
+
+    private final SessionFactory sessionFactory;
+    private final long chunkSize;
+    private final int parallelism;
+    private final int batchSize;
+
+    public BoardImportService(EntityManagerFactory entityManagerFactory,
+                              @Value("${board.import.chunk-size:64MB}") DataSize chunkSize,
+                              @Value("${board.import.parallelism:0}") int parallelism,
+                              @Value("${board.import.batch-size:1000}") int batchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.chunkSize = Math.min(Math.max(chunkSize.toBytes(), 1), MAX_CHUNK_SIZE);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    // file을 가져온다. checkpointFile에 같은 파일의 재개 지점이 있으면 그 위치부터 이어서 한다
+    public ImportSummary importFile(Path file, Path checkpointFile) throws IOException {
+        if (file.getFileName().toString().endsWith(".gz")) {
+            throw new IllegalArgumentException("압축된 파일은 나눠 읽을 수 없습니다. 압축을 푼 뒤 가져오세요: " + file);
+        }
+        long startedAt = System.nanoTime();
+        long size = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        ImportCheckpoint checkpoint = ImportCheckpoint.read(checkpointFile, size, lastModified);
+        boolean replay = checkpoint != null && checkpoint.offset > 0;
+        if (checkpoint == null) {
+            checkpoint = new ImportCheckpoint(size, lastModified);
+        } else {
+            log.info("게시판 가져오기 재개: {} / {} bytes 위치부터 (이전까지 {}행)",
+                    checkpoint.offset, size, checkpoint.posts + checkpoint.comments + checkpoint.likes + checkpoint.bookmarks);
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService parsers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "board-import-parser-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             StatelessSession session = sessionFactory.openStatelessSession()) {
+            ImportLookups lookups = session.doReturningWork(ImportLookups::load);
+            log.info("게시판 가져오기 시작: {} ({} bytes), 사용자 {}명, 카테고리 {}개, 파싱 스레드 {}개",
+                    file, size, lookups.userCount(), lookups.categoryCount(), parallelism);
+
+            IdBlock likeIds = new IdBlock("post_like_seq");
+            IdBlock bookmarkIds = new IdBlock("bookmark_seq");
+            IdBlock categoryIds = new IdBlock("category_seq");
+            Progress progress = new Progress(size, startedAt);
+
+            // 파싱은 앞서 나가되, 메모리에 쌓이는 조각 수는 스레드 수의 두 배로 제한한다
+            Deque<Future<ImportBatch>> pending = new ArrayDeque<>();
+            long next = checkpoint.offset;
+            while (next < size || !pending.isEmpty()) {
+                while (next < size && pending.size() < parallelism * 2) {
+                    long start = next;
+                    long end = nextBoundary(channel, start, size);
+                    pending.add(parsers.submit(() -> parseChunk(channel, start, end, lookups)));
+                    next = end;
+                }
+                ImportBatch batch = await(pending.poll());
+
+                dropOrphans(batch, checkpoint.rejectedPostIds, checkpoint.rejectedCommentIds);
+                createMissingCategories(session, batch, lookups, categoryIds);
+                save(session, batch, lookups, likeIds, bookmarkIds, replay);
+                replay = false;
+
+                checkpoint.offset = batch.end;
+                checkpoint.posts += batch.posts.size();
+                checkpoint.comments += batch.comments.size();
+                checkpoint.likes += batch.likes.size();
+                checkpoint.bookmarks += batch.bookmarks.size();
+                checkpoint.rejected += batch.rejected;
+                checkpoint.write(checkpointFile);
+                progress.report(checkpoint, batch.rows(), false);
+            }
+
+            advanceSequences(session);
+            progress.report(checkpoint, 0, true);
+        } finally {
+            parsers.shutdownNow();
+        }
+
+        return new ImportSummary(checkpoint.posts, checkpoint.comments, checkpoint.likes, checkpoint.bookmarks,
+                checkpoint.rejected, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // from에서 chunkSize만큼 간 뒤 다음 줄바꿈 바로 뒤 위치 (조각이 줄 중간에서 끊기지 않도록)
+    long nextBoundary(FileChannel channel, long from, long size) throws IOException {
+        long position = from + chunkSize;
+        if (position >= size) {
+            return size;
+        }
+        ByteBuffer window = ByteBuffer.allocate(8 * 1024);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // [start, end) 구간을 매핑해 줄 단위로 파싱 (형식 오류나 작성자를 찾을 수 없는 줄은 거부 건수로 센다)
+    ImportBatch parseChunk(FileChannel channel, long start, long end, ImportLookups lookups) throws IOException {
+        ImportBatch batch = new ImportBatch(start, end);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        NdjsonReader reader = new NdjsonReader();
+        byte[] line = new byte[16 * 1024];
+
+        int limit = buffer.limit();
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && buffer.get(i) != '\n') {
+                continue;
+            }
+            int length = i - lineStart;
+            if (length > 0) {
+                if (length > MAX_LINE_LENGTH) {
+                    throw new IllegalStateException("줄이 너무 깁니다: 파일 위치 " + (start + lineStart));
+                }
+                if (line.length < length) {
+                    line = new byte[Math.max(length, line.length * 2)];
+                }
+                buffer.get(lineStart, line, 0, length);
+                parseLine(reader, line, length, batch, lookups, start + lineStart);
+            }
+            lineStart = i + 1;
+        }
+        return batch;
+    }
+
+    private void parseLine(NdjsonReader reader, byte[] line, int length, ImportBatch batch,
+                           ImportLookups lookups, long position) {
+        if (isBlank(line, length)) {
+            return;
+        }
+        try {
+            Map<String, Object> record = reader.parse(line, length);
+            String type = string(record, "type", true);
+            switch (type) {
+                case "post" -> addPost(record, batch, lookups);
+                case "comment" -> addComment(record, batch, lookups);
+                case "like" -> addLike(record, batch, lookups);
+                case "bookmark" -> addBookmark(record, batch, lookups);
+                default -> throw new IllegalArgumentException("알 수 없는 type: " + type);
+            }
+        } catch (IllegalArgumentException | ClassCastException | ArithmeticException | DateTimeParseException e) {
+            batch.rejected++;
+            log.warn("가져오기 형식 오류로 건너뜀 (파일 위치 {}): {}", position, e.getMessage());
+        }
+    }
+
+    private void addPost(Map<String, Object> record, ImportBatch batch, ImportLookups lookups) {
+        Long id = longValue(record, "id", true);
+        String writer = string(record, "writer", false);
+        Long userId = lookups.resolveUser(longValue(record, "userId", false), writer);
+        if (userId == null) {
+            batch.rejectedPostIds.add(id);
+            batch.rejected++;
+            return;
+        }
+        batch.posts.add(new PostExportRow(
+                id, userId, writer,
+                null, // 카테고리는 이름으로 찾는다 (저장 직전에 없는 이름을 만든 뒤 결정)
+                string(record, "categoryName", false),
+                string(record, "title", true),
+                string(record, "content", true),
+                longValue(record, "viewCount", false),
+                longValue(record, "likeCount", false),
+                longValue(record, "dislikeCount", false),
+                longValue(record, "bookmarkCount", false),
+                dateTime(record, "createdAt"),
+                dateTime(record, "updatedAt")));
+    }
+
+    private void addComment(Map<String, Object> record, ImportBatch batch, ImportLookups lookups) {
+        Long id = longValue(record, "id", true);
+        String writer = string(record, "writer", false);
+        Long userId = lookups.resolveUser(longValue(record, "userId", false), writer);
+        if (userId == null) {
+            batch.rejectedCommentIds.add(id);
+            batch.rejected++;
+            return;
+        }
+        Object deleted = record.get("deleted");
+        batch.comments.add(new CommentExportRow(
+                id,
+                longValue(record, "postId", true),
+                longValue(record, "parentId", false),
+                userId, writer,
+                string(record, "content", true),
+                Boolean.TRUE.equals(deleted),
+                dateTime(record, "createdAt"),
+                dateTime(record, "updatedAt")));
+    }
+
+    private void addLike(Map<String, Object> record, ImportBatch batch, ImportLookups lookups) {
+        Long postId = longValue(record, "postId", true);
+        Long userId = lookups.resolveUser(longValue(record, "userId", false), string(record, "writer", false));
+        LikeType likeType = LikeType.valueOf(string(record, "likeType", true));
+        if (userId == null) {
+            batch.rejected++;
+            return;
+        }
+        batch.likes.add(new ImportBatch.LikeRow(
+                longValue(record, "id", false), postId, userId, likeType, dateTime(record, "createdAt")));
+    }
+
+    private void addBookmark(Map<String, Object> record, ImportBatch batch, ImportLookups lookups) {
+        Long postId = longValue(record, "postId", true);
+        Long userId = lookups.resolveUser(longValue(record, "userId", false), string(record, "writer", false));
+        if (userId == null) {
+            batch.rejected++;
+            return;
+        }
+        batch.bookmarks.add(new ImportBatch.BookmarkRow(
+                longValue(record, "id", false), postId, userId, dateTime(record, "createdAt")));
+    }
+
+    // 앞서 거부된 게시글/댓글을 참조하는 행을 파일 순서대로 걸러 낸다 (외래 키 위반 방지)
+    static void dropOrphans(ImportBatch batch, Set<Long> rejectedPostIds, Set<Long> rejectedCommentIds) {
+        rejectedPostIds.addAll(batch.rejectedPostIds);
+        rejectedCommentIds.addAll(batch.rejectedCommentIds);
+        if (rejectedPostIds.isEmpty() && rejectedCommentIds.isEmpty()) {
+            return;
+        }
+        // 부모 댓글이 항상 자식보다 앞에 있으므로 한 번 훑으면 연쇄적으로 걸러진다
+        for (Iterator<CommentExportRow> it = batch.comments.iterator(); it.hasNext(); ) {
+            CommentExportRow comment = it.next();
+            if (rejectedPostIds.contains(comment.getPostId())
+                    || (comment.getParentId() != null && rejectedCommentIds.contains(comment.getParentId()))) {
+                it.remove();
+                rejectedCommentIds.add(comment.getId());
+                batch.rejected++;
+            }
+        }
+        int likes = batch.likes.size();
+        int bookmarks = batch.bookmarks.size();
+        batch.likes.removeIf(like -> rejectedPostIds.contains(like.postId()));
+        batch.bookmarks.removeIf(bookmark -> rejectedPostIds.contains(bookmark.postId()));
+        batch.rejected += (likes - batch.likes.size()) + (bookmarks - batch.bookmarks.size());
+    }
+
+    // 사전에 없는 카테고리 이름을 먼저 별도 트랜잭션으로 만든다 (조각 트랜잭션이 롤백되어도 사전과 DB가 어긋나지 않도록)
+    private void createMissingCategories(StatelessSession session, ImportBatch batch,
+                                         ImportLookups lookups, IdBlock categoryIds) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (PostExportRow post : batch.posts) {
+            if (post.getCategoryName() != null && lookups.categoryId(post.getCategoryName()) == null) {
+                missing.add(post.getCategoryName());
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        inTransaction(session, connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(CATEGORY_INSERT)) {
+                for (String name : missing) {
+                    insert.setLong(1, categoryIds.next(connection));
+                    insert.setString(2, name);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT category_id, name FROM category WHERE name = ANY(?)")) {
+                select.setArray(1, connection.createArrayOf("varchar", missing.toArray()));
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        lookups.putCategory(rs.getString(2), rs.getLong(1));
+                    }
+                }
+            }
+        });
+        log.info("가져오기 중 카테고리 {}개 생성: {}", missing.size(), missing);
+    }
+
+    // 조각 하나를 한 트랜잭션으로 저장 (게시글 -> 본문 -> 댓글 -> 반응 순서로 외래 키를 만족시킨다)
+    private void save(StatelessSession session, ImportBatch batch, ImportLookups lookups,
+                      IdBlock likeIds, IdBlock bookmarkIds, boolean replay) {
+        inTransaction(session, connection -> {
+            if (replay) {
+                skipExisting(connection, batch);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(POST_INSERT)) {
+                int count = 0;
+                for (PostExportRow post : batch.posts) {
+                    insert.setLong(1, post.getId());
+                    insert.setLong(2, post.getUserId());
+                    setLong(insert, 3, lookups.categoryId(post.getCategoryName()));
+                    insert.setString(4, post.getTitle());
+                    insert.setString(5, Post.excerptOf(post.getContent()));
+                    insert.setLong(6, orZero(post.getViewCount()));
+                    insert.setLong(7, orZero(post.getLikeCount()));
+                    insert.setLong(8, orZero(post.getDislikeCount()));
+                    insert.setLong(9, orZero(post.getBookmarkCount()));
+                    setTimestamp(insert, 10, post.getCreatedAt());
+                    setTimestamp(insert, 11, post.getUpdatedAt());
+                    addBatch(insert, ++count);
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(POST_CONTENT_INSERT)) {
+                int count = 0;
+                for (PostExportRow post : batch.posts) {
+                    insert.setLong(1, post.getId());
+                    insert.setBytes(2, CompressedTextConverter.encode(post.getContent()));
+                    setTimestamp(insert, 3, post.getCreatedAt());
+                    setTimestamp(insert, 4, post.getUpdatedAt());
+                    addBatch(insert, ++count);
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(COMMENT_INSERT)) {
+                int count = 0;
+                for (CommentExportRow comment : batch.comments) {
+                    insert.setLong(1, comment.getId());
+                    insert.setString(2, comment.getContent());
+                    insert.setLong(3, comment.getUserId());
+                    setLong(insert, 4, comment.getParentId());
+                    insert.setLong(5, comment.getPostId());
+                    insert.setBoolean(6, comment.isDeleted());
+                    setTimestamp(insert, 7, comment.getCreatedAt());
+                    setTimestamp(insert, 8, comment.getUpdatedAt());
+                    addBatch(insert, ++count);
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(LIKE_INSERT)) {
+                int count = 0;
+                for (ImportBatch.LikeRow like : batch.likes) {
+                    insert.setLong(1, like.id() != null ? like.id() : likeIds.next(connection));
+                    insert.setLong(2, like.postId());
+                    insert.setLong(3, like.userId());
+                    insert.setString(4, like.likeType().name());
+                    setTimestamp(insert, 5, like.createdAt());
+                    setTimestamp(insert, 6, like.createdAt());
+                    addBatch(insert, ++count);
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement insert = connection.prepareStatement(BOOKMARK_INSERT)) {
+                int count = 0;
+                for (ImportBatch.BookmarkRow bookmark : batch.bookmarks) {
+                    insert.setLong(1, bookmark.id() != null ? bookmark.id() : bookmarkIds.next(connection));
+                    insert.setLong(2, bookmark.userId());
+                    insert.setLong(3, bookmark.postId());
+                    setTimestamp(insert, 4, bookmark.createdAt());
+                    setTimestamp(insert, 5, bookmark.createdAt());
+                    addBatch(insert, ++count);
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+
+    // 재개 직후 첫 조각은 중단 직전에 이미 커밋되었을 수 있으므로 저장된 행을 빼고 저장한다
+    private void skipExisting(Connection connection, ImportBatch batch) throws SQLException {
+        Set<Long> postIds = new HashSet<>();
+        batch.posts.forEach(post -> postIds.add(post.getId()));
+        batch.likes.forEach(like -> postIds.add(like.postId()));
+        batch.bookmarks.forEach(bookmark -> postIds.add(bookmark.postId()));
+
+        Set<Long> existingPosts = existingIds(connection, "SELECT post_id FROM post WHERE post_id = ANY(?)",
+                batch.posts.stream().map(PostExportRow::getId).toList());
+        Set<Long> existingComments = existingIds(connection, "SELECT comment_id FROM comment WHERE comment_id = ANY(?)",
+                batch.comments.stream().map(CommentExportRow::getId).toList());
+        Set<String> existingLikes = existingPairs(connection,
+                "SELECT post_id, user_id FROM post_like WHERE post_id = ANY(?)", postIds);
+        Set<String> existingBookmarks = existingPairs(connection,
+                "SELECT post_id, user_id FROM bookmark WHERE post_id = ANY(?)", postIds);
+
+        batch.posts.removeIf(post -> existingPosts.contains(post.getId()));
+        batch.comments.removeIf(comment -> existingComments.contains(comment.getId()));
+        batch.likes.removeIf(like -> existingLikes.contains(like.postId() + ":" + like.userId()));
+        batch.bookmarks.removeIf(bookmark -> existingBookmarks.contains(bookmark.postId() + ":" + bookmark.userId()));
+    }
+
+    private static Set<Long> existingIds(Connection connection, String sql, Collection<Long> ids) throws SQLException {
+        Set<Long> existing = new HashSet<>();
+        if (ids.isEmpty()) {
+            return existing;
+        }
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setArray(1, bigintArray(connection, ids));
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getLong(1));
+                }
+            }
+        }
+        return existing;
+    }
+
+    private static Set<String> existingPairs(Connection connection, String sql, Collection<Long> postIds) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        if (postIds.isEmpty()) {
+            return existing;
+        }
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setArray(1, bigintArray(connection, postIds));
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getLong(1) + ":" + rs.getLong(2));
+                }
+            }
+        }
+        return existing;
+    }
+
+    // 파일의 ID로 넣은 테이블은 시퀀스가 그 뒤에서 시작해야 이후 애플리케이션 INSERT와 겹치지 않는다
+    private void advanceSequences(StatelessSession session) {
+        inTransaction(session, connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (String[] target : List.of(
+                        new String[] {"post_seq", "post", "post_id"},
+                        new String[] {"comment_seq", "comment", "comment_id"},
+                        new String[] {"post_like_seq", "post_like", "post_like_id"},
+                        new String[] {"bookmark_seq", "bookmark", "bookmark_id"})) {
+                    statement.execute(String.format(Locale.ROOT, SEQUENCE_ADVANCE,
+                            target[0], target[1], target[2], ID_BLOCK_SIZE));
+                }
+            }
+        });
+    }
+
+    private void addBatch(PreparedStatement insert, int count) throws SQLException {
+        insert.addBatch();
+        if (count % batchSize == 0) {
+            insert.executeBatch();
+        }
+    }
+
+    private static void inTransaction(StatelessSession session, SqlWork work) {
+        Transaction transaction = session.beginTransaction();
+        try {
+            session.doWork(work::execute);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    private static ImportBatch await(Future<ImportBatch> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가져오기가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean isBlank(byte[] line, int length) {
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t' && line[i] != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String string(Map<String, Object> record, String name, boolean required) {
+        return (String) required(record, name, required);
+    }
+
+    private static Long longValue(Map<String, Object> record, String name, boolean required) {
+        return (Long) required(record, name, required);
+    }
+
+    private static LocalDateTime dateTime(Map<String, Object> record, String name) {
+        String value = (String) record.get(name);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static Object required(Map<String, Object> record, String name, boolean required) {
+        Object value = record.get(name);
+        if (value == null && required) {
+            throw new IllegalArgumentException("필수 필드가 없습니다: " + name);
+        }
+        return value;
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static void setLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.TIMESTAMP);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    private static Array bigintArray(Connection connection, Collection<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void execute(Connection connection) throws SQLException;
+    }
+
+    // pooled 옵티마이저와 같은 방식의 ID 구간 (nextval = v 이면 v-49 ~ v 사용)
+    private static final class IdBlock {
+        private final String sequence;
+        private long next;
+        private long last = -1;
+
+        private IdBlock(String sequence) {
+            this.sequence = sequence;
+        }
+
+        private long next(Connection connection) throws SQLException {
+            if (next > last) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT nextval(?)")) {
+                    statement.setString(1, sequence);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        rs.next();
+                        last = rs.getLong(1);
+                        next = last - ID_BLOCK_SIZE + 1;
+                    }
+                }
+            }
+            return next++;
+        }
+    }
+
+    // 진행률과 초당 저장 건수 기록 (이번 실행에서 저장한 행만 속도에 반영)
+    private static final class Progress {
+        private final long fileSize;
+        private final long startedAt;
+        private long rows;
+        private long lastReportAt;
+        private long lastReportRows;
+
+        private Progress(long fileSize, long startedAt) {
+            this.fileSize = fileSize;
+            this.startedAt = startedAt;
+            this.lastReportAt = startedAt;
+        }
+
+        private void report(ImportCheckpoint checkpoint, int savedRows, boolean done) {
+            rows += savedRows;
+            long now = System.nanoTime();
+            if (!done && now - lastReportAt < PROGRESS_INTERVAL_NANOS) {
+                return;
+            }
+            double recent = (rows - lastReportRows) / Math.max((now - lastReportAt) / 1e9, 1e-9);
+            double average = rows / Math.max((now - startedAt) / 1e9, 1e-9);
+            log.info(String.format(Locale.ROOT,
+                    "게시판 가져오기 %s: %.1f%% (%,d / %,d bytes), 게시글 %,d, 댓글 %,d, 좋아요 %,d, 북마크 %,d, 거부 %,d, " +
+                    "최근 %,.0f rows/s, 평균 %,.0f rows/s",
+                    done ? "완료" : "진행", fileSize == 0 ? 100.0 : checkpoint.offset * 100.0 / fileSize,
+                    checkpoint.offset, fileSize, checkpoint.posts, checkpoint.comments, checkpoint.likes,
+                    checkpoint.bookmarks, checkpoint.rejected, recent, average));
+            lastReportAt = now;
+            lastReportRows = rows;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.board.domain.bulkimport.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.board.domain.export.dto.CommentExportRow;
+import com.example.board.domain.export.dto.PostExportRow;
+import com.example.board.domain.post.entity.LikeType;
+
+// 입력 파일 한 조각(chunk)을 파싱한 결과. 파일 순서대로 한 트랜잭션에 저장된다
+final class ImportBatch {
+    record LikeRow(Long id, long postId, long userId, LikeType likeType, LocalDateTime createdAt) {}
+
+    record BookmarkRow(Long id, long postId, long userId, LocalDateTime createdAt) {}
+
+    final long start;
+    final long end;
+    final List<PostExportRow> posts = new ArrayList<>();
+    final List<CommentExportRow> comments = new ArrayList<>();
+    final List<LikeRow> likes = new ArrayList<>();
+    final List<BookmarkRow> bookmarks = new ArrayList<>();
+
+    // 작성자를 찾지 못해 버린 행의 ID (이를 참조하는 뒤쪽 행도 함께 버린다)
+    final Set<Long> rejectedPostIds = new HashSet<>();
+    final Set<Long> rejectedCommentIds = new HashSet<>();
+    long rejected;
+
+    ImportBatch(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    int rows() {
+        return posts.size() + comments.size() + likes.size() + bookmarks.size();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.board.domain.bulkimport.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가져오기 재개 지점
+ *
+ * 조각 하나가 커밋될 때마다 다음에 읽을 파일 위치와 누적 건수를 기록한다.
+ * 입력 파일의 크기/수정 시각이 기록과 다르면 다른 파일로 보고 처음부터 시작한다.
+ * 커밋 직후 기록 전에 중단되면 마지막 조각이 한 번 더 적용되므로,
+ * 재개 후 첫 조각은 이미 저장된 행을 걸러 내고 저장한다 (BoardImportService 참고).
+ */
+@Slf4j
+final class ImportCheckpoint {
+    long fileSize;
+    long lastModified;
+    long offset;
+    long posts;
+    long comments;
+    long likes;
+    long bookmarks;
+    long rejected;
+    final Set<Long> rejectedPostIds = new HashSet<>();
+    final Set<Long> rejectedCommentIds = new HashSet<>();
+
+    ImportCheckpoint(long fileSize, long lastModified) {
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+    }
+
+    // 같은 파일에 대한 기록이 있으면 읽고, 없거나 다른 파일이면 null
+    static ImportCheckpoint read(Path checkpoint, long fileSize, long lastModified) throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint)) {
+            properties.load(reader);
+        }
+        if (Long.parseLong(properties.getProperty("fileSize", "-1")) != fileSize
+                || Long.parseLong(properties.getProperty("lastModified", "-1")) != lastModified) {
+            log.warn("재개 기록 {}이(가) 현재 입력 파일과 맞지 않아 무시합니다", checkpoint);
+            return null;
+        }
+        ImportCheckpoint restored = new ImportCheckpoint(fileSize, lastModified);
+        restored.offset = longValue(properties, "offset");
+        restored.posts = longValue(properties, "posts");
+        restored.comments = longValue(properties, "comments");
+        restored.likes = longValue(properties, "likes");
+        restored.bookmarks = longValue(properties, "bookmarks");
+        restored.rejected = longValue(properties, "rejected");
+        restored.rejectedPostIds.addAll(ids(properties.getProperty("rejectedPostIds", "")));
+        restored.rejectedCommentIds.addAll(ids(properties.getProperty("rejectedCommentIds", "")));
+        return restored;
+    }
+
+    // 임시 파일에 쓰고 원자적으로 교체 (기록 도중 중단되어도 이전 기록이 남는다)
+    void write(Path checkpoint) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("fileSize", String.valueOf(fileSize));
+        properties.setProperty("lastModified", String.valueOf(lastModified));
+        properties.setProperty("offset", String.valueOf(offset));
+        properties.setProperty("posts", String.valueOf(posts));
+        properties.setProperty("comments", String.valueOf(comments));
+        properties.setProperty("likes", String.valueOf(likes));
+        properties.setProperty("bookmarks", String.valueOf(bookmarks));
+        properties.setProperty("rejected", String.valueOf(rejected));
+        properties.setProperty("rejectedPostIds", join(rejectedPostIds));
+        properties.setProperty("rejectedCommentIds", join(rejectedCommentIds));
+
+        Path parent = checkpoint.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = parent.resolve(checkpoint.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp)) {
+            properties.store(writer, "board import checkpoint");
+        }
+        Files.move(tmp, checkpoint, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static long longValue(Properties properties, String key) {
+        return Long.parseLong(properties.getProperty(key, "0"));
+    }
+
+    private static Set<Long> ids(String joined) {
+        if (joined.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(joined.split(",")).map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private static String join(Collection<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.board.domain.bulkimport.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가져오기 중 사용자/카테고리 조회용 메모리 사전
+ *
+ * 시작할 때 한 번 읽어 두고 행마다 DB를 조회하지 않는다.
+ * - 사용자: 파일의 userId가 대상 DB에 있으면 그대로, 없으면 작성자 이름이 유일할 때 그 사용자로 연결
+ * - 카테고리: 이름으로 찾고, 없는 이름은 저장 직전에 만들어 등록한다 (파일의 categoryId는 쓰지 않는다)
+ * 사용자 사전은 파싱 스레드들이 읽기만 하고, 카테고리 등록은 저장 스레드에서만 한다.
+ */
+final class ImportLookups {
+    private static final Long AMBIGUOUS = -1L;
+
+    private final Set<Long> userIds;
+    private final Map<String, Long> userIdsByName;
+    private final Map<String, Long> categoryIds;
+
+    ImportLookups(Map<Long, String> users, Map<String, Long> categories) {
+        this.userIds = new HashSet<>(users.keySet());
+        this.userIdsByName = new HashMap<>(users.size() * 2);
+        users.forEach((id, name) -> userIdsByName.merge(name, id, (a, b) -> AMBIGUOUS));
+        this.categoryIds = new ConcurrentHashMap<>(categories);
+    }
+
+    static ImportLookups load(Connection connection) throws SQLException {
+        Map<Long, String> users = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT user_id, username FROM users");
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                users.put(rs.getLong(1), rs.getString(2));
+            }
+        }
+        Map<String, Long> categories = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT category_id, name FROM category");
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                categories.put(rs.getString(2), rs.getLong(1));
+            }
+        }
+        return new ImportLookups(users, categories);
+    }
+
+    // 대상 DB의 사용자 ID (찾지 못하면 null)
+    Long resolveUser(Long userId, String writer) {
+        if (userId != null && userIds.contains(userId)) {
+            return userId;
+        }
+        Long byName = writer != null ? userIdsByName.get(writer) : null;
+        return AMBIGUOUS.equals(byName) ? null : byName;
+    }
+
+    Long categoryId(String name) {
+        return name != null ? categoryIds.get(name) : null;
+    }
+
+    void putCategory(String name, Long id) {
+        categoryIds.put(name, id);
+    }
+
+    int userCount() {
+        return userIds.size();
+    }
+
+    int categoryCount() {
+        return categoryIds.size();
+    }
+}
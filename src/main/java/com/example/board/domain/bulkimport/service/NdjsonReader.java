@@ -0,0 +1,198 @@
+package com.example.board.domain.bulkimport.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 줄짜리 평평한 JSON 객체를 읽는 NDJSON 파서 (NdjsonWriter가 쓰는 형식)
+ *
+ * 값은 문자열, 정수, true/false, null만 허용한다. 중첩 객체/배열/실수는 형식 오류로 본다.
+ * UTF-8 바이트를 그대로 훑고, 이스케이프가 없는 문자열은 한 번에 디코딩한다.
+ */
+final class NdjsonReader {
+    private byte[] line;
+    private int pos;
+    private int end;
+
+    // line[0, length)의 JSON 객체를 필드 이름 -> 값(String, Long, Boolean, null)으로 변환
+    Map<String, Object> parse(byte[] line, int length) {
+        this.line = line;
+        this.pos = 0;
+        this.end = length;
+
+        Map<String, Object> fields = new HashMap<>(32);
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return finish(fields);
+        }
+        while (true) {
+            skipWhitespace();
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            fields.put(name, readValue());
+            skipWhitespace();
+            byte next = next();
+            if (next == '}') {
+                return finish(fields);
+            }
+            if (next != ',') {
+                throw error("',' 또는 '}'가 필요합니다");
+            }
+        }
+    }
+
+    private Map<String, Object> finish(Map<String, Object> fields) {
+        skipWhitespace();
+        if (pos != end) {
+            throw error("객체 뒤에 남은 내용이 있습니다");
+        }
+        return fields;
+    }
+
+    private Object readValue() {
+        byte c = peek();
+        if (c == '"') {
+            return readString();
+        }
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            return readLong();
+        }
+        if (matchLiteral("null")) {
+            return null;
+        }
+        if (matchLiteral("true")) {
+            return Boolean.TRUE;
+        }
+        if (matchLiteral("false")) {
+            return Boolean.FALSE;
+        }
+        throw error("지원하지 않는 값입니다");
+    }
+
+    private Long readLong() {
+        boolean negative = peek() == '-';
+        if (negative) {
+            pos++;
+        }
+        int start = pos;
+        long value = 0;
+        while (pos < end && line[pos] >= '0' && line[pos] <= '9') {
+            value = Math.addExact(Math.multiplyExact(value, 10), line[pos] - '0');
+            pos++;
+        }
+        if (pos == start) {
+            throw error("숫자가 필요합니다");
+        }
+        if (pos < end && (line[pos] == '.' || line[pos] == 'e' || line[pos] == 'E')) {
+            throw error("정수만 지원합니다");
+        }
+        return negative ? -value : value;
+    }
+
+    private String readString() {
+        expect('"');
+        int start = pos;
+        // 대부분의 문자열은 이스케이프가 없으므로 닫는 따옴표까지 한 번에 디코딩
+        while (pos < end && line[pos] != '"' && line[pos] != '\\') {
+            pos++;
+        }
+        if (pos < end && line[pos] == '"') {
+            return new String(line, start, pos++ - start, StandardCharsets.UTF_8);
+        }
+
+        StringBuilder value = new StringBuilder(pos - start + 16);
+        value.append(new String(line, start, pos - start, StandardCharsets.UTF_8));
+        while (true) {
+            byte c = next();
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c == '\\') {
+                appendEscape(value);
+                continue;
+            }
+            int runStart = pos - 1;
+            while (pos < end && line[pos] != '"' && line[pos] != '\\') {
+                pos++;
+            }
+            value.append(new String(line, runStart, pos - runStart, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void appendEscape(StringBuilder value) {
+        byte c = next();
+        switch (c) {
+            case '"' -> value.append('"');
+            case '\\' -> value.append('\\');
+            case '/' -> value.append('/');
+            case 'b' -> value.append('\b');
+            case 'f' -> value.append('\f');
+            case 'n' -> value.append('\n');
+            case 'r' -> value.append('\r');
+            case 't' -> value.append('\t');
+            case 'u' -> {
+                if (end - pos < 4) {
+                    throw error("잘못된 유니코드 이스케이프입니다");
+                }
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(line[pos++], 16);
+                    if (digit < 0) {
+                        throw error("잘못된 유니코드 이스케이프입니다");
+                    }
+                    code = (code << 4) | digit;
+                }
+                value.append((char) code);
+            }
+            default -> throw error("잘못된 이스케이프입니다");
+        }
+    }
+
+    private boolean matchLiteral(String literal) {
+        if (end - pos < literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (line[pos + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        pos += literal.length();
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && (line[pos] == ' ' || line[pos] == '\t' || line[pos] == '\r')) {
+            pos++;
+        }
+    }
+
+    private void expect(char c) {
+        if (next() != c) {
+            throw error("'" + c + "'가 필요합니다");
+        }
+    }
+
+    private byte peek() {
+        if (pos >= end) {
+            throw error("줄이 예상보다 일찍 끝났습니다");
+        }
+        return line[pos];
+    }
+
+    private byte next() {
+        byte c = peek();
+        pos++;
+        return c;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " (위치 " + pos + ")");
+    }
+}
@@ -3,15 +3,34 @@ package com.example.board.domain.category.repository;
 import java.util.Optional;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.example.board.domain.autocomplete.dto.AutocompleteEntry;
 import com.example.board.domain.category.entity.Category;
+import com.example.board.global.cache.CacheRegions;
+
+import jakarta.persistence.QueryHint;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     
-    // 이름으로 카테고리 조회 (중복 확인용)
+    // 이름으로 카테고리 조회 (중복 확인용, 결과는 쿼리 캐시. category 테이블이 바뀌면 무효화된다)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES)})
     Optional<Category> findByName(String name);
     
-    // 전체 카테고리 목록 (이름순 정렬)
+    // 전체 카테고리 목록 (이름순 정렬, 결과는 쿼리 캐시)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORY_QUERIES)})
     List<Category> findAllByOrderByNameAsc();
+
+    // 자동완성 트라이 구축용: 카테고리별 게시글 수
+    @Query("SELECT new com.example.board.domain.autocomplete.dto.AutocompleteEntry(c.id, c.name, COUNT(p)) " +
+           "FROM Category c LEFT JOIN Post p ON p.category = c " +
+           "GROUP BY c.id, c.name")
+    List<AutocompleteEntry> findAutocompleteEntries();
 }
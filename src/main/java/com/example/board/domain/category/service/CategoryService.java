@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.example.board.domain.category.dto.CategoryResponse;
 import com.example.board.domain.category.entity.Category;
 import com.example.board.domain.category.repository.CategoryRepository;
+import com.example.board.global.datasource.ReadYourWrites;
 
 import lombok.RequiredArgsConstructor;
 
@@ -36,6 +37,7 @@ public class CategoryService {
     // 새 카테고리 생성
     @Transactional
     public Category createCategory(String name) {
+        ReadYourWrites.markWrite();
         // 중복 검사
         if (categoryRepository.findByName(name).isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 카테고리입니다: " + name);
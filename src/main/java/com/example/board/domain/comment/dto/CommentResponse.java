@@ -4,8 +4,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.example.board.domain.comment.entity.Comment;
-
 import lombok.Builder;
 import lombok.Getter;
 
@@ -35,33 +33,33 @@ public class CommentResponse {
     }
 
     // 단일 댓글 변환 (대댓글 없이)
-    public static CommentResponse from(Comment comment, Long loginUserId) {
+    public static CommentResponse from(CommentRow row, Long loginUserId) {
         return CommentResponse.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .writerName(comment.getUser().getUsername())
-                .writerId(comment.getUser().getId())
-                .createdAt(comment.getCreatedAt())
-                .isDeleted(comment.isDeleted())
-                .isOwner(loginUserId != null && loginUserId.equals(comment.getUser().getId()))
+                .id(row.getId())
+                .content(row.getContent())
+                .writerName(row.getWriterName())
+                .writerId(row.getWriterId())
+                .createdAt(row.getCreatedAt())
+                .isDeleted(row.isDeleted())
+                .isOwner(loginUserId != null && loginUserId.equals(row.getWriterId()))
                 .replies(new ArrayList<>())
                 .build();
     }
 
     // 부모 댓글 변환 (대댓글 포함)
-    public static CommentResponse of(Comment comment, List<Comment> replyComments, Long loginUserId) {
-        List<CommentResponse> replies = replyComments.stream()
+    public static CommentResponse of(CommentRow row, List<CommentRow> replyRows, Long loginUserId) {
+        List<CommentResponse> replies = replyRows.stream()
                 .map(reply -> CommentResponse.from(reply, loginUserId))
                 .toList();
 
         return CommentResponse.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .writerName(comment.getUser().getUsername())
-                .writerId(comment.getUser().getId())
-                .createdAt(comment.getCreatedAt())
-                .isDeleted(comment.isDeleted())
-                .isOwner(loginUserId != null && loginUserId.equals(comment.getUser().getId()))
+                .id(row.getId())
+                .content(row.getContent())
+                .writerName(row.getWriterName())
+                .writerId(row.getWriterId())
+                .createdAt(row.getCreatedAt())
+                .isDeleted(row.isDeleted())
+                .isOwner(loginUserId != null && loginUserId.equals(row.getWriterId()))
                 .replies(replies)
                 .build();
     }
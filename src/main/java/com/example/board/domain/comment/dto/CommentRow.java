@@ -0,0 +1,19 @@
+package com.example.board.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 목록용 행 (content가 지연 로딩이라 엔티티 대신 필요한 컬럼만 한 번에 읽는다)
+@Getter
+@AllArgsConstructor
+public class CommentRow {
+    private Long id;
+    private Long parentId;
+    private String content;
+    private Long writerId;
+    private String writerName;
+    private boolean deleted;
+    private LocalDateTime createdAt;
+}
@@ -4,6 +4,7 @@ import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.user.entity.User;
 import com.example.board.global.BaseTimeEntity;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -25,11 +27,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     @Column(name="comment_id")
     private Long id;
 
+    // 목록은 CommentRow로 읽고, 수정/삭제/답글 작성은 본문을 읽지 않으므로 지연 로딩 (바이트코드 향상 필요)
     @Lob
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable=false)
     private String content;
 
@@ -11,26 +11,35 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.board.domain.comment.dto.CommentCreateRequest;
 import com.example.board.domain.comment.dto.CommentResponse;
+import com.example.board.domain.comment.dto.CommentRow;
 import com.example.board.domain.comment.entity.Comment;
 import com.example.board.domain.comment.repository.CommentRepository;
 import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.ranking.service.RankingEvent;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
+import com.example.board.global.datasource.ReadYourWrites;
+import com.example.board.global.jfr.CommentPageEvent;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostRankingService postRankingService;
 
     // 댓글 작성
     @Transactional
     public Long writeComment(CommentCreateRequest request, Long userId, Long postId) {
+        ReadYourWrites.markWrite();
         Post post = postRepository.findById(postId).orElseThrow(
             () -> new IllegalArgumentException("존재하지 않는 게시글입니다.")
         );
@@ -54,11 +63,14 @@ public class CommentService {
             .parent(parent)
             .build();
         
-        return commentRepository.save(comment).getId();
+        Long commentId = commentRepository.save(comment).getId();
+        postRankingService.record(post, RankingEvent.COMMENT);
+        return commentId;
     }
     // 댓글 수정
     @Transactional
     public void updateComment(Long commentId, String content){
+        ReadYourWrites.markWrite();
         Comment comment = commentRepository.findById(commentId).orElseThrow(
             () -> new IllegalArgumentException("존재하지 않는 댓글입니다.")
         );
@@ -69,36 +81,46 @@ public class CommentService {
     // 댓글 삭제
     @Transactional
     public void deleteComment(Long commentId){
+        ReadYourWrites.markWrite();
         Comment comment = commentRepository.findById(commentId).orElseThrow(
             () -> new IllegalArgumentException("존재하지 않는 댓글입니다.")
         );
+        if (comment.isDeleted()) {
+            return; // 이미 삭제된 댓글: 랭킹에서 두 번 빼지 않는다
+        }
 
         comment.delete(); // soft delete
+        postRankingService.record(comment.getPost().getId(), RankingEvent.COMMENT_DELETED);
     }
 
     // 게시글별 댓글 목록 조회 (대댓글 포함, 페이징)
     public Page<CommentResponse> getCommentsByPostId(Long postId, Long loginUserId, Pageable pageable) {
-        // 최상위 댓글 페이징 조회 (ToOne 관계인 User만 fetch join)
-        Page<Comment> parentComments = commentRepository.findParentCommentsByPostIdWithUser(postId, pageable);
+        CommentPageEvent event = CommentPageEvent.started(postId, pageable.getPageNumber());
+        // 최상위 댓글 페이징 조회 (작성자 이름까지 DTO 한 행으로)
+        Page<CommentRow> parentComments = commentRepository.findParentRowsByPostId(postId, pageable);
 
         // 조회된 부모 댓글들의 ID 리스트 추출
         List<Long> parentIds = parentComments.getContent().stream()
-                .map(Comment::getId)
+                .map(CommentRow::getId)
                 .collect(Collectors.toList());
 
         // 대댓글 조회 (IN 쿼리로 한 번에)
-        Map<Long, List<Comment>> repliesMap = Map.of();
+        Map<Long, List<CommentRow>> repliesMap = Map.of();
+        int replyCount = 0;
         if (!parentIds.isEmpty()) {
-            List<Comment> replies = commentRepository.findRepliesByParentIdsWithUser(parentIds);
+            List<CommentRow> replies = commentRepository.findReplyRowsByParentIds(parentIds);
+            replyCount = replies.size();
             repliesMap = replies.stream()
-                    .collect(Collectors.groupingBy(c -> c.getParent().getId()));
+                    .collect(Collectors.groupingBy(CommentRow::getParentId));
         }
 
         // CommentResponse로 변환
-        final Map<Long, List<Comment>> finalRepliesMap = repliesMap;
-        return parentComments.map(c -> 
+        final Map<Long, List<CommentRow>> finalRepliesMap = repliesMap;
+        Page<CommentResponse> page = parentComments.map(c -> 
             CommentResponse.of(c, finalRepliesMap.getOrDefault(c.getId(), List.of()), loginUserId)
         );
+        event.complete(parentIds.size(), replyCount);
+        return page;
     }
 
     // 게시글의 전체 댓글 수 조회
@@ -0,0 +1,35 @@
+package com.example.board.domain.export.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.board.domain.export.service.BoardExportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/export")
+public class ExportController {
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final BoardExportService boardExportService;
+
+    // 게시글/댓글 전체 내보내기 (gzip NDJSON, 응답 스트림에 바로 쓰므로 전체를 메모리에 올리지 않는다)
+    @GetMapping("/board")
+    public ResponseEntity<StreamingResponseBody> exportBoard() {
+        String filename = "board-" + LocalDate.now() + ".ndjson.gz";
+        StreamingResponseBody body = boardExportService::export;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(GZIP)
+                .body(body);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.board.domain.export.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내보내기용 댓글 행
+@Getter
+@AllArgsConstructor
+public class CommentExportRow {
+    private Long id;
+    private Long postId;
+    private Long parentId;
+    private Long userId;
+    private String writer;
+    private String content;
+    private boolean deleted;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
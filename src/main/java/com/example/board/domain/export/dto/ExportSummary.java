@@ -0,0 +1,12 @@
+package com.example.board.domain.export.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ExportSummary {
+    private long posts;
+    private long comments;
+    private long elapsedMs;
+}
@@ -0,0 +1,25 @@
+package com.example.board.domain.export.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내보내기용 게시글 행 (엔티티 대신 프로젝션으로 읽어 영속성 컨텍스트를 거치지 않는다)
+@Getter
+@AllArgsConstructor
+public class PostExportRow {
+    private Long id;
+    private Long userId;
+    private String writer;
+    private Long categoryId;
+    private String categoryName;
+    private String title;
+    private String content;
+    private Long viewCount;
+    private Long likeCount;
+    private Long dislikeCount;
+    private Long bookmarkCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.example.board.domain.export.runner;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.example.board.domain.export.dto.ExportSummary;
+import com.example.board.domain.export.service.BoardExportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시판 내보내기 CLI (export 프로필에서만 실행, 웹 서버 없이 파일로 쓰고 종료)
+ *
+ * 실행: ./gradlew bootRun --args='--spring.profiles.active=local,export --board.export.output=/backup/board.ndjson.gz'
+ */
+@Slf4j
+@Component
+@Profile("export")
+@RequiredArgsConstructor
+public class BoardExportRunner implements ApplicationRunner {
+    private final BoardExportService boardExportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${board.export.output:}")
+    private String output;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path target = output.isBlank()
+                ? Path.of("data", "export", "board-" + LocalDate.now() + ".ndjson.gz")
+                : Path.of(output);
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+
+        // 끝까지 쓴 파일만 대상 경로에 보이도록 임시 파일에 쓰고 옮긴다
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            ExportSummary summary;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                summary = boardExportService.export(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("내보내기 파일 저장: {} (게시글 {}건, 댓글 {}건, {} bytes)",
+                    target, summary.getPosts(), summary.getComments(), Files.size(target));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
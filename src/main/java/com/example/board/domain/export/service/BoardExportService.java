@@ -0,0 +1,190 @@
+package com.example.board.domain.export.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.board.domain.export.dto.CommentExportRow;
+import com.example.board.domain.export.dto.ExportSummary;
+import com.example.board.domain.export.dto.PostExportRow;
+import com.example.board.global.datasource.BatchJob;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글/댓글 전체를 gzip NDJSON으로 스트리밍 내보내기
+ *
+ * - StatelessSession + 프로젝션 조회라 영속성 컨텍스트에 아무것도 쌓이지 않는다.
+ * - 게시글(ID순)과 댓글(게시글 ID, 댓글 ID순) 두 커서를 전진 전용으로 열고
+ *   병합하며 쓰므로, 게시글 한 줄 뒤에 그 게시글의 댓글 줄들이 이어진다.
+ * - PostgreSQL은 autocommit을 끈 트랜잭션 안에서만 fetch size 단위로 나눠 읽으므로
+ *   읽기 전용 REPEATABLE READ 트랜잭션을 열어 두 커서가 같은 스냅샷을 보게 한다.
+ * 메모리 사용량은 fetch size와 버퍼 크기로만 정해지고 테이블 크기와 무관하다.
+ */
+@Slf4j
+@Service
+public class BoardExportService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private static final String POST_QUERY =
+            "SELECT new com.example.board.domain.export.dto.PostExportRow(" +
+            "p.id, u.id, u.username, c.id, c.name, p.title, pc.body, " +
+            "p.viewCount, p.likeCount, p.dislikeCount, p.bookmarkCount, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u JOIN PostContent pc ON pc.id = p.id LEFT JOIN p.category c " +
+            "ORDER BY p.id";
+
+    private static final String COMMENT_QUERY =
+            "SELECT new com.example.board.domain.export.dto.CommentExportRow(" +
+            "c.id, c.post.id, pa.id, u.id, u.username, c.content, c.isDeleted, c.createdAt, c.updatedAt) " +
+            "FROM Comment c JOIN c.user u LEFT JOIN c.parent pa " +
+            "ORDER BY c.post.id, c.id";
+
+    private final SessionFactory sessionFactory;
+    private final int fetchSize;
+
+    public BoardExportService(EntityManagerFactory entityManagerFactory,
+                              @Value("${board.export.fetch-size:1000}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.fetchSize = fetchSize;
+    }
+
+    // out에 gzip NDJSON을 쓰고 마무리(finish)까지 한다. out을 닫는 것은 호출한 쪽 책임
+    @BatchJob
+    public ExportSummary export(OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.doWork(connection -> {
+                connection.setReadOnly(true);
+                connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            });
+            Transaction transaction = session.beginTransaction();
+            try (ScrollableResults<PostExportRow> posts = scroll(session, POST_QUERY, PostExportRow.class);
+                 ScrollableResults<CommentExportRow> comments = scroll(session, COMMENT_QUERY, CommentExportRow.class)) {
+
+                GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+                ExportSummary summary = write(iterator(posts), iterator(comments), writer, startedAt);
+                writer.flush();
+                gzip.finish();
+
+                log.info("게시판 내보내기 완료: 게시글 {}건, 댓글 {}건, {}ms",
+                        summary.getPosts(), summary.getComments(), summary.getElapsedMs());
+                return summary;
+            } finally {
+                transaction.rollback(); // 읽기 전용이므로 커밋할 것이 없다
+            }
+        }
+    }
+
+    // 게시글 한 줄 뒤에 같은 게시글의 댓글 줄을 이어 쓴다 (두 입력 모두 게시글 ID 오름차순)
+    ExportSummary write(Iterator<PostExportRow> posts, Iterator<CommentExportRow> comments,
+                        Writer writer, long startedAt) throws IOException {
+        NdjsonWriter ndjson = new NdjsonWriter(writer);
+        long postCount = 0;
+        long commentCount = 0;
+        CommentExportRow pending = comments.hasNext() ? comments.next() : null;
+
+        while (posts.hasNext()) {
+            PostExportRow post = posts.next();
+            writePost(ndjson, post);
+            postCount++;
+
+            while (pending != null && pending.getPostId() <= post.getId()) {
+                writeComment(ndjson, pending);
+                commentCount++;
+                pending = comments.hasNext() ? comments.next() : null;
+            }
+
+            if (postCount % PROGRESS_INTERVAL == 0) {
+                log.info("게시판 내보내기 진행: 게시글 {}건, 댓글 {}건", postCount, commentCount);
+            }
+        }
+        // 게시글보다 ID가 큰 댓글은 없어야 하지만, 있더라도 버리지 않고 쓴다
+        while (pending != null) {
+            writeComment(ndjson, pending);
+            commentCount++;
+            pending = comments.hasNext() ? comments.next() : null;
+        }
+
+        return new ExportSummary(postCount, commentCount, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void writePost(NdjsonWriter ndjson, PostExportRow post) throws IOException {
+        ndjson.begin("post")
+                .field("id", post.getId())
+                .field("userId", post.getUserId())
+                .field("writer", post.getWriter())
+                .field("categoryId", post.getCategoryId())
+                .field("categoryName", post.getCategoryName())
+                .field("title", post.getTitle())
+                .field("content", post.getContent())
+                .field("viewCount", post.getViewCount())
+                .field("likeCount", post.getLikeCount())
+                .field("dislikeCount", post.getDislikeCount())
+                .field("bookmarkCount", post.getBookmarkCount())
+                .field("createdAt", post.getCreatedAt())
+                .field("updatedAt", post.getUpdatedAt())
+                .end();
+    }
+
+    private void writeComment(NdjsonWriter ndjson, CommentExportRow comment) throws IOException {
+        ndjson.begin("comment")
+                .field("id", comment.getId())
+                .field("postId", comment.getPostId())
+                .field("parentId", comment.getParentId())
+                .field("userId", comment.getUserId())
+                .field("writer", comment.getWriter())
+                .field("content", comment.getContent())
+                .field("deleted", comment.isDeleted())
+                .field("createdAt", comment.getCreatedAt())
+                .field("updatedAt", comment.getUpdatedAt())
+                .end();
+    }
+
+    private <T> ScrollableResults<T> scroll(StatelessSession session, String hql, Class<T> type) {
+        return session.createQuery(hql, type)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private static <T> Iterator<T> iterator(ScrollableResults<T> results) {
+        return new Iterator<>() {
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                if (hasNext == null) {
+                    hasNext = results.next();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = null;
+                return results.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.board.domain.export.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 한 줄에 JSON 객체 하나를 쓰는 NDJSON 작성기
+ *
+ * 필드가 고정된 평평한 레코드만 쓰므로 리플렉션 기반 직렬화 없이 바로 문자열로 쓴다.
+ * 버퍼링/압축은 감싸고 있는 Writer가 담당한다.
+ */
+final class NdjsonWriter {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+
+    NdjsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    NdjsonWriter begin(String type) throws IOException {
+        out.write("{\"type\":");
+        writeString(type);
+        return this;
+    }
+
+    NdjsonWriter field(String name, String value) throws IOException {
+        name(name);
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    NdjsonWriter field(String name, Long value) throws IOException {
+        name(name);
+        out.write(value == null ? "null" : Long.toString(value));
+        return this;
+    }
+
+    NdjsonWriter field(String name, boolean value) throws IOException {
+        name(name);
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    // ISO-8601 (예: 2025-01-31T09:30:00.123456)
+    NdjsonWriter field(String name, LocalDateTime value) throws IOException {
+        return field(name, value == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+    }
+
+    void end() throws IOException {
+        out.write("}\n");
+    }
+
+    // begin()이 type 필드를 먼저 쓰므로 이후 필드는 항상 쉼표로 시작
+    private void name(String name) throws IOException {
+        out.write(',');
+        writeString(name);
+        out.write(':');
+    }
+
+    // RFC 8259 문자열 이스케이프 (따옴표, 역슬래시, 제어 문자)
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.write(value, start, i - start);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    out.write("\\u");
+                    out.write(HEX[(c >> 12) & 0xF]);
+                    out.write(HEX[(c >> 8) & 0xF]);
+                    out.write(HEX[(c >> 4) & 0xF]);
+                    out.write(HEX[c & 0xF]);
+                }
+            }
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
@@ -10,8 +10,12 @@ import com.example.board.domain.category.dto.CategoryResponse;
 import com.example.board.domain.category.service.CategoryService;
 import com.example.board.domain.post.dto.PostResponse;
 import com.example.board.domain.post.service.PostService;
+import com.example.board.domain.ranking.entity.RankingType;
+import com.example.board.domain.ranking.service.PostRankingService;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.service.UserService;
+import com.example.board.global.resilience.QueryDeadline;
+import com.example.board.global.resilience.ReadFallback;
 import org.springframework.ui.Model;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -20,29 +24,45 @@ import lombok.RequiredArgsConstructor;
 @Controller
 @RequiredArgsConstructor
 public class HomeController {
+    private static final int RANKING_SIZE = 20;
+
     private final UserService userService;
     private final PostService postService;
     private final CategoryService categoryService;
+    private final PostRankingService postRankingService;
+    private final ReadFallback readFallback;
 
     @GetMapping("/")
+    @QueryDeadline("${board.resilience.query-deadline.home:1s}")
     public String home(
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String tab,
             HttpServletRequest request,
             Model model
     ){
-        // 게시글 목록 조회 (카테고리 필터 적용)
-        List<PostResponse> posts;
+        // 게시글 목록 조회 (카테고리 필터 적용, 탭: 최신순 | 인기 | 주간 인기)
+        // DB가 응답하지 않으면 마지막으로 성공한 목록을 stale 표시와 함께 보여준다
+        RankingType rankingType = RankingType.fromTab(tab);
+        ReadFallback.Result<List<PostResponse>> posts = readFallback.read(
+                "home:" + rankingType + ":" + categoryId, () -> loadPosts(rankingType, categoryId));
+        if (rankingType != null) {
+            model.addAttribute("selectedTab", rankingType.getTab());
+        }
         if (categoryId != null) {
-            posts = postService.getPostsByCategory(categoryId);
             model.addAttribute("selectedCategoryId", categoryId);
-        } else {
-            posts = postService.getAllPosts();
         }
-        model.addAttribute("posts", posts);
+        model.addAttribute("posts", posts.value());
         
         // 카테고리 목록 조회
-        List<CategoryResponse> categories = categoryService.getAllCategories();
-        model.addAttribute("categories", categories);
+        ReadFallback.Result<List<CategoryResponse>> categories = readFallback.read(
+                "categories", categoryService::getAllCategories);
+        model.addAttribute("categories", categories.value());
+
+        if (posts.stale() || categories.stale()) {
+            model.addAttribute("stale", true);
+            model.addAttribute("staleAt", posts.stale() ? posts.capturedAt() : categories.capturedAt());
+            return "index"; // 로그인 사용자 조회도 DB를 타므로 건너뛴다
+        }
         
         HttpSession session = request.getSession(false);
         if (session == null || session.getAttribute("loginUserId") == null){
@@ -58,4 +78,14 @@ public class HomeController {
 
         return "index";
     }
+
+    private List<PostResponse> loadPosts(RankingType rankingType, Long categoryId) {
+        if (rankingType != null) {
+            return postRankingService.getRankedPosts(rankingType, categoryId, RANKING_SIZE);
+        }
+        if (categoryId != null) {
+            return postService.getPostsByCategory(categoryId);
+        }
+        return postService.getAllPosts();
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.board.domain.post.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.board.domain.post.entity.PostSortType;
+import com.example.board.domain.post.service.PostService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/posts")
+public class PostAPIController {
+    private static final int MAX_SIZE = 100;
+
+    private final PostService postService;
+
+    // 게시글 목록 조회 (sort: latest | views | likes | bookmarks, 다음 페이지는 응답의 nextCursor로 요청)
+    @GetMapping
+    public ResponseEntity<?> getPosts(
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PostSortType sortType = PostSortType.fromKey(sort);
+        if (sortType == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "지원하지 않는 정렬 기준입니다: " + sort));
+        }
+
+        return ResponseEntity.ok(postService.getSortedPosts(
+                sortType, categoryId, cursor, Math.min(Math.max(size, 1), MAX_SIZE)));
+    }
+}
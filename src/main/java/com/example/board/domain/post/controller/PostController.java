@@ -15,8 +15,11 @@ import com.example.board.domain.comment.service.CommentService;
 import com.example.board.domain.post.dto.PostResponse;
 import com.example.board.domain.post.dto.PostUpdateRequest;
 import com.example.board.domain.post.service.PostService;
+import com.example.board.domain.ranking.service.PostRankingService;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.service.UserService;
+import com.example.board.global.resilience.QueryDeadline;
+import com.example.board.global.resilience.ReadFallback;
 
 import lombok.RequiredArgsConstructor;
 
@@ -46,6 +49,8 @@ public class PostController {
     private final CommentService commentService;
     private final BookmarkService bookmarkService;
     private final UserService userService;
+    private final PostRankingService postRankingService;
+    private final ReadFallback readFallback;
 
     @GetMapping
     public String postList(
@@ -68,6 +73,7 @@ public class PostController {
 
     // 게시글 상세 조회
     @GetMapping("/{postId}")
+    @QueryDeadline("${board.resilience.query-deadline.post-detail:1s}")
     public String postDetail(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
@@ -81,21 +87,35 @@ public class PostController {
         if (session != null && session.getAttribute("loginUserId") != null) {
             loginUserId = (Long) session.getAttribute("loginUserId");
         }
-        
-        User loginUser = userService.findById(loginUserId);
-        if (loginUser != null) {
-            model.addAttribute("loginUser", loginUser);
+        Long viewerId = loginUserId;
+
+        // 인기(HOT) 게시글은 마지막으로 성공한 본문을 보관해 두었다가 DB가 응답하지 않으면 대신 보여준다
+        ReadFallback.Result<PostResponse> post = readFallback.read("post:" + postId,
+                () -> postService.getPost(postId, viewerId),
+                read -> postRankingService.isHot(read.getId()) ? read.withoutViewer() : null);
+        model.addAttribute("post", post.value());
+
+        Pageable pageable = PageRequest.of(page, size);
+        if (post.stale()) {
+            // 보관본에는 댓글/북마크/로그인 정보가 없다 (다시 DB를 타지 않는다)
+            model.addAttribute("stale", true);
+            model.addAttribute("staleAt", post.capturedAt());
+            model.addAttribute("loginUser", null);
+            model.addAttribute("isBookmarked", false);
+            model.addAttribute("comments", Page.<CommentResponse>empty(pageable));
+            model.addAttribute("totalCommentCount", 0L);
+            return "post/detail";
         }
+
+        // 비로그인이면 조회하지 않는다 (findById(null)은 IllegalArgumentException -> 400)
+        User loginUser = loginUserId != null ? userService.findById(loginUserId) : null;
         model.addAttribute("loginUser", loginUser);
-        PostResponse post = postService.getPost(postId, loginUserId);
-        model.addAttribute("post", post);
 
         // 북마크 여부 조회
         boolean isBookmarked = bookmarkService.isBookmarked(loginUserId, postId);
         model.addAttribute("isBookmarked", isBookmarked);
 
         // 댓글 목록 조회 
-        Pageable pageable = PageRequest.of(page, size);
         Page<CommentResponse> comments = commentService.getCommentsByPostId(postId, loginUserId, pageable);
         model.addAttribute("comments", comments);
         model.addAttribute("totalCommentCount", commentService.getTotalCommentCount(postId));
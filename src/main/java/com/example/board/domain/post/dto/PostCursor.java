@@ -0,0 +1,44 @@
+package com.example.board.domain.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostSortType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 키셋 페이지네이션 커서: 마지막으로 본 게시글의 (정렬 값, 게시글 ID)
+// 클라이언트에는 "정렬값:ID"를 URL-safe Base64로 감싼 불투명 문자열로 내려준다
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    private Long sortValue;
+    private Long postId;
+
+    public static PostCursor of(PostSortType sort, Post post) {
+        return new PostCursor(sort.sortValueOf(post), post.getId());
+    }
+
+    public String encode() {
+        String raw = sortValue + ":" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 값이면 첫 페이지(null), 형식이 맞지 않으면 예외
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new PostCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
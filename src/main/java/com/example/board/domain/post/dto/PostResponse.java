@@ -8,11 +8,12 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
     private String writer;
     private Long viewCount;
     private Long likeCount;
@@ -29,21 +30,24 @@ public class PostResponse {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
+                .excerpt(post.getExcerpt())
                 .writer(post.getUser().getUsername())
                 .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .bookmarkCount(post.getBookmarkCount())
                 .categoryId(post.getCategory() != null ? post.getCategory().getId() : null)
                 .categoryName(post.getCategory() != null ? post.getCategory().getName() : null)
                 .createdAt(post.getCreatedAt())
                 .build();
     }
 
-    // Entity -> DTO (상세용 - 모든 정보)
-    public static PostResponse fromDetail(Post post, Long loginUserId) {
+    // Entity -> DTO (상세용 - 모든 정보, 본문은 PostContent에서)
+    public static PostResponse fromDetail(Post post, String content, Long loginUserId) {
         boolean isOwner = loginUserId != null && post.getUser().getId().equals(loginUserId);
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(post.getContent())
+                .content(content)
                 .writer(post.getUser().getUsername())
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
@@ -56,4 +60,9 @@ public class PostResponse {
                 .isOwner(isOwner)
                 .build();
     }
+
+    // 다른 사용자에게 보여줘도 되는 사본 (작성자 여부 제거, 장애 시 대체 응답용)
+    public PostResponse withoutViewer() {
+        return toBuilder().isOwner(false).build();
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.board.domain.post.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PostSliceResponse {
+    private String sort;
+    private Long categoryId;
+    private List<PostResponse> posts;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+}
@@ -0,0 +1,103 @@
+package com.example.board.domain.post.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 본문 문자열 <-> bytea 변환. COMPRESSION_THRESHOLD 바이트 이상이면 Deflate로 압축해 저장한다
+ *
+ * 첫 바이트가 형식이다 (0: UTF-8 그대로, 1: Deflate로 압축한 UTF-8).
+ * 압축해도 줄지 않으면 그대로 둔다. 컬럼은 STORAGE EXTERNAL이라 PostgreSQL이 다시 압축하지 않는다.
+ * 대량 가져오기/데이터 생성처럼 JDBC로 직접 넣는 곳도 encode를 거쳐 같은 형식으로 쓴다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+    public static final int COMPRESSION_THRESHOLD = 1024;
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATE = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        return text != null ? encode(text) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        return data != null ? decode(data) : null;
+    }
+
+    public static byte[] encode(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= COMPRESSION_THRESHOLD) {
+            byte[] compressed = deflate(utf8);
+            if (compressed.length < utf8.length) {
+                return compressed;
+            }
+        }
+        byte[] plain = new byte[utf8.length + 1];
+        plain[0] = PLAIN;
+        System.arraycopy(utf8, 0, plain, 1, utf8.length);
+        return plain;
+    }
+
+    public static String decode(byte[] data) {
+        if (data.length == 0) {
+            return "";
+        }
+        return switch (data[0]) {
+            case PLAIN -> new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(data), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("알 수 없는 본문 형식: " + data[0]);
+        };
+    }
+
+    // 형식 바이트 + Deflate 스트림
+    private static byte[] deflate(byte[] utf8) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 2 + 16);
+            out.write(DEFLATE);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 1, data.length - 1);
+            byte[] result = new byte[Math.max(data.length * 4, 64)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == result.length) {
+                    result = Arrays.copyOf(result, result.length * 2);
+                }
+                int read = inflater.inflate(result, length, result.length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문이 잘려 있습니다");
+                }
+                length += read;
+            }
+            return Arrays.copyOf(result, length);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문을 풀 수 없습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.board.domain.post.entity;
 
+import java.time.LocalDateTime;
+
 import com.example.board.domain.user.entity.User;
 import com.example.board.global.BaseTimeEntity;
 import com.example.board.domain.category.entity.Category;
@@ -10,8 +12,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -21,11 +23,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name="post")
+@Table(name="post") // 인덱스는 db/migration 마이그레이션에서 관리
 public class Post extends BaseTimeEntity{
+    public static final int EXCERPT_LENGTH = 150;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     @Column(name="post_id")
     private Long id;
 
@@ -36,9 +40,9 @@ public class Post extends BaseTimeEntity{
     @Column(nullable=false)
     private String title;
 
-    @Lob
-    @Column(nullable=false, columnDefinition = "TEXT")
-    private String content;
+    // 목록용 본문 요약. 본문은 PostContent로 분리해 카운터 UPDATE와 목록 조회가 본문을 건드리지 않는다
+    @Column(nullable=false, length=EXCERPT_LENGTH)
+    private String excerpt;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="category_id", nullable=true)
@@ -46,37 +50,73 @@ public class Post extends BaseTimeEntity{
 
     
 
-    @Column(columnDefinition = "integer default 0", nullable=false)
+    @Column(columnDefinition = "bigint default 0", nullable=false)
     private Long viewCount = 0L;
     
-    @Column(columnDefinition = "integer default 0", nullable=false)
+    @Column(columnDefinition = "bigint default 0", nullable=false)
     private Long likeCount = 0L;
     
-    @Column(columnDefinition = "integer default 0", nullable=false)
+    @Column(columnDefinition = "bigint default 0", nullable=false)
     private Long dislikeCount = 0L;
     
-    @Column(columnDefinition = "integer default 0", nullable=false)
+    @Column(columnDefinition = "bigint default 0", nullable=false)
     private Long bookmarkCount = 0L;
 
+    // 검색 색인 대상(제목/본문/카테고리)이 마지막으로 바뀐 시각. updatedAt은 조회수/좋아요 UPDATE에도 바뀐다
+    @Column(name="content_updated_at")
+    private LocalDateTime contentUpdatedAt;
+
+    // content는 요약을 만드는 데만 쓴다 (본문은 PostContent로 따로 저장)
     @Builder
     public Post(User user, String title, String content, Category category){
         this.user = user;
         this.title = title;
-        this.content = content;
+        this.excerpt = excerptOf(content);
         this.category = category;
         this.viewCount = 0L;
         this.likeCount = 0L;
         this.dislikeCount = 0L;
         this.bookmarkCount = 0L;
+        this.contentUpdatedAt = LocalDateTime.now();
     }
 
     // -- 비즈니스 로직 -- 
 
-    // 게시글 수정
+    // 게시글 수정 (본문은 PostContent.update로 따로 바꾼다)
     public void update(String title, String content, Category category){
         this.title = title;
-        this.content = content;
+        this.excerpt = excerptOf(content);
         this.category = category;
+        this.contentUpdatedAt = LocalDateTime.now();
+    }
+
+    // 연속 공백을 하나로 줄이고 앞에서 EXCERPT_LENGTH 글자(코드 포인트)까지 자른다 (V5 마이그레이션과 같은 규칙)
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return "";
+        }
+        StringBuilder excerpt = new StringBuilder(Math.min(content.length(), EXCERPT_LENGTH));
+        int codePoints = 0;
+        boolean space = false;
+        for (int i = 0; i < content.length() && codePoints < EXCERPT_LENGTH; ) {
+            int c = content.codePointAt(i);
+            i += Character.charCount(c);
+            if (Character.isWhitespace(c)) {
+                space = !excerpt.isEmpty();
+                continue;
+            }
+            if (space) {
+                excerpt.append(' ');
+                codePoints++;
+                space = false;
+                if (codePoints == EXCERPT_LENGTH) {
+                    break; // 잘린 자리의 공백은 남기지 않는다
+                }
+            }
+            excerpt.appendCodePoint(c);
+            codePoints++;
+        }
+        return excerpt.toString().stripTrailing();
     }
 
     // 조회수 증가
@@ -0,0 +1,50 @@
+package com.example.board.domain.post.entity;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.example.board.global.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글 본문 (게시글과 같은 ID). 상세 조회/수정/검색 색인만 읽는다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="post_content")
+public class PostContent extends BaseTimeEntity {
+
+    @Id
+    @Column(name="post_id")
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name="post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE) // 게시글을 지우면 DB가 함께 지운다
+    private Post post;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable=false, columnDefinition = "bytea")
+    private String body;
+
+    public PostContent(Post post, String body) {
+        this.post = post;
+        this.body = body;
+    }
+
+    public void update(String body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.board.domain.post.entity;
+
+import java.util.function.Function;
+
+public enum PostSortType {
+    LATEST("latest", "id", Post::getId),                          // 최신순 (ID 역순)
+    VIEWS("views", "viewCount", Post::getViewCount),              // 조회수순
+    LIKES("likes", "likeCount", Post::getLikeCount),              // 좋아요순
+    BOOKMARKS("bookmarks", "bookmarkCount", Post::getBookmarkCount); // 북마크순
+
+    private final String key;
+    private final String property;
+    private final Function<Post, Long> sortValue;
+
+    PostSortType(String key, String property, Function<Post, Long> sortValue) {
+        this.key = key;
+        this.property = property;
+        this.sortValue = sortValue;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    // 정렬 기준 엔티티 필드명 (JPQL에 그대로 들어가므로 enum에 고정된 값만 사용)
+    public String getProperty() {
+        return property;
+    }
+
+    public Long sortValueOf(Post post) {
+        return sortValue.apply(post);
+    }
+
+    // 요청 파라미터 -> 정렬 타입 (알 수 없는 값이면 null)
+    public static PostSortType fromKey(String key) {
+        for (PostSortType type : values()) {
+            if (type.key.equalsIgnoreCase(key)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.board.domain.post.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.board.domain.post.entity.PostContent;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    // 상세 조회용: 본문과 게시글, 작성자, 카테고리를 한 쿼리로 가져온다
+    @Query("SELECT pc FROM PostContent pc " +
+           "JOIN FETCH pc.post p JOIN FETCH p.user LEFT JOIN FETCH p.category " +
+           "WHERE pc.id = :postId")
+    Optional<PostContent> findWithPostById(@Param("postId") Long postId);
+}
@@ -1,16 +1,53 @@
 package com.example.board.domain.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.board.domain.autocomplete.dto.AutocompleteEntry;
 import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.search.dto.PostDocument;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostSortRepository {
     
-    // 전체 게시글 최신순 조회
+    // 전체 게시글 최신순 조회 (목록 변환에 쓰는 작성자/카테고리를 함께 조회)
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Post> findAllByOrderByCreatedAtDesc();
     
     // 카테고리별 글 조회 (최신순)
+    @EntityGraph(attributePaths = {"user", "category"})
     List<Post> findByCategoryIdOrderByCreatedAtDesc(Long categoryId);
+
+    // ID 목록으로 목록용 게시글 조회 (작성자/카테고리를 함께, 순서는 호출하는 쪽에서 맞춘다)
+    @Query("SELECT p FROM Post p JOIN FETCH p.user LEFT JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Post> findAllWithUserAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구축용 키셋 배치 조회 (lastId 이후 게시글을 ID 오름차순으로)
+    @Query("SELECT new com.example.board.domain.search.dto.PostDocument(p.id, c.id, p.title, pc.body) " +
+           "FROM Post p JOIN PostContent pc ON pc.id = p.id LEFT JOIN p.category c " +
+           "WHERE p.id > :lastId " +
+           "ORDER BY p.id ASC")
+    List<PostDocument> findDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 검색 색인 따라잡기용: since 이후 작성/수정된 게시글 키셋 배치 조회
+    // (contentUpdatedAt은 카운터 UPDATE로 바뀌지 않고 idx_post_content_updated_at 범위 조회로 찾는다)
+    @Query("SELECT new com.example.board.domain.search.dto.PostDocument(p.id, c.id, p.title, pc.body) " +
+           "FROM Post p JOIN PostContent pc ON pc.id = p.id LEFT JOIN p.category c " +
+           "WHERE p.contentUpdatedAt >= :since AND p.id > :lastId " +
+           "ORDER BY p.id ASC")
+    List<PostDocument> findDocumentsUpdatedSince(@Param("since") LocalDateTime since,
+                                                 @Param("lastId") Long lastId,
+                                                 Pageable pageable);
+
+    // 자동완성 트라이 구축용: 최근 게시글 제목 (weight는 게시글 ID라 최신일수록 크다)
+    @Query("SELECT new com.example.board.domain.autocomplete.dto.AutocompleteEntry(p.id, p.title, p.id) " +
+           "FROM Post p " +
+           "ORDER BY p.id DESC")
+    List<AutocompleteEntry> findRecentTitleEntries(Pageable pageable);
 }
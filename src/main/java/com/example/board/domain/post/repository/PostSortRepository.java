@@ -0,0 +1,13 @@
+package com.example.board.domain.post.repository;
+
+import java.util.List;
+
+import com.example.board.domain.post.dto.PostCursor;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostSortType;
+
+public interface PostSortRepository {
+
+    // 정렬 기준별 키셋 페이지 조회 (cursor가 null이면 첫 페이지, categoryId가 null이면 전체)
+    List<Post> findSortedPage(PostSortType sort, Long categoryId, PostCursor cursor, int limit);
+}
@@ -0,0 +1,57 @@
+package com.example.board.domain.post.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.board.domain.post.dto.PostCursor;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostSortType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정렬 기준별 키셋 페이지 조회
+ *
+ * OFFSET 대신 마지막으로 본 (정렬 값, 게시글 ID)보다 작은 행부터 읽으므로
+ * (category_id, 정렬 컬럼, post_id) 인덱스를 따라 페이지 크기만큼만 스캔한다.
+ * 정렬 컬럼이 같은 게시글은 post_id로 순서를 고정해 페이지 사이에 누락/중복이 없다.
+ */
+@RequiredArgsConstructor
+public class PostSortRepositoryImpl implements PostSortRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public List<Post> findSortedPage(PostSortType sort, Long categoryId, PostCursor cursor, int limit) {
+        String column = "p." + sort.getProperty();
+        boolean byId = "id".equals(sort.getProperty());
+
+        List<String> conditions = new ArrayList<>();
+        if (categoryId != null) {
+            conditions.add("p.category.id = :categoryId");
+        }
+        if (cursor != null) {
+            conditions.add(byId ? "p.id < :lastId" : "(" + column + ", p.id) < (:sortValue, :lastId)");
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT p FROM Post p JOIN FETCH p.user LEFT JOIN FETCH p.category");
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        jpql.append(byId ? " ORDER BY p.id DESC" : " ORDER BY " + column + " DESC, p.id DESC");
+
+        TypedQuery<Post> query = em.createQuery(jpql.toString(), Post.class);
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (cursor != null) {
+            query.setParameter("lastId", cursor.getPostId());
+            if (!byId) {
+                query.setParameter("sortValue", cursor.getSortValue());
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
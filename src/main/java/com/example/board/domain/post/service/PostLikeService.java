@@ -7,46 +7,60 @@ import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.post.entity.PostLike;
 import com.example.board.domain.post.repository.PostLikeRepository;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.ranking.service.RankingEvent;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
+import com.example.board.global.datasource.ReadYourWrites;
+import com.example.board.global.jfr.ReactionToggleEvent;
 
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostRankingService postRankingService;
 
     @Transactional
     public String toggleLike(Long postId, Long userId){
+        ReadYourWrites.markWrite();
         return toggleReaction(postId, userId, LikeType.LIKE);
     }
 
     @Transactional
     public String toggleDisLike(Long postId, Long userId){
+        ReadYourWrites.markWrite();
         return toggleReaction(postId, userId, LikeType.DISLIKE);
     }
 
     private String toggleReaction(Long postId, Long userId, LikeType likeType){
+        ReactionToggleEvent event = ReactionToggleEvent.started(postId, userId, likeType.name());
         Post post = postRepository.findById(postId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        return postLikeRepository.findByPostAndUser(post, user)
+        String result = postLikeRepository.findByPostAndUser(post, user)
         .map(existing -> handleExisting(post, existing, likeType))
         .orElseGet(() -> createNew(post, user, likeType));
+        event.complete(result);
+        return result;
     }
 
     private String handleExisting(Post post, PostLike existing, LikeType likeType){
         if(existing.getLikeType() == likeType){     // 같은 타입일 경우
             if(likeType == LikeType.LIKE){
                 post.decreaseLikeCount();
+                postRankingService.record(post, RankingEvent.LIKE_CANCELLED);
             } else {
                 post.decreaseDislikeCount();
+                postRankingService.record(post, RankingEvent.DISLIKE_CANCELLED);
             }
             postLikeRepository.delete(existing);
             return "cancelled";
@@ -54,9 +68,13 @@ public class PostLikeService {
             if(likeType == LikeType.LIKE){
                 post.increaseLikeCount();
                 post.decreaseDislikeCount();
+                postRankingService.record(post, RankingEvent.DISLIKE_CANCELLED);
+                postRankingService.record(post, RankingEvent.LIKE);
             } else {
                 post.increaseDislikeCount();
                 post.decreaseLikeCount();
+                postRankingService.record(post, RankingEvent.LIKE_CANCELLED);
+                postRankingService.record(post, RankingEvent.DISLIKE);
             }
             existing.changeLikeType(likeType);
             return "changed";
@@ -70,8 +88,10 @@ public class PostLikeService {
         postLikeRepository.save(postLike);
         if(likeType == LikeType.LIKE){
             post.increaseLikeCount();
+            postRankingService.record(post, RankingEvent.LIKE);
         } else {
             post.increaseDislikeCount();
+            postRankingService.record(post, RankingEvent.DISLIKE);
         }
         return "created";
     }
@@ -7,26 +7,43 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.board.domain.autocomplete.service.AutocompleteService;
 import com.example.board.domain.category.entity.Category;
 import com.example.board.domain.category.service.CategoryService;
+import com.example.board.domain.post.repository.PostContentRepository;
 import com.example.board.domain.post.repository.PostRepository;
 import com.example.board.domain.user.repository.UserRepository;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.post.dto.PostCreateRequest;
+import com.example.board.domain.post.dto.PostCursor;
 import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.dto.PostSliceResponse;
 import com.example.board.domain.post.dto.PostUpdateRequest;
 import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostContent;
+import com.example.board.domain.post.entity.PostSortType;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.ranking.service.RankingEvent;
+import com.example.board.domain.search.service.PostSearchService;
+import com.example.board.global.datasource.ReadYourWrites;
+import com.example.board.global.jfr.PostReadEvent;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly=true)
+@Timed("board.service")
 public class PostService {
     private final PostRepository postRepository;
+    private final PostContentRepository postContentRepository;
     private final UserRepository userRepository;
     private final CategoryService categoryService;
+    private final PostRankingService postRankingService;
+    private final PostSearchService postSearchService;
+    private final AutocompleteService autocompleteService;
 
     // 전체 게시글 목록 조회 (최신순)
     public List<PostResponse> getAllPosts() {
@@ -44,25 +61,49 @@ public class PostService {
                 .collect(Collectors.toList());
     }
 
+    // 정렬 기준별 게시글 목록 조회 (키셋 커서 기반, 한 건 더 읽어 다음 페이지 유무 판단)
+    public PostSliceResponse getSortedPosts(PostSortType sort, Long categoryId, String cursor, int size) {
+        List<Post> posts = postRepository.findSortedPage(sort, categoryId, PostCursor.decode(cursor), size + 1);
+
+        boolean hasNext = posts.size() > size;
+        List<Post> page = hasNext ? posts.subList(0, size) : posts;
+
+        return PostSliceResponse.builder()
+                .sort(sort.getKey())
+                .categoryId(categoryId)
+                .posts(page.stream().map(PostResponse::fromList).toList())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? PostCursor.of(sort, page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
     // 게시글 상세 조회
     // userId: 현재 로그인한 사용자 ID (비로그인이면 null)
     @Transactional
     public PostResponse getPost(Long postId, Long loginUserId) {
-        Post post = postRepository.findById(postId)
+        PostReadEvent event = PostReadEvent.started(postId, loginUserId);
+        // 본문과 게시글/작성자/카테고리를 한 번에 읽는다 (조회수 UPDATE는 게시글 행만 바꾼다)
+        PostContent content = postContentRepository.findWithPostById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+        Post post = content.getPost();
         
         Long postWriterId = post.getUser().getId(); // 게시글 작성자 ID
 
         // 비로그인 사용자이거나, 본인 글이 아닌 경우에만 조회수 증가
+        // (사용자가 쓴 내용이 아니므로 markWrite하지 않는다: 이어지는 댓글/북마크 읽기는 복제본으로 간다)
         if (loginUserId == null || !loginUserId.equals(postWriterId)) {
             post.increaseViewCount();
+            postRankingService.record(post, RankingEvent.VIEW);
         }
         
-        return PostResponse.fromDetail(post, loginUserId);
+        PostResponse response = PostResponse.fromDetail(post, content.getBody(), loginUserId);
+        event.complete();
+        return response;
     }
 
     @Transactional
     public Long writePost(Long userId, PostCreateRequest request){
+        ReadYourWrites.markWrite();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
@@ -83,13 +124,19 @@ public class PostService {
                 .category(category)
                 .build();
 
-        return postRepository.save(post).getId();
+        Post savedPost = postRepository.save(post);
+        postContentRepository.save(new PostContent(savedPost, request.getContent()));
+        postSearchService.index(savedPost, request.getContent());
+        autocompleteService.addPost(savedPost);
+        return savedPost.getId();
     }
 
     @Transactional
     public void updatePost(Long postId, Long userId, PostUpdateRequest request){
-        Post post = postRepository.findById(postId)
+        ReadYourWrites.markWrite();
+        PostContent content = postContentRepository.findWithPostById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
+        Post post = content.getPost();
         
         // 작성자 본인만 수정 가능
         if (!post.getUser().getId().equals(userId)) {
@@ -101,12 +148,18 @@ public class PostService {
             category = categoryService.findById(request.getCategoryId());
         }
 
+        Category previousCategory = post.getCategory();
         post.update(request.getTitle(), request.getContent(), category);
+        content.update(request.getContent());
+        postRankingService.changeCategory(postId, category != null ? category.getId() : null);
+        postSearchService.index(post, request.getContent());
+        autocompleteService.updatePost(post, previousCategory);
     }
 
     // 게시글 삭제
     @Transactional
     public void deletePost(Long postId, Long userId) {
+        ReadYourWrites.markWrite();
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
 
@@ -116,6 +169,9 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        postRankingService.remove(postId);
+        postSearchService.remove(postId);
+        autocompleteService.removePost(post);
     }
 
     public Map<String, Long> getPostLikeCounts(Long postId){
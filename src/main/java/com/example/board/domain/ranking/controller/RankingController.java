@@ -0,0 +1,43 @@
+package com.example.board.domain.ranking.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.ranking.entity.RankingType;
+import com.example.board.domain.ranking.service.PostRankingService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/rankings")
+public class RankingController {
+    private static final int MAX_SIZE = 100;
+
+    private final PostRankingService postRankingService;
+
+    // 인기 게시글 조회 (type: hot | weekly, categoryId 없으면 전체)
+    @GetMapping("/{type}")
+    public ResponseEntity<?> getRanking(
+            @PathVariable String type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        RankingType rankingType = RankingType.fromTab(type);
+        if (rankingType == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "지원하지 않는 랭킹 유형입니다: " + type));
+        }
+
+        List<PostResponse> posts = postRankingService.getRankedPosts(
+                rankingType, categoryId, Math.min(Math.max(size, 1), MAX_SIZE));
+        return ResponseEntity.ok(posts);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.board.domain.ranking.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import com.example.board.global.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 인메모리 랭킹 엔진의 주기적 스냅샷 (재기동 시 점수 복원용)
+// ID(post_id)를 직접 넣으므로 Persistable로 새 행임을 알려 saveAll이 행마다 merge SELECT 없이 INSERT 배치로 나가게 한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name="post_ranking_snapshot")
+public class PostRankingSnapshot extends BaseTimeEntity implements Persistable<Long>{
+
+    @Id
+    @Column(name="post_id")
+    private Long postId;
+
+    @Column(name="category_id")
+    private Long categoryId;
+
+    @Column(nullable=false)
+    private double hotScore; // 스냅샷 시점 기준으로 감쇠가 반영된 점수
+
+    @Column(nullable=false)
+    private long weeklyScore;
+
+    @Column(name="captured_day")
+    private Long capturedDay; // 스냅샷을 뜬 날 (epoch day, V8 이전 행은 null)
+
+    @Column(name="daily_scores")
+    private long[] dailyScores; // [i] = capturedDay - i일의 주간 점수
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted; // 저장했거나 DB에서 읽은 엔티티
+
+    @Builder
+    public PostRankingSnapshot(Long postId, Long categoryId, double hotScore, long weeklyScore,
+                               Long capturedDay, long[] dailyScores){
+        this.postId = postId;
+        this.categoryId = categoryId;
+        this.hotScore = hotScore;
+        this.weeklyScore = weeklyScore;
+        this.capturedDay = capturedDay;
+        this.dailyScores = dailyScores;
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    // 스냅샷은 매번 전체를 지우고 새로 쓰므로 만든 객체는 항상 새 행이다
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
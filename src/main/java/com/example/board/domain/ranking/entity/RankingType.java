@@ -0,0 +1,26 @@
+package com.example.board.domain.ranking.entity;
+
+public enum RankingType {
+    HOT("hot"),        // 시간 감쇠 점수 기준 실시간 인기
+    WEEKLY("weekly");  // 최근 7일 누적 점수 기준 주간 인기
+
+    private final String tab;
+
+    RankingType(String tab) {
+        this.tab = tab;
+    }
+
+    public String getTab() {
+        return tab;
+    }
+
+    // 화면 탭 파라미터 -> 랭킹 타입 (최신순이거나 알 수 없는 값이면 null)
+    public static RankingType fromTab(String tab) {
+        for (RankingType type : values()) {
+            if (type.tab.equalsIgnoreCase(tab)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.board.domain.ranking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.board.domain.ranking.entity.PostRankingSnapshot;
+
+public interface PostRankingSnapshotRepository extends JpaRepository<PostRankingSnapshot, Long> {
+}
@@ -0,0 +1,360 @@
+package com.example.board.domain.ranking.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.entity.PostRankingSnapshot;
+import com.example.board.domain.ranking.entity.RankingType;
+import com.example.board.domain.ranking.repository.PostRankingSnapshotRepository;
+import com.example.board.global.datasource.BatchJob;
+import com.example.board.global.transaction.AfterCommit;
+
+/**
+ * 인기 게시글 랭킹 엔진
+ *
+ * 조회/좋아요/싫어요/북마크/댓글 이벤트가 들어올 때마다 게시글별 점수를 증분 갱신하고,
+ * 전체 및 카테고리별로 크기가 제한된 상위 K개 힙을 유지한다.
+ * - HOT: 반감기(half-life) 기반 시간 감쇠 점수. 이벤트 가중치를 기준 시각(epoch)으로 환산해 더하므로
+ *        조회 시점마다 전체 점수를 다시 감쇠시킬 필요가 없다.
+ * - WEEKLY: 일자별 버킷 7개의 합계 (최근 7일)
+ * 주기적으로 힙을 재구성하고 상위 게시글 점수를 post_ranking_snapshot 테이블에 저장한다.
+ * 이벤트는 호출한 트랜잭션이 커밋된 뒤에 반영한다 (롤백된 좋아요/조회가 점수에 남지 않도록).
+ */
+@Service
+public class PostRankingService {
+    private static final double COLD_SCORE = 0.01;   // 이 값 미만으로 식은 게시글은 추적 대상에서 제외
+    private static final int REBASE_HALF_LIVES = 32; // 기준 시각을 옮기는 주기 (double 오버플로 방지)
+
+    private final PostRankingSnapshotRepository snapshotRepository;
+    private final PostRepository postRepository;
+    private final int topK;
+    private final long halfLifeMillis;
+    private Clock clock;
+
+    private final Map<Long, PostScore> scores = new ConcurrentHashMap<>();
+    private final ReadWriteLock epochLock = new ReentrantReadWriteLock();
+    private volatile long epochMillis;
+
+    private volatile TopKHeap globalHot;
+    private volatile TopKHeap globalWeekly;
+    private volatile Map<Long, TopKHeap> categoryHot = new ConcurrentHashMap<>();
+    private volatile Map<Long, TopKHeap> categoryWeekly = new ConcurrentHashMap<>();
+    private volatile long lastSnapshotAt; // 마지막으로 스냅샷 테이블과 메모리 점수가 일치한 시각 (epoch ms)
+
+    @Autowired
+    public PostRankingService(PostRankingSnapshotRepository snapshotRepository,
+                              PostRepository postRepository,
+                              @Value("${board.ranking.top-k:100}") int topK,
+                              @Value("${board.ranking.hot-half-life:6h}") Duration hotHalfLife) {
+        this(snapshotRepository, postRepository, topK, hotHalfLife, Clock.systemDefaultZone());
+    }
+
+    PostRankingService(PostRankingSnapshotRepository snapshotRepository,
+                       PostRepository postRepository,
+                       int topK, Duration hotHalfLife, Clock clock) {
+        this.snapshotRepository = snapshotRepository;
+        this.postRepository = postRepository;
+        this.topK = topK;
+        this.halfLifeMillis = hotHalfLife.toMillis();
+        this.clock = clock;
+        this.epochMillis = clock.millis();
+        this.globalHot = new TopKHeap(topK);
+        this.globalWeekly = new TopKHeap(topK);
+    }
+
+    // -- 이벤트 반영 --
+
+    // 게시글 이벤트 반영 (처음 보는 게시글이면 추적 시작, 트랜잭션 안이면 커밋 후)
+    public void record(Post post, RankingEvent event) {
+        Long postId = post.getId();
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        AfterCommit.run(() -> apply(scores.computeIfAbsent(postId, id -> new PostScore(id, categoryId)), event));
+    }
+
+    // 게시글 ID만 아는 경로(북마크 해제 등): 이미 추적 중인 게시글에만 반영
+    public void record(Long postId, RankingEvent event) {
+        AfterCommit.run(() -> {
+            PostScore score = scores.get(postId);
+            if (score != null) {
+                apply(score, event);
+            }
+        });
+    }
+
+    // 게시글 카테고리 변경 (트랜잭션 안이면 커밋 후)
+    public void changeCategory(Long postId, Long categoryId) {
+        AfterCommit.run(() -> {
+            PostScore score = scores.get(postId);
+            if (score == null || Objects.equals(score.getCategoryId(), categoryId)) {
+                return;
+            }
+            removeFromCategoryHeaps(postId, score.getCategoryId());
+            score.changeCategory(categoryId);
+            offer(score);
+        });
+    }
+
+    // 게시글 삭제 (트랜잭션 안이면 커밋 후)
+    public void remove(Long postId) {
+        AfterCommit.run(() -> {
+            PostScore score = scores.remove(postId);
+            globalHot.remove(postId);
+            globalWeekly.remove(postId);
+            if (score != null) {
+                removeFromCategoryHeaps(postId, score.getCategoryId());
+            }
+        });
+    }
+
+    private void apply(PostScore score, RankingEvent event) {
+        long now = clock.millis();
+        long today = today(now);
+        rebaseIfNeeded(now); // 스케줄러가 꺼져 있어도 growth가 무한대로 넘치지 않게 한다
+        epochLock.readLock().lock();
+        try {
+            score.add(event.getWeight() * growth(now - epochMillis), event.getWeight(), today);
+        } finally {
+            epochLock.readLock().unlock();
+        }
+        offer(score);
+    }
+
+    private void offer(PostScore score) {
+        long today = today(clock.millis());
+        double hot = score.getHotScore();
+        long weekly = score.getWeeklyScore(today);
+
+        globalHot.offer(score.getPostId(), hot);
+        globalWeekly.offer(score.getPostId(), weekly);
+        Long categoryId = score.getCategoryId();
+        if (categoryId != null) {
+            categoryHot.computeIfAbsent(categoryId, id -> new TopKHeap(topK)).offer(score.getPostId(), hot);
+            categoryWeekly.computeIfAbsent(categoryId, id -> new TopKHeap(topK)).offer(score.getPostId(), weekly);
+        }
+    }
+
+    private void removeFromCategoryHeaps(Long postId, Long categoryId) {
+        if (categoryId == null) {
+            return;
+        }
+        TopKHeap hot = categoryHot.get(categoryId);
+        if (hot != null) {
+            hot.remove(postId);
+        }
+        TopKHeap weekly = categoryWeekly.get(categoryId);
+        if (weekly != null) {
+            weekly.remove(postId);
+        }
+    }
+
+    // -- 랭킹 조회 --
+
+    // 상위 게시글 ID (categoryId가 null이면 전체)
+    public List<Long> getTopPostIds(RankingType type, Long categoryId, int size) {
+        TopKHeap heap = heapOf(type, categoryId);
+        if (heap == null) {
+            return List.of();
+        }
+        return heap.top(size).stream()
+                .map(TopKHeap.Entry::postId)
+                .toList();
+    }
+
+    // 전체 HOT 상위 K개에 드는 게시글인지
+    public boolean isHot(Long postId) {
+        return globalHot.contains(postId);
+    }
+
+    // 상위 게시글 목록 (랭킹 순서 유지)
+    @Transactional(readOnly = true)
+    public List<PostResponse> getRankedPosts(RankingType type, Long categoryId, int size) {
+        List<Long> postIds = getTopPostIds(type, categoryId, size);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postsById = postRepository.findAllWithUserAndCategoryByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(PostResponse::fromList)
+                .toList();
+    }
+
+    private TopKHeap heapOf(RankingType type, Long categoryId) {
+        if (type == RankingType.HOT) {
+            return categoryId == null ? globalHot : categoryHot.get(categoryId);
+        }
+        return categoryId == null ? globalWeekly : categoryWeekly.get(categoryId);
+    }
+
+    // -- 주기 작업 --
+
+    // 식은 게시글 정리, 힙 재구성 후 상위 게시글 점수 스냅샷 저장
+    @Scheduled(fixedDelayString = "${board.ranking.snapshot-interval:1m}",
+               initialDelayString = "${board.ranking.snapshot-interval:1m}")
+    @BatchJob
+    @Transactional
+    public void snapshot() {
+        long now = clock.millis();
+        rebaseIfNeeded(now);
+        evictColdPosts(now);
+        rebuildHeaps(now);
+
+        Set<Long> rankedIds = new HashSet<>();
+        rankedIds.addAll(globalHot.postIds());
+        rankedIds.addAll(globalWeekly.postIds());
+        categoryHot.values().forEach(heap -> rankedIds.addAll(heap.postIds()));
+        categoryWeekly.values().forEach(heap -> rankedIds.addAll(heap.postIds()));
+
+        double decay = decay(now - epochMillis);
+        long today = today(now);
+        List<PostRankingSnapshot> rows = new ArrayList<>();
+        for (Long postId : rankedIds) {
+            PostScore score = scores.get(postId);
+            if (score == null) {
+                continue;
+            }
+            rows.add(PostRankingSnapshot.builder()
+                    .postId(postId)
+                    .categoryId(score.getCategoryId())
+                    .hotScore(score.getHotScore() * decay)
+                    .weeklyScore(score.getWeeklyScore(today))
+                    .capturedDay(today)
+                    .dailyScores(score.getDailyScores(today))
+                    .build());
+        }
+
+        snapshotRepository.deleteAllInBatch();
+        snapshotRepository.saveAll(rows);
+        lastSnapshotAt = now;
+    }
+
+    public long lastSnapshotAt() {
+        return lastSnapshotAt;
+    }
+
+    // 기동 시 마지막 스냅샷으로 점수 복원
+    @EventListener(ApplicationReadyEvent.class)
+    @BatchJob
+    @Transactional(readOnly = true)
+    public void restore() {
+        long now = clock.millis();
+        long today = today(now);
+        for (PostRankingSnapshot row : snapshotRepository.findAll()) {
+            // 스냅샷 이후 흐른 시간만큼 감쇠시킨 뒤 현재 기준 시각으로 환산
+            long capturedAt = row.getCreatedAt() != null
+                    ? row.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli()
+                    : now;
+            double hot = row.getHotScore() * decay(Math.max(0, now - capturedAt)) * growth(now - epochMillis);
+
+            PostScore score = scores.computeIfAbsent(row.getPostId(), id -> new PostScore(id, row.getCategoryId()));
+            score.add(hot, 0, today);
+
+            // 일자별 버킷을 원래 날짜로 되돌리고, 재기동 사이에 7일 창을 벗어난 날은 버린다
+            // (일자별 버킷이 없는 V8 이전 행은 합계를 스냅샷 날짜 하루치로 본다)
+            long capturedDay = row.getCapturedDay() != null ? row.getCapturedDay() : today(capturedAt);
+            long[] dailyScores = row.getDailyScores() != null ? row.getDailyScores() : new long[] {row.getWeeklyScore()};
+            for (int i = 0; i < dailyScores.length; i++) {
+                long day = capturedDay - i;
+                if (dailyScores[i] != 0 && day > today - PostScore.WEEK_DAYS && day <= today) {
+                    score.add(0, dailyScores[i], day);
+                }
+            }
+        }
+        rebuildHeaps(now);
+        lastSnapshotAt = now;
+    }
+
+    private void rebaseIfNeeded(long now) {
+        if (now - epochMillis < halfLifeMillis * REBASE_HALF_LIVES) {
+            return;
+        }
+        epochLock.writeLock().lock();
+        try {
+            if (now - epochMillis < halfLifeMillis * REBASE_HALF_LIVES) {
+                return; // 다른 스레드가 먼저 옮겼다
+            }
+            double factor = decay(now - epochMillis);
+            scores.values().forEach(score -> score.rescale(factor));
+            epochMillis = now;
+        } finally {
+            epochLock.writeLock().unlock();
+        }
+    }
+
+    private void evictColdPosts(long now) {
+        double decay = decay(now - epochMillis);
+        long today = today(now);
+        scores.values().removeIf(score ->
+                Math.abs(score.getHotScore() * decay) < COLD_SCORE && score.getWeeklyScore(today) == 0);
+    }
+
+    // 주간 점수는 날짜가 바뀌면 줄어들 수 있으므로 힙을 전체 점수로부터 다시 만든다
+    private void rebuildHeaps(long now) {
+        long today = today(now);
+        TopKHeap newGlobalHot = new TopKHeap(topK);
+        TopKHeap newGlobalWeekly = new TopKHeap(topK);
+        Map<Long, TopKHeap> newCategoryHot = new ConcurrentHashMap<>();
+        Map<Long, TopKHeap> newCategoryWeekly = new ConcurrentHashMap<>();
+
+        for (PostScore score : scores.values()) {
+            double hot = score.getHotScore();
+            long weekly = score.getWeeklyScore(today);
+            newGlobalHot.offer(score.getPostId(), hot);
+            newGlobalWeekly.offer(score.getPostId(), weekly);
+            Long categoryId = score.getCategoryId();
+            if (categoryId != null) {
+                newCategoryHot.computeIfAbsent(categoryId, id -> new TopKHeap(topK)).offer(score.getPostId(), hot);
+                newCategoryWeekly.computeIfAbsent(categoryId, id -> new TopKHeap(topK)).offer(score.getPostId(), weekly);
+            }
+        }
+
+        this.globalHot = newGlobalHot;
+        this.globalWeekly = newGlobalWeekly;
+        this.categoryHot = newCategoryHot;
+        this.categoryWeekly = newCategoryWeekly;
+    }
+
+    // 경과 시간만큼의 감쇠 비율 (0 < decay <= 1)
+    private double decay(long elapsedMillis) {
+        return Math.pow(2, -(double) elapsedMillis / halfLifeMillis);
+    }
+
+    // 기준 시각 이후 이벤트를 기준 시각 값으로 환산하는 비율 (= 1 / decay)
+    private double growth(long elapsedMillis) {
+        return Math.pow(2, (double) elapsedMillis / halfLifeMillis);
+    }
+
+    private long today(long nowMillis) {
+        ZoneId zone = clock.getZone();
+        return LocalDate.ofInstant(Instant.ofEpochMilli(nowMillis), zone).toEpochDay();
+    }
+}
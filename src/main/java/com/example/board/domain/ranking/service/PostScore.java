@@ -0,0 +1,74 @@
+package com.example.board.domain.ranking.service;
+
+// 게시글 하나의 랭킹 점수 상태
+// hotScore는 엔진의 기준 시각(epoch)으로 환산된 값이라 감쇠 계산 없이 게시글끼리 바로 비교할 수 있다.
+class PostScore {
+    static final int WEEK_DAYS = 7;
+
+    private final Long postId;
+    private volatile Long categoryId;
+    private double hotScore;
+    private final long[] dailyScores = new long[WEEK_DAYS];
+    private final long[] dailyEpochDays = new long[WEEK_DAYS];
+
+    PostScore(Long postId, Long categoryId) {
+        this.postId = postId;
+        this.categoryId = categoryId;
+    }
+
+    Long getPostId() {
+        return postId;
+    }
+
+    Long getCategoryId() {
+        return categoryId;
+    }
+
+    void changeCategory(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    synchronized void add(double hotDelta, long weight, long epochDay) {
+        this.hotScore += hotDelta;
+
+        // 요일별 버킷을 순환 사용하고, 오래된 날짜의 버킷은 초기화 후 재사용
+        int index = (int) Math.floorMod(epochDay, (long) WEEK_DAYS);
+        if (dailyEpochDays[index] != epochDay) {
+            dailyEpochDays[index] = epochDay;
+            dailyScores[index] = 0;
+        }
+        dailyScores[index] += weight;
+    }
+
+    synchronized double getHotScore() {
+        return hotScore;
+    }
+
+    // 기준 시각 이동 시 전체 점수를 같은 비율로 축소
+    synchronized void rescale(double factor) {
+        this.hotScore *= factor;
+    }
+
+    // 최근 7일 버킷을 오늘부터 거슬러 올라간 순서로 ([0]이 오늘, [6]이 6일 전)
+    synchronized long[] getDailyScores(long today) {
+        long[] days = new long[WEEK_DAYS];
+        for (int i = 0; i < WEEK_DAYS; i++) {
+            long age = today - dailyEpochDays[i];
+            if (age >= 0 && age < WEEK_DAYS) {
+                days[(int) age] += dailyScores[i];
+            }
+        }
+        return days;
+    }
+
+    // 최근 7일(오늘 포함) 버킷 합계
+    synchronized long getWeeklyScore(long today) {
+        long sum = 0;
+        for (int i = 0; i < WEEK_DAYS; i++) {
+            if (dailyEpochDays[i] > today - WEEK_DAYS) {
+                sum += dailyScores[i];
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.board.domain.ranking.service;
+
+// 랭킹 점수에 반영되는 이벤트와 가중치 (취소 이벤트는 음수로 상쇄)
+public enum RankingEvent {
+    VIEW(1),
+    LIKE(4),
+    LIKE_CANCELLED(-4),
+    DISLIKE(-2),
+    DISLIKE_CANCELLED(2),
+    BOOKMARK(5),
+    BOOKMARK_CANCELLED(-5),
+    COMMENT(3),
+    COMMENT_DELETED(-3);
+
+    private final int weight;
+
+    RankingEvent(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.board.domain.ranking.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 크기가 제한된 상위 K개 게시글 힙 (루트가 K개 중 최저 점수)
+class TopKHeap {
+
+    record Entry(Long postId, double score) {}
+
+    private static final Comparator<Entry> ASCENDING =
+            Comparator.comparingDouble(Entry::score).thenComparing(Entry::postId);
+
+    private final int capacity;
+    private final PriorityQueue<Entry> heap;
+    private final Map<Long, Entry> members = new HashMap<>();
+
+    TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity + 1, ASCENDING);
+    }
+
+    // 점수 갱신: 이미 들어있으면 교체, 없으면 최저 점수보다 높을 때만 진입
+    synchronized void offer(Long postId, double score) {
+        Entry previous = members.remove(postId);
+        if (previous != null) {
+            heap.remove(previous);
+        } else if (heap.size() >= capacity && score <= heap.peek().score()) {
+            return;
+        }
+
+        Entry entry = new Entry(postId, score);
+        heap.add(entry);
+        members.put(postId, entry);
+
+        if (heap.size() > capacity) {
+            members.remove(heap.poll().postId());
+        }
+    }
+
+    synchronized void remove(Long postId) {
+        Entry previous = members.remove(postId);
+        if (previous != null) {
+            heap.remove(previous);
+        }
+    }
+
+    // 점수 내림차순 상위 size개
+    synchronized List<Entry> top(int size) {
+        List<Entry> sorted = new ArrayList<>(heap);
+        sorted.sort(ASCENDING.reversed());
+        return sorted.size() > size ? sorted.subList(0, size) : sorted;
+    }
+
+    synchronized boolean contains(Long postId) {
+        return members.containsKey(postId);
+    }
+
+    synchronized List<Long> postIds() {
+        return new ArrayList<>(members.keySet());
+    }
+}
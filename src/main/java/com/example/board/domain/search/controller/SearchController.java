@@ -0,0 +1,36 @@
+package com.example.board.domain.search.controller;
+
+import java.util.Locale;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.board.domain.search.dto.SearchResponse;
+import com.example.board.domain.search.service.PostSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+public class SearchController {
+    private static final int MAX_SIZE = 100;
+
+    private final PostSearchService postSearchService;
+
+    // 게시글 제목/본문 검색 (응답 헤더 Server-Timing에 검색 소요 시간 포함)
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        SearchResponse response = postSearchService.search(query, categoryId, Math.min(Math.max(size, 1), MAX_SIZE));
+        return ResponseEntity.ok()
+                .header("Server-Timing", String.format(Locale.ROOT, "search;dur=%.3f", response.getTookMs()))
+                .body(response);
+    }
+}
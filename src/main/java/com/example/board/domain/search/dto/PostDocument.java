@@ -0,0 +1,24 @@
+package com.example.board.domain.search.dto;
+
+import com.example.board.domain.post.entity.Post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 색인 대상 문서 (엔티티 대신 프로젝션으로 조회해 영속성 컨텍스트에 쌓이지 않게 한다)
+@Getter
+@AllArgsConstructor
+public class PostDocument {
+    private Long postId;
+    private Long categoryId;
+    private String title;
+    private String content;
+
+    public static PostDocument from(Post post, String content) {
+        return new PostDocument(
+                post.getId(),
+                post.getCategory() != null ? post.getCategory().getId() : null,
+                post.getTitle(),
+                content);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.board.domain.search.dto;
+
+import java.util.List;
+
+import com.example.board.domain.post.dto.PostResponse;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchResponse {
+    private String query;
+    private Long categoryId;
+    private int totalHits;
+    private double tookMs; // 색인 조회 + 게시글 로딩까지 걸린 시간
+    private List<PostResponse> posts;
+}
@@ -0,0 +1,223 @@
+package com.example.board.domain.search.index;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 메모리 매핑된 불변 디스크 세그먼트 (파일 구조는 SegmentWriter 참고)
+ *
+ * 파일 내용은 바뀌지 않고, 삭제 표시만 별도 .del 파일에 기록한다.
+ * 열 때 파일 전체를 매핑만 하므로 재기동 직후 바로 검색할 수 있고, 실제 읽기는 OS 페이지 캐시가 맡는다.
+ */
+final class DiskSegment implements IndexSegment {
+    private final long generation;
+    private final Path segmentPath;
+    private final Path tombstonePath;
+    private final MappedByteBuffer buffer;
+    private final int docCount;
+    private final int termCount;
+    private final int docsOffset;
+    private final int dictIndexOffset;
+
+    private final BitSet deleted;
+    private int liveDocs;
+    private long liveLength;
+    private boolean tombstonesDirty;
+
+    private DiskSegment(long generation, Path segmentPath, Path tombstonePath, MappedByteBuffer buffer, BitSet deleted) {
+        this.generation = generation;
+        this.segmentPath = segmentPath;
+        this.tombstonePath = tombstonePath;
+        this.buffer = buffer;
+        this.deleted = deleted;
+        this.docCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.docsOffset = (int) buffer.getLong(24);
+        this.dictIndexOffset = (int) buffer.getLong(48);
+
+        this.liveDocs = docCount;
+        this.liveLength = buffer.getLong(16);
+        for (int doc = deleted.nextSetBit(0); doc >= 0 && doc < docCount; doc = deleted.nextSetBit(doc + 1)) {
+            liveDocs--;
+            liveLength -= docLength(doc);
+        }
+    }
+
+    static DiskSegment open(Path segmentPath, Path tombstonePath, long generation) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+            if (channel.size() < SegmentWriter.HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("세그먼트 파일 크기가 올바르지 않습니다: " + segmentPath);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != SegmentWriter.MAGIC || buffer.getInt(4) != SegmentWriter.VERSION) {
+            throw new IOException("세그먼트 파일 형식이 올바르지 않습니다: " + segmentPath);
+        }
+
+        BitSet deleted = Files.exists(tombstonePath)
+                ? BitSet.valueOf(Files.readAllBytes(tombstonePath))
+                : new BitSet();
+        return new DiskSegment(generation, segmentPath, tombstonePath, buffer, deleted);
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    // 변경된 삭제 표시를 .del 파일에 기록
+    void persistTombstones() throws IOException {
+        if (!tombstonesDirty) {
+            return;
+        }
+        Path tmp = tombstonePath.resolveSibling(tombstonePath.getFileName() + ".tmp");
+        Files.write(tmp, deleted.toByteArray());
+        Files.move(tmp, tombstonePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        tombstonesDirty = false;
+    }
+
+    // 병합으로 대체된 세그먼트 파일 삭제 (매핑은 GC 시 해제된다)
+    void deleteFiles() throws IOException {
+        Files.deleteIfExists(segmentPath);
+        Files.deleteIfExists(tombstonePath);
+    }
+
+    @Override
+    public int maxDoc() {
+        return docCount;
+    }
+
+    @Override
+    public int liveDocs() {
+        return liveDocs;
+    }
+
+    @Override
+    public long liveLength() {
+        return liveLength;
+    }
+
+    @Override
+    public boolean isDeleted(int docId) {
+        return deleted.get(docId);
+    }
+
+    @Override
+    public long postId(int docId) {
+        return buffer.getLong(docsOffset + docId * SegmentWriter.DOC_ENTRY_SIZE);
+    }
+
+    @Override
+    public long categoryId(int docId) {
+        return buffer.getLong(docsOffset + docId * SegmentWriter.DOC_ENTRY_SIZE + 8);
+    }
+
+    @Override
+    public int docLength(int docId) {
+        return buffer.getInt(docsOffset + docId * SegmentWriter.DOC_ENTRY_SIZE + 16);
+    }
+
+    @Override
+    public int docFreq(String term) {
+        int entry = findEntry(term);
+        return entry >= 0 ? buffer.getInt(entry + 2 + termLength(entry)) : 0;
+    }
+
+    @Override
+    public PostingsIterator postings(String term) {
+        int entry = findEntry(term);
+        if (entry < 0) {
+            return null;
+        }
+        int base = entry + 2 + termLength(entry);
+        int offset = buffer.getInt(base + 4);
+        int length = buffer.getInt(base + 8);
+        return new PostingsIterator(buffer, offset, offset + length);
+    }
+
+    @Override
+    public Iterable<String> terms() {
+        List<String> terms = new ArrayList<>(termCount);
+        for (int i = 0; i < termCount; i++) {
+            terms.add(termAt(entryOffset(i)));
+        }
+        return terms;
+    }
+
+    @Override
+    public boolean delete(long postId) {
+        int doc = findDoc(postId);
+        if (doc < 0 || deleted.get(doc)) {
+            return false;
+        }
+        deleted.set(doc);
+        liveDocs--;
+        liveLength -= docLength(doc);
+        tombstonesDirty = true;
+        return true;
+    }
+
+    @Override
+    public BitSet deletedSnapshot() {
+        return (BitSet) deleted.clone();
+    }
+
+    // 문서 구역은 postId 오름차순
+    private int findDoc(long postId) {
+        int low = 0;
+        int high = docCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midPostId = postId(mid);
+            if (midPostId < postId) {
+                low = mid + 1;
+            } else if (midPostId > postId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 사전 색인으로 이진 탐색해 사전 항목 위치 반환 (없으면 -1)
+    private int findEntry(String term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = termAt(entryOffset(mid)).compareTo(term);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return entryOffset(mid);
+            }
+        }
+        return -1;
+    }
+
+    private int entryOffset(int index) {
+        return buffer.getInt(dictIndexOffset + index * 4);
+    }
+
+    private int termLength(int entry) {
+        return buffer.getShort(entry) & 0xFFFF;
+    }
+
+    private String termAt(int entry) {
+        byte[] bytes = new byte[termLength(entry)];
+        buffer.get(entry + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
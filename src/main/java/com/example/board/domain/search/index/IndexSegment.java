@@ -0,0 +1,42 @@
+package com.example.board.domain.search.index;
+
+import java.util.BitSet;
+
+/**
+ * 검색 색인 세그먼트 공통 인터페이스 (메모리 델타 / 디스크 세그먼트)
+ *
+ * 세그먼트 안의 문서는 0부터 시작하는 docId로 식별하고, 포스팅은 docId 오름차순이다.
+ * 스레드 안전하지 않으며 SegmentedIndex의 잠금 아래에서만 접근한다.
+ */
+interface IndexSegment {
+    long NO_CATEGORY = -1L;
+
+    // 삭제된 문서를 포함한 docId 상한
+    int maxDoc();
+
+    int liveDocs();
+
+    long liveLength();
+
+    boolean isDeleted(int docId);
+
+    long postId(int docId);
+
+    long categoryId(int docId);
+
+    int docLength(int docId);
+
+    // 삭제된 문서를 포함한 문서 빈도 (없는 용어면 0)
+    int docFreq(String term);
+
+    // 없는 용어면 null
+    PostingsIterator postings(String term);
+
+    Iterable<String> terms();
+
+    // 게시글에 해당하는 문서를 삭제 표시 (없으면 false)
+    boolean delete(long postId);
+
+    // 세그먼트 기록/병합용 삭제 표시 복사본
+    BitSet deletedSnapshot();
+}
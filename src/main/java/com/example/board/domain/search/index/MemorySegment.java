@@ -0,0 +1,200 @@
+package com.example.board.domain.search.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.example.board.domain.search.dto.PostDocument;
+
+/**
+ * 메모리 델타 세그먼트
+ *
+ * 새로 작성/수정된 게시글을 받아두었다가 SegmentedIndex가 주기적으로 디스크 세그먼트로 내려쓴다.
+ * 문서는 추가될 때마다 증가하는 docId를 받으므로 포스팅은 항상 뒤에만 붙는다.
+ * 수정은 기존 docId를 삭제 표시하고 새 docId로 다시 추가하며,
+ * 삭제 표시가 일정 비율을 넘으면 살아있는 문서만 남기도록 포스팅을 다시 인코딩한다.
+ */
+final class MemorySegment implements IndexSegment {
+    static final int TITLE_WEIGHT = 2;
+    private static final int COMPACT_MIN_DOCS = 1024;
+
+    private Map<String, PostingsBuffer> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByPostId = new HashMap<>();
+    private BitSet deleted = new BitSet();
+
+    // docId -> 문서 정보
+    private long[] postIds = new long[1024];
+    private long[] categoryIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int maxDoc;
+
+    private int liveDocs;
+    private long liveLength;
+    private boolean frozen; // 디스크 기록 중에는 docId가 바뀌면 안 되므로 압축하지 않는다
+    private final long createdAt = System.currentTimeMillis(); // 이 시각 이후의 변경만 이 델타(또는 다음 델타)에 들어온다
+
+    // 문서 추가 (같은 게시글이 이미 있으면 교체)
+    void add(PostDocument document) {
+        Map<String, Integer> termFreqs = termFreqs(document);
+        int docLength = termFreqs.values().stream().mapToInt(Integer::intValue).sum();
+
+        delete(document.getPostId());
+
+        int docId = maxDoc++;
+        ensureCapacity(maxDoc);
+        postIds[docId] = document.getPostId();
+        categoryIds[docId] = document.getCategoryId() != null ? document.getCategoryId() : NO_CATEGORY;
+        docLengths[docId] = docLength;
+        docIdByPostId.put(document.getPostId(), docId);
+        liveDocs++;
+        liveLength += docLength;
+
+        termFreqs.forEach((term, freq) ->
+                postings.computeIfAbsent(term, t -> new PostingsBuffer()).add(docId, freq));
+    }
+
+    @Override
+    public boolean delete(long postId) {
+        Integer docId = docIdByPostId.remove(postId);
+        if (docId == null || deleted.get(docId)) {
+            return false;
+        }
+        deleted.set(docId);
+        liveDocs--;
+        liveLength -= docLengths[docId];
+        compactIfNeeded();
+        return true;
+    }
+
+    void freeze() {
+        this.frozen = true;
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+
+    boolean isEmpty() {
+        return maxDoc == 0;
+    }
+
+    @Override
+    public int maxDoc() {
+        return maxDoc;
+    }
+
+    @Override
+    public int liveDocs() {
+        return liveDocs;
+    }
+
+    @Override
+    public long liveLength() {
+        return liveLength;
+    }
+
+    @Override
+    public boolean isDeleted(int docId) {
+        return deleted.get(docId);
+    }
+
+    @Override
+    public long postId(int docId) {
+        return postIds[docId];
+    }
+
+    @Override
+    public long categoryId(int docId) {
+        return categoryIds[docId];
+    }
+
+    @Override
+    public int docLength(int docId) {
+        return docLengths[docId];
+    }
+
+    @Override
+    public int docFreq(String term) {
+        PostingsBuffer buffer = postings.get(term);
+        return buffer != null ? buffer.docFreq() : 0;
+    }
+
+    @Override
+    public PostingsIterator postings(String term) {
+        PostingsBuffer buffer = postings.get(term);
+        return buffer != null ? buffer.iterator() : null;
+    }
+
+    @Override
+    public Iterable<String> terms() {
+        return postings.keySet();
+    }
+
+    @Override
+    public BitSet deletedSnapshot() {
+        return (BitSet) deleted.clone();
+    }
+
+    // 제목 토큰은 가중치를 두어 빈도에 반영
+    static Map<String, Integer> termFreqs(PostDocument document) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String token : NGramTokenizer.tokenize(document.getTitle())) {
+            termFreqs.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : NGramTokenizer.tokenize(document.getContent())) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        return termFreqs;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > postIds.length) {
+            int newLength = Math.max(postIds.length * 2, size);
+            postIds = Arrays.copyOf(postIds, newLength);
+            categoryIds = Arrays.copyOf(categoryIds, newLength);
+            docLengths = Arrays.copyOf(docLengths, newLength);
+        }
+    }
+
+    // 삭제 표시가 1/3을 넘으면 살아있는 문서만 새 docId로 다시 인코딩
+    private void compactIfNeeded() {
+        int deletedCount = deleted.cardinality();
+        if (frozen || maxDoc < COMPACT_MIN_DOCS || deletedCount * 3 < maxDoc) {
+            return;
+        }
+
+        int[] newDocIds = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (deleted.get(doc)) {
+                newDocIds[doc] = -1;
+                continue;
+            }
+            newDocIds[doc] = next;
+            postIds[next] = postIds[doc];
+            categoryIds[next] = categoryIds[doc];
+            docLengths[next] = docLengths[doc];
+            docIdByPostId.put(postIds[next], next);
+            next++;
+        }
+
+        Map<String, PostingsBuffer> compacted = new HashMap<>();
+        postings.forEach((term, buffer) -> {
+            PostingsBuffer rewritten = new PostingsBuffer();
+            PostingsIterator it = buffer.iterator();
+            for (int doc = it.nextDoc(); doc != PostingsIterator.NO_MORE_DOCS; doc = it.nextDoc()) {
+                if (newDocIds[doc] >= 0) {
+                    rewritten.add(newDocIds[doc], it.freq());
+                }
+            }
+            if (rewritten.docFreq() > 0) {
+                compacted.put(term, rewritten);
+            }
+        });
+
+        postings = compacted;
+        deleted = new BitSet();
+        maxDoc = next;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.board.domain.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ *
+ * 한국어는 형태소 분석 없이도 부분 일치가 되도록 한글/한자/가나 구간을 2-gram으로 자르고,
+ * 영문/숫자 구간은 단어 단위로 자른다. (예: "스프링 게시판 JPA" -> 스프, 프링, 게시, 시판, jpa)
+ */
+public final class NGramTokenizer {
+    private static final int GRAM_SIZE = 2;
+    private static final int MAX_WORD_LENGTH = 64; // URL 등 지나치게 긴 단어는 색인하지 않는다
+
+    // 문자 구간 유형
+    private static final int SEPARATOR = 0;
+    private static final int WORD = 1;
+    private static final int CJK = 2;
+
+    private NGramTokenizer() {
+    }
+
+    // 토큰 목록 (중복 포함 -> 빈도 계산용)
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int start = 0;
+        while (start < codePoints.length) {
+            int type = typeOf(codePoints[start]);
+            int end = start + 1;
+            while (end < codePoints.length && typeOf(codePoints[end]) == type) {
+                end++;
+            }
+
+            if (type == CJK) {
+                emitGrams(codePoints, start, end, tokens);
+            } else if (type == WORD && end - start <= MAX_WORD_LENGTH) {
+                tokens.add(new String(codePoints, start, end - start));
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static int typeOf(int codePoint) {
+        if (!Character.isLetterOrDigit(codePoint)) {
+            return SEPARATOR;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return switch (script) {
+            case HANGUL, HAN, HIRAGANA, KATAKANA -> CJK;
+            default -> WORD;
+        };
+    }
+
+    private static void emitGrams(int[] codePoints, int start, int end, List<String> tokens) {
+        if (end - start < GRAM_SIZE) {
+            tokens.add(new String(codePoints, start, end - start));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.board.domain.search.index;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 메모리 내 포스팅 리스트 (docId 오름차순으로만 추가되는 append-only 버퍼)
+final class PostingsBuffer {
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDocId = -1;
+    private int docFreq;
+
+    void add(int docId, int freq) {
+        writeVInt(docId - lastDocId);
+        writeVInt(freq);
+        lastDocId = docId;
+        docFreq++;
+    }
+
+    int docFreq() {
+        return docFreq;
+    }
+
+    int byteLength() {
+        return length;
+    }
+
+    // 디스크 세그먼트 기록용 (압축된 바이트 그대로)
+    void writeTo(DataOutput out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    PostingsIterator iterator() {
+        return new PostingsIterator(ByteBuffer.wrap(bytes), 0, length);
+    }
+
+    private void writeVInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.board.domain.search.index;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 압축된 포스팅 리스트 순회기
+ *
+ * 포스팅은 (docId 간격, 빈도) 쌍을 가변 길이 정수(VByte)로 이어 붙인 형태다.
+ * docId가 오름차순이라 간격은 대부분 1~2바이트에 들어간다.
+ */
+public final class PostingsIterator {
+    public static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+
+    private final ByteBuffer buffer;
+    private final int end;
+    private int position;
+    private int docId = -1;
+    private int freq;
+
+    // buffer의 [offset, end) 구간을 읽는다 (절대 위치로만 읽으므로 버퍼를 여러 스레드가 공유해도 된다)
+    public PostingsIterator(ByteBuffer buffer, int offset, int end) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.end = end;
+    }
+
+    public int nextDoc() {
+        if (position >= end) {
+            docId = NO_MORE_DOCS;
+            return docId;
+        }
+        docId += readVInt();
+        freq = readVInt();
+        return docId;
+    }
+
+    public int docId() {
+        return docId;
+    }
+
+    public int freq() {
+        return freq;
+    }
+
+    private int readVInt() {
+        byte b = buffer.get(position++);
+        int value = b & 0x7F;
+        for (int shift = 7; b < 0; shift += 7) {
+            b = buffer.get(position++);
+            value |= (b & 0x7F) << shift;
+        }
+        return value;
+    }
+}
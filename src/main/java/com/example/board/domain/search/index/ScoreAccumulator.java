@@ -0,0 +1,100 @@
+package com.example.board.domain.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 세그먼트 안 문서 번호별 BM25 점수 누적기 (개방 주소법 + 선형 탐사)
+ *
+ * 검색어 포스팅에 나온 문서만 담으므로 세그먼트 문서 수(maxDoc) 크기의 배열을 검색마다 만들지 않는다.
+ * 크기는 일치 문서 수에 맞춰 늘고, 한 검색 안에서 세그먼트가 바뀔 때 clear()해 다시 쓴다.
+ * 넣은 순서대로 슬롯을 기억해 두어 순회와 clear()는 일치 문서 수만큼만 돈다.
+ */
+final class ScoreAccumulator {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] docs;
+    private float[] scores;
+    private int[] used; // 넣은 순서대로의 슬롯 번호
+    private int size;
+    private int mask;
+
+    ScoreAccumulator() {
+        allocate(MIN_CAPACITY);
+    }
+
+    void add(int doc, float score) {
+        int slot = find(doc);
+        if (docs[slot] == doc) {
+            scores[slot] += score;
+            return;
+        }
+        if ((size + 1) * 2 > docs.length) { // 채움 비율 1/2을 넘기 전에 두 배로
+            grow();
+            slot = find(doc);
+        }
+        docs[slot] = doc;
+        scores[slot] = score;
+        used[size++] = slot;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // i번째로 들어온 문서 번호 / 점수 (0 <= i < size)
+    int doc(int i) {
+        return docs[used[i]];
+    }
+
+    float score(int i) {
+        return scores[used[i]];
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            docs[used[i]] = EMPTY;
+        }
+        size = 0;
+    }
+
+    // doc이 있는 슬롯, 없으면 넣을 빈 슬롯
+    private int find(int doc) {
+        int slot = mix(doc) & mask;
+        while (docs[slot] != EMPTY && docs[slot] != doc) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldDocs = docs;
+        float[] oldScores = scores;
+        int[] oldUsed = used;
+        int count = size;
+
+        allocate(oldDocs.length * 2);
+        for (int i = 0; i < count; i++) {
+            int oldSlot = oldUsed[i];
+            int slot = find(oldDocs[oldSlot]);
+            docs[slot] = oldDocs[oldSlot];
+            scores[slot] = oldScores[oldSlot];
+            used[size++] = slot;
+        }
+    }
+
+    private void allocate(int capacity) {
+        docs = new int[capacity];
+        Arrays.fill(docs, EMPTY);
+        scores = new float[capacity];
+        used = new int[capacity / 2];
+        size = 0;
+        mask = capacity - 1;
+    }
+
+    // 문서 번호는 연속된 작은 정수라 그대로 쓰면 한쪽에 몰린다
+    private static int mix(int doc) {
+        int h = doc * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
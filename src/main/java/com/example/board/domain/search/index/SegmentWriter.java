@@ -0,0 +1,168 @@
+package com.example.board.domain.search.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 디스크 세그먼트 기록기
+ *
+ * 파일 구조 (빅엔디안)
+ * [헤더 64B] magic, version, docCount, termCount, totalLength, 각 구역 시작 위치
+ * [문서]     postId(8) categoryId(8) docLength(4) — postId 오름차순이라 이진 탐색 가능
+ * [포스팅]   용어별 (docId 간격, 빈도) VByte 나열
+ * [용어 사전] termLength(2) term(UTF-8) docFreq(4) postingsOffset(4) postingsLength(4) — 용어 오름차순
+ * [사전 색인] 용어별 사전 항목 위치(4) — 이진 탐색용
+ */
+final class SegmentWriter {
+    static final int MAGIC = 0x42525358;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int DOC_ENTRY_SIZE = 20;
+
+    private SegmentWriter() {
+    }
+
+    // 여러 세그먼트의 살아있는 문서를 하나의 세그먼트 파일로 기록 (deletedSnapshots는 sources와 같은 순서)
+    static void write(Path target, List<IndexSegment> sources, List<BitSet> deletedSnapshots) throws IOException {
+        // 1. 살아있는 문서를 postId 순으로 정렬해 새 docId 부여
+        List<int[]> liveDocs = new ArrayList<>(); // {sourceIndex, docId}
+        for (int s = 0; s < sources.size(); s++) {
+            IndexSegment source = sources.get(s);
+            BitSet deleted = deletedSnapshots.get(s);
+            for (int doc = 0; doc < source.maxDoc(); doc++) {
+                if (!deleted.get(doc)) {
+                    liveDocs.add(new int[]{s, doc});
+                }
+            }
+        }
+        liveDocs.sort(Comparator.comparingLong(d -> sources.get(d[0]).postId(d[1])));
+
+        int[][] newDocIds = new int[sources.size()][];
+        for (int s = 0; s < sources.size(); s++) {
+            newDocIds[s] = new int[sources.get(s).maxDoc()];
+            Arrays.fill(newDocIds[s], -1);
+        }
+        for (int i = 0; i < liveDocs.size(); i++) {
+            int[] d = liveDocs.get(i);
+            newDocIds[d[0]][d[1]] = i;
+        }
+
+        TreeSet<String> terms = new TreeSet<>();
+        sources.forEach(source -> source.terms().forEach(terms::add));
+
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        long totalLength = 0;
+        long docsOffset;
+        long postingsOffset;
+        long dictOffset;
+        long dictIndexOffset;
+        List<String> writtenTerms = new ArrayList<>();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            out.write(new byte[HEADER_SIZE]);
+
+            // 2. 문서
+            docsOffset = out.size();
+            for (int[] d : liveDocs) {
+                IndexSegment source = sources.get(d[0]);
+                out.writeLong(source.postId(d[1]));
+                out.writeLong(source.categoryId(d[1]));
+                out.writeInt(source.docLength(d[1]));
+                totalLength += source.docLength(d[1]);
+            }
+
+            // 3. 포스팅 (원본 세그먼트들의 포스팅을 새 docId 순으로 합침)
+            postingsOffset = out.size();
+            List<int[]> dictEntries = new ArrayList<>(); // {docFreq, offset, length}
+            long[] pairs = new long[64];
+            for (String term : terms) {
+                int count = 0;
+                for (int s = 0; s < sources.size(); s++) {
+                    PostingsIterator it = sources.get(s).postings(term);
+                    if (it == null) {
+                        continue;
+                    }
+                    for (int doc = it.nextDoc(); doc != PostingsIterator.NO_MORE_DOCS; doc = it.nextDoc()) {
+                        int newDoc = newDocIds[s][doc];
+                        if (newDoc < 0) {
+                            continue;
+                        }
+                        if (count == pairs.length) {
+                            pairs = Arrays.copyOf(pairs, count * 2);
+                        }
+                        pairs[count++] = ((long) newDoc << 32) | it.freq();
+                    }
+                }
+                if (count == 0) {
+                    continue;
+                }
+                Arrays.sort(pairs, 0, count);
+
+                PostingsBuffer buffer = new PostingsBuffer();
+                for (int i = 0; i < count; i++) {
+                    buffer.add((int) (pairs[i] >>> 32), (int) pairs[i]);
+                }
+                dictEntries.add(new int[]{count, out.size(), buffer.byteLength()});
+                buffer.writeTo(out);
+                writtenTerms.add(term);
+            }
+
+            // 4. 용어 사전
+            dictOffset = out.size();
+            int[] entryOffsets = new int[writtenTerms.size()];
+            for (int i = 0; i < writtenTerms.size(); i++) {
+                byte[] termBytes = writtenTerms.get(i).getBytes(StandardCharsets.UTF_8);
+                int[] entry = dictEntries.get(i);
+                entryOffsets[i] = out.size();
+                out.writeShort(termBytes.length);
+                out.write(termBytes);
+                out.writeInt(entry[0]);
+                out.writeInt(entry[1]);
+                out.writeInt(entry[2]);
+            }
+
+            // 5. 사전 색인
+            dictIndexOffset = out.size();
+            for (int entryOffset : entryOffsets) {
+                out.writeInt(entryOffset);
+            }
+
+            // DataOutputStream.size()는 int 범위에서 멈추므로 2GB를 넘는 세그먼트는 만들지 않는다
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IOException("세그먼트 크기가 2GB를 넘습니다: " + target);
+            }
+        }
+
+        // 6. 헤더를 채우고 디스크에 확정한 뒤 원자적으로 이름 변경
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(liveDocs.size())
+                    .putInt(writtenTerms.size())
+                    .putLong(totalLength)
+                    .putLong(docsOffset)
+                    .putLong(postingsOffset)
+                    .putLong(dictOffset)
+                    .putLong(dictIndexOffset);
+            header.clear();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,486 @@
+package com.example.board.domain.search.index;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.example.board.domain.search.dto.PostDocument;
+
+/**
+ * 게시글 검색 색인 (메모리 델타 + 메모리 매핑 디스크 세그먼트)
+ *
+ * - 새 글/수정 글은 메모리 델타에 쌓이고, flush() 시 불변 디스크 세그먼트로 내려간다.
+ * - 세그먼트가 mergeFactor개를 넘으면 작은 것부터 mergeFactor개를 하나로 병합한다.
+ * - 세그먼트 목록은 manifest 파일로 관리하므로 재기동 시 파일만 매핑하면 바로 검색할 수 있다.
+ * - 디스크 기록/병합은 잠금 밖에서 하고, 그 사이의 삭제는 모아두었다가 교체 시 새 세그먼트에 반영한다.
+ * - 삭제는 삭제 로그에 바로 덧붙이고, 삭제 표시 파일이 기록되면 로그를 비운다. 재기동 시 로그를 다시 적용한다.
+ * 랭킹은 BM25이며 문서 수/평균 길이/문서 빈도는 전체 세그먼트 합계를 쓴다.
+ */
+public class SegmentedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final String MANIFEST = "segments.properties";
+    private static final String DELETE_LOG = "deletes.log";
+
+    public record Hit(long postId, float score) {}
+
+    public record Result(List<Hit> hits, int totalHits) {}
+
+    private final Path directory;
+    private final int mergeFactor;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object maintenanceLock = new Object(); // flush/merge 직렬화
+    private MemorySegment delta = new MemorySegment();
+    private MemorySegment flushing; // 디스크에 기록 중인 이전 델타 (교체 전까지 검색 대상)
+    private List<DiskSegment> segments = List.of();
+    private final List<Long> pendingDeletes = new ArrayList<>();
+    private boolean trackingDeletes;
+
+    private long nextGeneration = 1;
+    private long lastFlushedAt;
+
+    public SegmentedIndex(Path directory, int mergeFactor) {
+        this.directory = directory;
+        this.mergeFactor = mergeFactor;
+    }
+
+    // -- 열기 --
+
+    // manifest가 있으면 세그먼트를 매핑해 복원하고 true, 없으면 빈 색인으로 false
+    public boolean open() throws IOException {
+        Files.createDirectories(directory);
+        Path manifest = directory.resolve(MANIFEST);
+        if (!Files.exists(manifest)) {
+            return false;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifest)) {
+            properties.load(reader);
+        }
+
+        List<DiskSegment> opened = new ArrayList<>();
+        String generations = properties.getProperty("segments", "");
+        for (String generation : generations.split(",")) {
+            if (!generation.isBlank()) {
+                long gen = Long.parseLong(generation.trim());
+                opened.add(DiskSegment.open(segmentPath(gen), tombstonePath(gen), gen));
+            }
+        }
+
+        // 마지막 삭제 표시 기록 이후의 삭제 (따라잡기는 남아 있는 행만 다시 읽으므로 여기서 지워야 한다)
+        Path deleteLog = directory.resolve(DELETE_LOG);
+        if (Files.exists(deleteLog)) {
+            for (String line : Files.readAllLines(deleteLog)) {
+                if (!line.isBlank()) {
+                    long postId = Long.parseLong(line.trim());
+                    opened.forEach(segment -> segment.delete(postId));
+                }
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            segments = List.copyOf(opened);
+            nextGeneration = Long.parseLong(properties.getProperty("nextGeneration", "1"));
+            lastFlushedAt = Long.parseLong(properties.getProperty("lastFlushedAt", "0"));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        deleteUnreferencedFiles();
+        return true;
+    }
+
+    // 색인 파일을 모두 지우고 빈 색인으로 초기화 (파일이 손상되어 전체 재색인할 때)
+    public void reset() throws IOException {
+        synchronized (maintenanceLock) {
+            lock.writeLock().lock();
+            try {
+                delta = new MemorySegment();
+                flushing = null;
+                segments = List.of();
+                nextGeneration = 1;
+                lastFlushedAt = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    // 마지막으로 디스크에 확정된 델타가 만들어지기 시작한 시각 (재기동 후 따라잡기 기준)
+    public long lastFlushedAt() {
+        return lastFlushedAt;
+    }
+
+    // -- 쓰기 --
+
+    // 문서 추가 (기존 세그먼트에 있는 같은 게시글은 삭제 표시)
+    public void add(PostDocument document) {
+        lock.writeLock().lock();
+        try {
+            deleteFromImmutable(document.getPostId());
+            delta.add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 삭제 (메모리에서 바로 빼고, 재기동해도 되살아나지 않도록 삭제 로그에 남긴다)
+    public void delete(long postId) throws IOException {
+        lock.writeLock().lock();
+        try {
+            deleteFromImmutable(postId);
+            delta.delete(postId);
+            Files.writeString(directory.resolve(DELETE_LOG), postId + "\n",
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void deleteFromImmutable(long postId) {
+        for (DiskSegment segment : segments) {
+            segment.delete(postId);
+        }
+        if (flushing != null) {
+            flushing.delete(postId);
+        }
+        if (trackingDeletes) {
+            pendingDeletes.add(postId);
+        }
+    }
+
+    // -- 검색 --
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return allSegments().stream().mapToInt(IndexSegment::liveDocs).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int deltaSize() {
+        lock.readLock().lock();
+        try {
+            return delta.liveDocs();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // BM25 검색 (categoryId가 null이면 전체)
+    public Result search(String query, Long categoryId, int limit) {
+        Set<String> terms = new LinkedHashSet<>(NGramTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<IndexSegment> all = allSegments();
+            long liveDocs = all.stream().mapToLong(IndexSegment::liveDocs).sum();
+            if (liveDocs == 0) {
+                return new Result(List.of(), 0);
+            }
+            float avgLength = (float) all.stream().mapToLong(IndexSegment::liveLength).sum() / liveDocs;
+
+            List<String> termList = List.copyOf(terms);
+            float[] idfs = new float[termList.size()];
+            for (int t = 0; t < termList.size(); t++) {
+                String term = termList.get(t);
+                long docFreq = all.stream().mapToLong(segment -> segment.docFreq(term)).sum();
+                idfs[t] = (float) Math.log(1 + (liveDocs - docFreq + 0.5) / (docFreq + 0.5));
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::score));
+            ScoreAccumulator scores = new ScoreAccumulator();
+            int totalHits = 0;
+            for (IndexSegment segment : all) {
+                totalHits += collect(segment, termList, idfs, categoryId, avgLength, scores, top, limit);
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return new Result(hits, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 세그먼트 하나를 term-at-a-time으로 점수 누적 후 상위 힙에 반영, 일치 문서 수 반환
+    // (점수는 포스팅에 나온 문서만 누적기에 담는다: 세그먼트 문서 수만큼의 배열을 만들지 않는다)
+    private int collect(IndexSegment segment, List<String> terms, float[] idfs, Long categoryId,
+                        float avgLength, ScoreAccumulator scores, PriorityQueue<Hit> top, int limit) {
+        scores.clear();
+        for (int t = 0; t < terms.size(); t++) {
+            PostingsIterator it = segment.postings(terms.get(t));
+            if (it == null) {
+                continue;
+            }
+            for (int doc = it.nextDoc(); doc != PostingsIterator.NO_MORE_DOCS; doc = it.nextDoc()) {
+                if (segment.isDeleted(doc) || (categoryId != null && segment.categoryId(doc) != categoryId)) {
+                    continue;
+                }
+                int freq = it.freq();
+                scores.add(doc, idfs[t] * (freq * (K1 + 1))
+                        / (freq + K1 * (1 - B + B * segment.docLength(doc) / avgLength)));
+            }
+        }
+
+        for (int i = 0; i < scores.size(); i++) {
+            float score = scores.score(i);
+            if (top.size() < limit) {
+                top.add(new Hit(segment.postId(scores.doc(i)), score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new Hit(segment.postId(scores.doc(i)), score));
+            }
+        }
+        return scores.size();
+    }
+
+    private List<IndexSegment> allSegments() {
+        List<IndexSegment> all = new ArrayList<>(segments);
+        if (flushing != null) {
+            all.add(flushing);
+        }
+        all.add(delta);
+        return all;
+    }
+
+    // -- 디스크 기록 / 병합 --
+
+    // 메모리 델타를 새 디스크 세그먼트로 기록 (이전 기록이 실패해 남은 델타가 있으면 그것부터)
+    public void flush() throws IOException {
+        synchronized (maintenanceLock) {
+            MemorySegment frozen;
+            BitSet deletedSnapshot;
+            long generation;
+
+            lock.writeLock().lock();
+            try {
+                if (flushing == null) {
+                    if (delta.isEmpty()) {
+                        return;
+                    }
+                    flushing = delta;
+                    flushing.freeze();
+                    delta = new MemorySegment();
+                }
+                frozen = flushing;
+                deletedSnapshot = frozen.deletedSnapshot();
+                generation = nextGeneration++;
+                startTrackingDeletes();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            DiskSegment written = writeSegment(generation, List.of(frozen), List.of(deletedSnapshot));
+
+            lock.writeLock().lock();
+            try {
+                applyPendingDeletes(written);
+                List<DiskSegment> next = new ArrayList<>(segments);
+                next.add(written);
+                segments = List.copyOf(next);
+                flushing = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // 이전에 실패한 델타를 다시 기록한 경우 그 뒤의 델타는 아직 메모리에만 있으므로
+            // 지금 시각이 아니라 기록한 델타가 만들어진 시각까지만 확정된 것으로 본다
+            lastFlushedAt = frozen.createdAt();
+            commit();
+        }
+    }
+
+    // 세그먼트가 mergeFactor개를 넘으면 문서 수가 적은 세그먼트 mergeFactor개를 병합
+    public boolean mergeIfNeeded() throws IOException {
+        synchronized (maintenanceLock) {
+            List<DiskSegment> sources;
+            List<BitSet> deletedSnapshots;
+            long generation;
+
+            lock.writeLock().lock();
+            try {
+                if (segments.size() <= mergeFactor) {
+                    return false;
+                }
+                sources = segments.stream()
+                        .sorted(Comparator.comparingInt(DiskSegment::maxDoc))
+                        .limit(mergeFactor)
+                        .toList();
+                deletedSnapshots = sources.stream().map(DiskSegment::deletedSnapshot).toList();
+                generation = nextGeneration++;
+                startTrackingDeletes();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            DiskSegment merged = writeSegment(generation, List.copyOf(sources), deletedSnapshots);
+
+            lock.writeLock().lock();
+            try {
+                applyPendingDeletes(merged);
+                List<DiskSegment> next = new ArrayList<>(segments);
+                next.removeAll(sources);
+                next.add(merged);
+                segments = List.copyOf(next);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            commit();
+            for (DiskSegment source : sources) {
+                source.deleteFiles();
+            }
+            return true;
+        }
+    }
+
+    // 잠금 밖에서 세그먼트 파일을 기록하고 매핑 (실패하면 삭제 추적을 멈추고 원본은 그대로 둔다)
+    private DiskSegment writeSegment(long generation, List<IndexSegment> sources, List<BitSet> deletedSnapshots)
+            throws IOException {
+        try {
+            SegmentWriter.write(segmentPath(generation), sources, deletedSnapshots);
+            return DiskSegment.open(segmentPath(generation), tombstonePath(generation), generation);
+        } catch (IOException | RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDeletes.clear();
+                trackingDeletes = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+    }
+
+    // 변경된 삭제 표시를 디스크에 기록
+    public void persistTombstones() throws IOException {
+        synchronized (maintenanceLock) {
+            lock.readLock().lock();
+            try {
+                for (DiskSegment segment : segments) {
+                    segment.persistTombstones();
+                }
+                clearDeleteLog();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    // 모든 삭제가 삭제 표시 파일에 들어갔으므로 로그를 비운다
+    // (읽기 잠금 안에서 호출: 삭제는 쓰기 잠금을 잡으므로 기록과 비우기 사이에 끼어들지 못한다)
+    private void clearDeleteLog() throws IOException {
+        Files.deleteIfExists(directory.resolve(DELETE_LOG));
+    }
+
+    private void startTrackingDeletes() {
+        pendingDeletes.clear();
+        trackingDeletes = true;
+    }
+
+    // 기록/병합 도중 들어온 삭제를 새 세그먼트에 반영 (쓰기 잠금 안에서 호출)
+    private void applyPendingDeletes(DiskSegment segment) {
+        for (Long postId : pendingDeletes) {
+            segment.delete(postId);
+        }
+        pendingDeletes.clear();
+        trackingDeletes = false;
+    }
+
+    // 삭제 표시와 manifest를 기록해 현재 세그먼트 목록을 확정
+    private void commit() throws IOException {
+        List<DiskSegment> current;
+        long generation;
+        lock.readLock().lock();
+        try {
+            current = segments;
+            generation = nextGeneration;
+            for (DiskSegment segment : current) {
+                segment.persistTombstones();
+            }
+            clearDeleteLog();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("segments", current.stream()
+                .map(segment -> String.valueOf(segment.generation()))
+                .collect(Collectors.joining(",")));
+        properties.setProperty("nextGeneration", String.valueOf(generation));
+        properties.setProperty("lastFlushedAt", String.valueOf(lastFlushedAt));
+
+        Path manifest = directory.resolve(MANIFEST);
+        Path tmp = directory.resolve(MANIFEST + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp)) {
+            properties.store(writer, "board search index segments");
+        }
+        Files.move(tmp, manifest, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // manifest에 없는 세그먼트 파일(병합 중 중단 등으로 남은 파일) 정리
+    private void deleteUnreferencedFiles() throws IOException {
+        Set<String> referenced = new LinkedHashSet<>();
+        referenced.add(MANIFEST);
+        referenced.add(DELETE_LOG);
+        for (DiskSegment segment : segments) {
+            referenced.add(segmentPath(segment.generation()).getFileName().toString());
+            referenced.add(tombstonePath(segment.generation()).getFileName().toString());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (!referenced.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path segmentPath(long generation) {
+        return directory.resolve(String.format(Locale.ROOT, "segment_%06d.idx", generation));
+    }
+
+    private Path tombstonePath(long generation) {
+        return directory.resolve(String.format(Locale.ROOT, "segment_%06d.del", generation));
+    }
+}
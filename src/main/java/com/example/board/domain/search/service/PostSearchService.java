@@ -0,0 +1,204 @@
+package com.example.board.domain.search.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.search.dto.PostDocument;
+import com.example.board.domain.search.dto.SearchResponse;
+import com.example.board.domain.search.index.SegmentedIndex;
+import com.example.board.global.datasource.BatchJob;
+import com.example.board.global.transaction.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class PostSearchService {
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final long CATCH_UP_MARGIN_MILLIS = 5 * 60 * 1000L; // 커밋 직전 수정분까지 포함하도록 여유
+
+    private final PostRepository postRepository;
+    private final SegmentedIndex index;
+    private final int flushThreshold;
+
+    public PostSearchService(PostRepository postRepository,
+                             @Value("${board.search.index-dir:./data/search-index}") Path indexDir,
+                             @Value("${board.search.flush-threshold:10000}") int flushThreshold,
+                             @Value("${board.search.merge-factor:8}") int mergeFactor) {
+        this.postRepository = postRepository;
+        this.index = new SegmentedIndex(indexDir, mergeFactor);
+        this.flushThreshold = flushThreshold;
+    }
+
+    // 기동 시 디스크 세그먼트가 있으면 매핑만 하고 마지막 기록 이후 수정분만 따라잡는다.
+    // 없거나 손상되었으면 전체 게시글을 ID 순 배치로 읽어 새로 색인한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @BatchJob
+    public void openIndex() {
+        long startedAt = System.nanoTime();
+        try {
+            if (index.open()) {
+                LocalDateTime since = LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(index.lastFlushedAt() - CATCH_UP_MARGIN_MILLIS), ZoneId.systemDefault());
+                int caughtUp = indexBatches(lastId ->
+                        postRepository.findDocumentsUpdatedSince(since, lastId, PageRequest.of(0, BUILD_BATCH_SIZE)));
+                log.info("검색 색인 복원 완료: 세그먼트 {}개, 따라잡기 {}건, {}ms",
+                        index.segmentCount(), caughtUp, (System.nanoTime() - startedAt) / 1_000_000);
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 파일을 열 수 없어 전체 재색인합니다", e);
+            resetIndex();
+        }
+
+        int indexed = indexBatches(lastId ->
+                postRepository.findDocumentsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE)));
+        flush();
+        log.info("검색 색인 구축 완료: {}건, {}ms", indexed, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 키셋 배치로 끝까지 색인하고, 델타가 커지면 중간중간 디스크로 내려쓴다
+    private int indexBatches(LongFunction<List<PostDocument>> fetchAfter) {
+        long lastId = 0L;
+        int indexed = 0;
+        while (true) {
+            List<PostDocument> batch = fetchAfter.apply(lastId);
+            if (batch.isEmpty()) {
+                return indexed;
+            }
+            batch.forEach(index::add);
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getPostId();
+            if (index.deltaSize() >= flushThreshold) {
+                flush();
+            }
+        }
+    }
+
+    // 메모리 델타 디스크 기록, 세그먼트 병합, 삭제 표시 기록
+    @Scheduled(fixedDelayString = "${board.search.flush-interval:30s}",
+               initialDelayString = "${board.search.flush-interval:30s}")
+    public void maintain() {
+        try {
+            index.flush();
+            if (index.mergeIfNeeded()) {
+                log.debug("검색 세그먼트 병합 완료: 남은 세그먼트 {}개", index.segmentCount());
+            }
+            index.persistTombstones();
+        } catch (IOException e) {
+            log.warn("검색 색인 디스크 기록 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        maintain();
+    }
+
+    // 대량 가져오기처럼 색인을 거치지 않고 게시글이 바뀐 경우: 색인 파일을 지워 다음 기동 때 전체 재색인
+    public void invalidateIndex() {
+        resetIndex();
+    }
+
+    // 마지막으로 디스크에 확정된 델타의 시작 시각 (epoch ms, 그 이후 변경분은 메모리에만 있다)
+    public long lastFlushedAt() {
+        return index.lastFlushedAt();
+    }
+
+    // 아직 디스크 세그먼트로 내려가지 않은 문서 수
+    public int pendingDocuments() {
+        return index.deltaSize();
+    }
+
+    // 게시글 작성/수정 시 색인 반영 (트랜잭션 커밋 후)
+    public void index(Post post, String content) {
+        PostDocument document = PostDocument.from(post, content);
+        AfterCommit.run(() -> index.add(document));
+    }
+
+    // 게시글 삭제 시 색인에서 제거 (트랜잭션 커밋 후)
+    public void remove(Long postId) {
+        AfterCommit.run(() -> {
+            try {
+                index.delete(postId);
+            } catch (IOException e) {
+                log.warn("검색 색인 삭제 로그 기록 실패 (다음 디스크 기록 전에 재기동하면 검색될 수 있음) postId={}", postId, e);
+            }
+        });
+    }
+
+    // 검색 (BM25 순, categoryId가 null이면 전체)
+    @Transactional(readOnly = true)
+    public SearchResponse search(String query, Long categoryId, int size) {
+        long startedAt = System.nanoTime();
+
+        SegmentedIndex.Result result = StringUtils.hasText(query)
+                ? index.search(query, categoryId, size)
+                : new SegmentedIndex.Result(List.of(), 0);
+
+        List<Long> postIds = result.hits().stream().map(SegmentedIndex.Hit::postId).toList();
+        List<PostResponse> posts = postIds.isEmpty() ? List.of() : loadInOrder(postIds);
+
+        double tookMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+        log.debug("검색 q=\"{}\" categoryId={} hits={} took={}ms", query, categoryId, result.totalHits(), tookMs);
+
+        return SearchResponse.builder()
+                .query(query)
+                .categoryId(categoryId)
+                .totalHits(result.totalHits())
+                .tookMs(tookMs)
+                .posts(posts)
+                .build();
+    }
+
+    // 검색 순위대로 목록 응답 변환 (작성자/카테고리를 한 번에 조회, 그 사이 삭제된 글은 뺀다)
+    private List<PostResponse> loadInOrder(List<Long> postIds) {
+        Map<Long, Post> postsById = postRepository.findAllWithUserAndCategoryByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(PostResponse::fromList)
+                .toList();
+    }
+
+    private void flush() {
+        try {
+            index.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 디스크 기록 실패", e);
+        }
+    }
+
+    private void resetIndex() {
+        try {
+            index.reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 초기화 실패", e);
+        }
+    }
+
+}
@@ -7,18 +7,23 @@ import com.example.board.domain.user.dto.SignupRequest;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
 import com.example.board.domain.user.dto.LoginRequest;
+import com.example.board.global.datasource.ReadYourWrites;
+import com.example.board.global.jfr.PasswordHashEvent;
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("board.service")
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
     @Transactional
     public Long signup(SignupRequest request){
+        ReadYourWrites.markWrite();
 
         // 중복 아이디 체크
         if (userRepository.existsByLoginId(request.getLoginId())){
@@ -30,7 +35,9 @@ public class UserService {
         }
 
         // 비밀번호 암호화
+        PasswordHashEvent event = PasswordHashEvent.started("signup", null);
         String encodedPassword = passwordEncoder.encode(request.getPassword());
+        event.complete(true);
 
         // DB 저장
         return userRepository.save(request.toEntity(encodedPassword)).getId();
@@ -39,7 +46,10 @@ public class UserService {
     public User login(LoginRequest request){
         User user = userRepository.findByLoginId(request.getLoginId()).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이디입니다."));
 
-        if(!passwordEncoder.matches(request.getPassword(), user.getPassword())){
+        PasswordHashEvent event = PasswordHashEvent.started("login", user.getId());
+        boolean matched = passwordEncoder.matches(request.getPassword(), user.getPassword());
+        event.complete(matched);
+        if(!matched){
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -3,11 +3,14 @@ package com.example.board.global;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import com.example.board.global.resilience.DatabaseUnavailableException;
+
 @RestControllerAdvice // 모든 컨트롤러 감시
 public class GlobalExceptionHandler {
     
@@ -35,4 +38,13 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.badRequest().body(errors);
     }
+
+    /**
+     * DB가 응답하지 않고 대신 보여줄 스냅샷도 없는 경우
+     * 예: 회로 차단기가 열린 상태에서 한 번도 캐시되지 않은 화면 요청
+     */
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<String> handleDatabaseUnavailableException(DatabaseUnavailableException e){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
 }
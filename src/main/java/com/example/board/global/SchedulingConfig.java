@@ -0,0 +1,13 @@
+package com.example.board.global;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 랭킹 스냅샷, 검색 색인 기록 등 주기 작업
+// 내보내기/가져오기 CLI처럼 ApplicationReadyEvent 전에 끝나는 실행에서는 board.scheduling.enabled=false로 끈다
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "board.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,9 +1,12 @@
 package com.example.board.global;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.example.board.global.resilience.QueryDeadlineInterceptor;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -11,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 public class WebConfig implements WebMvcConfigurer {
 
     private final SwaggerAccessInterceptor swaggerAccessInterceptor;
+    private final AdminAccessInterceptor adminAccessInterceptor;
+    private final ObjectProvider<QueryDeadlineInterceptor> queryDeadlineInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -20,6 +25,10 @@ public class WebConfig implements WebMvcConfigurer {
                         "/swagger-ui.html",
                         "/v3/api-docs/**"
                 );
+        registry.addInterceptor(adminAccessInterceptor)
+                .addPathPatterns("/api/admin/**");
+        // 요청별 쿼리 마감 시각 (board.resilience.query-deadline.enabled=false면 빈이 없다)
+        queryDeadlineInterceptor.ifAvailable(registry::addInterceptor);
     }
 }
 
@@ -0,0 +1,55 @@
+package com.example.board.global.accesslog;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// 비동기 접근 로그 (필터 -> 링 버퍼 -> 기록 스레드 -> JSON Lines 파일), board.access-log.enabled=false로 끈다
+@Configuration
+@ConditionalOnProperty(name = "board.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLogRingBuffer accessLogRingBuffer(@Value("${board.access-log.buffer-size:8192}") int bufferSize) {
+        return new AccessLogRingBuffer(bufferSize);
+    }
+
+    @Bean(destroyMethod = "close")
+    public AccessLogWriter accessLogWriter(AccessLogRingBuffer accessLogRingBuffer,
+                                           @Value("${board.access-log.file:./logs/access.log}") Path file,
+                                           @Value("${board.access-log.max-file-size:100MB}") DataSize maxFileSize,
+                                           @Value("${board.access-log.max-history:5}") int maxHistory,
+                                           @Value("${board.access-log.idle-wait:50ms}") Duration idleWait) {
+        return new AccessLogWriter(accessLogRingBuffer, file, maxFileSize.toBytes(), maxHistory, idleWait);
+    }
+
+    // 응답 시간을 가장 바깥에서 재도록 SQL 통계 필터보다 먼저 둔다
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogRingBuffer accessLogRingBuffer) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter(accessLogRingBuffer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder accessLogMeters(AccessLogRingBuffer accessLogRingBuffer, AccessLogWriter accessLogWriter) {
+        return registry -> {
+            FunctionCounter.builder("board.accesslog.dropped", accessLogRingBuffer, AccessLogRingBuffer::dropped)
+                    .description("Access log records dropped because the ring buffer was full")
+                    .register(registry);
+            FunctionCounter.builder("board.accesslog.written", accessLogWriter, AccessLogWriter::written)
+                    .description("Access log lines written to the log file")
+                    .register(registry);
+        };
+    }
+}
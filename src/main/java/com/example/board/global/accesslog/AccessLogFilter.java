@@ -0,0 +1,65 @@
+package com.example.board.global.accesslog;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.board.global.sqlstats.QueryStatsFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 요청 하나당 접근 로그 기록 하나를 링 버퍼에 넣는 필터
+ *
+ * 요청 스레드는 값 몇 개를 슬롯에 복사하는 것까지만 하고, 인코딩과 파일 쓰기는 AccessLogWriter가 한다.
+ * route는 매핑 패턴(예: /posts/{id})이라 경로 변수 값마다 새 문자열이 생기지 않는다.
+ * 비동기 응답(내보내기 스트리밍)은 비동기 처리가 시작된 시점까지의 시간이 남는다.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final String UNMAPPED = "(unmapped)";
+
+    private final AccessLogRingBuffer ring;
+
+    public AccessLogFilter(AccessLogRingBuffer ring) {
+        this.ring = ring;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ring.publish(System.currentTimeMillis(), request.getMethod(), route(request), response.getStatus(),
+                    (System.nanoTime() - startedAt) / 1_000, loginUserId(request), queries(request));
+        }
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String route ? route : UNMAPPED;
+    }
+
+    // 로그아웃으로 세션이 무효화된 요청이면 0
+    private static long loginUserId(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return 0L;
+        }
+        try {
+            return session.getAttribute("loginUserId") instanceof Long userId ? userId : 0L;
+        } catch (IllegalStateException e) {
+            return 0L;
+        }
+    }
+
+    private static int queries(HttpServletRequest request) {
+        return request.getAttribute(QueryStatsFilter.STATEMENTS_ATTRIBUTE) instanceof Integer statements ? statements : -1;
+    }
+}
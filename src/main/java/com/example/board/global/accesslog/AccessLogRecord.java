@@ -0,0 +1,44 @@
+package com.example.board.global.accesslog;
+
+/**
+ * 링 버퍼 슬롯 하나 (미리 만들어 두고 재사용하므로 필드는 가변)
+ *
+ * 문자열 필드에는 요청마다 새로 만들지 않는 값(HTTP 메서드, 매핑 패턴)만 넣는다.
+ */
+public final class AccessLogRecord {
+    long timestampMillis;
+    String method;
+    String route;
+    int status;
+    long latencyMicros;
+    long userId;   // 비로그인이면 0
+    int queries;   // SQL 통계가 꺼져 있으면 -1
+
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public String route() {
+        return route;
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public long latencyMicros() {
+        return latencyMicros;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public int queries() {
+        return queries;
+    }
+}
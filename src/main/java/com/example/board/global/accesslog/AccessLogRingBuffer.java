@@ -0,0 +1,92 @@
+package com.example.board.global.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 접근 로그용 다중 생산자 / 단일 소비자 링 버퍼 (잠금 없음)
+ *
+ * - 생산자(요청 스레드)는 CAS로 순번을 하나 잡고, 그 슬롯에 값을 채운 뒤 published에 순번을 기록한다.
+ * - 소비자가 아직 읽지 않은 슬롯까지 한 바퀴 돌아오면 기다리지 않고 버린 뒤 건수만 센다.
+ * - 소비자는 published가 기대 순번과 같은 슬롯까지만 읽으므로 채우는 중인 슬롯을 보지 않는다.
+ * 슬롯 객체는 생성 시 모두 만들어 두어 요청 경로에서 할당이 없다.
+ */
+public class AccessLogRingBuffer {
+    private final AccessLogRecord[] slots;
+    private final AtomicLongArray published; // 슬롯별로 마지막으로 채워진 순번
+    private final int mask;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed; // 소비자만 갱신 (다음에 읽을 순번)
+    private final LongAdder dropped = new LongAdder();
+
+    public AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1; // 2의 거듭제곱으로 올림
+        this.slots = new AccessLogRecord[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AccessLogRecord();
+            published.set(i, -1L);
+        }
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    // 요청 스레드에서 호출. 가득 찼으면 false (기다리지 않는다)
+    public boolean publish(long timestampMillis, String method, String route, int status,
+                           long latencyMicros, long userId, int queries) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        AccessLogRecord slot = slots[index];
+        slot.timestampMillis = timestampMillis;
+        slot.method = method;
+        slot.route = route;
+        slot.status = status;
+        slot.latencyMicros = latencyMicros;
+        slot.userId = userId;
+        slot.queries = queries;
+        published.lazySet(index, sequence); // 위 필드 기록 이후에 보이도록 (release)
+        return true;
+    }
+
+    // 소비자 스레드 전용. 채워진 슬롯을 순서대로 최대 max개 넘기고 읽은 수를 돌려준다
+    // (넘겨받은 객체는 이 호출 안에서만 유효하다)
+    public int drain(Consumer<AccessLogRecord> consumer, int max) {
+        long next = consumed;
+        int count = 0;
+        while (count < max) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            consumer.accept(slots[index]);
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            consumed = next; // 이제 생산자가 이 슬롯들을 다시 쓸 수 있다
+        }
+        return count;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long published() {
+        return claimed.get();
+    }
+}
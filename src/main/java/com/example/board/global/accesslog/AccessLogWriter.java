@@ -0,0 +1,235 @@
+package com.example.board.global.accesslog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 접근 로그 소비자: 링 버퍼를 비우며 JSON Lines로 파일에 쓴다
+ *
+ * 전용 스레드 하나가 버퍼에서 꺼낸 기록을 직접 바이트 버퍼에 인코딩하고(객체/문자열 생성 없이),
+ * 버퍼가 차거나 더 꺼낼 것이 없을 때 FileChannel로 한 번에 쓴다.
+ * 파일이 max-file-size를 넘으면 access.log -> access.log.1 -> ... 순으로 밀고 max-history개까지만 남긴다.
+ * 생산자 쪽에서 버려진 기록이 생기면 {"event":"dropped"} 줄로 그 사이 건수를 남긴다.
+ */
+@Slf4j
+public class AccessLogWriter implements AutoCloseable {
+    private static final int BATCH = 512;
+    private static final int FLUSH_AT = 56 * 1024; // 한 줄이 이보다 길어질 일은 없다
+
+    private final AccessLogRingBuffer ring;
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final long idleNanos;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private FileChannel channel;
+    private long fileSize;
+    private long reportedDrops;
+    private int pendingLines;      // 버퍼에 인코딩됐지만 아직 파일에 쓰지 않은 줄
+    private volatile long written; // 소비자 스레드만 증가
+
+    public AccessLogWriter(AccessLogRingBuffer ring, Path file, long maxFileSize, int maxHistory, Duration idle) {
+        this.ring = ring;
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        this.idleNanos = idle.toNanos();
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("접근 로그 파일을 열 수 없습니다: " + file, e);
+        }
+        this.thread = Thread.ofPlatform().name("access-log-writer").daemon().unstarted(this::run);
+        thread.start();
+    }
+
+    // 파일에 쓴 접근 로그 줄 수
+    public long written() {
+        return written;
+    }
+
+    private void run() {
+        while (running) {
+            if (pump() == 0) {
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+        pump(); // 종료 직전까지 들어온 것
+    }
+
+    // 버퍼를 한 번 비우고 파일에 쓴다 (꺼낸 건수 반환)
+    int pump() {
+        int drained = 0;
+        int count;
+        do {
+            count = ring.drain(this::encode, BATCH);
+            drained += count;
+        } while (count == BATCH);
+        encodeDrops();
+        flushQuietly();
+        return drained;
+    }
+
+    private void encode(AccessLogRecord record) {
+        if (buffer.position() >= FLUSH_AT) {
+            flushQuietly();
+        }
+        ascii("{\"ts\":").number(record.timestampMillis())
+                .ascii(",\"method\":").string(record.method())
+                .ascii(",\"route\":").string(record.route())
+                .ascii(",\"status\":").number(record.status())
+                .ascii(",\"latencyUs\":").number(record.latencyMicros());
+        if (record.userId() > 0) {
+            ascii(",\"userId\":").number(record.userId());
+        }
+        if (record.queries() >= 0) {
+            ascii(",\"queries\":").number(record.queries());
+        }
+        ascii("}\n");
+        pendingLines++;
+    }
+
+    private void encodeDrops() {
+        long drops = ring.dropped();
+        if (drops > reportedDrops) {
+            ascii("{\"ts\":").number(System.currentTimeMillis())
+                    .ascii(",\"event\":\"dropped\",\"count\":").number(drops - reportedDrops)
+                    .ascii(",\"total\":").number(drops)
+                    .ascii("}\n");
+            reportedDrops = drops;
+        }
+    }
+
+    private AccessLogWriter ascii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+        return this;
+    }
+
+    private AccessLogWriter number(long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + (value / divisor) % 10));
+        }
+        return this;
+    }
+
+    // 매핑 패턴은 대개 ASCII라 바로 쓰고, 아니면 UTF-8로 인코딩한다 (최대 512자)
+    private AccessLogWriter string(String value) {
+        if (value == null) {
+            return ascii("null");
+        }
+        buffer.put((byte) '"');
+        int length = Math.min(value.length(), 512);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                buffer.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                buffer.put((byte) ' ');
+            } else if (c < 0x80) {
+                buffer.put((byte) c);
+            } else {
+                buffer.put(value.substring(i, length).replace("\\", "\\\\").replace("\"", "\\\"")
+                        .getBytes(StandardCharsets.UTF_8));
+                break;
+            }
+        }
+        buffer.put((byte) '"');
+        return this;
+    }
+
+    // 디스크 문제로 소비를 멈추지 않는다 (이번 버퍼는 버리고 다음 기록부터 다시 시도)
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            buffer.clear();
+            pendingLines = 0;
+            log.warn("접근 로그 기록 실패", e);
+        }
+    }
+
+    private void flush() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        if (!channel.isOpen()) {
+            open(); // 이전 파일 교체가 중간에 실패한 경우
+        }
+        buffer.flip();
+        if (fileSize > 0 && fileSize + buffer.remaining() > maxFileSize) {
+            roll();
+        }
+        while (buffer.hasRemaining()) {
+            fileSize += channel.write(buffer);
+        }
+        buffer.clear();
+        written += pendingLines;
+        pendingLines = 0;
+    }
+
+    // access.log.(n-1) -> access.log.n ... access.log -> access.log.1, 가장 오래된 것은 지운다
+    private void roll() throws IOException {
+        channel.close();
+        Files.deleteIfExists(history(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path source = history(i);
+            if (Files.exists(source)) {
+                Files.move(source, history(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxHistory > 0) {
+            Files.move(file, history(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path history(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    // 남은 기록을 쓰고 파일을 닫는다
+    @Override
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        channel.close();
+    }
+}
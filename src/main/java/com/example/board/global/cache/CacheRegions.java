@@ -0,0 +1,11 @@
+package com.example.board.global.cache;
+
+// Hibernate 2차 캐시 리전 이름 (리전마다 TTL과 최대 개수는 SecondLevelCacheConfig에서 정한다)
+public final class CacheRegions {
+    public static final String CATEGORY = "board.category";
+    public static final String USER = "board.user";
+    public static final String CATEGORY_QUERIES = "board.category.queries"; // 카테고리 목록/이름 조회 결과
+
+    private CacheRegions() {
+    }
+}
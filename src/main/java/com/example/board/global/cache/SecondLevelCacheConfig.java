@@ -0,0 +1,90 @@
+package com.example.board.global.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Category / User 엔티티와 카테고리 조회 결과의 Hibernate 2차 캐시 (board.cache.second-level.enabled=false면 끈다)
+ *
+ * JCache(Caffeine)로 프로세스 안에 리전마다 최대 개수와 TTL을 둔 캐시를 만들어 Hibernate에 넘긴다.
+ * 엔티티 리전은 READ_WRITE 전략이라 이 노드에서의 수정은 커밋과 함께 반영되고,
+ * 다른 노드나 대량 가져오기처럼 Hibernate를 거치지 않은 변경은 TTL이 지나면 반영된다.
+ * 리전별로 cache.gets{result=hit|miss}, cache.evictions, cache.size 메트릭을 cache 태그로 남긴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${board.cache.second-level.category.ttl:10m}") Duration categoryTtl,
+            @Value("${board.cache.second-level.category.max-entries:1000}") long categoryMaxEntries,
+            @Value("${board.cache.second-level.user.ttl:10m}") Duration userTtl,
+            @Value("${board.cache.second-level.user.max-entries:10000}") long userMaxEntries,
+            @Value("${board.cache.second-level.queries.ttl:1m}") Duration queryTtl,
+            @Value("${board.cache.second-level.queries.max-entries:500}") long queryMaxEntries) {
+        // 컨텍스트마다 새 CacheManager (테스트처럼 한 JVM에 컨텍스트가 여럿 떠도 리전을 공유하지 않도록)
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("board:hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, CacheRegions.CATEGORY, categoryTtl, categoryMaxEntries);
+        createRegion(cacheManager, CacheRegions.USER, userTtl, userMaxEntries);
+        createRegion(cacheManager, CacheRegions.CATEGORY_QUERIES, queryTtl, queryMaxEntries);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryTtl, queryMaxEntries);
+        // 테이블별 마지막 수정 시각. 빠지면 쿼리 캐시가 수정 전 결과를 최신으로 믿으므로 만료/제한 없이 둔다 (테이블 수만큼)
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null, 0);
+        return cacheManager;
+    }
+
+    // 미리 만든 리전만 쓰고, 엔티티에 오타 난 리전이 있으면 기동 시 실패시킨다
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : hibernateCacheManager.getCacheNames()) {
+                Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+                CaffeineCacheMetrics.monitor(registry, cache, region, "layer", "hibernate-l2");
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, Duration ttl, long maxEntries) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        configuration.setNativeStatisticsEnabled(true); // 메트릭용 적중/제거 통계
+        cacheManager.createCache(region, configuration);
+    }
+}
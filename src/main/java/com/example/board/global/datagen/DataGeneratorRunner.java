@@ -0,0 +1,79 @@
+package com.example.board.global.datagen;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.board.domain.search.service.PostSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 데이터 생성 CLI (generate 프로필에서만 실행, 웹 서버 없이 생성하고 종료)
+ *
+ * 실행: ./gradlew generateData -Pposts=100000 -Pseed=42
+ * 생성된 사용자는 gen<시드>_<번호> / board.datagen.password로 로그인할 수 있다.
+ */
+@Slf4j
+@Component
+@Profile("generate")
+@RequiredArgsConstructor
+public class DataGeneratorRunner implements ApplicationRunner {
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final PostSearchService postSearchService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${board.datagen.seed:42}") private long seed;
+    @Value("${board.datagen.users:10000}") private int users;
+    @Value("${board.datagen.categories:20}") private int categories;
+    @Value("${board.datagen.category-skew:1.1}") private double categorySkew;
+    @Value("${board.datagen.user-skew:0.8}") private double userSkew;
+    @Value("${board.datagen.posts:100000}") private int posts;
+    @Value("${board.datagen.days:365}") private int days;
+    @Value("${board.datagen.content-median:800}") private int contentMedian;
+    @Value("${board.datagen.comments-per-post:8}") private double commentsPerPost;
+    @Value("${board.datagen.reply-ratio:0.4}") private double replyRatio;
+    @Value("${board.datagen.reactions-per-post:10}") private double reactionsPerPost;
+    @Value("${board.datagen.popularity-alpha:1.3}") private double popularityAlpha;
+    @Value("${board.datagen.batch-size:1000}") private int batchSize;
+    @Value("${board.datagen.password:password1234!}") private String password;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DataShape shape = DataShape.builder()
+                .seed(seed)
+                .users(users)
+                .categories(categories)
+                .categorySkew(categorySkew)
+                .userSkew(userSkew)
+                .posts(posts)
+                .days(days)
+                .contentMedian(contentMedian)
+                .commentsPerPost(commentsPerPost)
+                .replyRatio(replyRatio)
+                .reactionsPerPost(reactionsPerPost)
+                .popularityAlpha(popularityAlpha)
+                .batchSize(batchSize)
+                .build();
+
+        SyntheticDataGenerator.Summary summary =
+                new SyntheticDataGenerator(dataSource, passwordEncoder.encode(password), shape).generate();
+        log.info("합성 데이터 생성 완료: 사용자 {}, 카테고리 {}, 게시글 {}, 댓글 {}, 좋아요 {}, 북마크 {}, {}ms",
+                summary.users(), summary.categories(), summary.posts(), summary.comments(),
+                summary.likes(), summary.bookmarks(), summary.elapsedMs());
+
+        // 생성한 게시글은 검색 색인을 거치지 않았으므로 다음 기동 때 전체 재색인하게 한다
+        postSearchService.invalidateIndex();
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
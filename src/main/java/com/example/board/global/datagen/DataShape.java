@@ -0,0 +1,24 @@
+package com.example.board.global.datagen;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 합성 데이터의 규모와 분포 (같은 값과 시드면 같은 모양의 데이터가 만들어진다)
+@Getter
+@Builder
+public class DataShape {
+    @Builder.Default private long seed = 42L;
+    @Builder.Default private int users = 10_000;
+    @Builder.Default private int categories = 20;
+    @Builder.Default private double categorySkew = 1.1;      // 카테고리별 게시글 수 Zipf 지수
+    @Builder.Default private double userSkew = 0.8;          // 사용자 활동량 Zipf 지수
+    @Builder.Default private int posts = 100_000;
+    @Builder.Default private int days = 365;                 // 게시글 작성 시각을 퍼뜨릴 기간
+    @Builder.Default private int contentMedian = 800;        // 본문 길이 중앙값 (로그 정규 분포)
+    @Builder.Default private double contentSigma = 0.9;
+    @Builder.Default private double commentsPerPost = 8.0;   // 게시글당 평균 댓글 수 (답글 포함)
+    @Builder.Default private double replyRatio = 0.4;        // 댓글 중 답글 비율
+    @Builder.Default private double reactionsPerPost = 10.0; // 게시글당 평균 좋아요/싫어요 수
+    @Builder.Default private double popularityAlpha = 1.3;   // 인기도 꼬리 두께 (작을수록 소수 게시글에 몰린다)
+    @Builder.Default private int batchSize = 1000;           // 한 트랜잭션에 만드는 게시글 수
+}
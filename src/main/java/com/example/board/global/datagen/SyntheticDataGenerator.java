@@ -0,0 +1,407 @@
+package com.example.board.global.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import com.example.board.domain.post.entity.CompressedTextConverter;
+import com.example.board.domain.post.entity.LikeType;
+import com.example.board.domain.post.entity.Post;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벤치마크/부하 테스트용 합성 데이터 생성기
+ *
+ * - 카테고리별 게시글 수와 사용자 활동량은 Zipf 분포를 따른다 (소수 카테고리/사용자에 몰림).
+ * - 본문 길이는 로그 정규 분포, 좋아요/북마크/댓글 수는 꼬리가 두꺼운 Lomax(Pareto II) 분포다.
+ * - 댓글은 최상위 댓글과 그 답글로 이루어지고, 앞선 댓글일수록 답글이 많이 달린다.
+ * 게시글 i의 내용은 (시드, i)로만 정해지므로 같은 DataShape면 어느 DB에서든 같은 모양이 된다.
+ * 작성 시각은 실행한 날 0시를 끝으로 days일에 고르게 퍼뜨리고, ID 순서와 시간 순서가 같다.
+ * 엔티티를 거치지 않고 JDBC 배치로 바로 넣으며, ID는 시퀀스 구간을 미리 예약해 쓴다.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+    private static final int ID_BLOCK_SIZE = 50; // 엔티티 allocationSize
+    private static final int MAX_COMMENTS_PER_POST = 2_000;
+    private static final double DISLIKE_RATIO = 0.15;
+    private static final double BOOKMARK_RATIO = 0.3;
+    private static final double DELETED_COMMENT_RATIO = 0.02;
+    private static final String[] CATEGORY_NAMES = {
+            "자유게시판", "질문답변", "개발", "취업", "스터디", "프로젝트", "유머", "일상", "공지사항", "후기",
+            "자바", "스프링", "데이터베이스", "프론트엔드", "인프라", "알고리즘", "게임", "여행", "음식", "건의사항"
+    };
+
+    // 현재 시퀀스 위치와 테이블 최대 ID 중 큰 값 뒤로 count개를 예약하고 첫 ID를 돌려준다.
+    // 예약 구간 뒤에 한 블록을 비워 두어 다음 pooled 구간(v-49 ~ v)과 겹치지 않게 한다.
+    private static final String RESERVE_IDS =
+            "SELECT setval('%1$s', GREATEST((SELECT last_value FROM %1$s), " +
+            "(SELECT COALESCE(MAX(%3$s), 0) FROM %2$s)) + ? + " + ID_BLOCK_SIZE + ", false) - ? - " + (ID_BLOCK_SIZE - 1);
+
+    private static final String USER_INSERT =
+            "INSERT INTO users (user_id, login_id, password, username, role, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'USER', ?, ?)";
+    private static final String CATEGORY_INSERT =
+            "INSERT INTO category (category_id, name, created_at, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (name) DO NOTHING";
+    private static final String POST_INSERT =
+            "INSERT INTO post (post_id, user_id, category_id, title, excerpt, view_count, like_count, " +
+            "dislike_count, bookmark_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String POST_CONTENT_INSERT =
+            "INSERT INTO post_content (post_id, body, created_at, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String COMMENT_INSERT =
+            "INSERT INTO comment (comment_id, content, user_id, parent_id, post_id, is_deleted, created_at, updated_at) " +
+            "VALUES (?, lo_from_bytea(0, convert_to(?, 'UTF8')), ?, ?, ?, ?, ?, ?)";
+    private static final String LIKE_INSERT =
+            "INSERT INTO post_like (post_like_id, post_id, user_id, like_type, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String BOOKMARK_INSERT =
+            "INSERT INTO bookmark (bookmark_id, user_id, post_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    public record Summary(long users, long categories, long posts, long comments, long likes, long bookmarks,
+                          long elapsedMs) {}
+
+    record PlannedComment(int parent, int userRank, String content, boolean deleted, LocalDateTime createdAt) {}
+
+    record PlannedReaction(int userRank, LikeType likeType, LocalDateTime createdAt) {}
+
+    record PlannedPost(int userRank, int categoryRank, String title, String content, long views,
+                       LocalDateTime createdAt, List<PlannedComment> comments,
+                       List<PlannedReaction> likes, List<PlannedReaction> bookmarks) {
+
+        long count(LikeType likeType) {
+            return likes.stream().filter(like -> like.likeType() == likeType).count();
+        }
+    }
+
+    private final DataSource dataSource;
+    private final String passwordHash;
+    private final DataShape shape;
+    private final ZipfDistribution userDistribution;
+    private final ZipfDistribution categoryDistribution;
+    private final LocalDateTime start;
+
+    public SyntheticDataGenerator(DataSource dataSource, String passwordHash, DataShape shape) {
+        this(dataSource, passwordHash, shape, LocalDate.now().atStartOfDay());
+    }
+
+    SyntheticDataGenerator(DataSource dataSource, String passwordHash, DataShape shape, LocalDateTime end) {
+        this.dataSource = dataSource;
+        this.passwordHash = passwordHash;
+        this.shape = shape;
+        this.userDistribution = new ZipfDistribution(shape.getUsers(), shape.getUserSkew());
+        this.categoryDistribution = new ZipfDistribution(shape.getCategories(), shape.getCategorySkew());
+        this.start = end.minusDays(shape.getDays());
+    }
+
+    public Summary generate() throws SQLException {
+        long startedAt = System.nanoTime();
+        long comments = 0;
+        long likes = 0;
+        long bookmarks = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            checkNotGenerated(connection);
+
+            long firstUserId = insertUsers(connection);
+            long[] categoryIds = insertCategories(connection);
+            connection.commit();
+            log.info("합성 데이터: 사용자 {}명, 카테고리 {}개 생성 (시드 {})", shape.getUsers(), categoryIds.length, shape.getSeed());
+
+            long lastReportAt = System.nanoTime();
+            for (int from = 0; from < shape.getPosts(); from += shape.getBatchSize()) {
+                int to = Math.min(from + shape.getBatchSize(), shape.getPosts());
+                List<PlannedPost> chunk = new ArrayList<>(to - from);
+                for (int index = from; index < to; index++) {
+                    chunk.add(plan(index));
+                }
+                long[] written = insertPosts(connection, chunk, firstUserId, categoryIds);
+                connection.commit();
+                comments += written[0];
+                likes += written[1];
+                bookmarks += written[2];
+
+                long now = System.nanoTime();
+                if (now - lastReportAt >= 10_000_000_000L || to == shape.getPosts()) {
+                    double seconds = (now - startedAt) / 1e9;
+                    log.info(String.format(Locale.ROOT,
+                            "합성 데이터: 게시글 %,d / %,d, 댓글 %,d, 좋아요 %,d, 북마크 %,d (%,.0f rows/s)",
+                            to, shape.getPosts(), comments, likes, bookmarks,
+                            (to + comments + likes + bookmarks) / Math.max(seconds, 1e-9)));
+                    lastReportAt = now;
+                }
+            }
+        }
+        return new Summary(shape.getUsers(), shape.getCategories(), shape.getPosts(), comments, likes, bookmarks,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 게시글 index 하나의 내용 (시드와 index만으로 정해진다)
+    PlannedPost plan(int index) {
+        SplittableRandom random = new SplittableRandom(shape.getSeed() ^ (index * 0x9E3779B97F4A7C15L));
+
+        int userRank = userDistribution.sample(random);
+        int categoryRank = categoryDistribution.sample(random);
+        double slotSeconds = shape.getDays() * 86_400.0 / shape.getPosts();
+        LocalDateTime createdAt = start.plusSeconds((long) ((index + random.nextDouble()) * slotSeconds));
+
+        String title = SyntheticText.title(random);
+        int length = (int) Math.round(Math.exp(Math.log(shape.getContentMedian()) + shape.getContentSigma() * random.nextGaussian()));
+        String content = SyntheticText.paragraphs(random, Math.clamp(length, 30, 20_000));
+
+        // 인기도(평균 1)가 반응과 댓글 수를 함께 끌어올린다
+        double popularity = lomax(random, shape.getPopularityAlpha());
+        int reactionCount = Math.min((int) (shape.getReactionsPerPost() * popularity), shape.getUsers());
+        List<PlannedReaction> likes = new ArrayList<>(reactionCount);
+        for (int reactor : distinctUsers(random, reactionCount)) {
+            LikeType likeType = random.nextDouble() < DISLIKE_RATIO ? LikeType.DISLIKE : LikeType.LIKE;
+            likes.add(new PlannedReaction(reactor, likeType, after(random, createdAt)));
+        }
+        int bookmarkCount = Math.min((int) (reactionCount * BOOKMARK_RATIO + random.nextDouble()), shape.getUsers());
+        List<PlannedReaction> bookmarks = new ArrayList<>(bookmarkCount);
+        for (int reactor : distinctUsers(random, bookmarkCount)) {
+            bookmarks.add(new PlannedReaction(reactor, null, after(random, createdAt)));
+        }
+
+        int commentCount = Math.min(
+                (int) (shape.getCommentsPerPost() * (popularity + lomax(random, shape.getPopularityAlpha())) / 2),
+                MAX_COMMENTS_PER_POST);
+        List<PlannedComment> comments = planComments(random, commentCount, createdAt);
+
+        long views = (long) (reactionCount + commentCount) * (15 + random.nextInt(30)) + random.nextInt(50);
+        return new PlannedPost(userRank, categoryRank, title, content, views, createdAt, comments, likes, bookmarks);
+    }
+
+    // 최상위 댓글 다음에 답글을 둔다. 답글의 부모는 앞쪽 댓글일수록 잘 뽑힌다 (먼저 단 댓글에 답글이 몰림)
+    private List<PlannedComment> planComments(SplittableRandom random, int count, LocalDateTime postCreatedAt) {
+        List<PlannedComment> comments = new ArrayList<>(count);
+        if (count == 0) {
+            return comments;
+        }
+        int topLevel = Math.max(1, (int) Math.round(count * (1 - shape.getReplyRatio())));
+        LocalDateTime at = postCreatedAt;
+        for (int i = 0; i < topLevel; i++) {
+            at = after(random, at);
+            comments.add(new PlannedComment(-1, userDistribution.sample(random), commentText(random),
+                    random.nextDouble() < DELETED_COMMENT_RATIO, at));
+        }
+        for (int i = topLevel; i < count; i++) {
+            int parent = (int) (topLevel * Math.pow(random.nextDouble(), 2));
+            comments.add(new PlannedComment(parent, userDistribution.sample(random), commentText(random),
+                    random.nextDouble() < DELETED_COMMENT_RATIO, after(random, comments.get(parent).createdAt())));
+        }
+        return comments;
+    }
+
+    private String commentText(SplittableRandom random) {
+        int length = (int) Math.round(Math.exp(Math.log(60) + 0.7 * random.nextGaussian()));
+        return SyntheticText.paragraphs(random, Math.clamp(length, 5, 1_000));
+    }
+
+    // 활동량 분포에 따라 서로 다른 사용자 count명 (겹치면 다시 뽑고, 너무 많이 겹치면 차례로 채운다)
+    private int[] distinctUsers(SplittableRandom random, int count) {
+        Set<Integer> picked = new HashSet<>(count * 2);
+        int attempts = count * 4;
+        while (picked.size() < count && attempts-- > 0) {
+            picked.add(userDistribution.sample(random));
+        }
+        int next = random.nextInt(shape.getUsers());
+        while (picked.size() < count) {
+            picked.add(next);
+            next = (next + 1) % shape.getUsers();
+        }
+        return picked.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    // 평균 1인 Lomax 분포 (λ = α - 1)
+    private static double lomax(SplittableRandom random, double alpha) {
+        return (alpha - 1) * (Math.pow(1 - random.nextDouble(), -1 / alpha) - 1);
+    }
+
+    // 기준 시각 뒤 평균 3시간 정도의 지수 분포 간격
+    private static LocalDateTime after(SplittableRandom random, LocalDateTime base) {
+        return base.plusSeconds((long) (-Math.log(1 - random.nextDouble()) * 3 * 3_600));
+    }
+
+    // 같은 시드로 이미 만든 데이터가 있으면 로그인 ID가 겹치므로 미리 막는다
+    private void checkNotGenerated(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT 1 FROM users WHERE login_id = ?")) {
+            select.setString(1, loginId(0));
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    throw new IllegalStateException("시드 " + shape.getSeed() + "로 만든 데이터가 이미 있습니다.");
+                }
+            }
+        }
+    }
+
+    private long insertUsers(Connection connection) throws SQLException {
+        long firstId = reserve(connection, "users_seq", "users", "user_id", shape.getUsers());
+        LocalDateTime joinedAt = start.minusDays(1);
+        try (PreparedStatement insert = connection.prepareStatement(USER_INSERT)) {
+            for (int rank = 0; rank < shape.getUsers(); rank++) {
+                insert.setLong(1, firstId + rank);
+                insert.setString(2, loginId(rank));
+                insert.setString(3, passwordHash);
+                insert.setString(4, "사용자" + (rank + 1));
+                insert.setObject(5, joinedAt);
+                insert.setObject(6, joinedAt);
+                addBatch(insert, rank + 1);
+            }
+            insert.executeBatch();
+        }
+        return firstId;
+    }
+
+    // 같은 이름의 카테고리가 이미 있으면 그것을 쓴다
+    private long[] insertCategories(Connection connection) throws SQLException {
+        String[] names = new String[shape.getCategories()];
+        for (int rank = 0; rank < names.length; rank++) {
+            names[rank] = rank < CATEGORY_NAMES.length ? CATEGORY_NAMES[rank] : "게시판 " + (rank + 1);
+        }
+        long firstId = reserve(connection, "category_seq", "category", "category_id", names.length);
+        try (PreparedStatement insert = connection.prepareStatement(CATEGORY_INSERT)) {
+            for (int rank = 0; rank < names.length; rank++) {
+                insert.setLong(1, firstId + rank);
+                insert.setString(2, names[rank]);
+                insert.setObject(3, start);
+                insert.setObject(4, start);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        long[] ids = new long[names.length];
+        try (PreparedStatement select = connection.prepareStatement("SELECT category_id FROM category WHERE name = ?")) {
+            for (int rank = 0; rank < names.length; rank++) {
+                select.setString(1, names[rank]);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    ids[rank] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    // 게시글 묶음과 그 댓글/반응 저장. 저장한 (댓글, 좋아요, 북마크) 수를 돌려준다
+    private long[] insertPosts(Connection connection, List<PlannedPost> posts, long firstUserId, long[] categoryIds)
+            throws SQLException {
+        int comments = posts.stream().mapToInt(post -> post.comments().size()).sum();
+        int likes = posts.stream().mapToInt(post -> post.likes().size()).sum();
+        int bookmarks = posts.stream().mapToInt(post -> post.bookmarks().size()).sum();
+        long postId = reserve(connection, "post_seq", "post", "post_id", posts.size());
+        long commentId = reserve(connection, "comment_seq", "comment", "comment_id", comments);
+        long likeId = reserve(connection, "post_like_seq", "post_like", "post_like_id", likes);
+        long bookmarkId = reserve(connection, "bookmark_seq", "bookmark", "bookmark_id", bookmarks);
+
+        try (PreparedStatement postInsert = connection.prepareStatement(POST_INSERT);
+             PreparedStatement contentInsert = connection.prepareStatement(POST_CONTENT_INSERT);
+             PreparedStatement commentInsert = connection.prepareStatement(COMMENT_INSERT);
+             PreparedStatement likeInsert = connection.prepareStatement(LIKE_INSERT);
+             PreparedStatement bookmarkInsert = connection.prepareStatement(BOOKMARK_INSERT)) {
+            for (PlannedPost post : posts) {
+                postInsert.setLong(1, postId);
+                postInsert.setLong(2, firstUserId + post.userRank());
+                postInsert.setLong(3, categoryIds[post.categoryRank()]);
+                postInsert.setString(4, post.title());
+                postInsert.setString(5, Post.excerptOf(post.content()));
+                postInsert.setLong(6, post.views());
+                postInsert.setLong(7, post.count(LikeType.LIKE));
+                postInsert.setLong(8, post.count(LikeType.DISLIKE));
+                postInsert.setLong(9, post.bookmarks().size());
+                postInsert.setObject(10, post.createdAt());
+                postInsert.setObject(11, post.createdAt());
+                postInsert.addBatch();
+
+                contentInsert.setLong(1, postId);
+                contentInsert.setBytes(2, CompressedTextConverter.encode(post.content()));
+                contentInsert.setObject(3, post.createdAt());
+                contentInsert.setObject(4, post.createdAt());
+                contentInsert.addBatch();
+
+                long firstCommentId = commentId;
+                for (PlannedComment comment : post.comments()) {
+                    commentInsert.setLong(1, commentId++);
+                    commentInsert.setString(2, comment.content());
+                    commentInsert.setLong(3, firstUserId + comment.userRank());
+                    if (comment.parent() < 0) {
+                        commentInsert.setNull(4, Types.BIGINT);
+                    } else {
+                        commentInsert.setLong(4, firstCommentId + comment.parent());
+                    }
+                    commentInsert.setLong(5, postId);
+                    commentInsert.setBoolean(6, comment.deleted());
+                    commentInsert.setObject(7, comment.createdAt());
+                    commentInsert.setObject(8, comment.createdAt());
+                    commentInsert.addBatch();
+                }
+                for (PlannedReaction like : post.likes()) {
+                    likeInsert.setLong(1, likeId++);
+                    likeInsert.setLong(2, postId);
+                    likeInsert.setLong(3, firstUserId + like.userRank());
+                    likeInsert.setString(4, like.likeType().name());
+                    likeInsert.setObject(5, like.createdAt());
+                    likeInsert.setObject(6, like.createdAt());
+                    likeInsert.addBatch();
+                }
+                for (PlannedReaction bookmark : post.bookmarks()) {
+                    bookmarkInsert.setLong(1, bookmarkId++);
+                    bookmarkInsert.setLong(2, firstUserId + bookmark.userRank());
+                    bookmarkInsert.setLong(3, postId);
+                    bookmarkInsert.setObject(4, bookmark.createdAt());
+                    bookmarkInsert.setObject(5, bookmark.createdAt());
+                    bookmarkInsert.addBatch();
+                }
+                postId++;
+            }
+            // 댓글/반응 배치가 게시글보다 먼저 나가면 외래 키를 어기므로 묶음이 끝난 뒤 순서대로 보낸다
+            postInsert.executeBatch();
+            contentInsert.executeBatch();
+            commentInsert.executeBatch();
+            likeInsert.executeBatch();
+            bookmarkInsert.executeBatch();
+        }
+        return new long[] {comments, likes, bookmarks};
+    }
+
+    private void addBatch(PreparedStatement insert, int rows) throws SQLException {
+        insert.addBatch();
+        if (rows % shape.getBatchSize() == 0) {
+            insert.executeBatch();
+        }
+    }
+
+    private static long reserve(Connection connection, String sequence, String table, String idColumn, int count)
+            throws SQLException {
+        if (count == 0) {
+            return 0;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                String.format(Locale.ROOT, RESERVE_IDS, sequence, table, idColumn))) {
+            statement.setInt(1, count);
+            statement.setInt(2, count);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private String loginId(int rank) {
+        return "gen" + shape.getSeed() + "_" + (rank + 1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.board.global.datagen;
+
+import java.util.random.RandomGenerator;
+
+// 게시판 글처럼 보이는 제목/본문/댓글 문장 생성 (어휘 목록에서 뽑아 이어 붙인다)
+final class SyntheticText {
+    private static final String[] WORDS = {
+            "오늘", "어제", "요즘", "혹시", "정말", "그냥", "진짜", "다들", "처음", "다시",
+            "질문", "답변", "후기", "정리", "공유", "추천", "비교", "문제", "해결", "방법",
+            "스프링", "자바", "데이터베이스", "인덱스", "쿼리", "캐시", "서버", "배포", "테스트", "성능",
+            "게시판", "댓글", "좋아요", "북마크", "검색", "랭킹", "카테고리", "사용자", "로그인", "설정",
+            "있습니다", "없습니다", "했는데요", "같아요", "봤습니다", "됩니다", "안되네요", "궁금합니다", "좋네요", "어렵네요",
+            "그래서", "그런데", "하지만", "그리고", "결국", "일단", "아마", "역시", "특히", "생각보다",
+            "Spring", "JPA", "PostgreSQL", "Redis", "Docker", "Gradle", "API", "JSON", "SQL", "GC"
+    };
+    private static final String[] ENDINGS = {".", ".", ".", "?", "!", "..."};
+
+    private SyntheticText() {
+    }
+
+    static String title(RandomGenerator random) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(6);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(word(random));
+        }
+        return title.toString();
+    }
+
+    // 대략 length자 본문 (문장 6~14단어, 가끔 문단 나눔)
+    static String paragraphs(RandomGenerator random, int length) {
+        StringBuilder text = new StringBuilder(length + 32);
+        while (text.length() < length) {
+            int words = 6 + random.nextInt(9);
+            for (int i = 0; i < words; i++) {
+                if (i > 0) {
+                    text.append(' ');
+                }
+                text.append(word(random));
+            }
+            text.append(ENDINGS[random.nextInt(ENDINGS.length)]);
+            text.append(random.nextInt(5) == 0 ? "\n\n" : " ");
+        }
+        return text.toString().strip();
+    }
+
+    private static String word(RandomGenerator random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.board.global.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 배경 작업 표시: 이 메서드(클래스면 모든 public 메서드) 안에서 잡는 DB 커넥션은 batch 풀에서 꺼낸다
+ *
+ * 주기 작업이나 대량 읽기/쓰기가 사용자 요청과 커넥션을 다투지 않게 하기 위한 것이다.
+ * 이미 다른 풀의 커넥션을 잡은 트랜잭션 안에서 호출되면 그 커넥션을 계속 쓴다.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BatchJob {
+}
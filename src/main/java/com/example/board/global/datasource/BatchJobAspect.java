@@ -0,0 +1,26 @@
+package com.example.board.global.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// @BatchJob 메서드를 batch 격벽에서 실행한다 (트랜잭션 시작보다 먼저 적용되도록 가장 바깥 순서)
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BatchJobAspect {
+
+    @Around("@annotation(com.example.board.global.datasource.BatchJob) "
+            + "|| @within(com.example.board.global.datasource.BatchJob)")
+    public Object inBatchBulkhead(ProceedingJoinPoint joinPoint) throws Throwable {
+        Bulkhead previous = BulkheadContext.enter(Bulkhead.BATCH);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            BulkheadContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.board.global.datasource;
+
+// 커넥션 풀 격벽 (풀 이름은 메트릭의 pool 태그로 쓰인다)
+public enum Bulkhead {
+    INTERACTIVE_READ("interactive-read"),   // 사용자 요청의 읽기 전용 트랜잭션
+    INTERACTIVE_WRITE("interactive-write"), // 사용자 요청의 쓰기 트랜잭션 (트랜잭션 밖 접근 포함)
+    BATCH("batch");                         // @BatchJob: 스냅샷, 색인 구축, 내보내기/가져오기 등
+
+    private final String poolName;
+
+    Bulkhead(String poolName) {
+        this.poolName = poolName;
+    }
+
+    public String poolName() {
+        return poolName;
+    }
+}
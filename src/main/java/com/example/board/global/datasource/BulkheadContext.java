@@ -0,0 +1,31 @@
+package com.example.board.global.datasource;
+
+/**
+ * 현재 스레드가 트랜잭션 속성과 상관없이 쓸 격벽 (BatchJob 처리용)
+ *
+ * enter()가 돌려준 이전 값을 restore()에 넘겨 중첩 호출에서도 바깥 값을 되돌려 놓는다.
+ */
+public final class BulkheadContext {
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    public static Bulkhead current() {
+        return CURRENT.get();
+    }
+
+    public static Bulkhead enter(Bulkhead bulkhead) {
+        Bulkhead previous = CURRENT.get();
+        CURRENT.set(bulkhead);
+        return previous;
+    }
+
+    public static void restore(Bulkhead previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.board.global.datasource;
+
+import java.sql.Connection;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 애플리케이션이 쓰는 DataSource: 지연 커넥션 프록시 + 격벽 라우팅
+ *
+ * 트랜잭션 시작 시에는 실제 커넥션 없이 핸들만 돌려주고, 첫 문장을 실행할 때
+ * BulkheadRoutingDataSource가 그 시점의 트랜잭션 속성으로 풀을 고른다.
+ * 기본 자동 커밋/격리 수준은 풀 설정과 같게 미리 지정해 기동 시 커넥션을 빌리지 않는다.
+ */
+public class BulkheadDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final BulkheadRoutingDataSource routing;
+
+    public BulkheadDataSource(BulkheadRoutingDataSource routing) {
+        this.routing = routing;
+        setTargetDataSource(routing);
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED); // PostgreSQL 기본값
+        afterPropertiesSet();
+    }
+
+    public BulkheadRoutingDataSource routing() {
+        return routing;
+    }
+
+    @Override
+    public void close() {
+        routing.close();
+    }
+}
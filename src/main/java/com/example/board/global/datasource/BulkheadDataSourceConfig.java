@@ -0,0 +1,103 @@
+package com.example.board.global.datasource;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 커넥션 풀 격벽과 읽기/쓰기 분리 구성 (board.datasource.bulkheads.enabled=false면 Spring Boot 기본 단일 풀)
+ *
+ * 접속 정보(spring.datasource.url 등)와 공통 Hikari 설정(spring.datasource.hikari.*)은 그대로 쓰고,
+ * 풀 크기와 커넥션 대기 시간만 격벽별로 둔다. interactive-read 풀만 board.datasource.replica.*로 연결하며,
+ * 지정하지 않으면 주 DB를 그대로 쓴다 (로컬/테스트에서는 두 경로가 같은 DB).
+ * 각 풀은 hikaricp.connections.* 메트릭에 pool=interactive-read 식으로 구분되고,
+ * PostgreSQL에는 application_name=board-<풀 이름>으로 보인다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.bulkheads.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    public BulkheadDataSource dataSource(Environment environment,
+                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                         @Value("${spring.datasource.url}") String url,
+                                         @Value("${spring.datasource.username:}") String username,
+                                         @Value("${spring.datasource.password:}") String password,
+                                         @Value("${board.datasource.replica.url:${spring.datasource.url}}") String replicaUrl,
+                                         @Value("${board.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+                                         @Value("${board.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+                                         @Value("${board.datasource.bulkheads.interactive-read.maximum-pool-size:10}") int readPoolSize,
+                                         @Value("${board.datasource.bulkheads.interactive-read.connection-timeout:2s}") Duration readTimeout,
+                                         @Value("${board.datasource.bulkheads.interactive-write.maximum-pool-size:5}") int writePoolSize,
+                                         @Value("${board.datasource.bulkheads.interactive-write.connection-timeout:3s}") Duration writeTimeout,
+                                         @Value("${board.datasource.bulkheads.batch.maximum-pool-size:3}") int batchPoolSize,
+                                         @Value("${board.datasource.bulkheads.batch.connection-timeout:30s}") Duration batchTimeout) {
+        Binder binder = Binder.get(environment);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        MetricsTrackerFactory metrics = registry != null ? new MicrometerMetricsTrackerFactory(registry) : null;
+
+        Map<Bulkhead, HikariDataSource> pools = new EnumMap<>(Bulkhead.class);
+        pools.put(Bulkhead.INTERACTIVE_READ, createPool(hikariConfig(binder, replicaUrl, replicaUsername, replicaPassword),
+                Bulkhead.INTERACTIVE_READ, readPoolSize, readTimeout, metrics));
+        pools.put(Bulkhead.INTERACTIVE_WRITE, createPool(hikariConfig(binder, url, username, password),
+                Bulkhead.INTERACTIVE_WRITE, writePoolSize, writeTimeout, metrics));
+        pools.put(Bulkhead.BATCH, createPool(hikariConfig(binder, url, username, password),
+                Bulkhead.BATCH, batchPoolSize, batchTimeout, metrics));
+        return new BulkheadDataSource(new BulkheadRoutingDataSource(pools, registry));
+    }
+
+    // 쓰기 직후 같은 세션의 읽기를 주 DB로 보내는 구간 (0이면 끈다, 복제본이 없으면 의미 없음)
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${board.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    // 풀마다 새로 바인딩한다 (HikariConfig의 dataSourceProperties를 풀끼리 공유하지 않도록)
+    private static HikariConfig hikariConfig(Binder binder, String url, String username, String password) {
+        HikariConfig config = binder.bind("spring.datasource.hikari", Bindable.ofInstance(new HikariConfig()))
+                .orElseGet(HikariConfig::new);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        return config;
+    }
+
+    // 풀은 첫 커넥션 요청 때 연결을 만든다 (기동 순서와 상관없이 DB가 늦게 떠도 된다)
+    static HikariDataSource createPool(HikariConfig config, Bulkhead bulkhead, int maximumPoolSize,
+                                       Duration connectionTimeout, MetricsTrackerFactory metrics) {
+        config.setPoolName(bulkhead.poolName());
+        config.setMaximumPoolSize(maximumPoolSize);
+        if (config.getMinimumIdle() > maximumPoolSize) {
+            config.setMinimumIdle(maximumPoolSize);
+        }
+        config.setConnectionTimeout(connectionTimeout.toMillis());
+        config.addDataSourceProperty("ApplicationName", "board-" + bulkhead.poolName());
+        if (metrics != null) {
+            config.setMetricsTrackerFactory(metrics);
+        }
+        HikariDataSource pool = new HikariDataSource();
+        config.copyStateTo(pool);
+        return pool;
+    }
+}
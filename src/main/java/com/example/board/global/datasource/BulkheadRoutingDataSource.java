@@ -0,0 +1,81 @@
+package com.example.board.global.datasource;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 커넥션을 잡는 시점의 작업 성격에 따라 격벽 풀 중 하나로 보낸다
+ *
+ * 1. BulkheadContext에 지정된 격벽이 있으면 그 풀 (@BatchJob)
+ * 2. 읽기 전용 트랜잭션이면 interactive-read (복제본), 단 최근에 쓴 세션의 요청이면 interactive-write
+ *    (쓰기 트랜잭션이라고 모두 "쓴 세션"이 되지는 않는다. 조회수 증가 같은 부수 쓰기는 제외하도록
+ *     사용자가 내용을 바꾸는 서비스 메서드가 직접 ReadYourWrites.markWrite()를 부른다)
+ * 3. 나머지(쓰기 트랜잭션, 트랜잭션 밖)는 interactive-write
+ * 트랜잭션 매니저는 readOnly 표시를 커넥션을 받은 뒤에 하므로, 이 데이터소스는
+ * LazyConnectionDataSourceProxy 뒤에 두어 첫 문장 실행 때 실제 커넥션을 고르게 한다.
+ * 결정마다 board.db.routing{pool, reason} 카운터를 올린다.
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final Map<Bulkhead, HikariDataSource> pools;
+    private final Map<RoutingDecision, Counter> decisions = new EnumMap<>(RoutingDecision.class);
+
+    public BulkheadRoutingDataSource(Map<Bulkhead, HikariDataSource> pools, MeterRegistry registry) {
+        this.pools = Collections.unmodifiableMap(new EnumMap<>(pools));
+        if (registry != null) {
+            for (RoutingDecision decision : RoutingDecision.values()) {
+                decisions.put(decision, Counter.builder("board.db.routing")
+                        .description("Physical connection acquisitions by target pool and routing reason")
+                        .tag("pool", decision.bulkhead().poolName())
+                        .tag("reason", decision.reason())
+                        .register(registry));
+            }
+        }
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(Bulkhead.INTERACTIVE_WRITE));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        RoutingDecision decision = decide();
+        Counter counter = decisions.get(decision);
+        if (counter != null) {
+            counter.increment();
+        }
+        return decision.bulkhead();
+    }
+
+    static RoutingDecision decide() {
+        if (BulkheadContext.current() == Bulkhead.BATCH) {
+            return RoutingDecision.BATCH;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return RoutingDecision.NO_TRANSACTION;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadYourWrites.pinnedToPrimary() ? RoutingDecision.READ_YOUR_WRITES : RoutingDecision.READ_ONLY;
+        }
+        return RoutingDecision.WRITE;
+    }
+
+    // 격벽별 풀 (메트릭용)
+    public Map<Bulkhead, HikariDataSource> pools() {
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.board.global.datasource;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * DataSource를 datasource-proxy로 한 번만 감싸고, 등록된 QueryExecutionListener 빈을 모두 붙인다
+ *
+ * 요청별 SQL 통계, 느린 쿼리 로그, 쿼리 마감 시간(statement timeout)은 각자 리스너 빈만 내놓는다.
+ * 켜진 기능이 하나도 없으면 감싸지 않는다. 리스너는 @Order 순서대로 불린다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceProxyConfig {
+
+    // DataSource 빈이 만들어지기 전에 등록되어야 하므로 static (리스너는 DataSource를 만날 때 꺼낸다)
+    @Bean
+    static BeanPostProcessor dataSourceProxy(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                List<QueryExecutionListener> ordered = listeners.orderedStream().toList();
+                if (ordered.isEmpty()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name("board");
+                ordered.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.board.global.datasource;
+
+/**
+ * 요청 스레드의 read-your-writes 상태
+ *
+ * ReadYourWritesFilter가 요청 시작 시 begin()으로 "최근에 쓴 세션인지"를 넘기고,
+ * 라우팅은 그런 요청(또는 이번 요청에서 이미 쓴 경우)의 읽기 전용 트랜잭션을 주 DB로 보낸다.
+ * "썼다"는 글/댓글/좋아요/북마크처럼 사용자가 다시 보게 될 쓰기를 하는 서비스가 markWrite()로 알린다.
+ * 요청 밖(배경 작업 등)에서는 상태가 없어 읽기 전용이면 항상 복제본을 쓴다.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin(boolean recentlyWrote) {
+        CURRENT.set(new State(recentlyWrote));
+    }
+
+    // 요청 종료. 이번 요청에서 쓰기 트랜잭션이 있었으면 true
+    public static boolean end() {
+        State state = CURRENT.get();
+        CURRENT.remove();
+        return state != null && state.wrote;
+    }
+
+    static boolean pinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && (state.recentlyWrote || state.wrote);
+    }
+
+    // 이번 요청이 사용자 쓰기를 했음을 표시 (이후 읽기와 window 동안의 다음 요청을 주 DB로)
+    public static void markWrite() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.wrote = true;
+        }
+    }
+
+    private static final class State {
+        private final boolean recentlyWrote;
+        private boolean wrote;
+
+        private State(boolean recentlyWrote) {
+            this.recentlyWrote = recentlyWrote;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.board.global.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 세션 단위 read-your-writes: 쓰기 후 window 동안 그 세션의 읽기를 주 DB에서 한다
+ *
+ * 복제 지연 때문에 글/댓글을 쓰고 리다이렉트된 화면에서 방금 쓴 내용이 안 보이는 일을 막는다.
+ * 마지막 쓰기 시각은 세션 속성으로 남긴다 (쓰기는 로그인 후에만 가능하므로 세션이 있다).
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String LAST_WRITE_AT = ReadYourWritesFilter.class.getName() + ".lastWriteAt";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWrites.begin(recentlyWrote(request.getSession(false)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (ReadYourWrites.end()) {
+                recordWrite(request.getSession(false));
+            }
+        }
+    }
+
+    private boolean recentlyWrote(HttpSession session) {
+        if (session == null || windowMillis <= 0) {
+            return false;
+        }
+        try {
+            return session.getAttribute(LAST_WRITE_AT) instanceof Long lastWriteAt
+                    && System.currentTimeMillis() - lastWriteAt < windowMillis;
+        } catch (IllegalStateException e) {
+            return false; // 무효화된 세션
+        }
+    }
+
+    private static void recordWrite(HttpSession session) {
+        if (session == null) {
+            return;
+        }
+        try {
+            session.setAttribute(LAST_WRITE_AT, System.currentTimeMillis());
+        } catch (IllegalStateException e) {
+            // 로그아웃 등으로 요청 중에 세션이 무효화됨
+        }
+    }
+}
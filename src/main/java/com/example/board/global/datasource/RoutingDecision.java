@@ -0,0 +1,30 @@
+package com.example.board.global.datasource;
+
+/**
+ * 커넥션을 잡을 때 어느 풀로 보냈는지와 그 이유 (board.db.routing 메트릭의 pool, reason 태그)
+ *
+ * interactive-read 풀은 복제본(board.datasource.replica.*)에, 나머지는 주 DB에 연결된다.
+ */
+public enum RoutingDecision {
+    READ_ONLY(Bulkhead.INTERACTIVE_READ, "read-only"),
+    READ_YOUR_WRITES(Bulkhead.INTERACTIVE_WRITE, "read-your-writes"), // 읽기 전용이지만 방금 쓴 세션
+    WRITE(Bulkhead.INTERACTIVE_WRITE, "write"),
+    NO_TRANSACTION(Bulkhead.INTERACTIVE_WRITE, "no-transaction"),
+    BATCH(Bulkhead.BATCH, "batch");
+
+    private final Bulkhead bulkhead;
+    private final String reason;
+
+    RoutingDecision(Bulkhead bulkhead, String reason) {
+        this.bulkhead = bulkhead;
+        this.reason = reason;
+    }
+
+    public Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    public String reason() {
+        return reason;
+    }
+}
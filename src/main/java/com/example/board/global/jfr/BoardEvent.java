@@ -0,0 +1,48 @@
+package com.example.board.global.jfr;
+
+import java.lang.management.ManagementFactory;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시판 도메인 작업 JFR 이벤트의 공통 부분
+ *
+ * 이벤트 구간 동안 현재 스레드가 할당한 바이트 수를 함께 기록한다.
+ * JFR 녹화가 켜져 있지 않으면 isEnabled()가 false라 할당량 조회도 하지 않는다.
+ * 스택 트레이스는 남기지 않는다 (게시글/사용자 ID로 충분하고, 수집 비용이 이벤트 본체보다 크다).
+ */
+@Category({"Board"})
+@StackTrace(false)
+abstract class BoardEvent extends Event {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the thread during the operation")
+    @DataAmount
+    long allocatedBytes;
+
+    // 구간 시작 (하위 클래스의 started(...) 팩토리가 필드를 채운 뒤 호출)
+    final void startMeasuring() {
+        if (isEnabled()) {
+            allocatedBytes = THREADS.getCurrentThreadAllocatedBytes();
+            begin();
+        }
+    }
+
+    // 구간 종료 후 기록 (예외로 끝난 작업은 호출하지 않아 기록되지 않는다)
+    public final void complete() {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocatedBytes;
+                commit();
+            }
+        }
+    }
+}
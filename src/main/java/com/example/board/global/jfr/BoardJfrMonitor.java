@@ -0,0 +1,215 @@
+package com.example.board.global.jfr;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Event;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시판 JFR 이벤트를 프로세스 안에서 구독해 작업별 지연/할당 통계를 낸다
+ *
+ * 기동 시 board.* 이벤트만 켠 RecordingStream을 열고, 스트림 스레드가 이벤트를 받아
+ * 작업별 링 버퍼(최근 window-size개)에 소요 시간과 할당량을 쌓는다.
+ * slow-threshold를 넘은 이벤트는 게시글/사용자 ID와 함께 로그로 남기고 최근 목록에 보관한다.
+ * 외부 도구 없이 GET /api/admin/jfr-stats로 확인하며, 같은 이벤트는 jcmd JFR.start로 파일에도 기록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class BoardJfrMonitor {
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            PostReadEvent.class, ReactionToggleEvent.class, CommentPageEvent.class,
+            BookmarkToggleEvent.class, PasswordHashEvent.class);
+    private static final String NAME_PREFIX = "board.";
+
+    private final int windowSize;
+    private final long slowNanos;
+    private final long passwordHashSlowNanos;
+    private final int maxSlowOperations;
+
+    private final Map<String, OperationWindow> operations = new ConcurrentHashMap<>();
+    private final Deque<JfrStatsResponse.SlowOperation> slowOperations = new ArrayDeque<>(); // this로 동기화
+
+    private RecordingStream stream;
+
+    public BoardJfrMonitor(@Value("${board.jfr.window-size:1024}") int windowSize,
+                           @Value("${board.jfr.slow-threshold:200ms}") Duration slowThreshold,
+                           @Value("${board.jfr.password-hash-slow-threshold:1s}") Duration passwordHashSlowThreshold,
+                           @Value("${board.jfr.max-slow-operations:100}") int maxSlowOperations) {
+        this.windowSize = Math.max(windowSize, 1);
+        this.slowNanos = slowThreshold.toNanos();
+        this.passwordHashSlowNanos = passwordHashSlowThreshold.toNanos();
+        this.maxSlowOperations = maxSlowOperations;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startStream() {
+        RecordingStream recordingStream = new RecordingStream();
+        // 스트림이 쓰는 임시 디스크 청크는 짧게만 보관한다 (통계는 메모리에 따로 쌓는다)
+        recordingStream.setMaxAge(Duration.ofMinutes(1));
+        for (Class<? extends Event> eventClass : EVENTS) {
+            recordingStream.enable(eventClass).withoutThreshold();
+        }
+        recordingStream.onEvent(this::onEvent);
+        recordingStream.onError(e -> log.warn("JFR 이벤트 처리 실패", e));
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("JFR 도메인 이벤트 구독 시작: {}", EVENTS.stream().map(Class::getSimpleName).toList());
+    }
+
+    @PreDestroy
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onEvent(RecordedEvent event) {
+        String name = event.getEventType().getName();
+        if (!name.startsWith(NAME_PREFIX)) {
+            return;
+        }
+        String operation = name.substring(NAME_PREFIX.length());
+        if (event.hasField("operation")) {
+            operation += "." + event.getString("operation");
+        }
+        RecordedThread thread = event.getThread();
+        record(operation, event.getDuration().toNanos(), event.getLong("allocatedBytes"),
+                event.hasField("postId") ? event.getLong("postId") : 0L,
+                event.hasField("userId") ? event.getLong("userId") : 0L,
+                thread != null ? thread.getJavaName() : null,
+                event.getStartTime());
+    }
+
+    // 이벤트 하나 반영 (스트림 스레드에서 호출)
+    void record(String operation, long durationNanos, long allocatedBytes,
+                long postId, long userId, String thread, Instant at) {
+        OperationWindow window = operations.computeIfAbsent(operation, key -> new OperationWindow(windowSize));
+        long threshold = operation.startsWith("PasswordHash") ? passwordHashSlowNanos : slowNanos;
+        boolean slow = durationNanos > threshold;
+        window.add(durationNanos, allocatedBytes, slow);
+        if (!slow) {
+            return;
+        }
+
+        JfrStatsResponse.SlowOperation slowOperation = JfrStatsResponse.SlowOperation.builder()
+                .operation(operation)
+                .at(at)
+                .durationMs(durationNanos / 1e6)
+                .allocatedBytes(allocatedBytes)
+                .postId(postId)
+                .userId(userId)
+                .thread(thread)
+                .build();
+        synchronized (this) {
+            slowOperations.addFirst(slowOperation);
+            while (slowOperations.size() > maxSlowOperations) {
+                slowOperations.removeLast();
+            }
+        }
+        log.warn("jfr slow operation={} durationMs={} allocatedBytes={} postId={} userId={} thread={}",
+                operation, String.format("%.1f", durationNanos / 1e6), allocatedBytes, postId, userId, thread);
+    }
+
+    // 작업별 통계 (p99 느린 순)와 최근 느린 작업
+    public JfrStatsResponse snapshot() {
+        List<JfrStatsResponse.Operation> stats = operations.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingDouble(JfrStatsResponse.Operation::getP99Ms).reversed())
+                .toList();
+        List<JfrStatsResponse.SlowOperation> slow;
+        synchronized (this) {
+            slow = new ArrayList<>(slowOperations);
+        }
+        return JfrStatsResponse.builder()
+                .windowSize(windowSize)
+                .operations(stats)
+                .slowOperations(slow)
+                .build();
+    }
+
+    public void reset() {
+        operations.clear();
+        synchronized (this) {
+            slowOperations.clear();
+        }
+    }
+
+    // 작업 하나의 최근 이벤트 링 버퍼 (스트림 스레드가 쓰고 조회 요청이 읽으므로 동기화)
+    private static final class OperationWindow {
+        private final long[] durations;
+        private final long[] allocations;
+        private long count;
+        private long slowCount;
+
+        private OperationWindow(int size) {
+            this.durations = new long[size];
+            this.allocations = new long[size];
+        }
+
+        private synchronized void add(long durationNanos, long allocatedBytes, boolean slow) {
+            int slot = (int) (count % durations.length);
+            durations[slot] = durationNanos;
+            allocations[slot] = allocatedBytes;
+            count++;
+            if (slow) {
+                slowCount++;
+            }
+        }
+
+        private JfrStatsResponse.Operation toResponse(String operation) {
+            long[] sortedDurations;
+            long[] allocationSamples;
+            long total;
+            long slow;
+            synchronized (this) {
+                int samples = (int) Math.min(count, durations.length);
+                sortedDurations = Arrays.copyOf(durations, samples);
+                allocationSamples = Arrays.copyOf(allocations, samples);
+                total = count;
+                slow = slowCount;
+            }
+            Arrays.sort(sortedDurations);
+            int samples = sortedDurations.length;
+            return JfrStatsResponse.Operation.builder()
+                    .operation(operation)
+                    .count(total)
+                    .samples(samples)
+                    .p50Ms(percentile(sortedDurations, 0.50) / 1e6)
+                    .p99Ms(percentile(sortedDurations, 0.99) / 1e6)
+                    .maxMs(samples > 0 ? sortedDurations[samples - 1] / 1e6 : 0)
+                    .avgAllocatedBytes(samples > 0 ? Arrays.stream(allocationSamples).sum() / samples : 0)
+                    .maxAllocatedBytes(Arrays.stream(allocationSamples).max().orElse(0))
+                    .slowCount(slow)
+                    .build();
+        }
+
+        // nearest-rank 백분위
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.board.global.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 북마크 토글
+@Name("board.BookmarkToggle")
+@Label("Bookmark Toggle")
+public class BookmarkToggleEvent extends BoardEvent {
+
+    @Label("Post Id")
+    long postId;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Bookmarked") // 토글 후 상태
+    boolean bookmarked;
+
+    public static BookmarkToggleEvent started(Long postId, Long userId) {
+        BookmarkToggleEvent event = new BookmarkToggleEvent();
+        event.postId = postId;
+        event.userId = userId;
+        event.startMeasuring();
+        return event;
+    }
+
+    public void complete(boolean bookmarked) {
+        this.bookmarked = bookmarked;
+        complete();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.board.global.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 게시글 댓글 한 페이지 조립 (부모 댓글 조회, 답글 IN 조회, DTO 변환)
+@Name("board.CommentPage")
+@Label("Comment Page Build")
+public class CommentPageEvent extends BoardEvent {
+
+    @Label("Post Id")
+    long postId;
+
+    @Label("Page")
+    int page;
+
+    @Label("Parent Comments")
+    int parents;
+
+    @Label("Replies")
+    int replies;
+
+    public static CommentPageEvent started(Long postId, int page) {
+        CommentPageEvent event = new CommentPageEvent();
+        event.postId = postId;
+        event.page = page;
+        event.startMeasuring();
+        return event;
+    }
+
+    public void complete(int parents, int replies) {
+        this.parents = parents;
+        this.replies = replies;
+        complete();
+    }
+}
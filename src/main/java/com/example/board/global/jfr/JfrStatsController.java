@@ -0,0 +1,32 @@
+package com.example.board.global.jfr;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jfr-stats")
+@ConditionalOnProperty(name = "board.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrStatsController {
+    private final BoardJfrMonitor boardJfrMonitor;
+
+    // 도메인 작업별 최근 지연/할당 통계와 느린 작업 목록
+    @GetMapping
+    public ResponseEntity<JfrStatsResponse> getStats() {
+        return ResponseEntity.ok(boardJfrMonitor.snapshot());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> resetStats() {
+        boardJfrMonitor.reset();
+        return ResponseEntity.ok(Map.of("message", "JFR 통계를 초기화했습니다."));
+    }
+}
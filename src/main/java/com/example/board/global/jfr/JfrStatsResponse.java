@@ -0,0 +1,41 @@
+package com.example.board.global.jfr;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class JfrStatsResponse {
+    private int windowSize;                  // 작업별로 통계를 내는 최근 이벤트 수
+    private List<Operation> operations;
+    private List<SlowOperation> slowOperations; // 최근 것부터
+
+    @Getter
+    @Builder
+    public static class Operation {
+        private String operation;            // 예: PostRead, PasswordHash.login
+        private long count;                  // 기동 후 누적 이벤트 수
+        private int samples;                 // 아래 통계에 쓰인 최근 이벤트 수
+        private double p50Ms;
+        private double p99Ms;
+        private double maxMs;
+        private long avgAllocatedBytes;
+        private long maxAllocatedBytes;
+        private long slowCount;              // 누적 느린 작업 수
+    }
+
+    @Getter
+    @Builder
+    public static class SlowOperation {
+        private String operation;
+        private Instant at;
+        private double durationMs;
+        private long allocatedBytes;
+        private long postId;                 // 해당 없으면 0
+        private long userId;                 // 비로그인/해당 없으면 0
+        private String thread;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.board.global.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 로그인 비밀번호 검증 / 가입 비밀번호 해시 (BCrypt, 의도적으로 느린 연산)
+@Name("board.PasswordHash")
+@Label("Password Hash")
+public class PasswordHashEvent extends BoardEvent {
+
+    @Label("Operation") // login, signup
+    String operation;
+
+    @Label("User Id") // 가입 시에는 아직 없으므로 0
+    long userId;
+
+    @Label("Matched") // 로그인 검증 결과 (가입은 항상 true)
+    boolean matched;
+
+    public static PasswordHashEvent started(String operation, Long userId) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = operation;
+        event.userId = userId != null ? userId : 0L;
+        event.startMeasuring();
+        return event;
+    }
+
+    public void complete(boolean matched) {
+        this.matched = matched;
+        complete();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.board.global.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 게시글 상세 조회 (조회수 증가, 랭킹 반영 포함)
+@Name("board.PostRead")
+@Label("Post Read")
+public class PostReadEvent extends BoardEvent {
+
+    @Label("Post Id")
+    long postId;
+
+    @Label("User Id") // 비로그인이면 0
+    long userId;
+
+    public static PostReadEvent started(Long postId, Long userId) {
+        PostReadEvent event = new PostReadEvent();
+        event.postId = postId;
+        event.userId = userId != null ? userId : 0L;
+        event.startMeasuring();
+        return event;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.board.global.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// 좋아요/싫어요 토글 (생성, 취소, 변경)
+@Name("board.ReactionToggle")
+@Label("Reaction Toggle")
+public class ReactionToggleEvent extends BoardEvent {
+
+    @Label("Post Id")
+    long postId;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Reaction")
+    String reaction;
+
+    @Label("Result") // created, cancelled, changed
+    String result;
+
+    public static ReactionToggleEvent started(Long postId, Long userId, String reaction) {
+        ReactionToggleEvent event = new ReactionToggleEvent();
+        event.postId = postId;
+        event.userId = userId;
+        event.reaction = reaction;
+        event.startMeasuring();
+        return event;
+    }
+
+    public void complete(String result) {
+        this.result = result;
+        complete();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.board.global.metrics;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.search.service.PostSearchService;
+import com.example.board.global.datasource.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시판 상태 게이지 (Actuator가 기본으로 만들지 않는 것만)
+ *
+ * - board.db.pool.saturation: 사용 중 커넥션 / 최대 커넥션, 격벽 풀마다 pool 태그로 구분
+ *   (hikaricp.connections.* 는 Hikari가 풀별로 등록)
+ * - board.search.flush.lag: 검색 색인에서 아직 디스크에 내려가지 않은 변경분의 최대 나이
+ * - board.search.pending.documents: 디스크에 내려가지 않은 색인 문서 수
+ * - board.ranking.snapshot.lag: 랭킹 점수가 스냅샷 테이블에 마지막으로 저장된 뒤 흐른 시간
+ * 아직 한 번도 기록하지 않았으면 NaN을 돌려 "0초 지연"으로 오해하지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardMeterBinder implements MeterBinder {
+    private final DataSource dataSource;
+    private final PostSearchService postSearchService;
+    private final PostRankingService postRankingService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        BulkheadDataSource bulkheads = unwrap(BulkheadDataSource.class);
+        if (bulkheads != null) {
+            bulkheads.routing().pools().forEach((bulkhead, pool) -> registerSaturation(registry, bulkhead.poolName(), pool));
+        } else {
+            HikariDataSource hikari = unwrap(HikariDataSource.class);
+            if (hikari != null) {
+                registerSaturation(registry, hikari.getPoolName(), hikari);
+            }
+        }
+
+        TimeGauge.builder("board.search.flush.lag", () -> lagMillis(postSearchService::lastFlushedAt),
+                        TimeUnit.MILLISECONDS)
+                .description("Upper bound on the age of search index changes not yet flushed to disk")
+                .register(registry);
+        Gauge.builder("board.search.pending.documents", postSearchService, PostSearchService::pendingDocuments)
+                .description("Indexed documents held only in the in-memory delta")
+                .register(registry);
+        TimeGauge.builder("board.ranking.snapshot.lag", () -> lagMillis(postRankingService::lastSnapshotAt),
+                        TimeUnit.MILLISECONDS)
+                .description("Time since ranking scores were last persisted to the snapshot table")
+                .register(registry);
+    }
+
+    private static void registerSaturation(MeterRegistry registry, String poolName, HikariDataSource pool) {
+        Gauge.builder("board.db.pool.saturation", pool, BoardMeterBinder::saturation)
+                .description("Active connections divided by the maximum pool size")
+                .tag("pool", poolName != null ? poolName : "default")
+                .register(registry);
+    }
+
+    private <T> T unwrap(Class<T> type) {
+        try {
+            return dataSource.isWrapperFor(type) ? dataSource.unwrap(type) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    // 풀은 첫 커넥션 요청 때 만들어지므로 그 전에는 NaN
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+
+    private static double lagMillis(LongSupplier lastAt) {
+        long at = lastAt.getAsLong();
+        return at > 0 ? System.currentTimeMillis() - at : Double.NaN;
+    }
+}
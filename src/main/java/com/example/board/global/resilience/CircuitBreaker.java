@@ -0,0 +1,119 @@
+package com.example.board.global.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과 기반 회로 차단기
+ *
+ * - CLOSED: 최근 windowSize번의 결과를 링으로 기록하고, minimumCalls 이상 쌓인 상태에서
+ *           실패율이 failureRateThreshold(%) 이상이면 OPEN
+ * - OPEN: openDuration 동안 호출을 거절한다 (DB에 부하를 더 얹지 않는다)
+ * - HALF_OPEN: 시험 호출 하나만 통과시켜 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN
+ * 호출 빈도가 요청 수 정도라 상태 전이는 단순하게 synchronized로 묶는다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] failed;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+
+    private State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration,
+                   LongSupplier nanoTime) {
+        this.failed = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.clamp(minimumCalls, 1, failed.length);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    // 호출해도 되면 true. false면 호출하지 말고 대체 응답을 쓴다
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoTime.getAsLong() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failed.length) {
+            if (failed[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        failed[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % failed.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoTime.getAsLong();
+        probing = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probing = false;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
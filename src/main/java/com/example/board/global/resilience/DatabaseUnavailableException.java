@@ -0,0 +1,9 @@
+package com.example.board.global.resilience;
+
+// DB가 응답하지 않고 대신 보여줄 스냅샷도 없을 때 (503)
+public class DatabaseUnavailableException extends RuntimeException {
+
+    public DatabaseUnavailableException(Throwable cause) {
+        super("데이터베이스 응답이 없어 잠시 후 다시 시도해 주세요.", cause);
+    }
+}
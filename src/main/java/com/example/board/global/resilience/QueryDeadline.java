@@ -0,0 +1,20 @@
+package com.example.board.global.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 핸들러가 실행하는 쿼리 전체의 마감 시간 (요청이 핸들러에 들어온 시점부터)
+ *
+ * 값은 Duration 문자열이며 플레이스홀더를 쓸 수 있다. 예: "${board.resilience.query-deadline.home:1s}"
+ * 붙이지 않은 핸들러는 board.resilience.query-deadline.default를 쓴다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryDeadline {
+    String value();
+}
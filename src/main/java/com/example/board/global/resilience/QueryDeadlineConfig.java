@@ -0,0 +1,31 @@
+package com.example.board.global.resilience;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+
+// 요청별 쿼리 마감 시각 -> JDBC statement timeout, board.resilience.query-deadline.enabled=false로 끈다
+@Configuration
+@ConditionalOnProperty(name = "board.resilience.query-deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryDeadlineConfig {
+
+    @Bean
+    public QueryDeadlineInterceptor queryDeadlineInterceptor(
+            Environment environment,
+            @Value("${board.resilience.query-deadline.default:5s}") Duration defaultDeadline) {
+        return new QueryDeadlineInterceptor(environment, defaultDeadline);
+    }
+
+    // 마감이 지난 문장은 DB에 보내기 전에 실패시키므로 다른 리스너보다 먼저 불린다
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static StatementTimeoutListener statementTimeoutListener() {
+        return new StatementTimeoutListener();
+    }
+}
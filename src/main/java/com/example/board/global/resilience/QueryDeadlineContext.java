@@ -0,0 +1,32 @@
+package com.example.board.global.resilience;
+
+/**
+ * 현재 요청 스레드의 쿼리 마감 시각 (System.nanoTime 기준)
+ *
+ * QueryDeadlineInterceptor가 핸들러 진입 시 정하고 요청이 끝나면 지운다.
+ * 배경 작업처럼 요청 밖에서 실행되는 쿼리에는 마감 시각이 없다.
+ */
+public final class QueryDeadlineContext {
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private QueryDeadlineContext() {
+    }
+
+    public static void start(long timeoutNanos) {
+        DEADLINE.set(System.nanoTime() + timeoutNanos);
+    }
+
+    public static void clear() {
+        DEADLINE.remove();
+    }
+
+    public static boolean active() {
+        return DEADLINE.get() != null;
+    }
+
+    // 남은 시간 (마감 시각이 없으면 Long.MAX_VALUE, 지났으면 0 이하)
+    public static long remainingNanos() {
+        Long deadline = DEADLINE.get();
+        return deadline != null ? deadline - System.nanoTime() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.board.global.resilience;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 핸들러별 쿼리 마감 시각을 정한다 (@QueryDeadline, 없으면 기본값). 0 이하면 마감 없음
+public class QueryDeadlineInterceptor implements AsyncHandlerInterceptor {
+    private final Environment environment;
+    private final long defaultNanos;
+    private final Map<Method, Long> deadlines = new ConcurrentHashMap<>();
+
+    public QueryDeadlineInterceptor(Environment environment, Duration defaultDeadline) {
+        this.environment = environment;
+        this.defaultNanos = defaultDeadline.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long timeoutNanos = handler instanceof HandlerMethod method
+                ? deadlines.computeIfAbsent(method.getMethod(), this::resolve)
+                : defaultNanos;
+        if (timeoutNanos > 0) {
+            QueryDeadlineContext.start(timeoutNanos);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryDeadlineContext.clear();
+    }
+
+    // 비동기 처리(Callable, DeferredResult 등)가 시작되면 afterCompletion 없이 컨테이너 스레드가 풀로 돌아가므로
+    // 여기서 지우지 않으면 그 스레드가 다음에 처리하는 요청/작업에 마감 시각이 남는다
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryDeadlineContext.clear();
+    }
+
+    private long resolve(Method method) {
+        QueryDeadline annotation = method.getAnnotation(QueryDeadline.class);
+        if (annotation == null) {
+            return defaultNanos;
+        }
+        return DurationStyle.detectAndParse(environment.resolveRequiredPlaceholders(annotation.value())).toNanos();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.board.global.resilience;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 화면용 읽기 서비스 호출을 회로 차단기로 감싸고, DB가 응답하지 않으면 마지막으로 성공한 결과를 대신 준다
+ *
+ * 성공한 결과는 키별 스냅샷으로 보관한다 (LRU, max-entries개). 차단기가 열렸거나 호출이 DB 오류로
+ * 실패하면 스냅샷을 stale 표시와 함께 돌려주고, 스냅샷도 없으면 DatabaseUnavailableException을 던진다.
+ * DB 오류(statement timeout, 커넥션 대기 초과 등)만 실패로 센다. 존재하지 않는 게시글 같은
+ * 업무 예외는 DB가 정상 응답한 것이므로 성공으로 세고 그대로 던진다.
+ *
+ * 메트릭: board.db.circuit.state (0 closed, 1 open, 2 half-open),
+ *        board.db.circuit.calls{outcome=success|failure|rejected}, board.stale.served{result=hit|miss}
+ */
+@Slf4j
+public class ReadFallback {
+    private final CircuitBreaker breaker;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, Result<?>> snapshots; // 접근 순서, this로 동기화
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejections;
+    private final Counter staleHits;
+    private final Counter staleMisses;
+
+    public ReadFallback(CircuitBreaker breaker, int maxEntries, Clock clock, MeterRegistry registry) {
+        this.breaker = breaker;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Result<?>> eldest) {
+                return size() > ReadFallback.this.maxEntries;
+            }
+        };
+        MeterRegistry meters = registry != null ? registry : new SimpleMeterRegistry();
+        Gauge.builder("board.db.circuit.state", breaker, b -> b.state().ordinal())
+                .description("Read circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meters);
+        this.successes = calls(meters, "success");
+        this.failures = calls(meters, "failure");
+        this.rejections = calls(meters, "rejected");
+        this.staleHits = stale(meters, "hit");
+        this.staleMisses = stale(meters, "miss");
+    }
+
+    // 성공한 결과를 그대로 스냅샷으로 보관
+    public <T> Result<T> read(String key, Supplier<T> loader) {
+        return read(key, loader, UnaryOperator.identity());
+    }
+
+    // toSnapshot: 보관할 형태로 바꾼다 (null을 돌려주면 보관하지 않는다)
+    public <T> Result<T> read(String key, Supplier<T> loader, UnaryOperator<T> toSnapshot) {
+        if (!breaker.tryAcquire()) {
+            rejections.increment();
+            return fallback(key, null);
+        }
+
+        boolean reported = false;
+        try {
+            T value = loader.get();
+            breaker.onSuccess();
+            reported = true;
+            successes.increment();
+            store(key, value, toSnapshot);
+            return new Result<>(value, false, null);
+        } catch (RuntimeException e) {
+            if (!isDatabaseFailure(e)) {
+                throw e;
+            }
+            breaker.onFailure();
+            reported = true;
+            failures.increment();
+            return fallback(key, e);
+        } finally {
+            if (!reported) {
+                breaker.onSuccess(); // 업무 예외 (HALF_OPEN 시험 호출이 묶이지 않도록 반드시 보고)
+            }
+        }
+    }
+
+    // 차단기가 닫혀 있지 않으면 true (부가 조회를 건너뛸 때)
+    public boolean degraded() {
+        return breaker.state() != CircuitBreaker.State.CLOSED;
+    }
+
+    public CircuitBreaker.State state() {
+        return breaker.state();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> fallback(String key, RuntimeException cause) {
+        Result<T> snapshot;
+        synchronized (this) {
+            snapshot = (Result<T>) snapshots.get(key);
+        }
+        if (snapshot == null) {
+            staleMisses.increment();
+            throw new DatabaseUnavailableException(cause);
+        }
+        staleHits.increment();
+        if (cause != null) {
+            log.warn("DB 조회 실패로 {} 시각의 스냅샷을 대신 보냅니다 (key={}): {}", snapshot.capturedAt(), key, cause.toString());
+        }
+        return snapshot;
+    }
+
+    private <T> void store(String key, T value, UnaryOperator<T> toSnapshot) {
+        T snapshot = value != null ? toSnapshot.apply(value) : null;
+        if (snapshot == null) {
+            return;
+        }
+        Result<T> stale = new Result<>(snapshot, true, LocalDateTime.now(clock));
+        synchronized (this) {
+            snapshots.put(key, stale);
+        }
+    }
+
+    static boolean isDatabaseFailure(Throwable e) {
+        return e instanceof DataAccessException
+                || e instanceof TransactionException
+                || e instanceof PersistenceException;
+    }
+
+    private static Counter calls(MeterRegistry registry, String outcome) {
+        return Counter.builder("board.db.circuit.calls")
+                .description("Guarded read calls by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Counter stale(MeterRegistry registry, String result) {
+        return Counter.builder("board.stale.served")
+                .description("Fallbacks answered from the last good snapshot (hit) or failed for lack of one (miss)")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    // 조회 결과. stale이면 capturedAt 시각에 보관한 스냅샷
+    public record Result<T>(T value, boolean stale, LocalDateTime capturedAt) {}
+}
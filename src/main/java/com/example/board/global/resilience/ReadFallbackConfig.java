@@ -0,0 +1,27 @@
+package com.example.board.global.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 화면용 읽기의 회로 차단기와 stale 스냅샷 (board.resilience.circuit-breaker.*, board.resilience.stale.*)
+@Configuration
+public class ReadFallbackConfig {
+
+    @Bean
+    public ReadFallback readFallback(@Value("${board.resilience.circuit-breaker.window-size:20}") int windowSize,
+                                     @Value("${board.resilience.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                     @Value("${board.resilience.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                     @Value("${board.resilience.circuit-breaker.open-duration:10s}") Duration openDuration,
+                                     @Value("${board.resilience.stale.max-entries:512}") int maxEntries,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReadFallback(new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDuration),
+                maxEntries, Clock.systemDefaultZone(), meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.board.global.resilience;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.board.global.datasource.Bulkhead;
+import com.example.board.global.datasource.BulkheadContext;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * 요청의 남은 쿼리 시간을 문장마다 JDBC statement timeout으로 건다
+ *
+ * DB가 멈추면 드라이버가 남은 시간 뒤에 문장을 취소하므로 요청 스레드가 무한정 묶이지 않는다.
+ * JDBC timeout은 초 단위라 남은 시간을 올림하고(최소 1초), 이미 지났으면 DB에 보내지 않고 바로 실패시킨다.
+ * @BatchJob으로 지정된 작업(HTTP 내보내기 등)은 원래 오래 걸리므로 건드리지 않는다.
+ */
+@Slf4j
+public class StatementTimeoutListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!QueryDeadlineContext.active() || BulkheadContext.current() == Bulkhead.BATCH) {
+            return;
+        }
+        long remainingNanos = QueryDeadlineContext.remainingNanos();
+        if (remainingNanos <= 0) {
+            throw new QueryTimeoutException("요청의 쿼리 마감 시각을 넘겨 문장을 실행하지 않습니다");
+        }
+        apply(execInfo.getStatement(), timeoutSeconds(remainingNanos));
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    static int timeoutSeconds(long remainingNanos) {
+        long seconds = (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.clamp(seconds, 1, Integer.MAX_VALUE);
+    }
+
+    // 이미 더 짧은 timeout(쿼리 힌트 등)이 걸려 있으면 그대로 둔다
+    private static void apply(Statement statement, int seconds) {
+        try {
+            int current = statement.getQueryTimeout();
+            if (current == 0 || seconds < current) {
+                statement.setQueryTimeout(seconds);
+            }
+        } catch (SQLException e) {
+            log.debug("statement timeout 설정 실패", e);
+        }
+    }
+}
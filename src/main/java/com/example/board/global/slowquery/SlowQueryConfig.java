@@ -0,0 +1,32 @@
+package com.example.board.global.slowquery;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 느린 쿼리 로그 (DataSource 프록시 + 비동기 기록기), board.slow-query.enabled=false로 끈다
+@Configuration
+@ConditionalOnProperty(name = "board.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean(destroyMethod = "close")
+    static SlowQueryWriter slowQueryWriter(@Value("${board.slow-query.queue-capacity:1024}") int queueCapacity) {
+        return new SlowQueryWriter(queueCapacity);
+    }
+
+    // 문장마다 실행 시간을 재는 리스너 (DataSourceProxyConfig의 프록시에 붙는다)
+    @Bean
+    static SlowQueryListener slowQueryListener(SlowQueryWriter slowQueryWriter,
+                                               @Value("${board.slow-query.threshold:100ms}") Duration threshold,
+                                               @Value("${board.slow-query.fast-samples-per-second:1}") int fastSamplesPerSecond,
+                                               @Value("${board.slow-query.max-sql-length:2000}") int maxSqlLength,
+                                               @Value("${board.slow-query.max-parameter-length:100}") int maxParameterLength,
+                                               @Value("${board.slow-query.redacted-columns:password,login_id,content}") List<String> redactedColumns) {
+        return new SlowQueryListener(threshold, fastSamplesPerSecond, maxSqlLength, maxParameterLength,
+                redactedColumns, slowQueryWriter);
+    }
+}
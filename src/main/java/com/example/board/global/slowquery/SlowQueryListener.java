@@ -0,0 +1,222 @@
+package com.example.board.global.slowquery;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * JDBC 문장 실행 후 느린 쿼리(threshold 이상)와 표본 추출한 빠른 쿼리를 한 줄 로그로 만든다
+ *
+ * 한 줄에는 소요 시간, 이 문장을 부른 서비스/컨트롤러 프레임이 들어간다.
+ * 바인딩된 파라미터 값은 느린 쿼리에만 남기고, redacted-columns에 든 컬럼(비밀번호, 로그인 ID, 본문 등)에
+ * 바인딩된 값은 <redacted>로 가린다. 빠른 쿼리 표본은 초당 fast-samples-per-second개까지 값 없이 남긴다.
+ * 스택 조회와 문자열 조립은 기록할 문장에만 하고, 실제 쓰기는 SlowQueryWriter 스레드가 한다.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final String APP_PACKAGE = "com.example.board.";
+    // JDBC 호출 경로에 끼어 있는 프록시/필터 (원인 프레임이 아니다)
+    private static final List<String> SKIPPED_PACKAGES = List.of(
+            "com.example.board.global.slowquery.", "com.example.board.global.sqlstats.");
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final String REDACTED = "<redacted>";
+    // INSERT 컬럼 목록, "컬럼 연산자 ?" / "컬럼 in (?, ?" 꼴에서 ? 앞의 컬럼
+    private static final Pattern INSERT_COLUMNS = Pattern.compile("^insert into [^(]+\\(([^)]*)\\)");
+    private static final Pattern COLUMN_BEFORE_PARAMETER = Pattern.compile(
+            "([a-z_][a-z0-9_]*)\\s*(?:=|<>|!=|<=|>=|<|>|\\blike|\\bilike|\\bin\\s*\\()\\s*(?:\\?\\s*,\\s*)*$");
+
+    private final long thresholdMillis;
+    private final int fastSamplesPerSecond;
+    private final int maxSqlLength;
+    private final int maxParameterLength;
+    private final Set<String> redactedColumns;
+    private final SlowQueryWriter writer;
+
+    // 빠른 쿼리 표본 창: 현재 초(epoch)와 그 초에 남긴 수
+    private final AtomicLong sampleSecond = new AtomicLong();
+    private final AtomicLong sampledInSecond = new AtomicLong();
+
+    public SlowQueryListener(Duration threshold, int fastSamplesPerSecond, int maxSqlLength,
+                             int maxParameterLength, List<String> redactedColumns, SlowQueryWriter writer) {
+        this.thresholdMillis = threshold.toMillis();
+        this.fastSamplesPerSecond = fastSamplesPerSecond;
+        this.maxSqlLength = maxSqlLength;
+        this.maxParameterLength = maxParameterLength;
+        this.redactedColumns = redactedColumns.stream()
+                .map(column -> column.strip().toLowerCase(Locale.ROOT))
+                .filter(column -> !column.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.writer = writer;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= thresholdMillis;
+        if (slow || trySample(System.currentTimeMillis() / 1000)) {
+            writer.publish(format(slow ? "slow" : "sample", execInfo, queryInfoList, origin()));
+        }
+    }
+
+    // 이번 초의 표본 한도가 남았으면 true (초가 바뀌면 새로 센다)
+    boolean trySample(long epochSecond) {
+        if (fastSamplesPerSecond <= 0) {
+            return false;
+        }
+        long current = sampleSecond.get();
+        if (current != epochSecond && sampleSecond.compareAndSet(current, epochSecond)) {
+            sampledInSecond.set(0);
+        }
+        return sampledInSecond.incrementAndGet() <= fastSamplesPerSecond;
+    }
+
+    String format(String kind, ExecutionInfo execInfo, List<QueryInfo> queryInfoList, Origin origin) {
+        StringBuilder line = new StringBuilder(256)
+                .append("slow-query kind=").append(kind)
+                .append(" elapsedMs=").append(execInfo.getElapsedTime())
+                .append(" success=").append(execInfo.isSuccess());
+        if (execInfo.isBatch()) {
+            line.append(" batchSize=").append(execInfo.getBatchSize());
+        }
+        line.append(" origin=").append(origin.caller())
+                .append(" handler=").append(origin.handler());
+
+        QueryInfo first = queryInfoList.isEmpty() ? null : queryInfoList.get(0);
+        String sql = first != null ? collapse(first.getQuery()) : "";
+        line.append(" sql=\"").append(abbreviate(sql, maxSqlLength)).append('"');
+        // 표본은 빈도가 높고 원인 분석에 값이 필요 없으므로 값을 남기지 않는다
+        if ("slow".equals(kind) && first != null && !first.getParametersList().isEmpty()) {
+            // 배치는 첫 번째 파라미터 묶음만 남긴다
+            List<List<ParameterSetOperation>> parameterSets = first.getParametersList();
+            line.append(" params=").append(parameters(parameterSets.get(0), parameterColumns(sql)));
+            if (parameterSets.size() > 1) {
+                line.append(" moreParamSets=").append(parameterSets.size() - 1);
+            }
+        }
+        return line.toString();
+    }
+
+    private String parameters(List<ParameterSetOperation> operations, List<String> columns) {
+        StringBuilder values = new StringBuilder("[");
+        operations.stream()
+                .filter(op -> op.getArgs() != null && op.getArgs().length > 0)
+                .sorted(Comparator.comparing(SlowQueryListener::index))
+                .forEach(op -> {
+                    if (values.length() > 1) {
+                        values.append(", ");
+                    }
+                    values.append(redacted(columns, index(op)) ? REDACTED : value(op));
+                });
+        return values.append(']').toString();
+    }
+
+    private static int index(ParameterSetOperation op) {
+        return op.getArgs()[0] instanceof Integer index ? index : 0;
+    }
+
+    // 컬럼을 알아낸 파라미터만 가린다 (1부터 시작하는 JDBC 인덱스)
+    private boolean redacted(List<String> columns, int index) {
+        String column = index >= 1 && index <= columns.size() ? columns.get(index - 1) : null;
+        return column != null && redactedColumns.contains(column);
+    }
+
+    // ?마다 바인딩되는 컬럼 이름 (소문자, 테이블 별칭 제외). 알 수 없으면 null
+    static List<String> parameterColumns(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        List<String> columns = new ArrayList<>();
+        Matcher insert = INSERT_COLUMNS.matcher(lower);
+        List<String> insertColumns = insert.find() ? List.of(insert.group(1).split("\\s*,\\s*")) : List.of();
+        int valuesStart = insertColumns.isEmpty() ? -1 : lower.indexOf(" values", insert.end());
+
+        boolean quoted = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c != '?' || quoted) {
+                continue;
+            }
+            if (valuesStart >= 0 && i > valuesStart) {
+                // INSERT ... VALUES (?, ?, ...): 여러 행이면 컬럼 목록을 되풀이한다
+                columns.add(insertColumns.get(columns.size() % insertColumns.size()).strip());
+                continue;
+            }
+            Matcher column = COLUMN_BEFORE_PARAMETER.matcher(lower.substring(Math.max(0, i - 200), i));
+            columns.add(column.find() ? column.group(1) : null);
+        }
+        return columns;
+    }
+
+    private String value(ParameterSetOperation op) {
+        Object[] args = op.getArgs();
+        if ("setNull".equals(op.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        Object value = args[1];
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value instanceof CharSequence || value instanceof java.util.Date || value instanceof java.time.temporal.Temporal) {
+            return "'" + abbreviate(value.toString(), maxParameterLength) + "'";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        // 스트림, LOB 등은 내용을 읽지 않는다
+        return "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    // 이 문장을 부른 애플리케이션 프레임 (가장 안쪽)과 컨트롤러 프레임
+    static Origin origin() {
+        return WALKER.walk(frames -> {
+            String caller = null;
+            String handler = null;
+            Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+            while (iterator.hasNext()) {
+                StackWalker.StackFrame frame = iterator.next();
+                String className = frame.getClassName();
+                if (!className.startsWith(APP_PACKAGE) || className.contains("$$")
+                        || SKIPPED_PACKAGES.stream().anyMatch(className::startsWith)) {
+                    continue;
+                }
+                String name = className.substring(className.lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                if (caller == null) {
+                    caller = name;
+                }
+                if (className.endsWith("Controller")) {
+                    handler = name;
+                    break;
+                }
+            }
+            return new Origin(Optional.ofNullable(caller).orElse("-"), Optional.ofNullable(handler).orElse("-"));
+        });
+    }
+
+    private static String collapse(String sql) {
+        return sql == null ? "" : sql.strip().replaceAll("\\s+", " ");
+    }
+
+    private static String abbreviate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+
+    record Origin(String caller, String handler) {}
+}
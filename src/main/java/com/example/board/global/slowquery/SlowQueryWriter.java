@@ -0,0 +1,71 @@
+package com.example.board.global.slowquery;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 느린 쿼리 로그 비동기 기록기
+ *
+ * 요청 스레드는 한정된 큐에 줄을 넣기만 하고(가득 차면 버리고 건수만 센다),
+ * 전용 데몬 스레드가 꺼내 board.slow-query 로거로 쓴다. 로그 어펜더가 느려져도 요청은 기다리지 않는다.
+ */
+@Slf4j(topic = "board.slow-query")
+public class SlowQueryWriter implements AutoCloseable {
+    private static final String STOP = new String("stop"); // 종료 표시 (동일성 비교)
+
+    private final BlockingQueue<String> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread thread;
+
+    public SlowQueryWriter(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.thread = Thread.ofPlatform().name("slow-query-writer").daemon().unstarted(this::drain);
+        thread.start();
+    }
+
+    // 큐에 넣을 수 없으면 즉시 포기한다 (요청 스레드를 막지 않음)
+    public void publish(String line) {
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        while (true) {
+            String line;
+            try {
+                line = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (line == STOP) {
+                return;
+            }
+            long drops = dropped.sum();
+            if (drops > reportedDrops) {
+                log.warn("slow-query dropped={} (기록 큐가 가득 차 버린 누적 건수)", drops);
+                reportedDrops = drops;
+            }
+            log.info(line);
+        }
+    }
+
+    // 남은 줄을 다 쓰고 멈춘다 (큐가 가득 차 있으면 잠깐 기다린 뒤 포기)
+    @Override
+    public void close() throws InterruptedException {
+        if (queue.offer(STOP, 1, TimeUnit.SECONDS)) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } else {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.board.global.sqlstats;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HandlerQueryStatsResponse {
+    private String handler;             // 예: PostController.postDetail
+    private long requests;
+    private double avgStatements;
+    private int maxStatements;
+    private double avgDbTimeMs;
+    private double maxDbTimeMs;
+    private long flaggedRequests;       // 문장 수/DB 시간/반복 임계값 중 하나라도 넘은 요청
+    private long repeatedShapeRequests; // 같은 모양의 문장을 임계값 이상 반복한 요청 (N+1 의심)
+    private String lastRepeatedShape;   // 마지막으로 반복이 감지된 문장 모양
+    private int lastRepeatedCount;
+}
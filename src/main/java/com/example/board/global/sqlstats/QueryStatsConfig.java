@@ -0,0 +1,27 @@
+package com.example.board.global.sqlstats;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 요청별 SQL 통계 (DataSource 프록시 + 서블릿 필터), board.sql-stats.enabled=false로 끈다
+@Configuration
+@ConditionalOnProperty(name = "board.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    // 요청 스레드의 문장 수와 DB 시간을 세는 리스너
+    @Bean
+    static QueryStatsListener queryStatsListener() {
+        return new QueryStatsListener();
+    }
+
+    // 보안 필터, 뷰 렌더링까지 포함하도록 바깥쪽에 둔다 (접근 로그 필터 바로 안쪽)
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(QueryStatsRegistry registry) {
+        FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(new QueryStatsFilter(registry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
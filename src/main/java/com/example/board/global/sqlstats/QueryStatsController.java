@@ -0,0 +1,34 @@
+package com.example.board.global.sqlstats;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/sql-stats")
+@ConditionalOnProperty(name = "board.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsController {
+    private final QueryStatsRegistry queryStatsRegistry;
+
+    // 핸들러 메서드별 요청당 SQL 통계 (전체 문장 수 많은 순)
+    @GetMapping
+    public ResponseEntity<List<HandlerQueryStatsResponse>> getStats() {
+        return ResponseEntity.ok(queryStatsRegistry.snapshot());
+    }
+
+    // 누적 통계 초기화 (배포/튜닝 전후 비교용)
+    @DeleteMapping
+    public ResponseEntity<?> resetStats() {
+        queryStatsRegistry.reset();
+        return ResponseEntity.ok(Map.of("message", "SQL 통계를 초기화했습니다."));
+    }
+}
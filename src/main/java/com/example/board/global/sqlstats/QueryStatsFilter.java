@@ -0,0 +1,52 @@
+package com.example.board.global.sqlstats;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 단위 SQL 통계 수집 필터
+ *
+ * 필터 체인 전체(컨트롤러, 뷰 렌더링 중 지연 로딩 포함)를 한 요청으로 보고,
+ * 끝나면 매핑된 핸들러 메서드 이름(예: PostController.postDetail)으로 QueryStatsRegistry에 넘긴다.
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+    // 요청이 끝나면 실행한 문장 수를 남겨 바깥 필터(접근 로그)가 읽을 수 있게 한다
+    public static final String STATEMENTS_ATTRIBUTE = QueryStatsFilter.class.getName() + ".statements";
+    private static final String UNMAPPED = "(unmapped)";
+
+    private final QueryStatsRegistry registry;
+
+    public QueryStatsFilter(QueryStatsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, stats.statements());
+            registry.record(handlerName(request), request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), stats);
+        }
+    }
+
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return UNMAPPED;
+    }
+}
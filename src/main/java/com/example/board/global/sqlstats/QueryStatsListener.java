@@ -0,0 +1,31 @@
+package com.example.board.global.sqlstats;
+
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * JDBC 문장 실행을 현재 요청의 RequestQueryStats에 더한다 (요청 밖의 실행은 무시)
+ */
+class QueryStatsListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null) {
+            return;
+        }
+        // 배치/다중 문장 실행은 한 번의 왕복이므로 대표 문장 하나로 센다
+        stats.statementFinished(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+    }
+}
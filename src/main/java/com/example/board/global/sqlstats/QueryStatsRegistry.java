@@ -0,0 +1,158 @@
+package com.example.board.global.sqlstats;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 핸들러 메서드별 SQL 통계 집계와 임계값 초과 요청 로그
+ *
+ * 요청이 끝날 때마다 문장 수, DB 시간, 가장 많이 반복된 문장 모양을 핸들러 단위로 누적한다.
+ * 임계값을 넘은 요청은 핸들러마다 log-interval에 한 번만 로그로 남기고(샘플링),
+ * 그 사이 생략한 건수는 다음 로그에 suppressed로 함께 적는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsRegistry {
+    private final int maxStatements;
+    private final long maxDbNanos;
+    private final int repeatThreshold;
+    private final long logIntervalNanos;
+
+    private final Map<String, HandlerStats> handlers = new ConcurrentHashMap<>();
+
+    public QueryStatsRegistry(@Value("${board.sql-stats.max-statements:30}") int maxStatements,
+                              @Value("${board.sql-stats.max-db-time:200ms}") Duration maxDbTime,
+                              @Value("${board.sql-stats.repeat-threshold:5}") int repeatThreshold,
+                              @Value("${board.sql-stats.log-interval:10s}") Duration logInterval) {
+        this.maxStatements = maxStatements;
+        this.maxDbNanos = maxDbTime.toNanos();
+        this.repeatThreshold = repeatThreshold;
+        this.logIntervalNanos = logInterval.toNanos();
+    }
+
+    // 요청 하나의 통계 반영 (SQL을 실행하지 않은 요청은 세지 않는다)
+    void record(String handler, String method, String uri, int status, RequestQueryStats stats) {
+        if (stats.statements() == 0) {
+            return;
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        boolean overStatements = stats.statements() > maxStatements;
+        boolean overDbTime = stats.dbNanos() > maxDbNanos;
+        boolean overRepeat = repeated.getValue() >= repeatThreshold;
+
+        HandlerStats handlerStats = handlers.computeIfAbsent(handler, key -> new HandlerStats());
+        handlerStats.add(stats, repeated, overRepeat, overStatements || overDbTime || overRepeat);
+
+        if ((overStatements || overDbTime || overRepeat) && handlerStats.tryLog(logIntervalNanos)) {
+            log.warn("sql-stats flagged handler={} method={} uri={} status={} statements={} dbTimeMs={} "
+                            + "repeatedCount={} reasons={} suppressed={} repeatedShape=\"{}\"",
+                    handler, method, uri, status, stats.statements(), String.format("%.1f", stats.dbNanos() / 1e6),
+                    repeated.getValue(), reasons(overStatements, overDbTime, overRepeat),
+                    handlerStats.takeSuppressed(), SqlShape.abbreviate(repeated.getKey()));
+        }
+    }
+
+    // 핸들러별 통계 (전체 문장 수 많은 순)
+    public List<HandlerQueryStatsResponse> snapshot() {
+        return handlers.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingDouble(
+                        (HandlerQueryStatsResponse r) -> r.getAvgStatements() * r.getRequests()).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        handlers.clear();
+    }
+
+    private static String reasons(boolean overStatements, boolean overDbTime, boolean overRepeat) {
+        StringBuilder reasons = new StringBuilder();
+        if (overStatements) {
+            reasons.append("statements");
+        }
+        if (overDbTime) {
+            reasons.append(reasons.isEmpty() ? "" : ",").append("db-time");
+        }
+        if (overRepeat) {
+            reasons.append(reasons.isEmpty() ? "" : ",").append("repeated");
+        }
+        return reasons.toString();
+    }
+
+    // 요청 스레드들이 동시에 더하므로 카운터는 LongAdder/누산기로 둔다
+    private static final class HandlerStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAccumulator maxDbNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder flagged = new LongAdder();
+        private final LongAdder repeatedRequests = new LongAdder();
+        private final AtomicLong lastLoggedAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+        private final LongAdder suppressed = new LongAdder();
+        private volatile RepeatedShape lastRepeated;
+
+        private void add(RequestQueryStats stats, Map.Entry<String, Integer> repeated,
+                         boolean overRepeat, boolean isFlagged) {
+            requests.increment();
+            statements.add(stats.statements());
+            maxStatements.accumulate(stats.statements());
+            dbNanos.add(stats.dbNanos());
+            maxDbNanos.accumulate(stats.dbNanos());
+            if (isFlagged) {
+                flagged.increment();
+            }
+            if (overRepeat) {
+                repeatedRequests.increment();
+                lastRepeated = new RepeatedShape(repeated.getKey(), repeated.getValue());
+            }
+        }
+
+        // 마지막 로그 후 interval이 지났으면 이번 요청이 로그를 남긴다 (아니면 생략 건수만 센다)
+        private boolean tryLog(long intervalNanos) {
+            long now = System.nanoTime();
+            long last = lastLoggedAt.get();
+            if (now - last >= intervalNanos && lastLoggedAt.compareAndSet(last, now)) {
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+
+        private long takeSuppressed() {
+            return suppressed.sumThenReset();
+        }
+
+        private HandlerQueryStatsResponse toResponse(String handler) {
+            long count = Math.max(requests.sum(), 1);
+            RepeatedShape repeated = lastRepeated;
+            return HandlerQueryStatsResponse.builder()
+                    .handler(handler)
+                    .requests(requests.sum())
+                    .avgStatements((double) statements.sum() / count)
+                    .maxStatements((int) maxStatements.get())
+                    .avgDbTimeMs(dbNanos.sum() / 1e6 / count)
+                    .maxDbTimeMs(maxDbNanos.get() / 1e6)
+                    .flaggedRequests(flagged.sum())
+                    .repeatedShapeRequests(repeatedRequests.sum())
+                    .lastRepeatedShape(repeated != null ? SqlShape.abbreviate(repeated.shape()) : null)
+                    .lastRepeatedCount(repeated != null ? repeated.count() : 0)
+                    .build();
+        }
+    }
+
+    private record RepeatedShape(String shape, int count) {}
+}
@@ -0,0 +1,66 @@
+package com.example.board.global.sqlstats;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나가 실행한 SQL 통계 (요청 스레드에 묶어 둔다)
+ *
+ * QueryStatsFilter가 요청 시작 시 begin(), 끝날 때 end()를 호출하고,
+ * 그 사이 같은 스레드에서 실행된 문장은 QueryStatsListener가 record()로 더한다.
+ * 비동기 응답(StreamingResponseBody 등)이 다른 스레드에서 실행한 문장은 포함되지 않는다.
+ */
+final class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long dbNanos;
+    private final Map<String, Integer> shapeCounts = new HashMap<>();
+    private long statementStartedAt;
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void statementStarted() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    void statementFinished(String sql) {
+        if (statementStartedAt != 0) {
+            dbNanos += System.nanoTime() - statementStartedAt;
+            statementStartedAt = 0;
+        }
+        statements++;
+        shapeCounts.merge(SqlShape.of(sql), 1, Integer::sum);
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+
+    // 가장 많이 반복된 문장 모양 (없으면 null)
+    Map.Entry<String, Integer> mostRepeated() {
+        Map.Entry<String, Integer> top = null;
+        for (Map.Entry<String, Integer> entry : shapeCounts.entrySet()) {
+            if (top == null || entry.getValue() > top.getValue()) {
+                top = entry;
+            }
+        }
+        return top;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.board.global.sqlstats;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장 모양 (같은 쿼리를 값만 바꿔 반복하는지 비교하기 위한 정규화)
+ *
+ * 공백을 하나로 줄이고 소문자로 바꾼 뒤, 리터럴과 IN 목록 길이를 지운다.
+ * 바인드 파라미터(?)를 쓰는 문장은 값이 달라도 같은 모양이 된다.
+ * 같은 SQL 문자열은 반복해서 들어오므로 결과를 최대 MAX_CACHED개까지 기억해 정규식을 다시 돌리지 않는다.
+ * 리터럴이 박힌 문장처럼 종류가 끝없이 늘어나면 가득 찬 뒤로는 캐시하지 않고 그때그때 계산한다.
+ */
+final class SqlShape {
+    private static final int MAX_LENGTH = 300;
+    static final int MAX_CACHED = 2048;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin \\(\\?(?:, ?\\?)*\\)");
+
+    private static final Map<String, String> SHAPES = new ConcurrentHashMap<>();
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        String shape = SHAPES.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        shape = normalize(sql);
+        if (SHAPES.size() < MAX_CACHED) {
+            SHAPES.putIfAbsent(sql, shape);
+        }
+        return shape;
+    }
+
+    static int cachedCount() {
+        return SHAPES.size();
+    }
+
+    private static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return shape;
+    }
+
+    // 로그/응답용으로 자른 문장
+    static String abbreviate(String shape) {
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) + "..." : shape;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.board.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 상태(검색 색인, 자동완성, 랭킹 점수) 갱신을 DB 커밋 이후로 미룬다
+ *
+ * 트랜잭션 안이면 커밋된 뒤에 실행하고, 롤백되면 버린다. 트랜잭션 밖이면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.board.global.view;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일한 템플릿(src/main/jte)에서 쓰는 출력 도우미
+ *
+ * 템플릿은 Plain 모드라 자동 이스케이프가 없다. 값은 모두 text()를 거쳐 출력하고,
+ * 이스케이프/조건 판정/날짜 형식은 Thymeleaf(th:text, th:if, #temporals)와 같은 결과를 내도록 맞춘다.
+ */
+public final class Html {
+    public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
+    public static final DateTimeFormatter LONG_DATE_TIME = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm");
+    public static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    private Html() {
+    }
+
+    // th:text와 같은 이스케이프 (& < > " ', null이면 빈 문자열)
+    public static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        StringBuilder escaped = null;
+        int last = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String replacement = switch (text.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(text.length() + 16);
+                }
+                escaped.append(text, last, i).append(replacement);
+                last = i + 1;
+            }
+        }
+        return escaped == null ? text : escaped.append(text, last, text.length()).toString();
+    }
+
+    // th:if 판정 (null, false, 0, "false"/"off"/"no"만 거짓. 빈 문자열은 참)
+    public static boolean truthy(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        if (value instanceof Number n) {
+            return n.doubleValue() != 0.0;
+        }
+        if (value instanceof Character c) {
+            return c != '0';
+        }
+        if (value instanceof String s) {
+            return !"false".equalsIgnoreCase(s) && !"off".equalsIgnoreCase(s) && !"no".equalsIgnoreCase(s);
+        }
+        return true;
+    }
+
+    // #strings.isEmpty (공백만 있어도 비었다고 본다)
+    public static boolean isEmpty(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // #temporals.format (null이면 빈 문자열)
+    public static String format(LocalDateTime value, DateTimeFormatter formatter) {
+        return value != null ? formatter.format(value) : "";
+    }
+
+    // ?: 기본값 0
+    public static Object orZero(Object value) {
+        return value != null ? value : 0;
+    }
+
+    // #numbers.sequence (양 끝 포함, from > to면 1씩 줄어든다)
+    public static List<Integer> sequence(int from, int to) {
+        int step = from <= to ? 1 : -1;
+        List<Integer> values = new ArrayList<>(Math.abs(to - from) + 1);
+        for (int i = from; i != to + step; i += step) {
+            values.add(i);
+        }
+        return values;
+    }
+}
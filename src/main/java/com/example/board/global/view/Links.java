@@ -0,0 +1,56 @@
+package com.example.board.global.view;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 템플릿의 링크 (Thymeleaf @{...}와 같은 규칙)
+ *
+ * 컨텍스트 경로를 앞에 붙이고 response.encodeURL을 거친 뒤, 속성 값으로 쓰도록 이스케이프해서 돌려준다.
+ * 쿼리 파라미터는 선언 순서대로 붙고 값은 숫자 ID나 고정된 탭 이름뿐이라 따로 인코딩하지 않는다.
+ */
+public class Links {
+    private final String contextPath;
+    private final HttpServletResponse response;
+
+    public Links(String contextPath, HttpServletResponse response) {
+        this.contextPath = contextPath != null ? contextPath : "";
+        this.response = response;
+    }
+
+    // @{/}, @{/(tab=...)}, @{/(categoryId=...)}, @{/(categoryId=...,tab=...)}
+    public String home(Long categoryId, String tab) {
+        StringBuilder url = new StringBuilder("/");
+        char separator = '?';
+        if (categoryId != null) {
+            url.append(separator).append("categoryId=").append(categoryId);
+            separator = '&';
+        }
+        if (tab != null) {
+            url.append(separator).append("tab=").append(tab);
+        }
+        return link(url.toString());
+    }
+
+    // @{|/posts/${id}|}
+    public String post(Long id) {
+        return link("/posts/" + id);
+    }
+
+    // @{/posts/{id}(id=..., page=...)}
+    public String post(Long id, int page) {
+        return link("/posts/" + id + "?page=" + page);
+    }
+
+    // @{/posts/{id}/edit(id=...)}
+    public String editPost(Long id) {
+        return link("/posts/" + id + "/edit");
+    }
+
+    private String link(String path) {
+        String url = contextPath + path;
+        if (response != null) {
+            url = response.encodeURL(url);
+        }
+        return Html.text(url);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.board.global.view;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.web.servlet.View;
+
+import gg.jte.TemplateEngine;
+import gg.jte.output.WriterOutput;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * 빌드 때 Java로 컴파일된 jte 템플릿 하나를 그리는 뷰
+ *
+ * 모델 속성을 그대로 템플릿 파라미터로 넘기고, Thymeleaf 템플릿이 따로 꺼내 쓰던
+ * 세션의 loginUserId와 링크 도우미(links)를 더한다. 출력은 중간 버퍼 없이 응답 writer로 바로 쓴다.
+ */
+public class PrecompiledView implements View {
+    static final String CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    private final TemplateEngine templateEngine;
+    private final String template;
+
+    public PrecompiledView(TemplateEngine templateEngine, String template) {
+        this.templateEngine = templateEngine;
+        this.template = template;
+    }
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        render(model, request, response, response.getWriter());
+    }
+
+    // 응답 writer 대신 주어진 writer로 그린다 (벤치마크/비교 테스트)
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response, Writer writer) {
+        Map<String, Object> params = model != null ? new HashMap<>(model) : new HashMap<>();
+        HttpSession session = request.getSession(false);
+        params.put("loginUserId", session != null ? session.getAttribute("loginUserId") : null);
+        params.put("links", new Links(request.getContextPath(), response));
+        templateEngine.render(template, params, new WriterOutput(writer));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.board.global.view;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import gg.jte.ContentType;
+import gg.jte.TemplateEngine;
+
+// 홈/게시글 상세를 빌드 때 컴파일한 jte 템플릿으로 그린다, board.view.precompiled.enabled=false면 Thymeleaf 템플릿으로 돌아간다
+@Configuration
+@ConditionalOnProperty(name = "board.view.precompiled.enabled", havingValue = "true", matchIfMissing = true)
+public class PrecompiledViewConfig {
+
+    // gradle jte 플러그인이 생성해 함께 컴파일한 클래스(gg.jte.generated.precompiled)를 쓴다. 실행 중 컴파일은 없다
+    @Bean
+    public TemplateEngine precompiledTemplateEngine() {
+        return TemplateEngine.createPrecompiled(ContentType.Plain);
+    }
+
+    @Bean
+    public PrecompiledViewResolver precompiledViewResolver(TemplateEngine precompiledTemplateEngine) {
+        return new PrecompiledViewResolver(precompiledTemplateEngine);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.board.global.view;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+
+import gg.jte.TemplateEngine;
+
+/**
+ * 미리 컴파일한 템플릿이 있는 뷰 이름만 맡고, 나머지는 null을 돌려 Thymeleaf로 넘긴다
+ *
+ * Thymeleaf 뷰 리졸버(LOWEST_PRECEDENCE - 5)보다 앞에 둔다.
+ * 뷰 이름 "post/detail"은 src/main/jte/post/detail.jte 템플릿이다.
+ */
+public class PrecompiledViewResolver implements ViewResolver, Ordered {
+    public static final Set<String> VIEW_NAMES = Set.of("index", "post/detail");
+
+    private final Map<String, View> views;
+
+    public PrecompiledViewResolver(TemplateEngine templateEngine) {
+        this.views = VIEW_NAMES.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(),
+                        name -> new PrecompiledView(templateEngine, name + ".jte")));
+    }
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) {
+        return views.get(viewName);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 10;
+    }
+}
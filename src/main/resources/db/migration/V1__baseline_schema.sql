@@ -0,0 +1,74 @@
+-- 기준 스키마
+-- 마이그레이션 도입 이전 ddl-auto: update로 만들어지던 스키마와 동일하다.
+-- 기존 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 표시하고 V2부터 실행한다.
+
+CREATE TABLE users (
+    user_id    bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    login_id   varchar(50)  NOT NULL,
+    password   varchar(255) NOT NULL,
+    username   varchar(30)  NOT NULL,
+    role       varchar(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT uk_users_login_id UNIQUE (login_id)
+);
+
+CREATE TABLE category (
+    category_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        varchar(255) NOT NULL,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE post (
+    post_id        bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        bigint       NOT NULL REFERENCES users (user_id),
+    category_id    bigint       REFERENCES category (category_id),
+    title          varchar(255) NOT NULL,
+    content        text         NOT NULL,
+    view_count     integer DEFAULT 0 NOT NULL,
+    like_count     integer DEFAULT 0 NOT NULL,
+    dislike_count  integer DEFAULT 0 NOT NULL,
+    bookmark_count integer DEFAULT 0 NOT NULL,
+    created_at     timestamp(6),
+    updated_at     timestamp(6)
+);
+
+CREATE TABLE comment (
+    comment_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    oid     NOT NULL,
+    user_id    bigint  NOT NULL REFERENCES users (user_id),
+    parent_id  bigint  REFERENCES comment (comment_id),
+    post_id    bigint  NOT NULL REFERENCES post (post_id),
+    is_deleted boolean NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
+
+CREATE TABLE bookmark (
+    bookmark_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     bigint NOT NULL REFERENCES users (user_id),
+    post_id     bigint NOT NULL REFERENCES post (post_id),
+    created_at  timestamp(6),
+    updated_at  timestamp(6)
+);
+
+CREATE TABLE post_like (
+    post_like_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    post_id      bigint       NOT NULL REFERENCES post (post_id),
+    user_id      bigint       NOT NULL REFERENCES users (user_id),
+    like_type    varchar(255) NOT NULL CHECK (like_type IN ('LIKE', 'DISLIKE')),
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    CONSTRAINT uk_post_like_post_user UNIQUE (post_id, user_id)
+);
+
+CREATE TABLE post_ranking_snapshot (
+    post_id      bigint    NOT NULL PRIMARY KEY,
+    category_id  bigint,
+    hot_score    float(53) NOT NULL,
+    weekly_score bigint    NOT NULL,
+    created_at   timestamp(6),
+    updated_at   timestamp(6)
+);
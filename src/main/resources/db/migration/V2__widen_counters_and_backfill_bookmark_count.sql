@@ -0,0 +1,16 @@
+-- 카운터 컬럼을 엔티티(Long)와 같은 bigint로 맞춘다 (스키마 검증 통과 조건)
+-- 주의: 온라인 변경이 아니다. integer -> bigint는 post 테이블 전체를 다시 쓰고, 그동안 ACCESS EXCLUSIVE
+-- 잠금으로 읽기/쓰기가 모두 막힌다 (네 컬럼을 한 문장으로 바꿔 재작성은 한 번). 게시글이 많은 운영 DB는
+-- 점검 시간에 적용하거나, 미리 새 컬럼 추가 -> 트리거/배치로 채우기 -> 이름 교체로 옮긴 뒤 baseline한다.
+ALTER TABLE post
+    ALTER COLUMN view_count     TYPE bigint,
+    ALTER COLUMN like_count     TYPE bigint,
+    ALTER COLUMN dislike_count  TYPE bigint,
+    ALTER COLUMN bookmark_count TYPE bigint;
+
+-- 북마크 수는 그동안 갱신되지 않았으므로 실제 북마크 건수로 다시 채운다
+UPDATE post p
+SET bookmark_count = b.cnt
+FROM (SELECT post_id, count(*) AS cnt FROM bookmark GROUP BY post_id) b
+WHERE b.post_id = p.post_id
+  AND p.bookmark_count <> b.cnt;
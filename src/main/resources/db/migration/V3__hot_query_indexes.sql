@@ -0,0 +1,35 @@
+-- 자주 실행되는 조회용 인덱스
+-- 운영 중인 테이블의 쓰기를 막지 않도록 CONCURRENTLY로 만든다 (트랜잭션 밖에서 실행, V3 .conf 참고).
+-- Flyway 잠금도 트랜잭션으로 잡으면 안 된다 (spring.flyway.postgresql.transactional-lock: false, 아니면 기동이 멈춘다).
+-- 생성 도중 실패하면 INVALID 인덱스가 남으므로 DROP INDEX CONCURRENTLY 후 repair/재실행한다.
+-- post_like(post_id, user_id)는 uk_post_like_post_user 유니크 제약의 인덱스가 이미 담당한다.
+
+-- 홈/목록: 최신순, 카테고리별 최신순
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_created_at
+    ON post (created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_category_created_at
+    ON post (category_id, created_at);
+
+-- 정렬 목록 키셋 조회: (정렬 컬럼, post_id), (category_id, 정렬 컬럼, post_id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_view_count
+    ON post (view_count, post_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_like_count
+    ON post (like_count, post_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_bookmark_count
+    ON post (bookmark_count, post_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_category_view_count
+    ON post (category_id, view_count, post_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_category_like_count
+    ON post (category_id, like_count, post_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_category_bookmark_count
+    ON post (category_id, bookmark_count, post_id);
+
+-- 게시글 상세: 최상위 댓글 페이지, 대댓글 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_post_parent_created_at
+    ON comment (post_id, parent_id, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_parent_created_at
+    ON comment (parent_id, created_at);
+
+-- 북마크 여부 확인 / 내 북마크 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookmark_user_post
+    ON bookmark (user_id, post_id);
@@ -0,0 +1,31 @@
+-- IDENTITY 컬럼을 시퀀스 + pooled 옵티마이저(allocationSize 50)로 전환
+-- IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT를 배치로 묶지 못한다.
+-- 시퀀스는 한 번 호출로 50개 구간을 예약하므로 ID를 먼저 정하고 INSERT를 모아 보낼 수 있다.
+--
+-- pooled 옵티마이저는 시퀀스 값을 구간의 상한으로 쓴다 (nextval = v 이면 v-49 ~ v 사용).
+-- 그래서 시작 값을 기존 최대 ID + 50으로 두어야 첫 구간이 기존 ID와 겹치지 않는다.
+-- INCREMENT BY는 엔티티의 allocationSize와 같아야 기동 시 검증을 통과한다.
+
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(user_id), 0) + 50 FROM users), false);
+ALTER TABLE users ALTER COLUMN user_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE category_seq INCREMENT BY 50;
+SELECT setval('category_seq', (SELECT COALESCE(MAX(category_id), 0) + 50 FROM category), false);
+ALTER TABLE category ALTER COLUMN category_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE post_seq INCREMENT BY 50;
+SELECT setval('post_seq', (SELECT COALESCE(MAX(post_id), 0) + 50 FROM post), false);
+ALTER TABLE post ALTER COLUMN post_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE comment_seq INCREMENT BY 50;
+SELECT setval('comment_seq', (SELECT COALESCE(MAX(comment_id), 0) + 50 FROM comment), false);
+ALTER TABLE comment ALTER COLUMN comment_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE bookmark_seq INCREMENT BY 50;
+SELECT setval('bookmark_seq', (SELECT COALESCE(MAX(bookmark_id), 0) + 50 FROM bookmark), false);
+ALTER TABLE bookmark ALTER COLUMN bookmark_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE post_like_seq INCREMENT BY 50;
+SELECT setval('post_like_seq', (SELECT COALESCE(MAX(post_like_id), 0) + 50 FROM post_like), false);
+ALTER TABLE post_like ALTER COLUMN post_like_id DROP IDENTITY IF EXISTS;
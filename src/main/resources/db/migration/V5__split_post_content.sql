@@ -0,0 +1,26 @@
+-- 게시글 본문을 post_content로 분리하고 목록용 요약(excerpt)을 post에 둔다
+-- 조회수/좋아요 UPDATE는 행 전체를 새 버전으로 쓰므로, 본문이 같은 행에 있으면 카운터 하나 바꿀 때마다
+-- 본문까지 다시 쓰고 목록 조회도 본문을 끌고 다닌다. 분리 후 post 행은 짧은 고정 크기에 가깝다.
+--
+-- body 형식은 CompressedTextConverter를 따른다 (첫 바이트 0: UTF-8 그대로, 1: Deflate 압축).
+-- 기존 본문은 그대로(0) 옮기고, 수정될 때 애플리케이션이 기준 크기 이상이면 압축해서 다시 쓴다.
+-- 애플리케이션이 이미 압축하므로 PostgreSQL의 pglz 재압축은 끄고(EXTERNAL) 큰 값만 TOAST로 뺀다.
+
+CREATE TABLE post_content (
+    post_id    bigint PRIMARY KEY REFERENCES post (post_id) ON DELETE CASCADE,
+    body       bytea  NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
+ALTER TABLE post_content ALTER COLUMN body SET STORAGE EXTERNAL;
+
+INSERT INTO post_content (post_id, body, created_at, updated_at)
+SELECT post_id, decode('00', 'hex') || convert_to(content, 'UTF8'), created_at, updated_at
+FROM post;
+
+-- Post.excerptOf와 같은 규칙: 연속 공백을 하나로, 앞 150글자, 끝 공백 제거
+ALTER TABLE post ADD COLUMN excerpt varchar(150);
+UPDATE post SET excerpt = rtrim(left(btrim(regexp_replace(content, '\s+', ' ', 'g')), 150));
+ALTER TABLE post ALTER COLUMN excerpt SET NOT NULL;
+
+ALTER TABLE post DROP COLUMN content;
@@ -0,0 +1,14 @@
+-- 검색 색인 따라잡기용 변경 시각 (PostRepository.findDocumentsUpdatedSince)
+-- post.updated_at은 조회수/좋아요/북마크 UPDATE마다 바뀌어 재기동 때마다 인기 글을 다시 읽었고,
+-- post_content.updated_at까지 OR로 묶으면 인덱스를 못 타 두 테이블을 모두 훑었다.
+-- 제목/본문/카테고리가 바뀔 때만 애플리케이션(Post)이 갱신하는 컬럼을 따로 둔다.
+--
+-- 기본값 now()는 ALTER 시점에 한 번 계산되어 카탈로그에만 기록되므로 테이블을 다시 쓰지 않는다.
+-- 기존 행은 마이그레이션 시각을 갖게 되어, 적용 후 첫 재기동에서 한 번만 전체를 따라잡는다.
+-- 기본값은 SQL로 직접 넣는 경로(합성 데이터 생성, 대량 가져오기)의 행에도 작성 시각을 채운다.
+-- 인덱스는 V3처럼 CONCURRENTLY로 만든다 (트랜잭션 밖에서 실행, V6 .conf 참고).
+
+ALTER TABLE post ADD COLUMN IF NOT EXISTS content_updated_at timestamp(6) DEFAULT now();
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_content_updated_at
+    ON post (content_updated_at);
@@ -0,0 +1,7 @@
+-- 정렬 목록 키셋 조회의 최신순(LATEST = post_id 순) 카테고리 필터용
+-- V3은 카운터 정렬에만 (category_id, 정렬 컬럼, post_id)를 두었고, 최신순은 post_id 자체가 정렬 키라 빠져 있었다.
+-- 없으면 category_id = ? AND post_id < ? ORDER BY post_id DESC가 PK를 거꾸로 훑으며 다른 카테고리 행을 버린다.
+-- V3과 같이 CONCURRENTLY로 만든다 (트랜잭션 밖에서 실행, V7 .conf 참고).
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_category_id_post_id
+    ON post (category_id, post_id);
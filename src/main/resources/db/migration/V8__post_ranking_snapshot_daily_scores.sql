@@ -0,0 +1,11 @@
+-- 랭킹 스냅샷에 주간 점수의 일자별 버킷을 함께 저장한다 (PostRankingService.restore)
+-- weekly_score 합계만 있으면 재기동 시 7일치 합계가 오늘 버킷에 몰려, 이미 지난 날의 점수가
+-- 최대 13일 동안 주간 랭킹에 남았다. captured_day는 스냅샷을 뜬 날(epoch day),
+-- daily_scores[i]는 captured_day - i일의 점수다 (PostgreSQL 배열 첨자는 1부터이므로 daily_scores[1]이 당일).
+--
+-- 기존 행은 두 컬럼이 비어 있고, 복원 시 weekly_score를 created_at 날짜 하루치로 취급한다.
+-- 스냅샷은 주기 작업마다 전체를 다시 쓰므로 적용 후 한 주기가 지나면 모든 행이 채워진다.
+
+ALTER TABLE post_ranking_snapshot
+    ADD COLUMN IF NOT EXISTS captured_day bigint,
+    ADD COLUMN IF NOT EXISTS daily_scores bigint[];
@@ -0,0 +1,228 @@
+package com.example.board.domain.autocomplete.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.board.domain.autocomplete.dto.AutocompleteEntry;
+import com.example.board.domain.autocomplete.dto.AutocompleteResponse;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.category.repository.CategoryRepository;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+
+/**
+ * AutocompleteService 단위 테스트
+ *
+ * Narrative: 자동완성 서비스는 카테고리 이름과 최근 게시글 제목으로 트라이를 만들어
+ *            입력 중인 접두사에 맞는 후보를 DB 조회 없이 돌려주고, 글 작성/수정/삭제를 반영한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutocompleteService 단위 테스트")
+class AutocompleteServiceTest {
+
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private User testUser;
+    private Category freeBoard;
+    private final List<Runnable> pendingRebuilds = new ArrayList<>(); // 트라이 재구성 스레드 대신 직접 실행
+
+    // 대기 중인 트라이 재구성을 실행한다
+    private void runRebuilds() {
+        List<Runnable> tasks = List.copyOf(pendingRebuilds);
+        pendingRebuilds.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @BeforeEach
+    void setUp() {
+        autocompleteService = new AutocompleteService(categoryRepository, postRepository, 100, 10, pendingRebuilds::add);
+
+        testUser = User.builder()
+                .loginId("testuser")
+                .password("password")
+                .username("테스트유저")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(testUser, "id", 1L);
+
+        freeBoard = Category.builder().name("자유게시판").build();
+        ReflectionTestUtils.setField(freeBoard, "id", 1L);
+
+        given(categoryRepository.findAutocompleteEntries()).willReturn(List.of(
+                new AutocompleteEntry(1L, "자유게시판", 3L),
+                new AutocompleteEntry(2L, "자바 질문", 10L),
+                new AutocompleteEntry(3L, "Spring Boot", 5L)));
+        given(postRepository.findRecentTitleEntries(any(Pageable.class))).willReturn(List.of(
+                new AutocompleteEntry(5L, "자바 스트림 정리", 5L),
+                new AutocompleteEntry(4L, "자바 람다 질문", 4L)));
+        autocompleteService.buildTries();
+    }
+
+    private Post createPost(Long id, String title, Category category) {
+        Post post = Post.builder()
+                .user(testUser)
+                .title(title)
+                .content("내용")
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private List<String> categoryNames(AutocompleteResponse response) {
+        return response.getCategories().stream().map(AutocompleteResponse.Suggestion::getText).toList();
+    }
+
+    private List<Long> titleIds(AutocompleteResponse response) {
+        return response.getTitles().stream().map(AutocompleteResponse.Suggestion::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("자동완성 조회 기능")
+    class AutocompleteTest {
+
+        @Test
+        @DisplayName("성공: 접두사가 같은 카테고리를 게시글 많은 순으로, 제목을 최신순으로 반환한다")
+        void autocomplete_ReturnsCategoriesByPostCountAndTitlesByRecency() {
+            // When: "자"로 조회하면
+            AutocompleteResponse response = autocompleteService.autocomplete("자", 10);
+
+            // Then: 게시글 수/최신순으로 정렬된 후보가 반환된다
+            assertThat(categoryNames(response)).containsExactly("자바 질문", "자유게시판");
+            assertThat(titleIds(response)).containsExactly(5L, 4L);
+        }
+
+        @Test
+        @DisplayName("성공: 입력 중인 자음이나 받침만으로도 다음 글자까지 찾는다")
+        void autocomplete_PartialHangul_MatchesNextSyllable() {
+            // When & Then: 초성만 입력해도 찾는다
+            assertThat(categoryNames(autocompleteService.autocomplete("자ㅇ", 10))).containsExactly("자유게시판");
+            // When & Then: 다음 글자 초성이 받침으로 붙은 상태("장")에서도 찾는다
+            assertThat(categoryNames(autocompleteService.autocomplete("장", 10))).containsExactly("자유게시판");
+        }
+
+        @Test
+        @DisplayName("성공: 영문은 대소문자와 공백 수를 구분하지 않는다")
+        void autocomplete_Latin_IgnoresCaseAndSpaces() {
+            // When: 소문자와 여러 공백으로 조회하면
+            AutocompleteResponse response = autocompleteService.autocomplete("spring   bo", 10);
+
+            // Then: 원래 표기대로 반환된다
+            assertThat(categoryNames(response)).containsExactly("Spring Boot");
+        }
+
+        @Test
+        @DisplayName("성공: 요청 개수만큼만 반환하고, 일치하는 후보가 없으면 빈 목록이다")
+        void autocomplete_LimitAndNoMatch() {
+            assertThat(categoryNames(autocompleteService.autocomplete("자", 1))).containsExactly("자바 질문");
+            assertThat(autocompleteService.autocomplete("파이썬", 10).getCategories()).isEmpty();
+            assertThat(autocompleteService.autocomplete("", 10).getTitles()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 변경 반영 기능")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("성공: 새 카테고리로 작성된 글은 카테고리와 제목 모두 바로 검색된다")
+        void addPost_WithNewCategory_AddsCategoryAndTitle() {
+            // Given: 새 카테고리로 글이 작성되었을 때
+            Category newCategory = Category.builder().name("자격증 후기").build();
+            ReflectionTestUtils.setField(newCategory, "id", 4L);
+
+            // When: 반영하면
+            autocompleteService.addPost(createPost(6L, "자격증 합격 후기", newCategory));
+            runRebuilds();
+
+            // Then: DB 재조회 없이 후보에 포함된다
+            AutocompleteResponse response = autocompleteService.autocomplete("자격", 10);
+            assertThat(categoryNames(response)).containsExactly("자격증 후기");
+            assertThat(titleIds(response)).containsExactly(6L);
+            then(categoryRepository).should(times(1)).findAutocompleteEntries();
+        }
+
+        @Test
+        @DisplayName("성공: 글이 추가되면 카테고리 게시글 수가 늘어 순서에 반영된다")
+        void addPost_IncreasesCategoryWeight() {
+            // Given: 자유게시판(3건)에 글이 8건 더 작성되면
+            for (long id = 10; id < 18; id++) {
+                autocompleteService.addPost(createPost(id, "잡담 " + id, freeBoard));
+            }
+            runRebuilds();
+
+            // When & Then: 자바 질문(10건)보다 앞선다
+            assertThat(categoryNames(autocompleteService.autocomplete("자", 10)))
+                    .containsExactly("자유게시판", "자바 질문");
+        }
+
+        @Test
+        @DisplayName("성공: 수정된 제목은 새 제목으로만 검색된다")
+        void updatePost_ReplacesTitle() {
+            // Given: 최근 글의 제목이 바뀌었을 때
+            Post post = createPost(5L, "자바 스트림 정리", freeBoard);
+            post.update("코틀린 코루틴 정리", "내용", freeBoard);
+
+            // When: 반영하면
+            autocompleteService.updatePost(post, freeBoard);
+            runRebuilds();
+
+            // Then: 예전 제목 접두사로는 나오지 않는다
+            assertThat(titleIds(autocompleteService.autocomplete("자바 스", 10))).isEmpty();
+            assertThat(titleIds(autocompleteService.autocomplete("코틀린", 10))).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("성공: 삭제된 글의 제목은 후보에서 빠진다")
+        void removePost_RemovesTitle() {
+            // When: 글이 삭제되면
+            autocompleteService.removePost(createPost(4L, "자바 람다 질문", freeBoard));
+            runRebuilds();
+
+            // Then: 제목 후보에서 빠진다
+            assertThat(titleIds(autocompleteService.autocomplete("자바", 10))).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("성공: 재구성 전에 들어온 여러 변경은 한 번의 재구성으로 함께 반영된다")
+        void addPost_Burst_CoalescesRebuilds() {
+            // Given: 재구성 스레드가 아직 돌지 않은 상태에서
+            // When: 글이 연달아 작성되면
+            for (long id = 10; id < 15; id++) {
+                autocompleteService.addPost(createPost(id, "자습 기록 " + id, freeBoard));
+            }
+
+            // Then: 재구성 작업은 하나만 대기하고, 실행 전까지는 이전 트라이로 답한다
+            assertThat(pendingRebuilds).hasSize(1);
+            assertThat(titleIds(autocompleteService.autocomplete("자습", 10))).isEmpty();
+
+            // When: 그 작업이 실행되면
+            runRebuilds();
+
+            // Then: 다섯 건이 모두 반영된다
+            assertThat(titleIds(autocompleteService.autocomplete("자습", 10))).containsExactly(14L, 13L, 12L, 11L, 10L);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.board.domain.bookmark.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.bookmark.entity.Bookmark;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * BookmarkService SQL 문 수 통합 테스트
+ *
+ * Narrative: 북마크 목록은 북마크 수와 관계없이 게시글/작성자/카테고리를 한 쿼리로 읽고,
+ *            북마크 토글은 북마크 행과 게시글 카운터만 바꾼다.
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("BookmarkService SQL 문 수 통합 테스트")
+class BookmarkServiceSqlBudgetTest {
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User reader;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Category category = new Category("북마크 예산 테스트");
+        entityManager.persist(category);
+        reader = User.builder()
+                .loginId("bookmarkbudget")
+                .password("password")
+                .username("북마크독자")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(reader);
+        for (int i = 0; i < 3; i++) {
+            User writer = User.builder()
+                    .loginId("bookmarkwriter" + i)
+                    .password("password")
+                    .username("북마크작성자" + i)
+                    .role(Role.USER)
+                    .build();
+            entityManager.persist(writer);
+            Post post = Post.builder()
+                    .user(writer)
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .category(i == 0 ? null : category)
+                    .build();
+            entityManager.persist(post);
+            posts.add(post);
+        }
+        // 마지막 게시글은 북마크하지 않은 상태로 둔다
+        for (Post post : posts.subList(0, 2)) {
+            entityManager.persist(Bookmark.builder().user(reader).post(post).build());
+            post.increaseBookmarkCount();
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("북마크 목록 조회")
+    class GetBookmarkedPosts {
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("북마크한 게시글을 작성자/카테고리와 함께 한 쿼리로 가져온다")
+        void getBookmarkedPosts_SingleSelect() {
+            // When
+            List<PostResponse> bookmarked = bookmarkService.getBookmarkedPosts(reader.getId());
+
+            // Then: 작성자가 게시글마다 다르고 카테고리가 없는 게시글도 있어도 추가 쿼리가 없다
+            assertThat(bookmarked).extracting(PostResponse::getWriter)
+                    .containsExactlyInAnyOrder("북마크작성자0", "북마크작성자1");
+        }
+    }
+
+    @Nested
+    @DisplayName("북마크 토글")
+    class ToggleBookmark {
+
+        @Test
+        @SqlBudget(select = 4, insert = 1, update = 1)
+        @DisplayName("추가는 존재 확인, 사용자/게시글 조회, 시퀀스(할당분이 떨어졌을 때), INSERT, 카운터 UPDATE로 끝난다")
+        void toggleBookmark_Add_WithinBudget() {
+            // When
+            boolean bookmarked = bookmarkService.toggleBookmark(reader.getId(), posts.get(2).getId());
+            entityManager.flush(); // 커밋 때 나갈 INSERT/UPDATE까지 센다
+
+            // Then
+            assertThat(bookmarked).isTrue();
+        }
+
+        @Test
+        @SqlBudget(select = 3, update = 1, delete = 1)
+        @DisplayName("해제는 존재 확인, 삭제할 북마크 조회, 게시글 조회, DELETE, 카운터 UPDATE로 끝난다")
+        void toggleBookmark_Remove_WithinBudget() {
+            // When
+            boolean bookmarked = bookmarkService.toggleBookmark(reader.getId(), posts.get(0).getId());
+            entityManager.flush();
+
+            // Then
+            assertThat(bookmarked).isFalse();
+        }
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("북마크 여부 확인은 존재 확인 한 번이다")
+        void isBookmarked_SingleSelect() {
+            // When & Then
+            assertThat(bookmarkService.isBookmarked(reader.getId(), posts.get(1).getId())).isTrue();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.example.board.domain.bookmark.repository.BookmarkRepository;
 import com.example.board.domain.post.dto.PostResponse;
 import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
 import com.example.board.domain.user.entity.Role;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
@@ -48,6 +49,9 @@ class BookmarkServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostRankingService postRankingService;
+
     private User testUser;
     private Post testPost;
     private Bookmark testBookmark;
@@ -134,8 +138,9 @@ class BookmarkServiceTest {
             // When: 북마크를 추가하면
             bookmarkService.addBookmark(userId, postId);
 
-            // Then: 북마크가 저장된다
+            // Then: 북마크가 저장되고 게시글 북마크 수가 증가한다
             then(bookmarkRepository).should().save(any(Bookmark.class));
+            assertThat(testPost.getBookmarkCount()).isEqualTo(1L);
         }
 
         @Test
@@ -181,11 +186,30 @@ class BookmarkServiceTest {
             Long userId = 1L;
             Long postId = 1L;
 
+            testPost.increaseBookmarkCount();
+            given(bookmarkRepository.deleteByUserIdAndPostId(userId, postId)).willReturn(1L);
+            given(postRepository.findById(postId)).willReturn(Optional.of(testPost));
+
             // When: 북마크를 삭제하면
             bookmarkService.removeBookmark(userId, postId);
 
-            // Then: 북마크가 삭제된다
+            // Then: 북마크가 삭제되고 게시글 북마크 수가 감소한다
             then(bookmarkRepository).should().deleteByUserIdAndPostId(userId, postId);
+            assertThat(testPost.getBookmarkCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 삭제할 북마크가 없으면 북마크 수를 건드리지 않는다")
+        void removeBookmark_WhenNotBookmarked_KeepsCount() {
+            // Given: 북마크가 없을 때
+            Long userId = 1L;
+            Long postId = 1L;
+
+            // When: 북마크를 삭제하면
+            bookmarkService.removeBookmark(userId, postId);
+
+            // Then: 게시글을 조회하지 않는다
+            then(postRepository).should(never()).findById(postId);
         }
     }
 
@@ -0,0 +1,299 @@
+package com.example.board.domain.bulkimport.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import com.example.board.domain.export.dto.CommentExportRow;
+import com.example.board.domain.export.dto.PostExportRow;
+import com.example.board.domain.post.entity.LikeType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * BoardImportService 단위 테스트
+ *
+ * Narrative: 가져오기 서비스는 파일을 줄 경계에 맞춘 조각으로 나눠 파싱하고,
+ *            작성자를 메모리 사전으로 찾으며, 거부된 행을 참조하는 행을 함께 걸러 낸다.
+ *            조각마다 재개 지점을 남겨 중단된 위치부터 이어서 가져온다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardImportService 단위 테스트")
+class BoardImportServiceTest {
+
+    private BoardImportService boardImportService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @TempDir
+    private Path tempDir;
+
+    private ImportLookups lookups;
+
+    @BeforeEach
+    void setUp() {
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        boardImportService = new BoardImportService(entityManagerFactory, DataSize.ofBytes(64), 2, 100);
+        lookups = new ImportLookups(
+                Map.of(1L, "테스트유저", 2L, "댓글러", 3L, "동명이인", 4L, "동명이인"),
+                Map.of("자유게시판", 10L));
+    }
+
+    private Path writeFile(String... lines) throws Exception {
+        Path file = tempDir.resolve("board.ndjson");
+        Files.writeString(file, String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private ImportBatch parseAll(Path file) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return boardImportService.parseChunk(channel, 0, channel.size(), lookups);
+        }
+    }
+
+    @Nested
+    @DisplayName("조각 나누기 기능")
+    class ChunkTest {
+
+        @Test
+        @DisplayName("성공: 조각 경계는 항상 줄 시작이고, 조각들을 이으면 파일 전체가 된다")
+        void nextBoundary_SplitsAtLineBreaks() throws Exception {
+            // Given: 조각 크기(64바이트)보다 긴 줄이 섞인 파일
+            List<String> lines = new ArrayList<>();
+            for (int i = 1; i <= 20; i++) {
+                lines.add("{\"type\":\"bookmark\",\"postId\":" + i + ",\"userId\":1" + " ".repeat(i * 7) + "}");
+            }
+            Path file = writeFile(lines.toArray(String[]::new));
+            byte[] content = Files.readAllBytes(file);
+
+            // When: 처음부터 끝까지 경계를 구하면
+            List<Long> boundaries = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long position = 0;
+                while (position < channel.size()) {
+                    position = boardImportService.nextBoundary(channel, position, channel.size());
+                    boundaries.add(position);
+                }
+            }
+
+            // Then: 모든 경계 바로 앞은 줄바꿈이고, 마지막 경계는 파일 끝이다
+            assertThat(boundaries).isSorted().last().isEqualTo((long) content.length);
+            boundaries.forEach(boundary -> assertThat(content[(int) (boundary - 1)]).isEqualTo((byte) '\n'));
+        }
+
+        @Test
+        @DisplayName("성공: 조각별로 파싱해도 전체를 한 번에 파싱한 것과 같은 행이 나온다")
+        void parseChunk_ChunkedEqualsWhole() throws Exception {
+            // Given
+            List<String> lines = new ArrayList<>();
+            for (int i = 1; i <= 30; i++) {
+                lines.add("{\"type\":\"post\",\"id\":" + i + ",\"userId\":1,\"title\":\"제목 " + i + "\",\"content\":\"내용\"}");
+            }
+            Path file = writeFile(lines.toArray(String[]::new));
+
+            // When: 64바이트 조각으로 나눠 파싱하면
+            List<Long> ids = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long position = 0;
+                while (position < channel.size()) {
+                    long end = boardImportService.nextBoundary(channel, position, channel.size());
+                    boardImportService.parseChunk(channel, position, end, lookups).posts
+                            .forEach(post -> ids.add(post.getId()));
+                    position = end;
+                }
+            }
+
+            // Then: 빠지거나 중복된 행이 없다
+            assertThat(ids).hasSize(30).doesNotHaveDuplicates().isSorted();
+        }
+    }
+
+    @Nested
+    @DisplayName("레코드 파싱 기능")
+    class ParseTest {
+
+        @Test
+        @DisplayName("성공: 게시글/댓글/좋아요/북마크 줄을 각각의 행으로 변환한다")
+        void parseChunk_AllTypes() throws Exception {
+            // Given: 내보내기 형식의 줄과 반응 줄
+            Path file = writeFile(
+                    "{\"type\":\"post\",\"id\":1,\"userId\":1,\"writer\":\"테스트유저\",\"categoryId\":99,"
+                            + "\"categoryName\":\"자유게시판\",\"title\":\"\\\"인용\\\" 제목\",\"content\":\"첫 줄\\n둘째 줄 \\u0041\","
+                            + "\"viewCount\":7,\"likeCount\":1,\"dislikeCount\":0,\"bookmarkCount\":1,"
+                            + "\"createdAt\":\"2025-01-31T09:30:00\",\"updatedAt\":null}",
+                    "{\"type\":\"comment\",\"id\":10,\"postId\":1,\"parentId\":null,\"userId\":2,\"writer\":\"댓글러\","
+                            + "\"content\":\"댓글\",\"deleted\":true,\"createdAt\":\"2025-01-31T10:00:00\",\"updatedAt\":null}",
+                    "",
+                    "{\"type\":\"like\",\"postId\":1,\"userId\":2,\"likeType\":\"DISLIKE\"}",
+                    "{\"type\":\"bookmark\",\"id\":500,\"postId\":1,\"userId\":2}");
+
+            // When
+            ImportBatch batch = parseAll(file);
+
+            // Then
+            assertThat(batch.rejected).isZero();
+            PostExportRow post = batch.posts.get(0);
+            assertThat(post.getTitle()).isEqualTo("\"인용\" 제목");
+            assertThat(post.getContent()).isEqualTo("첫 줄\n둘째 줄 A");
+            assertThat(post.getCategoryId()).isNull(); // 파일의 categoryId는 쓰지 않는다
+            assertThat(post.getCategoryName()).isEqualTo("자유게시판");
+            assertThat(post.getViewCount()).isEqualTo(7L);
+            assertThat(post.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 1, 31, 9, 30));
+
+            CommentExportRow comment = batch.comments.get(0);
+            assertThat(comment.getPostId()).isEqualTo(1L);
+            assertThat(comment.getParentId()).isNull();
+            assertThat(comment.isDeleted()).isTrue();
+
+            assertThat(batch.likes).containsExactly(new ImportBatch.LikeRow(null, 1L, 2L, LikeType.DISLIKE, null));
+            assertThat(batch.bookmarks).containsExactly(new ImportBatch.BookmarkRow(500L, 1L, 2L, null));
+        }
+
+        @Test
+        @DisplayName("성공: 대상 DB에 없는 userId는 작성자 이름으로 찾고, 찾을 수 없거나 이름이 겹치면 거부한다")
+        void parseChunk_ResolvesUsersByName() throws Exception {
+            // Given
+            Path file = writeFile(
+                    "{\"type\":\"post\",\"id\":1,\"userId\":901,\"writer\":\"테스트유저\",\"title\":\"t\",\"content\":\"c\"}",
+                    "{\"type\":\"post\",\"id\":2,\"userId\":902,\"writer\":\"모르는사람\",\"title\":\"t\",\"content\":\"c\"}",
+                    "{\"type\":\"post\",\"id\":3,\"userId\":903,\"writer\":\"동명이인\",\"title\":\"t\",\"content\":\"c\"}");
+
+            // When
+            ImportBatch batch = parseAll(file);
+
+            // Then: 1번은 테스트유저(1)로 연결, 2/3번은 거부
+            assertThat(batch.posts).extracting(PostExportRow::getId, PostExportRow::getUserId)
+                    .containsExactly(tuple(1L, 1L));
+            assertThat(batch.rejectedPostIds).containsExactlyInAnyOrder(2L, 3L);
+            assertThat(batch.rejected).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실패: 형식이 잘못된 줄은 거부 건수로 세고 나머지는 계속 읽는다")
+        void parseChunk_MalformedLines_AreRejected() throws Exception {
+            // Given
+            Path file = writeFile(
+                    "{\"type\":\"post\",\"id\":1,\"userId\":1,\"title\":\"t\",\"content\":\"c\"",
+                    "{\"type\":\"post\",\"id\":2,\"userId\":1,\"content\":\"제목 없음\"}",
+                    "{\"type\":\"poll\",\"id\":3}",
+                    "{\"type\":\"post\",\"id\":1.5,\"userId\":1,\"title\":\"t\",\"content\":\"c\"}",
+                    "{\"type\":\"post\",\"id\":4,\"userId\":1,\"title\":\"t\",\"content\":\"c\"}");
+
+            // When
+            ImportBatch batch = parseAll(file);
+
+            // Then
+            assertThat(batch.posts).extracting(PostExportRow::getId).containsExactly(4L);
+            assertThat(batch.rejected).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("거부 행 연쇄 처리 기능")
+    class OrphanTest {
+
+        @Test
+        @DisplayName("성공: 거부된 게시글의 댓글/반응과 거부된 댓글의 답글을 함께 걸러 낸다")
+        void dropOrphans_CascadesRejections() {
+            // Given: 앞 조각에서 게시글 1이 거부되었고, 이번 조각에서 댓글 20이 거부된 상태
+            ImportBatch batch = new ImportBatch(0, 100);
+            batch.rejectedCommentIds.add(20L);
+            batch.comments.add(new CommentExportRow(10L, 1L, null, 2L, "댓글러", "c", false, null, null));
+            batch.comments.add(new CommentExportRow(11L, 1L, 10L, 2L, "댓글러", "c", false, null, null));
+            batch.comments.add(new CommentExportRow(21L, 2L, 20L, 2L, "댓글러", "c", false, null, null));
+            batch.comments.add(new CommentExportRow(22L, 2L, 21L, 2L, "댓글러", "c", false, null, null));
+            batch.comments.add(new CommentExportRow(23L, 2L, null, 2L, "댓글러", "c", false, null, null));
+            batch.likes.add(new ImportBatch.LikeRow(null, 1L, 2L, LikeType.LIKE, null));
+            batch.bookmarks.add(new ImportBatch.BookmarkRow(null, 2L, 2L, null));
+            Set<Long> rejectedPosts = new HashSet<>(Set.of(1L));
+            Set<Long> rejectedComments = new HashSet<>();
+
+            // When
+            BoardImportService.dropOrphans(batch, rejectedPosts, rejectedComments);
+
+            // Then: 답글의 답글(22)까지 걸러지고, 다음 조각을 위해 거부 ID가 누적된다
+            assertThat(batch.comments).extracting(CommentExportRow::getId).containsExactly(23L);
+            assertThat(batch.likes).isEmpty();
+            assertThat(batch.bookmarks).hasSize(1);
+            assertThat(batch.rejected).isEqualTo(5);
+            assertThat(rejectedComments).containsExactlyInAnyOrder(10L, 11L, 20L, 21L, 22L);
+        }
+    }
+
+    @Nested
+    @DisplayName("재개 지점 기능")
+    class CheckpointTest {
+
+        @Test
+        @DisplayName("성공: 기록한 위치와 건수, 거부 ID를 그대로 읽는다")
+        void checkpoint_RoundTrip() throws Exception {
+            // Given
+            Path checkpointFile = tempDir.resolve("board.ndjson.checkpoint");
+            ImportCheckpoint checkpoint = new ImportCheckpoint(1000L, 42L);
+            checkpoint.offset = 640L;
+            checkpoint.posts = 10;
+            checkpoint.comments = 20;
+            checkpoint.rejected = 1;
+            checkpoint.rejectedPostIds.add(7L);
+
+            // When
+            checkpoint.write(checkpointFile);
+            ImportCheckpoint restored = ImportCheckpoint.read(checkpointFile, 1000L, 42L);
+
+            // Then
+            assertThat(restored.offset).isEqualTo(640L);
+            assertThat(restored.posts).isEqualTo(10);
+            assertThat(restored.comments).isEqualTo(20);
+            assertThat(restored.rejected).isEqualTo(1);
+            assertThat(restored.rejectedPostIds).containsExactly(7L);
+            assertThat(restored.rejectedCommentIds).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 입력 파일이 바뀌었거나 기록이 없으면 처음부터 시작한다")
+        void checkpoint_DifferentFile_Ignored() throws Exception {
+            // Given
+            Path checkpointFile = tempDir.resolve("board.ndjson.checkpoint");
+            new ImportCheckpoint(1000L, 42L).write(checkpointFile);
+
+            // When & Then
+            assertThat(ImportCheckpoint.read(checkpointFile, 2000L, 42L)).isNull();
+            assertThat(ImportCheckpoint.read(tempDir.resolve("missing"), 1000L, 42L)).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 압축된 파일은 나눠 읽을 수 없어 거부한다")
+        void importFile_Gzip_Rejected() {
+            assertThatThrownBy(() -> boardImportService.importFile(tempDir.resolve("board.ndjson.gz"),
+                    tempDir.resolve("checkpoint")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("압축");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.board.domain.category.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.board.domain.category.dto.CategoryResponse;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.category.repository.CategoryRepository;
+import com.example.board.global.cache.CacheRegions;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 카테고리 2차 캐시 통합 테스트
+ *
+ * Narrative: 카테고리와 카테고리 목록은 2차 캐시 리전에서 읽고, 카테고리가 추가되면 목록을 다시 읽는다.
+ *            적중/미스는 Hibernate 리전 통계의 증가분으로 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("카테고리 2차 캐시 통합 테스트")
+class CategorySecondLevelCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categories;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String suffix;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        // 별도 트랜잭션으로 커밋해야 READ_WRITE 리전에 들어간다
+        suffix = Long.toString(System.nanoTime(), 36);
+        categoryId = categories.save(new Category("캐시" + suffix)).getId();
+        // 저장 커밋으로 무효화된 목록 쿼리 캐시를 다시 채워 둔다
+        categoryService.getAllCategories();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categories.findByName("캐시추가" + suffix).ifPresent(categories::delete);
+        categories.deleteById(categoryId);
+    }
+
+    @Test
+    @DisplayName("미스: 캐시에 없으면 한 번 읽고 리전에 채운다")
+    void findById_Miss_LoadsAndCaches() {
+        // Given: 리전에서 카테고리를 내보냈을 때
+        entityManagerFactory.getCache().evict(Category.class, categoryId);
+        long misses = entityRegion().getMissCount();
+        long puts = entityRegion().getPutCount();
+
+        // When: 카테고리를 조회하면
+        Category category = categoryService.findById(categoryId);
+
+        // Then: 리전 미스 한 번 뒤 DB에서 읽은 카테고리가 리전에 들어간다
+        assertThat(category.getName()).isEqualTo("캐시" + suffix);
+        assertThat(entityRegion().getMissCount() - misses).isEqualTo(1);
+        assertThat(entityRegion().getPutCount() - puts).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(Category.class, categoryId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("적중: 카테고리와 카테고리 목록을 리전에서 돌려준다")
+    void findAndList_Hit_FromRegions() {
+        // Given: 카테고리와 목록 조회 결과가 리전에 있을 때
+        long entityHits = entityRegion().getHitCount();
+        long entityMisses = entityRegion().getMissCount();
+        long queryHits = queryRegion().getHitCount();
+        long queryMisses = queryRegion().getMissCount();
+
+        // When: 카테고리와 전체 목록을 조회하면
+        Category category = categoryService.findById(categoryId);
+        List<CategoryResponse> all = categoryService.getAllCategories();
+
+        // Then: 두 리전 모두 미스 없이 적중한다
+        assertThat(category.getName()).isEqualTo("캐시" + suffix);
+        assertThat(all).extracting(CategoryResponse::getName).contains("캐시" + suffix);
+        assertThat(entityRegion().getHitCount()).isGreaterThan(entityHits);
+        assertThat(entityRegion().getMissCount()).isEqualTo(entityMisses);
+        assertThat(queryRegion().getHitCount() - queryHits).isEqualTo(1);
+        assertThat(queryRegion().getMissCount()).isEqualTo(queryMisses);
+    }
+
+    @Test
+    @DisplayName("무효화: 카테고리를 추가하면 목록을 다시 읽어 새 카테고리가 보인다")
+    void createCategory_InvalidatesListQuery() {
+        // When: 카테고리를 추가한 뒤 목록을 조회하면
+        categoryService.createCategory("캐시추가" + suffix);
+        List<CategoryResponse> all = categoryService.getAllCategories();
+
+        // Then: 캐시된 이전 목록이 아니라 새 카테고리가 포함된 목록이 반환된다
+        assertThat(all).extracting(CategoryResponse::getName).contains("캐시" + suffix, "캐시추가" + suffix);
+    }
+
+    private CacheRegionStatistics entityRegion() {
+        return statistics().getDomainDataRegionStatistics(CacheRegions.CATEGORY);
+    }
+
+    private CacheRegionStatistics queryRegion() {
+        return statistics().getQueryRegionStatistics(CacheRegions.CATEGORY_QUERIES);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
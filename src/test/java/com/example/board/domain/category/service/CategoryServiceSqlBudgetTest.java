@@ -0,0 +1,89 @@
+package com.example.board.domain.category.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.category.dto.CategoryResponse;
+import com.example.board.domain.category.entity.Category;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * CategoryService SQL 문 수 통합 테스트
+ *
+ * Narrative: 화면마다 불리는 카테고리 목록은 카테고리 수와 관계없이 한 쿼리로 읽는다.
+ *            글 작성 중 새 카테고리는 이름 확인 후 없을 때만 INSERT한다.
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("CategoryService SQL 문 수 통합 테스트")
+class CategoryServiceSqlBudgetTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new Category("카테고리 예산 " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("카테고리 조회/생성")
+    class GetAndCreate {
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("전체 목록은 한 쿼리로 끝난다")
+        void getAllCategories_SingleSelect() {
+            // When
+            List<CategoryResponse> categories = categoryService.getAllCategories();
+
+            // Then
+            assertThat(categories).extracting(CategoryResponse::getName)
+                    .contains("카테고리 예산 0", "카테고리 예산 1", "카테고리 예산 2");
+        }
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("이미 있는 이름이면 조회 한 번으로 기존 카테고리를 돌려준다")
+        void getOrCreateCategory_Existing_SingleSelect() {
+            // When
+            Category category = categoryService.getOrCreateCategory("카테고리 예산 1");
+
+            // Then
+            assertThat(category.getId()).isNotNull();
+        }
+
+        @Test
+        @SqlBudget(select = 2, insert = 1)
+        @DisplayName("새 이름이면 이름 확인, 시퀀스(할당분이 떨어졌을 때), INSERT로 끝난다")
+        void getOrCreateCategory_New_WithinBudget() {
+            // When
+            Category category = categoryService.getOrCreateCategory("카테고리 예산 새 이름");
+            entityManager.flush(); // 커밋 때 나갈 INSERT까지 센다
+
+            // Then
+            assertThat(category.getId()).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.board.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.comment.dto.CommentCreateRequest;
+import com.example.board.domain.comment.dto.CommentResponse;
+import com.example.board.domain.comment.entity.Comment;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * CommentService SQL 문 수 통합 테스트
+ *
+ * Narrative: 댓글 페이지는 댓글/대댓글 수와 관계없이 부모 댓글 한 쿼리, 대댓글 한 쿼리로 읽는다.
+ *            작성자 이름은 DTO 행으로 함께 가져오므로 댓글마다 사용자를 다시 읽지 않는다.
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("CommentService SQL 문 수 통합 테스트")
+class CommentServiceSqlBudgetTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User writer;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        writer = User.builder()
+                .loginId("commentbudget")
+                .password("password")
+                .username("댓글작성자")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(writer);
+        post = Post.builder().user(writer).title("댓글 예산 테스트").content("내용").build();
+        entityManager.persist(post);
+        for (int i = 0; i < 3; i++) {
+            User commenter = User.builder()
+                    .loginId("commenter" + i)
+                    .password("password")
+                    .username("댓글러" + i)
+                    .role(Role.USER)
+                    .build();
+            entityManager.persist(commenter);
+            comment = Comment.builder().content("댓글 " + i).user(commenter).post(post).build();
+            entityManager.persist(comment);
+            entityManager.persist(Comment.builder().content("대댓글 " + i).user(writer).post(post).parent(comment).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("댓글 목록 조회")
+    class GetComments {
+
+        @Test
+        @SqlBudget(select = 2)
+        @DisplayName("첫 페이지가 다 차지 않으면 부모 댓글과 대댓글 두 쿼리로 끝난다")
+        void getCommentsByPostId_TwoSelects() {
+            // When
+            Page<CommentResponse> page = commentService.getCommentsByPostId(post.getId(), null, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(page.getContent()).hasSize(3);
+            assertThat(page.getContent()).allSatisfy(parent -> assertThat(parent.getReplies()).hasSize(1));
+        }
+
+        @Test
+        @SqlBudget(select = 3)
+        @DisplayName("다음 페이지가 있으면 전체 건수 쿼리가 하나 더 나간다")
+        void getCommentsByPostId_FullPage_CountsOnce() {
+            // When
+            Page<CommentResponse> page = commentService.getCommentsByPostId(post.getId(), null, PageRequest.of(0, 2));
+
+            // Then
+            assertThat(page.getTotalElements()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 작성/삭제")
+    class WriteComment {
+
+        @Test
+        @SqlBudget(select = 4, insert = 1)
+        @DisplayName("대댓글 작성은 게시글/사용자/부모 댓글 조회, 시퀀스(할당분이 떨어졌을 때), INSERT로 끝난다")
+        void writeComment_Reply_WithinBudget() {
+            // Given
+            CommentCreateRequest request = new CommentCreateRequest();
+            request.setContent("새 대댓글");
+            request.setParentId(comment.getId());
+
+            // When
+            Long commentId = commentService.writeComment(request, writer.getId(), post.getId());
+            entityManager.flush(); // 커밋 때 나갈 INSERT까지 센다
+
+            // Then
+            assertThat(commentId).isNotNull();
+        }
+
+        @Test
+        @SqlBudget(select = 1, update = 1)
+        @DisplayName("삭제는 댓글 조회와 soft delete UPDATE 하나다")
+        void deleteComment_WithinBudget() {
+            // When
+            commentService.deleteComment(comment.getId());
+            entityManager.flush();
+
+            // Then
+            assertThat(entityManager.find(Comment.class, comment.getId()).isDeleted()).isTrue();
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.example.board.domain.comment.entity.Comment;
 import com.example.board.domain.comment.repository.CommentRepository;
 import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.ranking.service.RankingEvent;
 import com.example.board.domain.user.entity.Role;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
@@ -47,6 +49,9 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostRankingService postRankingService;
+
     private User testUser;
     private Post testPost;
     private Comment testComment;
@@ -246,6 +251,21 @@ class CommentServiceTest {
             assertThat(testComment.getContent()).isEqualTo("삭제된 댓글입니다.");
         }
 
+        @Test
+        @DisplayName("성공: 이미 삭제된 댓글을 다시 삭제해도 랭킹 점수는 한 번만 빠진다")
+        void deleteComment_Twice_RecordsOnce() {
+            // Given: 존재하는 댓글이 있을 때
+            Long commentId = 1L;
+            given(commentRepository.findById(commentId)).willReturn(Optional.of(testComment));
+
+            // When: 같은 댓글을 두 번 삭제하면
+            commentService.deleteComment(commentId);
+            commentService.deleteComment(commentId);
+
+            // Then: 댓글 삭제 이벤트는 한 번만 기록된다
+            then(postRankingService).should(times(1)).record(testPost.getId(), RankingEvent.COMMENT_DELETED);
+        }
+
         @Test
         @DisplayName("실패: 존재하지 않는 댓글을 삭제하면 예외가 발생한다")
         void deleteComment_NonExistentComment_ThrowsException() {
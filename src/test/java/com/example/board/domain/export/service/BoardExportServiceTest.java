@@ -0,0 +1,132 @@
+package com.example.board.domain.export.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.board.domain.export.dto.CommentExportRow;
+import com.example.board.domain.export.dto.ExportSummary;
+import com.example.board.domain.export.dto.PostExportRow;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * BoardExportService 단위 테스트
+ *
+ * Narrative: 내보내기 서비스는 ID순 게시글 커서와 게시글 ID순 댓글 커서를 병합해
+ *            게시글 한 줄 뒤에 그 게시글의 댓글 줄이 오는 NDJSON을 쓴다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardExportService 단위 테스트")
+class BoardExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 31, 9, 30);
+
+    private BoardExportService boardExportService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        boardExportService = new BoardExportService(entityManagerFactory, 100);
+    }
+
+    private PostExportRow post(Long id, String title, String content) {
+        return new PostExportRow(id, 1L, "테스트유저", 1L, "자유게시판", title, content,
+                0L, 0L, 0L, 0L, CREATED_AT, CREATED_AT);
+    }
+
+    private CommentExportRow comment(Long id, Long postId, Long parentId) {
+        return new CommentExportRow(id, postId, parentId, 2L, "댓글러", "댓글 " + id, false, CREATED_AT, CREATED_AT);
+    }
+
+    private List<String> export(List<PostExportRow> posts, List<CommentExportRow> comments) throws Exception {
+        StringWriter writer = new StringWriter();
+        boardExportService.write(posts.iterator(), comments.iterator(), writer, System.nanoTime());
+        return writer.toString().lines().toList();
+    }
+
+    @Nested
+    @DisplayName("NDJSON 작성 기능")
+    class WriteTest {
+
+        @Test
+        @DisplayName("성공: 게시글 줄 바로 뒤에 그 게시글의 댓글 줄이 이어진다")
+        void write_CommentsFollowTheirPost() throws Exception {
+            // Given: 댓글이 있는 게시글과 없는 게시글
+            List<PostExportRow> posts = List.of(post(1L, "첫 글", "내용"), post(2L, "둘째 글", "내용"), post(3L, "셋째 글", "내용"));
+            List<CommentExportRow> comments = List.of(comment(10L, 1L, null), comment(11L, 1L, 10L), comment(12L, 3L, null));
+
+            // When: 내보내면
+            List<String> lines = export(posts, comments);
+
+            // Then: 게시글/댓글 순서가 병합되어 있다
+            assertThat(lines).hasSize(6);
+            assertThat(lines.get(0)).startsWith("{\"type\":\"post\",\"id\":1,");
+            assertThat(lines.get(1)).startsWith("{\"type\":\"comment\",\"id\":10,\"postId\":1,\"parentId\":null,");
+            assertThat(lines.get(2)).startsWith("{\"type\":\"comment\",\"id\":11,\"postId\":1,\"parentId\":10,");
+            assertThat(lines.get(3)).startsWith("{\"type\":\"post\",\"id\":2,");
+            assertThat(lines.get(4)).startsWith("{\"type\":\"post\",\"id\":3,");
+            assertThat(lines.get(5)).startsWith("{\"type\":\"comment\",\"id\":12,\"postId\":3,");
+        }
+
+        @Test
+        @DisplayName("성공: 따옴표, 역슬래시, 줄바꿈, 제어 문자를 이스케이프해 한 줄을 유지한다")
+        void write_EscapesJsonStrings() throws Exception {
+            // Given: 특수 문자가 들어간 게시글
+            List<PostExportRow> posts = List.of(post(1L, "\"인용\" \\ 경로", "첫 줄\n둘째 줄\t탭\u0001"));
+
+            // When: 내보내면
+            List<String> lines = export(posts, List.of());
+
+            // Then: 한 줄로 이스케이프되어 쓰인다
+            assertThat(lines).hasSize(1);
+            assertThat(lines.get(0))
+                    .contains("\"title\":\"\\\"인용\\\" \\\\ 경로\"")
+                    .contains("\"content\":\"첫 줄\\n둘째 줄\\t탭\\u0001\"")
+                    .contains("\"createdAt\":\"2025-01-31T09:30:00\"")
+                    .endsWith("}");
+        }
+
+        @Test
+        @DisplayName("성공: 게시글/댓글 건수를 집계하고, 짝이 없는 댓글도 버리지 않는다")
+        void write_CountsRowsAndKeepsOrphanComments() throws Exception {
+            // Given: 마지막 게시글보다 게시글 ID가 큰 댓글
+            List<PostExportRow> posts = List.of(post(1L, "글", "내용"));
+            List<CommentExportRow> comments = List.of(comment(10L, 1L, null), comment(20L, 5L, null));
+
+            // When: 내보내면
+            StringWriter writer = new StringWriter();
+            ExportSummary summary = boardExportService.write(posts.iterator(), comments.iterator(), writer, System.nanoTime());
+
+            // Then: 모든 행이 쓰이고 건수가 맞다
+            assertThat(summary.getPosts()).isEqualTo(1);
+            assertThat(summary.getComments()).isEqualTo(2);
+            assertThat(writer.toString().lines()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("성공: 게시글이 없으면 아무것도 쓰지 않는다")
+        void write_Empty() throws Exception {
+            // When & Then
+            assertThat(export(List.of(), List.of())).isEmpty();
+        }
+    }
+}
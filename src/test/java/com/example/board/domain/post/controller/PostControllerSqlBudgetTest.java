@@ -0,0 +1,102 @@
+package com.example.board.domain.post.controller;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.comment.entity.Comment;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostContent;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * PostController SQL 문 수 통합 테스트
+ *
+ * Narrative: 게시글 상세 화면은 댓글/답글 수와 관계없이 정해진 수의 쿼리로 그려져야 한다.
+ */
+// 문장 수만 센다: 첫 요청은 JIT/쿼리 계획 캐시가 비어 있어 느린 CI에서 상세 화면 마감(1s)을 넘길 수 있다
+@SpringBootTest(properties = "board.resilience.query-deadline.post-detail=30s")
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("PostController SQL 문 수 통합 테스트")
+class PostControllerSqlBudgetTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+    private User viewer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        User writer = user("sqlbudget_writer", "작성자");
+        viewer = user("sqlbudget_viewer", "열람자");
+        Category category = new Category("SQL 예산 테스트");
+        entityManager.persist(category);
+        post = Post.builder().user(writer).title("상세 게시글").content("본문").category(category).build();
+        entityManager.persist(post);
+        entityManager.persist(new PostContent(post, "본문"));
+        for (int i = 0; i < 3; i++) {
+            Comment parent = Comment.builder().content("댓글 " + i).user(writer).post(post).build();
+            entityManager.persist(parent);
+            entityManager.persist(Comment.builder().content("답글 " + i).user(viewer).post(post).parent(parent).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 본문(게시글/작성자/카테고리 포함), 로그인 사용자, 북마크 여부, 부모 댓글, 답글(IN 한 번), 댓글 수
+    @Test
+    @SqlBudget(select = 6, update = 1)
+    @DisplayName("상세 화면은 댓글 수와 관계없이 6번의 조회와 조회수 갱신 한 번으로 그려진다")
+    void postDetail_WithinBudget() throws Exception {
+        // When
+        mockMvc.perform(get("/posts/{postId}", post.getId()).sessionAttr("loginUserId", viewer.getId()))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("post", "comments"));
+        entityManager.flush(); // 커밋 때 나갈 조회수 UPDATE까지 센다
+    }
+
+    // 비로그인: 로그인 사용자와 북마크 여부는 조회하지 않는다
+    @Test
+    @SqlBudget(select = 4, update = 1)
+    @DisplayName("비로그인 상세 화면은 사용자/북마크 조회 없이 4번의 조회로 그려진다")
+    void postDetail_Anonymous_WithinBudget() throws Exception {
+        // When
+        mockMvc.perform(get("/posts/{postId}", post.getId()))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("post", "comments"));
+        entityManager.flush();
+    }
+
+    private User user(String loginId, String username) {
+        User user = User.builder().loginId(loginId).password("password").username(username).role(Role.USER).build();
+        entityManager.persist(user);
+        return user;
+    }
+}
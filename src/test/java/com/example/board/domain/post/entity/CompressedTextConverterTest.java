@@ -0,0 +1,91 @@
+package com.example.board.domain.post.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompressedTextConverter 단위 테스트
+ *
+ * Narrative: 게시글 본문은 기준 크기 이상일 때만 압축해서 저장하고,
+ *            어느 형식으로 저장되었든 읽을 때는 원래 문자열로 돌아와야 한다.
+ */
+@DisplayName("CompressedTextConverter 단위 테스트")
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Nested
+    @DisplayName("저장 형식")
+    class EncodeTest {
+
+        @Test
+        @DisplayName("성공: 기준 크기보다 작은 본문은 형식 바이트 뒤에 UTF-8 그대로 저장한다")
+        void smallBody_StoredPlain() {
+            // Given
+            String body = "짧은 본문";
+
+            // When
+            byte[] stored = converter.convertToDatabaseColumn(body);
+
+            // Then
+            assertThat(stored[0]).isEqualTo((byte) 0);
+            assertThat(new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8)).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("성공: 기준 크기 이상이고 반복이 많은 본문은 압축해서 더 작게 저장한다")
+        void largeBody_StoredCompressed() {
+            // Given
+            String body = "스프링 데이터 JPA 정리\n".repeat(200);
+
+            // When
+            byte[] stored = converter.convertToDatabaseColumn(body);
+
+            // Then
+            assertThat(stored[0]).isEqualTo((byte) 1);
+            assertThat(stored.length).isLessThan(body.getBytes(StandardCharsets.UTF_8).length / 4);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽기")
+    class DecodeTest {
+
+        @Test
+        @DisplayName("성공: 압축 여부와 관계없이 원래 본문으로 돌아온다")
+        void roundTrip_RestoresBody() {
+            // Given
+            String small = "안녕하세요 😀";
+            String large = "가나다라마바사 emoji 😀 ".repeat(500);
+
+            // When & Then
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(small))).isEqualTo(small);
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(large))).isEqualTo(large);
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(""))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 마이그레이션이 옮긴 형식(0x00 + UTF-8)을 그대로 읽는다")
+        void migratedPlainBody_Readable() {
+            // Given: decode('00', 'hex') || convert_to(content, 'UTF8')와 같은 바이트
+            byte[] utf8 = "기존 본문".getBytes(StandardCharsets.UTF_8);
+            byte[] migrated = new byte[utf8.length + 1];
+            System.arraycopy(utf8, 0, migrated, 1, utf8.length);
+
+            // When & Then
+            assertThat(converter.convertToEntityAttribute(migrated)).isEqualTo("기존 본문");
+        }
+
+        @Test
+        @DisplayName("실패: 알 수 없는 형식 바이트면 예외가 발생한다")
+        void unknownFormat_Throws() {
+            assertThatThrownBy(() -> converter.convertToEntityAttribute(new byte[] {9, 1, 2}))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.board.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.post.entity.LikeType;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostLike;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * PostLikeService SQL 문 수 통합 테스트
+ *
+ * Narrative: 좋아요/싫어요 토글은 게시글, 사용자, 기존 반응을 한 번씩 읽고
+ *            반응 행 하나와 게시글 카운터만 바꾼다.
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("PostLikeService SQL 문 수 통합 테스트")
+class PostLikeServiceSqlBudgetTest {
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User liker;
+    private User disliker;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User writer = User.builder()
+                .loginId("likebudget")
+                .password("password")
+                .username("좋아요작성자")
+                .role(Role.USER)
+                .build();
+        liker = User.builder()
+                .loginId("likebudget1")
+                .password("password")
+                .username("좋아요독자")
+                .role(Role.USER)
+                .build();
+        disliker = User.builder()
+                .loginId("likebudget2")
+                .password("password")
+                .username("싫어요독자")
+                .role(Role.USER)
+                .build();
+        entityManager.persist(writer);
+        entityManager.persist(liker);
+        entityManager.persist(disliker);
+        post = Post.builder().user(writer).title("좋아요 예산 테스트").content("내용").build();
+        entityManager.persist(post);
+        entityManager.persist(PostLike.builder().post(post).user(disliker).likeType(LikeType.DISLIKE).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("반응 토글")
+    class Toggle {
+
+        @Test
+        @SqlBudget(select = 4, insert = 1, update = 1)
+        @DisplayName("새 좋아요는 게시글/사용자/기존 반응 조회, 시퀀스(할당분이 떨어졌을 때), INSERT, 카운터 UPDATE로 끝난다")
+        void toggleLike_New_WithinBudget() {
+            // When
+            String result = postLikeService.toggleLike(post.getId(), liker.getId());
+            entityManager.flush(); // 커밋 때 나갈 INSERT/UPDATE까지 센다
+
+            // Then
+            assertThat(result).isEqualTo("created");
+        }
+
+        @Test
+        @SqlBudget(select = 3, update = 2)
+        @DisplayName("싫어요를 좋아요로 바꾸면 반응 행과 게시글 카운터 UPDATE 하나씩이다")
+        void toggleLike_Change_WithinBudget() {
+            // When
+            String result = postLikeService.toggleLike(post.getId(), disliker.getId());
+            entityManager.flush();
+
+            // Then
+            assertThat(result).isEqualTo("changed");
+        }
+
+        @Test
+        @SqlBudget(select = 3)
+        @DisplayName("내 반응 조회는 게시글/사용자/반응 조회로 끝난다")
+        void getUserLikeType_WithinBudget() {
+            // When & Then
+            assertThat(postLikeService.getUserLikeType(post.getId(), disliker.getId())).isEqualTo(LikeType.DISLIKE);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.example.board.domain.post.entity.Post;
 import com.example.board.domain.post.entity.PostLike;
 import com.example.board.domain.post.repository.PostLikeRepository;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
 import com.example.board.domain.user.entity.Role;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
@@ -47,6 +48,9 @@ class PostLikeServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostRankingService postRankingService;
+
     private User testUser;
     private Post testPost;
 
@@ -0,0 +1,119 @@
+package com.example.board.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostContent;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * PostService SQL 문 수 통합 테스트
+ *
+ * Narrative: 게시글 목록/상세 조회는 게시글 수와 관계없이 정해진 수의 쿼리로 끝나야 한다.
+ *            작성자/카테고리 지연 로딩이 게시글마다 쿼리를 만들면(N+1) 상한을 넘어 실패한다.
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("PostService SQL 문 수 통합 테스트")
+class PostServiceSqlBudgetTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Category category;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        category = new Category("SQL 예산 테스트");
+        entityManager.persist(category);
+        for (int i = 0; i < 3; i++) {
+            User writer = User.builder()
+                    .loginId("sqlbudget" + i)
+                    .password("password")
+                    .username("작성자" + i)
+                    .role(Role.USER)
+                    .build();
+            entityManager.persist(writer);
+            post = Post.builder()
+                    .user(writer)
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .category(category)
+                    .build();
+            entityManager.persist(post);
+            entityManager.persist(new PostContent(post, "내용 " + i));
+        }
+        // 준비 데이터를 내려쓰고 영속성 컨텍스트를 비워야 조회 시 실제 쿼리가 나간다
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("게시글 목록 조회")
+    class GetPosts {
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("전체 목록은 작성자/카테고리를 한 쿼리로 함께 가져온다")
+        void getAllPosts_SingleSelect() {
+            // When
+            List<PostResponse> posts = postService.getAllPosts();
+
+            // Then
+            assertThat(posts).extracting(PostResponse::getWriter).contains("작성자0", "작성자1", "작성자2");
+        }
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("카테고리별 목록도 한 쿼리로 끝난다")
+        void getPostsByCategory_SingleSelect() {
+            // When
+            List<PostResponse> posts = postService.getPostsByCategory(category.getId());
+
+            // Then
+            assertThat(posts).hasSize(3);
+            assertThat(posts).extracting(PostResponse::getCategoryName).containsOnly("SQL 예산 테스트");
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 상세 조회")
+    class GetPost {
+
+        @Test
+        @SqlBudget(select = 1, update = 1)
+        @DisplayName("본문, 게시글, 작성자, 카테고리를 한 쿼리로 읽고 조회수 UPDATE는 게시글 행만 바꾼다")
+        void getPost_WithinBudget() {
+            // When
+            PostResponse response = postService.getPost(post.getId(), null);
+            entityManager.flush(); // 커밋 때 나갈 조회수 UPDATE까지 센다
+
+            // Then
+            assertThat(response.getViewCount()).isEqualTo(1L);
+            assertThat(response.getContent()).isEqualTo("내용 2");
+        }
+    }
+}
@@ -18,13 +18,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.example.board.domain.autocomplete.service.AutocompleteService;
 import com.example.board.domain.category.entity.Category;
 import com.example.board.domain.category.service.CategoryService;
 import com.example.board.domain.post.dto.PostCreateRequest;
+import com.example.board.domain.post.dto.PostCursor;
 import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.post.dto.PostSliceResponse;
 import com.example.board.domain.post.dto.PostUpdateRequest;
 import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.entity.PostContent;
+import com.example.board.domain.post.entity.PostSortType;
+import com.example.board.domain.post.repository.PostContentRepository;
 import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.service.PostRankingService;
+import com.example.board.domain.ranking.service.RankingEvent;
+import com.example.board.domain.search.service.PostSearchService;
 import com.example.board.domain.user.entity.Role;
 import com.example.board.domain.user.entity.User;
 import com.example.board.domain.user.repository.UserRepository;
@@ -44,14 +53,27 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostContentRepository postContentRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private PostRankingService postRankingService;
+
+    @Mock
+    private PostSearchService postSearchService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
     private User testUser;
     private Post testPost;
+    private PostContent testContent;
     private Category testCategory;
 
     @BeforeEach
@@ -76,6 +98,7 @@ class PostServiceTest {
                 .category(testCategory)
                 .build();
         ReflectionTestUtils.setField(testPost, "id", 1L);
+        testContent = new PostContent(testPost, "테스트 내용입니다.");
     }
 
     @Nested
@@ -106,6 +129,29 @@ class PostServiceTest {
             assertThat(posts.get(1).getTitle()).isEqualTo("테스트 게시글");
         }
 
+        @Test
+        @DisplayName("성공: 목록에는 본문 대신 공백을 정리하고 잘라낸 요약이 담긴다")
+        void getAllPosts_CarriesExcerptInsteadOfContent() {
+            // Given: 본문이 요약 길이보다 길고 줄바꿈이 섞인 게시글이 있을 때
+            Post longPost = Post.builder()
+                    .user(testUser)
+                    .title("긴 게시글")
+                    .content("  첫 줄\n\n  둘째 줄 " + "가".repeat(Post.EXCERPT_LENGTH))
+                    .category(testCategory)
+                    .build();
+            ReflectionTestUtils.setField(longPost, "id", 3L);
+            given(postRepository.findAllByOrderByCreatedAtDesc()).willReturn(List.of(longPost));
+
+            // When: 전체 게시글을 조회하면
+            PostResponse response = postService.getAllPosts().get(0);
+
+            // Then: 본문 없이 앞부분 요약만 반환된다
+            assertThat(response.getContent()).isNull();
+            assertThat(response.getExcerpt()).startsWith("첫 줄 둘째 줄 가");
+            assertThat(response.getExcerpt().codePointCount(0, response.getExcerpt().length()))
+                    .isEqualTo(Post.EXCERPT_LENGTH);
+        }
+
         @Test
         @DisplayName("성공: 특정 카테고리의 게시글 목록을 조회한다")
         void getPostsByCategory_ReturnsFilteredPosts() {
@@ -121,6 +167,59 @@ class PostServiceTest {
             assertThat(posts).hasSize(1);
             assertThat(posts.get(0).getTitle()).isEqualTo("테스트 게시글");
         }
+
+        @Test
+        @DisplayName("성공: 정렬 목록은 한 건 더 읽어 다음 페이지가 있으면 마지막 게시글로 커서를 만든다")
+        void getSortedPosts_WithNextPage_ReturnsCursor() {
+            // Given: 요청 크기보다 한 건 더 조회될 때
+            Post post2 = Post.builder()
+                    .user(testUser)
+                    .title("두 번째 게시글")
+                    .content("두 번째 내용")
+                    .category(testCategory)
+                    .build();
+            ReflectionTestUtils.setField(post2, "id", 2L);
+            ReflectionTestUtils.setField(testPost, "likeCount", 5L);
+            ReflectionTestUtils.setField(post2, "likeCount", 3L);
+            given(postRepository.findSortedPage(PostSortType.LIKES, 1L, null, 2))
+                    .willReturn(List.of(testPost, post2));
+
+            // When: 좋아요순 첫 페이지를 1건씩 조회하면
+            PostSliceResponse response = postService.getSortedPosts(PostSortType.LIKES, 1L, null, 1);
+
+            // Then: 1건과 (좋아요 수, 게시글 ID) 커서가 반환된다
+            assertThat(response.getPosts()).extracting(PostResponse::getId).containsExactly(1L);
+            assertThat(response.isHasNext()).isTrue();
+            PostCursor cursor = PostCursor.decode(response.getNextCursor());
+            assertThat(cursor.getSortValue()).isEqualTo(5L);
+            assertThat(cursor.getPostId()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 커서를 넘기면 그 다음 행부터 조회하고, 마지막 페이지면 커서가 없다")
+        void getSortedPosts_LastPage_HasNoCursor() {
+            // Given: 커서 이후 게시글이 요청 크기 이하일 때
+            String cursor = new PostCursor(5L, 1L).encode();
+            given(postRepository.findSortedPage(eq(PostSortType.VIEWS), isNull(), any(PostCursor.class), eq(11)))
+                    .willReturn(List.of(testPost));
+
+            // When: 다음 페이지를 조회하면
+            PostSliceResponse response = postService.getSortedPosts(PostSortType.VIEWS, null, cursor, 10);
+
+            // Then: 다음 페이지가 없다
+            assertThat(response.getPosts()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 형식이 잘못된 커서는 예외가 발생한다")
+        void getSortedPosts_InvalidCursor_ThrowsException() {
+            // When & Then: 예외가 발생한다
+            assertThatThrownBy(() -> postService.getSortedPosts(PostSortType.LIKES, null, "잘못된커서", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
     }
 
     @Nested
@@ -134,14 +233,16 @@ class PostServiceTest {
             Long postId = 1L;
             Long loginUserId = 2L; // 다른 사용자
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(testPost));
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.of(testContent));
 
             // When: 게시글을 조회하면
             PostResponse response = postService.getPost(postId, loginUserId);
 
-            // Then: 조회수가 증가하고 게시글 정보가 반환된다
+            // Then: 조회수가 증가하고 본문을 포함한 게시글 정보가 반환된다
             assertThat(response).isNotNull();
+            assertThat(response.getContent()).isEqualTo("테스트 내용입니다.");
             assertThat(testPost.getViewCount()).isEqualTo(1L);
+            then(postRankingService).should().record(testPost, RankingEvent.VIEW);
         }
 
         @Test
@@ -151,7 +252,7 @@ class PostServiceTest {
             Long postId = 1L;
             Long authorId = 1L; // 작성자 본인
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(testPost));
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.of(testContent));
 
             // When: 게시글을 조회하면
             PostResponse response = postService.getPost(postId, authorId);
@@ -159,6 +260,7 @@ class PostServiceTest {
             // Then: 조회수가 증가하지 않는다
             assertThat(response).isNotNull();
             assertThat(testPost.getViewCount()).isEqualTo(0L);
+            then(postRankingService).shouldHaveNoInteractions();
         }
 
         @Test
@@ -168,7 +270,7 @@ class PostServiceTest {
             Long postId = 1L;
             Long loginUserId = null;
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(testPost));
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.of(testContent));
 
             // When: 게시글을 조회하면
             PostResponse response = postService.getPost(postId, loginUserId);
@@ -183,7 +285,7 @@ class PostServiceTest {
         void getPost_NonExistentPost_ThrowsException() {
             // Given: 존재하지 않는 게시글 ID로 조회할 때
             Long postId = 999L;
-            given(postRepository.findById(postId)).willReturn(Optional.empty());
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.empty());
 
             // When & Then: 예외가 발생한다
             assertThatThrownBy(() -> postService.getPost(postId, 1L))
@@ -216,6 +318,9 @@ class PostServiceTest {
             // Then: 게시글이 저장되고 ID가 반환된다
             assertThat(postId).isEqualTo(1L);
             then(postRepository).should().save(any(Post.class));
+            then(postContentRepository).should().save(any(PostContent.class));
+            then(postSearchService).should().index(testPost, "새 게시글 내용");
+            then(autocompleteService).should().addPost(testPost);
         }
 
         @Test
@@ -275,7 +380,7 @@ class PostServiceTest {
             request.setContent("수정된 내용");
             request.setCategoryId(1L);
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(testPost));
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.of(testContent));
             given(categoryService.findById(1L)).willReturn(testCategory);
 
             // When: 게시글을 수정하면
@@ -283,7 +388,9 @@ class PostServiceTest {
 
             // Then: 게시글이 수정된다
             assertThat(testPost.getTitle()).isEqualTo("수정된 제목");
-            assertThat(testPost.getContent()).isEqualTo("수정된 내용");
+            assertThat(testPost.getExcerpt()).isEqualTo("수정된 내용");
+            assertThat(testContent.getBody()).isEqualTo("수정된 내용");
+            then(autocompleteService).should().updatePost(testPost, testCategory);
         }
 
         @Test
@@ -296,7 +403,7 @@ class PostServiceTest {
             request.setTitle("수정된 제목");
             request.setContent("수정된 내용");
 
-            given(postRepository.findById(postId)).willReturn(Optional.of(testPost));
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.of(testContent));
 
             // When & Then: 예외가 발생한다
             assertThatThrownBy(() -> postService.updatePost(postId, nonAuthorId, request))
@@ -311,7 +418,7 @@ class PostServiceTest {
             Long postId = 999L;
             PostUpdateRequest request = new PostUpdateRequest();
 
-            given(postRepository.findById(postId)).willReturn(Optional.empty());
+            given(postContentRepository.findWithPostById(postId)).willReturn(Optional.empty());
 
             // When & Then: 예외가 발생한다
             assertThatThrownBy(() -> postService.updatePost(postId, 1L, request))
@@ -338,6 +445,7 @@ class PostServiceTest {
 
             // Then: 게시글이 삭제된다
             then(postRepository).should().delete(testPost);
+            then(autocompleteService).should().removePost(testPost);
         }
 
         @Test
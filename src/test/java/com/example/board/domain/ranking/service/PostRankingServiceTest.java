@@ -0,0 +1,349 @@
+package com.example.board.domain.ranking.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.ranking.entity.PostRankingSnapshot;
+import com.example.board.domain.ranking.entity.RankingType;
+import com.example.board.domain.ranking.repository.PostRankingSnapshotRepository;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+
+/**
+ * PostRankingService 단위 테스트
+ *
+ * Narrative: 랭킹 엔진은 게시글 이벤트를 시간 감쇠 점수와 주간 점수로 누적하고,
+ *            전체/카테고리별 상위 K개 게시글을 제공한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostRankingService 단위 테스트")
+class PostRankingServiceTest {
+
+    private static final Clock BASE_CLOCK = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private PostRankingSnapshotRepository snapshotRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostRankingService postRankingService;
+    private User testUser;
+    private Category freeCategory;
+    private Category noticeCategory;
+
+    @BeforeEach
+    void setUp() {
+        postRankingService = new PostRankingService(snapshotRepository, postRepository, 2, Duration.ofHours(6), BASE_CLOCK);
+
+        testUser = User.builder()
+                .loginId("testuser")
+                .password("password")
+                .username("테스트유저")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(testUser, "id", 1L);
+
+        freeCategory = Category.builder().name("자유게시판").build();
+        ReflectionTestUtils.setField(freeCategory, "id", 1L);
+        noticeCategory = Category.builder().name("공지사항").build();
+        ReflectionTestUtils.setField(noticeCategory, "id", 2L);
+    }
+
+    private Post createPost(Long id, Category category) {
+        Post post = Post.builder()
+                .user(testUser)
+                .title("게시글 " + id)
+                .content("내용")
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private void advanceClock(Duration duration) {
+        ReflectionTestUtils.setField(postRankingService, "clock", Clock.offset(BASE_CLOCK, duration));
+    }
+
+    @Nested
+    @DisplayName("HOT 랭킹")
+    class HotRankingTest {
+
+        @Test
+        @DisplayName("성공: 가중치 합이 큰 게시글이 상위에 온다")
+        void record_HigherWeight_RanksFirst() {
+            // Given: 한 게시글은 조회 1회, 다른 게시글은 좋아요 1회를 받았을 때
+            Post viewed = createPost(1L, freeCategory);
+            Post liked = createPost(2L, freeCategory);
+
+            // When: 이벤트를 반영하면
+            postRankingService.record(viewed, RankingEvent.VIEW);
+            postRankingService.record(liked, RankingEvent.LIKE);
+
+            // Then: 좋아요를 받은 게시글이 먼저 온다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("성공: 오래된 이벤트는 감쇠되어 최근 이벤트보다 낮게 평가된다")
+        void record_OldEvents_DecayOverTime() {
+            // Given: 한 게시글이 좋아요 2회를 받고 하루가 지났을 때
+            Post oldPost = createPost(1L, freeCategory);
+            postRankingService.record(oldPost, RankingEvent.LIKE);
+            postRankingService.record(oldPost, RankingEvent.LIKE);
+            advanceClock(Duration.ofDays(1));
+
+            // When: 새 게시글이 좋아요 1회를 받으면
+            Post newPost = createPost(2L, freeCategory);
+            postRankingService.record(newPost, RankingEvent.LIKE);
+
+            // Then: 새 게시글이 먼저 온다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("성공: 상위 K개만 유지한다")
+        void record_MoreThanCapacity_KeepsTopK() {
+            // Given: 용량(2)보다 많은 게시글에 이벤트가 들어올 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.VIEW);
+            postRankingService.record(createPost(2L, freeCategory), RankingEvent.LIKE);
+            postRankingService.record(createPost(3L, freeCategory), RankingEvent.BOOKMARK);
+
+            // When: 상위 게시글을 조회하면
+            List<Long> top = postRankingService.getTopPostIds(RankingType.HOT, null, 10);
+
+            // Then: 점수가 높은 2개만 반환된다
+            assertThat(top).containsExactly(3L, 2L);
+        }
+
+        @Test
+        @DisplayName("성공: 카테고리별 랭킹이 분리된다")
+        void record_ByCategory_SeparatesRanking() {
+            // Given: 서로 다른 카테고리의 게시글에 이벤트가 들어올 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+            postRankingService.record(createPost(2L, noticeCategory), RankingEvent.VIEW);
+
+            // When & Then: 카테고리별로 해당 게시글만 조회된다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 1L, 10)).containsExactly(1L);
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 2L, 10)).containsExactly(2L);
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 3L, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 카테고리를 변경하면 새 카테고리 랭킹으로 이동한다")
+        void changeCategory_MovesPostBetweenCategories() {
+            // Given: 자유게시판 게시글이 랭킹에 있을 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+
+            // When: 공지사항으로 카테고리를 변경하면
+            postRankingService.changeCategory(1L, 2L);
+
+            // Then: 공지사항 랭킹에만 나타난다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 1L, 10)).isEmpty();
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 2L, 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 삭제된 게시글은 랭킹에서 제외된다")
+        void remove_ExcludesPost() {
+            // Given: 랭킹에 게시글이 있을 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+
+            // When: 게시글을 삭제하면
+            postRankingService.remove(1L);
+
+            // Then: 랭킹에서 사라진다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).isEmpty();
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 1L, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 추적하지 않는 게시글의 ID 기반 이벤트는 무시된다")
+        void record_UntrackedPostId_IsIgnored() {
+            // When: 추적 중이 아닌 게시글의 북마크 해제 이벤트가 들어오면
+            postRankingService.record(1L, RankingEvent.BOOKMARK_CANCELLED);
+
+            // Then: 랭킹에 추가되지 않는다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 스냅샷 작업 없이 오래 지나도 점수가 넘치지 않고 가중치 순서를 지킨다")
+        void record_LongAfterEpochWithoutSnapshot_KeepsOrder() {
+            // Given: 반감기 1100번(2^1100은 double 범위를 넘는다)이 지나도록 스냅샷이 돌지 않았을 때
+            advanceClock(Duration.ofHours(6 * 1100));
+
+            // When: 조회와 좋아요가 들어오면
+            postRankingService.record(createPost(2L, freeCategory), RankingEvent.VIEW);
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+
+            // Then: 둘 다 무한대로 같아지지 않고 좋아요 게시글이 위에 온다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).containsExactly(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 연동")
+    class TransactionTest {
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션 안의 이벤트는 커밋된 뒤에 반영된다")
+        void record_InTransaction_AppliesAfterCommit() {
+            // Given: 트랜잭션 동기화가 켜져 있을 때
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When: 이벤트를 기록하면
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+
+            // Then: 커밋 전에는 반영되지 않고, 커밋되면 반영된다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 트랜잭션이 롤백되면 이벤트를 버린다")
+        void record_RolledBack_IsDiscarded() {
+            // Given: 트랜잭션 동기화가 켜져 있을 때
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When: 이벤트를 기록한 뒤 롤백되면
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then: 랭킹에 남지 않는다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 게시글 수정이 롤백되면 카테고리 이동을 버린다")
+        void changeCategory_RolledBack_KeepsCategory() {
+            // Given: 자유게시판 게시글이 랭킹에 있고 트랜잭션 동기화가 켜져 있을 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When: 카테고리를 변경한 뒤 롤백되면
+            postRankingService.changeCategory(1L, 2L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then: 여전히 자유게시판 랭킹에 있다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 1L, 10)).containsExactly(1L);
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, 2L, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 게시글 삭제가 롤백되면 랭킹에 남고, 커밋되면 빠진다")
+        void remove_InTransaction_AppliesAfterCommit() {
+            // Given: 랭킹에 게시글이 있고 트랜잭션 동기화가 켜져 있을 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+            TransactionSynchronizationManager.initSynchronization();
+
+            // When: 삭제를 기록하면
+            postRankingService.remove(1L);
+
+            // Then: 커밋 전(롤백될 수 있는 동안)에는 남아 있고, 커밋되면 빠진다
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).containsExactly(1L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(postRankingService.getTopPostIds(RankingType.HOT, null, 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("주간 랭킹")
+    class WeeklyRankingTest {
+
+        @Test
+        @DisplayName("성공: 7일이 지난 이벤트는 주간 점수에서 제외된다")
+        void snapshot_AfterAWeek_DropsOldEvents() {
+            // Given: 8일 전 게시글에 이벤트가 있었고, 오늘 다른 게시글에 이벤트가 있을 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.BOOKMARK);
+            advanceClock(Duration.ofDays(8));
+            postRankingService.record(createPost(2L, freeCategory), RankingEvent.VIEW);
+
+            // When: 주기 작업으로 힙이 재구성되면
+            postRankingService.snapshot();
+
+            // Then: 오늘 이벤트가 있는 게시글만 남는다
+            assertThat(postRankingService.getTopPostIds(RankingType.WEEKLY, null, 10)).containsExactly(2L);
+            then(snapshotRepository).should().deleteAllInBatch();
+            then(snapshotRepository).should().saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("성공: 저장할 스냅샷 행은 ID가 있어도 새 행으로 표시되어 조회 없이 INSERT된다")
+        void snapshot_RowsAreNew() {
+            // Given: 랭킹에 게시글이 있을 때
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.LIKE);
+            postRankingService.record(createPost(2L, noticeCategory), RankingEvent.VIEW);
+
+            // When: 스냅샷을 저장하면
+            postRankingService.snapshot();
+
+            // Then: 모든 행이 isNew라 saveAll이 merge(행마다 SELECT) 대신 persist를 쓴다
+            ArgumentCaptor<List<PostRankingSnapshot>> rows = ArgumentCaptor.captor();
+            then(snapshotRepository).should().saveAll(rows.capture());
+            assertThat(rows.getValue()).hasSize(2).allMatch(PostRankingSnapshot::isNew);
+        }
+
+        @Test
+        @DisplayName("성공: 재기동 시 주간 점수를 원래 날짜 버킷으로 복원하고 7일이 지난 날은 버린다")
+        void restore_RebuildsDailyBuckets() {
+            // Given: 5일 전 북마크가 몰린 게시글과 오늘 조회된 게시글의 스냅샷을 뜬 뒤
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.BOOKMARK);
+            postRankingService.record(createPost(1L, freeCategory), RankingEvent.BOOKMARK);
+            advanceClock(Duration.ofDays(5));
+            postRankingService.record(createPost(2L, freeCategory), RankingEvent.VIEW);
+            postRankingService.snapshot();
+            ArgumentCaptor<List<PostRankingSnapshot>> rows = ArgumentCaptor.captor();
+            then(snapshotRepository).should().saveAll(rows.capture());
+            rows.getValue().forEach(row -> ReflectionTestUtils.setField(row, "createdAt",
+                    LocalDateTime.ofInstant(BASE_CLOCK.instant().plus(Duration.ofDays(5)), BASE_CLOCK.getZone())));
+
+            // When: 3일 뒤 새 인스턴스가 스냅샷으로 복원되면
+            PostRankingService restarted = new PostRankingService(snapshotRepository, postRepository, 2,
+                    Duration.ofHours(6), Clock.offset(BASE_CLOCK, Duration.ofDays(8)));
+            given(snapshotRepository.findAll()).willReturn(rows.getValue());
+            restarted.restore();
+            restarted.snapshot();
+
+            // Then: 8일 전 북마크는 주간 점수에서 빠져 정리되고 3일 전 조회만 남는다
+            assertThat(restarted.getTopPostIds(RankingType.WEEKLY, null, 10)).containsExactly(2L);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.board.domain.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.board.domain.category.entity.Category;
+import com.example.board.domain.post.entity.Post;
+import com.example.board.domain.post.repository.PostRepository;
+import com.example.board.domain.search.dto.PostDocument;
+import com.example.board.domain.search.dto.SearchResponse;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+
+/**
+ * PostSearchService 단위 테스트
+ *
+ * Narrative: 검색 서비스는 기동 시 게시글을 배치로 읽어 역색인을 만들고,
+ *            작성/수정/삭제를 색인에 반영하며, BM25 순으로 검색 결과를 제공한다.
+ *            색인은 디스크 세그먼트로 기록되어 재시작 시 다시 구축하지 않는다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchService 단위 테스트")
+class PostSearchServiceTest {
+
+    private PostSearchService postSearchService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @TempDir
+    private Path indexDir;
+
+    private User testUser;
+    private Category testCategory;
+
+    @BeforeEach
+    void setUp() {
+        postSearchService = createService();
+
+        testUser = User.builder()
+                .loginId("testuser")
+                .password("password")
+                .username("테스트유저")
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(testUser, "id", 1L);
+
+        testCategory = Category.builder().name("자유게시판").build();
+        ReflectionTestUtils.setField(testCategory, "id", 1L);
+    }
+
+    private PostSearchService createService() {
+        return new PostSearchService(postRepository, indexDir, 10000, 8);
+    }
+
+    private Post createPost(Long id, String title, String content, Category category) {
+        Post post = Post.builder()
+                .user(testUser)
+                .title(title)
+                .content(content)
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+
+    private List<Long> resultIds(SearchResponse response) {
+        return response.getPosts().stream().map(p -> p.getId()).toList();
+    }
+
+    @Nested
+    @DisplayName("색인 구축 기능")
+    class BuildIndexTest {
+
+        @Test
+        @DisplayName("성공: 게시글을 ID 순 배치로 끝까지 읽어 색인한다")
+        void buildIndex_ReadsAllBatches() {
+            // Given: 게시글이 한 배치 있고, 그 다음 배치는 비어 있을 때
+            given(postRepository.findDocumentsAfter(eq(0L), any(Pageable.class)))
+                    .willReturn(List.of(new PostDocument(1L, 1L, "스프링 게시판", "JPA 공부"),
+                                        new PostDocument(2L, null, "점심 메뉴", "김치찌개")));
+            given(postRepository.findDocumentsAfter(eq(2L), any(Pageable.class))).willReturn(List.of());
+            given(postRepository.findAllWithUserAndCategoryByIdIn(List.of(1L)))
+                    .willReturn(List.of(createPost(1L, "스프링 게시판", "JPA 공부", testCategory)));
+
+            // When: 색인을 구축하고 검색하면
+            postSearchService.openIndex();
+            SearchResponse response = postSearchService.search("게시판", null, 10);
+
+            // Then: 색인된 게시글이 검색된다
+            assertThat(response.getTotalHits()).isEqualTo(1);
+            assertThat(resultIds(response)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 재시작하면 디스크 세그먼트를 열고 마지막 기록 이후 수정분만 읽는다")
+        void openIndex_Restart_RestoresFromDisk() {
+            // Given: 색인이 디스크에 기록된 상태에서
+            given(postRepository.findDocumentsAfter(eq(0L), any(Pageable.class)))
+                    .willReturn(List.of(new PostDocument(1L, 1L, "스프링 게시판", "JPA 공부")));
+            given(postRepository.findDocumentsAfter(eq(1L), any(Pageable.class))).willReturn(List.of());
+            postSearchService.openIndex();
+            postSearchService.close();
+
+            // When: 같은 디렉터리로 새 서비스를 띄우면
+            given(postRepository.findDocumentsUpdatedSince(any(), eq(0L), any(Pageable.class)))
+                    .willReturn(List.of(new PostDocument(2L, 1L, "게시판 공지", "새 글")));
+            given(postRepository.findDocumentsUpdatedSince(any(), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of());
+            PostSearchService restarted = createService();
+            restarted.openIndex();
+            given(postRepository.findAllWithUserAndCategoryByIdIn(anyCollection())) // 순서는 BM25 점수를 따른다
+                    .willReturn(List.of(createPost(1L, "스프링 게시판", "JPA 공부", testCategory),
+                                        createPost(2L, "게시판 공지", "새 글", testCategory)));
+            SearchResponse response = restarted.search("게시판", null, 10);
+
+            // Then: 전체 재색인 없이 기존 문서와 수정분이 모두 검색된다
+            verify(postRepository, times(2)).findDocumentsAfter(anyLong(), any(Pageable.class));
+            assertThat(response.getTotalHits()).isEqualTo(2);
+            assertThat(resultIds(response)).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("성공: 실패했던 델타를 다시 기록하면 그 뒤 수정분은 기록된 것으로 보지 않는다")
+        void maintain_RetriedFlush_KeepsLaterEditsForCatchUp() throws Exception {
+            // Given: 첫 델타의 디스크 기록이 실패한 뒤
+            postSearchService.index(createPost(1L, "스프링 게시판", "JPA 공부", testCategory), "JPA 공부");
+            Path blocked = Files.createDirectory(indexDir.resolve("segment_000001.idx.tmp"));
+            postSearchService.maintain();
+            Thread.sleep(10);
+
+            // When: 새 델타에 수정분이 들어오고, 다음 주기에 실패했던 델타만 다시 기록되면
+            long editedAt = System.currentTimeMillis();
+            postSearchService.index(createPost(2L, "게시판 공지", "새 글", testCategory), "새 글");
+            Files.delete(blocked);
+            postSearchService.maintain();
+
+            // Then: 확정 시각은 수정 이전이라 재기동 따라잡기가 새 델타의 수정분을 다시 읽는다
+            assertThat(postSearchService.pendingDocuments()).isEqualTo(1);
+            assertThat(postSearchService.lastFlushedAt()).isLessThan(editedAt);
+        }
+
+        @Test
+        @DisplayName("성공: 삭제 표시가 기록되기 전에 중단되어도 재시작 후 삭제된 게시글이 검색되지 않는다")
+        void openIndex_CrashAfterRemove_KeepsPostDeleted() {
+            // Given: 디스크 세그먼트에 기록된 게시글이 삭제된 직후, 주기 작업 전에 프로세스가 중단되었을 때
+            postSearchService.index(createPost(1L, "삭제될 게시판 글", "내용", testCategory), "내용");
+            postSearchService.index(createPost(2L, "남을 게시판 글", "내용", testCategory), "내용");
+            postSearchService.maintain();
+            postSearchService.remove(1L);
+
+            // When: 같은 디렉터리로 새 서비스를 띄우면 (삭제된 행은 따라잡기 결과에 없다)
+            given(postRepository.findDocumentsUpdatedSince(any(), eq(0L), any(Pageable.class))).willReturn(List.of());
+            PostSearchService restarted = createService();
+            restarted.openIndex();
+            given(postRepository.findAllWithUserAndCategoryByIdIn(List.of(2L)))
+                    .willReturn(List.of(createPost(2L, "남을 게시판 글", "내용", testCategory)));
+            SearchResponse response = restarted.search("게시판", null, 10);
+
+            // Then: 삭제 로그가 다시 적용되어 남은 게시글만 검색된다
+            assertThat(response.getTotalHits()).isEqualTo(1);
+            assertThat(resultIds(response)).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 기능")
+    class SearchTest {
+
+        @Test
+        @DisplayName("성공: 제목에 검색어가 있는 게시글이 본문에만 있는 게시글보다 먼저 나온다")
+        void search_TitleMatch_RanksHigher() {
+            // Given: 제목과 본문에 각각 검색어가 있는 게시글이 색인되어 있을 때
+            Post titleMatch = createPost(1L, "스프링 시큐리티 정리", "세션 인증 방식", testCategory);
+            Post contentMatch = createPost(2L, "오늘의 공부", "스프링 시큐리티 설정을 해봤다", testCategory);
+            postSearchService.index(titleMatch, "세션 인증 방식");
+            postSearchService.index(contentMatch, "스프링 시큐리티 설정을 해봤다");
+            given(postRepository.findAllWithUserAndCategoryByIdIn(List.of(1L, 2L))).willReturn(List.of(contentMatch, titleMatch));
+
+            // When: 검색하면
+            SearchResponse response = postSearchService.search("시큐리티", null, 10);
+
+            // Then: 점수 순서대로 반환된다
+            assertThat(resultIds(response)).containsExactly(1L, 2L);
+            assertThat(response.getTookMs()).isGreaterThanOrEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("성공: 카테고리로 검색 결과를 거른다")
+        void search_WithCategory_FiltersResults() {
+            // Given: 서로 다른 카테고리의 게시글이 색인되어 있을 때
+            Category otherCategory = Category.builder().name("질문게시판").build();
+            ReflectionTestUtils.setField(otherCategory, "id", 2L);
+            Post post1 = createPost(1L, "JPA 질문", "지연 로딩", testCategory);
+            Post post2 = createPost(2L, "JPA 답변", "페치 조인", otherCategory);
+            postSearchService.index(post1, "지연 로딩");
+            postSearchService.index(post2, "페치 조인");
+            given(postRepository.findAllWithUserAndCategoryByIdIn(List.of(2L))).willReturn(List.of(post2));
+
+            // When: 카테고리를 지정해 검색하면
+            SearchResponse response = postSearchService.search("jpa", 2L, 10);
+
+            // Then: 해당 카테고리 게시글만 반환된다
+            assertThat(resultIds(response)).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("성공: 수정된 게시글은 새 내용으로만 검색된다")
+        void search_AfterUpdate_UsesNewContent() {
+            // Given: 게시글이 색인된 뒤 제목이 바뀌었을 때
+            Post post = createPost(1L, "자바 스트림", "map filter", testCategory);
+            postSearchService.index(post, "map filter");
+            post.update("코틀린 코루틴", "launch async", testCategory);
+            postSearchService.index(post, "launch async");
+
+            // When & Then: 예전 제목으로는 검색되지 않는다
+            assertThat(postSearchService.search("스트림", null, 10).getTotalHits()).isZero();
+            given(postRepository.findAllWithUserAndCategoryByIdIn(List.of(1L))).willReturn(List.of(post));
+            assertThat(resultIds(postSearchService.search("코루틴", null, 10))).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 삭제된 게시글은 검색되지 않는다")
+        void search_AfterRemove_ExcludesPost() {
+            // Given: 게시글이 색인된 뒤 삭제되었을 때
+            postSearchService.index(createPost(1L, "삭제될 글", "내용", testCategory), "내용");
+            postSearchService.remove(1L);
+
+            // When: 검색하면
+            SearchResponse response = postSearchService.search("삭제", null, 10);
+
+            // Then: 결과가 없다
+            assertThat(response.getTotalHits()).isZero();
+            assertThat(response.getPosts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 빈 검색어는 빈 결과를 반환한다")
+        void search_BlankQuery_ReturnsEmpty() {
+            // When: 공백 검색어로 검색하면
+            SearchResponse response = postSearchService.search("  ", null, 10);
+
+            // Then: 결과가 없다
+            assertThat(response.getTotalHits()).isZero();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.board.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.domain.user.repository.UserRepository;
+import com.example.board.global.cache.CacheRegions;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 사용자 2차 캐시 통합 테스트
+ *
+ * Narrative: 요청마다 반복되는 사용자 ID 조회는 2차 캐시 리전에 적중하면 DB를 거치지 않는다.
+ *            적중/미스는 board.user 리전 통계의 증가분으로 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("사용자 2차 캐시 통합 테스트")
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository users;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        // 별도 트랜잭션으로 커밋해야 READ_WRITE 리전에 들어간다
+        String suffix = Long.toString(System.nanoTime(), 36);
+        userId = users.save(User.builder()
+                .loginId("l2" + suffix)
+                .password("encodedPassword")
+                .username("캐시" + suffix)
+                .role(Role.USER)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        users.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("미스: 캐시에 없으면 한 번 읽고 리전에 채운다")
+    void findById_Miss_LoadsAndCaches() {
+        // Given: 리전에서 사용자를 내보냈을 때
+        entityManagerFactory.getCache().evict(User.class, userId);
+        long misses = region().getMissCount();
+        long puts = region().getPutCount();
+
+        // When: 사용자를 조회하면
+        User foundUser = userService.findById(userId);
+
+        // Then: 리전 미스 한 번 뒤 DB에서 읽은 사용자가 리전에 들어간다
+        assertThat(foundUser.getId()).isEqualTo(userId);
+        assertThat(region().getMissCount() - misses).isEqualTo(1);
+        assertThat(region().getPutCount() - puts).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("적중: 캐시에 있으면 리전에서 돌려준다")
+    void findById_Hit_FromRegion() {
+        // Given: 저장 커밋으로 리전에 들어가 있을 때
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+        long hits = region().getHitCount();
+        long misses = region().getMissCount();
+
+        // When: 사용자를 조회하면
+        User foundUser = userService.findById(userId);
+
+        // Then: 미스 없이 한 번 적중하고 같은 사용자가 반환된다
+        assertThat(foundUser.getId()).isEqualTo(userId);
+        assertThat(foundUser.getRole()).isEqualTo(Role.USER);
+        assertThat(region().getHitCount() - hits).isEqualTo(1);
+        assertThat(region().getMissCount()).isEqualTo(misses);
+    }
+
+    private CacheRegionStatistics region() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(CacheRegions.USER);
+    }
+}
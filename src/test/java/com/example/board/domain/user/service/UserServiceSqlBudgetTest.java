@@ -0,0 +1,94 @@
+package com.example.board.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.board.domain.user.dto.LoginRequest;
+import com.example.board.domain.user.dto.SignupRequest;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+import com.example.board.support.sql.SqlBudget;
+import com.example.board.support.sql.SqlBudgetConfiguration;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * UserService SQL 문 수 통합 테스트
+ *
+ * Narrative: 회원가입은 중복 확인 두 번과 INSERT 하나, 로그인은 아이디 조회 한 번으로 끝난다.
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlBudgetConfiguration.class)
+@DisplayName("UserService SQL 문 수 통합 테스트")
+class UserServiceSqlBudgetTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(User.builder()
+                .loginId("userbudget")
+                .password(passwordEncoder.encode("password123"))
+                .username("예산회원")
+                .role(Role.USER)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("회원가입/로그인")
+    class SignupAndLogin {
+
+        @Test
+        @SqlBudget(select = 3, insert = 1)
+        @DisplayName("회원가입은 아이디/이름 중복 확인, 시퀀스(할당분이 떨어졌을 때), INSERT로 끝난다")
+        void signup_WithinBudget() {
+            // Given
+            SignupRequest request = new SignupRequest();
+            request.setLoginId("userbudgetnew");
+            request.setPassword("password123");
+            request.setUsername("새예산회원");
+
+            // When
+            Long userId = userService.signup(request);
+            entityManager.flush(); // 커밋 때 나갈 INSERT까지 센다
+
+            // Then
+            assertThat(userId).isNotNull();
+        }
+
+        @Test
+        @SqlBudget(select = 1)
+        @DisplayName("로그인은 아이디로 한 번 조회한다")
+        void login_SingleSelect() {
+            // Given
+            LoginRequest request = new LoginRequest();
+            request.setLoginId("userbudget");
+            request.setPassword("password123");
+
+            // When
+            User user = userService.login(request);
+
+            // Then
+            assertThat(user.getUsername()).isEqualTo("예산회원");
+        }
+    }
+}
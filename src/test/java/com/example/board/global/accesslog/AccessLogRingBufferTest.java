@@ -0,0 +1,137 @@
+package com.example.board.global.accesslog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AccessLogRingBuffer 단위 테스트
+ *
+ * Narrative: 요청 스레드는 접근 로그 기록을 넣을 때 절대 기다리지 않는다.
+ *            소비자가 밀리면 기록을 버리고 건수만 세며, 넣은 기록은 순서대로 한 번씩만 읽힌다.
+ */
+@DisplayName("AccessLogRingBuffer 단위 테스트")
+class AccessLogRingBufferTest {
+
+    private static boolean publish(AccessLogRingBuffer ring, int status) {
+        return ring.publish(1_700_000_000_000L, "GET", "/posts/{id}", status, 1_500, 7L, 3);
+    }
+
+    private static List<Integer> drainStatuses(AccessLogRingBuffer ring) {
+        List<Integer> statuses = new ArrayList<>();
+        ring.drain(record -> statuses.add(record.status()), Integer.MAX_VALUE);
+        return statuses;
+    }
+
+    @Nested
+    @DisplayName("넣기와 읽기")
+    class PublishTest {
+
+        @Test
+        @DisplayName("성공: 용량은 2의 거듭제곱으로 올림한다")
+        void capacity_RoundsUpToPowerOfTwo() {
+            assertThat(new AccessLogRingBuffer(1000).capacity()).isEqualTo(1024);
+            assertThat(new AccessLogRingBuffer(1024).capacity()).isEqualTo(1024);
+        }
+
+        @Test
+        @DisplayName("성공: 넣은 순서대로 읽고, 읽은 기록은 다시 읽히지 않는다")
+        void drain_ReturnsInOrderOnce() {
+            // Given
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(8);
+            publish(ring, 200);
+            publish(ring, 302);
+            publish(ring, 404);
+
+            // When & Then
+            assertThat(drainStatuses(ring)).containsExactly(200, 302, 404);
+            assertThat(drainStatuses(ring)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 한 번에 읽을 수를 제한하면 나머지는 다음 호출에서 읽는다")
+        void drain_RespectsMax() {
+            // Given
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(8);
+            for (int i = 0; i < 5; i++) {
+                publish(ring, 200 + i);
+            }
+
+            // When
+            int first = ring.drain(record -> { }, 3);
+
+            // Then
+            assertThat(first).isEqualTo(3);
+            assertThat(drainStatuses(ring)).containsExactly(203, 204);
+        }
+    }
+
+    @Nested
+    @DisplayName("가득 찬 경우")
+    class FullTest {
+
+        @Test
+        @DisplayName("성공: 가득 차면 기다리지 않고 버린 뒤 건수를 세고, 읽고 나면 다시 넣을 수 있다")
+        void publish_DropsWhenFull() {
+            // Given
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(4);
+            for (int i = 0; i < 4; i++) {
+                assertThat(publish(ring, 200)).isTrue();
+            }
+
+            // When
+            boolean accepted = publish(ring, 500);
+
+            // Then
+            assertThat(accepted).isFalse();
+            assertThat(ring.dropped()).isEqualTo(1);
+
+            drainStatuses(ring);
+            assertThat(publish(ring, 201)).isTrue();
+            assertThat(drainStatuses(ring)).containsExactly(201);
+        }
+
+        @Test
+        @DisplayName("성공: 여러 요청 스레드가 동시에 넣어도 받아들인 기록은 빠짐없이 한 번씩 읽힌다")
+        void publish_ConcurrentProducers() throws Exception {
+            // Given
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(1024);
+            int threads = 4;
+            int perThread = 5_000;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ring.publish(0L, "GET", "/", thread * perThread + i, 0L, 0L, 0);
+                    }
+                    return null;
+                });
+            }
+
+            // When: 소비자는 이 스레드 하나
+            Set<Integer> seen = new HashSet<>();
+            start.countDown();
+            executor.shutdown();
+            while (!executor.isTerminated()) {
+                ring.drain(record -> assertThat(seen.add(record.status())).isTrue(), 256);
+            }
+            ring.drain(record -> assertThat(seen.add(record.status())).isTrue(), Integer.MAX_VALUE);
+
+            // Then
+            assertThat(seen.size() + ring.dropped()).isEqualTo((long) threads * perThread);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.board.global.accesslog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * AccessLogWriter 단위 테스트
+ *
+ * Narrative: 기록 스레드는 링 버퍼의 기록을 한 줄에 하나씩 JSON으로 파일에 남기고,
+ *            버려진 기록 수도 로그에 드러나며, 파일이 커지면 지난 파일로 밀어낸다.
+ */
+@DisplayName("AccessLogWriter 단위 테스트")
+class AccessLogWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("JSON Lines 기록")
+    class EncodeTest {
+
+        @Test
+        @DisplayName("성공: 기록 하나가 JSON 한 줄이 되고, 비로그인/통계 없음 필드는 생략한다")
+        void pump_WritesJsonLines() throws Exception {
+            // Given
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(8);
+            Path file = dir.resolve("access.log");
+            ring.publish(1_700_000_000_123L, "GET", "/posts/{id}", 200, 1_234, 7L, 3);
+            ring.publish(1_700_000_000_456L, "POST", "/api/posts/{id}/like", 302, 56, 0L, -1);
+
+            // When
+            AccessLogWriter writer = new AccessLogWriter(ring, file, 1024 * 1024, 2, Duration.ofMillis(10));
+            writer.close();
+
+            // Then
+            assertThat(Files.readAllLines(file)).containsExactly(
+                    "{\"ts\":1700000000123,\"method\":\"GET\",\"route\":\"/posts/{id}\",\"status\":200,"
+                            + "\"latencyUs\":1234,\"userId\":7,\"queries\":3}",
+                    "{\"ts\":1700000000456,\"method\":\"POST\",\"route\":\"/api/posts/{id}/like\",\"status\":302,"
+                            + "\"latencyUs\":56}");
+            assertThat(writer.written()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("성공: 버퍼가 가득 차 버려진 기록 수를 별도 줄로 남긴다")
+        void pump_ReportsDrops() throws Exception {
+            // Given
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(2);
+            Path file = dir.resolve("access.log");
+            for (int i = 0; i < 5; i++) {
+                ring.publish(0L, "GET", "/", 200, 0L, 0L, -1);
+            }
+
+            // When
+            AccessLogWriter writer = new AccessLogWriter(ring, file, 1024 * 1024, 2, Duration.ofMillis(10));
+            writer.close();
+
+            // Then
+            List<String> lines = Files.readAllLines(file);
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(2)).contains("\"event\":\"dropped\",\"count\":3,\"total\":3");
+        }
+    }
+
+    @Nested
+    @DisplayName("파일 교체")
+    class RollTest {
+
+        @Test
+        @DisplayName("성공: 최대 크기를 넘기면 지난 파일로 밀고 max-history개만 남긴다")
+        void flush_RollsFiles() throws Exception {
+            // Given: 한 줄이 약 90바이트, 파일 최대 100바이트라 flush마다 교체된다
+            AccessLogRingBuffer ring = new AccessLogRingBuffer(8);
+            Path file = dir.resolve("access.log");
+            AccessLogWriter writer = new AccessLogWriter(ring, file, 100, 2, Duration.ofMillis(10));
+
+            // When
+            for (int i = 0; i < 4; i++) {
+                ring.publish(i, "GET", "/posts/{id}", 200, 1_000, 1L, 1);
+                while (writer.written() < i + 1) {
+                    Thread.sleep(5);
+                }
+            }
+            writer.close();
+
+            // Then
+            assertThat(file).exists();
+            assertThat(dir.resolve("access.log.1")).exists();
+            assertThat(dir.resolve("access.log.2")).exists();
+            assertThat(dir.resolve("access.log.3")).doesNotExist();
+            assertThat(Files.readString(file)).startsWith("{\"ts\":3,");
+        }
+    }
+}
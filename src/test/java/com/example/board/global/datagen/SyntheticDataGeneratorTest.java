@@ -0,0 +1,141 @@
+package com.example.board.global.datagen;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.board.domain.post.entity.LikeType;
+
+/**
+ * SyntheticDataGenerator 단위 테스트
+ *
+ * Narrative: 합성 데이터 생성기는 시드와 게시글 번호만으로 게시글 내용을 정하고,
+ *            카테고리/반응/댓글 수가 한쪽으로 몰리는 실제 게시판과 비슷한 분포를 만든다.
+ */
+@DisplayName("SyntheticDataGenerator 단위 테스트")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDateTime END = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private SyntheticDataGenerator generator(long seed) {
+        DataShape shape = DataShape.builder()
+                .seed(seed)
+                .users(500)
+                .categories(20)
+                .posts(5_000)
+                .days(30)
+                .build();
+        return new SyntheticDataGenerator(null, "hash", shape, END);
+    }
+
+    @Nested
+    @DisplayName("결정성")
+    class DeterminismTest {
+
+        @Test
+        @DisplayName("성공: 같은 시드면 같은 게시글, 다른 시드면 다른 게시글이 만들어진다")
+        void plan_SameSeed_SameContent() {
+            // When
+            SyntheticDataGenerator.PlannedPost first = generator(42L).plan(123);
+            SyntheticDataGenerator.PlannedPost again = generator(42L).plan(123);
+            SyntheticDataGenerator.PlannedPost other = generator(7L).plan(123);
+
+            // Then: 레코드 동등성으로 댓글/반응까지 모두 비교한다
+            assertThat(again).isEqualTo(first);
+            assertThat(other).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("성공: 작성 시각은 게시글 번호 순서이고 기간 안에 있다")
+        void plan_CreatedAt_FollowsIndexOrder() {
+            // Given
+            SyntheticDataGenerator generator = generator(42L);
+
+            // When
+            List<LocalDateTime> createdAt = IntStream.range(0, 5_000)
+                    .mapToObj(index -> generator.plan(index).createdAt())
+                    .toList();
+
+            // Then
+            assertThat(createdAt).isSorted();
+            assertThat(createdAt.get(0)).isAfterOrEqualTo(END.minusDays(30));
+            assertThat(createdAt.get(createdAt.size() - 1)).isBefore(END);
+        }
+    }
+
+    @Nested
+    @DisplayName("분포")
+    class DistributionTest {
+
+        @Test
+        @DisplayName("성공: 카테고리별 게시글 수가 Zipf 분포처럼 앞 순위에 몰린다")
+        void plan_Categories_AreSkewed() {
+            // Given
+            SyntheticDataGenerator generator = generator(42L);
+            int[] counts = new int[20];
+
+            // When
+            IntStream.range(0, 5_000).forEach(index -> counts[generator.plan(index).categoryRank()]++);
+
+            // Then: 1위가 10위보다 훨씬 많고, 상위 3개가 전체의 절반 가까이를 차지한다
+            assertThat(counts[0]).isGreaterThan(counts[9] * 5);
+            assertThat(counts[0] + counts[1] + counts[2]).isGreaterThan(2_000);
+        }
+
+        @Test
+        @DisplayName("성공: 반응 수는 소수 게시글에 몰리는 긴 꼬리를 가진다")
+        void plan_Reactions_HaveLongTail() {
+            // Given
+            SyntheticDataGenerator generator = generator(42L);
+
+            // When
+            int[] reactions = IntStream.range(0, 5_000).map(index -> generator.plan(index).likes().size()).sorted().toArray();
+
+            // Then: 중앙값은 평균(10)보다 작고, 최댓값은 평균보다 훨씬 크다
+            assertThat(reactions[reactions.length / 2]).isLessThan(10);
+            assertThat(reactions[reactions.length - 1]).isGreaterThan(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 구성")
+    class StructureTest {
+
+        @Test
+        @DisplayName("성공: 한 게시글의 좋아요/북마크 사용자는 겹치지 않고, 답글은 앞선 최상위 댓글을 부모로 가진다")
+        void plan_ReactionsAndCommentTree_AreConsistent() {
+            // Given
+            SyntheticDataGenerator generator = generator(42L);
+
+            IntStream.range(0, 1_000).mapToObj(generator::plan).forEach(post -> {
+                // Then: (게시글, 사용자)당 반응은 하나
+                Set<Integer> likers = new HashSet<>();
+                post.likes().forEach(like -> assertThat(likers.add(like.userRank())).isTrue());
+                Set<Integer> bookmarkers = new HashSet<>();
+                post.bookmarks().forEach(bookmark -> assertThat(bookmarkers.add(bookmark.userRank())).isTrue());
+                assertThat(post.count(LikeType.LIKE) + post.count(LikeType.DISLIKE)).isEqualTo(post.likes().size());
+
+                // Then: 답글의 부모는 자신보다 앞의 최상위 댓글이고, 부모보다 나중에 작성된다
+                List<SyntheticDataGenerator.PlannedComment> comments = post.comments();
+                for (int i = 0; i < comments.size(); i++) {
+                    SyntheticDataGenerator.PlannedComment comment = comments.get(i);
+                    assertThat(comment.createdAt()).isAfterOrEqualTo(post.createdAt());
+                    if (comment.parent() >= 0) {
+                        SyntheticDataGenerator.PlannedComment parent = comments.get(comment.parent());
+                        assertThat(comment.parent()).isLessThan(i);
+                        assertThat(parent.parent()).isEqualTo(-1);
+                        assertThat(comment.createdAt()).isAfterOrEqualTo(parent.createdAt());
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.board.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * BulkheadRoutingDataSource 통합 테스트 (내장 PostgreSQL)
+ *
+ * Narrative: 사용자 요청의 읽기/쓰기와 배경 작업은 서로 다른 커넥션 풀을 쓴다.
+ *            배경 작업이 자기 풀을 다 써도 게시글 조회는 커넥션을 기다리지 않는다.
+ *            읽기 전용 트랜잭션은 복제본(interactive-read)으로 가되, 방금 쓴 세션은 자기 글을 보도록 주 DB에 남는다.
+ *            어느 풀의 커넥션인지는 PostgreSQL application_name으로 확인한다.
+ */
+@DisplayName("BulkheadRoutingDataSource 통합 테스트")
+class BulkheadRoutingDataSourceTest {
+
+    private static EmbeddedPostgres postgres;
+    private static SimpleMeterRegistry registry;
+    private static BulkheadDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readOnly;
+    private static TransactionTemplate readWrite;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Map<Bulkhead, HikariDataSource> pools = new EnumMap<>(Bulkhead.class);
+        pools.put(Bulkhead.INTERACTIVE_READ, pool(Bulkhead.INTERACTIVE_READ, 2));
+        pools.put(Bulkhead.INTERACTIVE_WRITE, pool(Bulkhead.INTERACTIVE_WRITE, 2));
+        pools.put(Bulkhead.BATCH, pool(Bulkhead.BATCH, 1));
+        registry = new SimpleMeterRegistry();
+        dataSource = new BulkheadDataSource(new BulkheadRoutingDataSource(pools, registry));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        dataSource.close();
+        postgres.close();
+    }
+
+    private static HikariDataSource pool(Bulkhead bulkhead, int size) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        return BulkheadDataSourceConfig.createPool(config, bulkhead, size, Duration.ofMillis(250), null);
+    }
+
+    private static String applicationName() {
+        return jdbcTemplate.queryForObject("select current_setting('application_name')", String.class);
+    }
+
+    // 트랜잭션 안에서 잡힌 커넥션의 풀 이름
+    private static String applicationName(TransactionTemplate template) {
+        return template.execute(status -> applicationName());
+    }
+
+    private static double routed(String pool, String reason) {
+        return registry.get("board.db.routing").tag("pool", pool).tag("reason", reason).counter().count();
+    }
+
+    @Nested
+    @DisplayName("풀 선택")
+    class RoutingTest {
+
+        @Test
+        @DisplayName("성공: 읽기 전용 트랜잭션은 interactive-read 풀을 쓴다")
+        void readOnlyTransaction_UsesReadPool() {
+            assertThat(applicationName(readOnly)).isEqualTo("board-interactive-read");
+        }
+
+        @Test
+        @DisplayName("성공: 쓰기 트랜잭션과 트랜잭션 밖 접근은 interactive-write 풀을 쓴다")
+        void writeTransaction_UsesWritePool() {
+            assertThat(applicationName(readWrite)).isEqualTo("board-interactive-write");
+            assertThat(applicationName()).isEqualTo("board-interactive-write");
+        }
+
+        @Test
+        @DisplayName("성공: 배경 작업으로 지정되면 읽기 전용이어도 batch 풀을 쓴다")
+        void batchContext_OverridesReadOnly() {
+            // Given
+            Bulkhead previous = BulkheadContext.enter(Bulkhead.BATCH);
+            try {
+                // When & Then
+                assertThat(applicationName(readOnly)).isEqualTo("board-batch");
+            } finally {
+                BulkheadContext.restore(previous);
+            }
+
+            assertThat(BulkheadContext.current()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWritesTest {
+
+        @Test
+        @DisplayName("성공: 요청 안에서 쓰기 트랜잭션 뒤의 읽기 전용 트랜잭션은 주 DB(interactive-write)를 쓴다")
+        void readAfterWriteInSameRequest_UsesPrimary() {
+            // Given
+            ReadYourWrites.begin(false);
+            double pinnedBefore = routed("interactive-write", "read-your-writes");
+            try {
+                assertThat(applicationName(readOnly)).isEqualTo("board-interactive-read");
+
+                // When
+                readWrite.executeWithoutResult(status -> {
+                    ReadYourWrites.markWrite();
+                    applicationName();
+                });
+
+                // Then
+                assertThat(applicationName(readOnly)).isEqualTo("board-interactive-write");
+                assertThat(routed("interactive-write", "read-your-writes")).isEqualTo(pinnedBefore + 1);
+            } finally {
+                // Then: 쓰기가 있었음을 필터에 알린다
+                assertThat(ReadYourWrites.end()).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 사용자 쓰기로 표시되지 않은 쓰기 트랜잭션(조회수 증가) 뒤의 읽기는 복제본을 쓴다")
+        void unmarkedWriteTransaction_DoesNotPinReads() {
+            // Given
+            ReadYourWrites.begin(false);
+            try {
+                // When: 게시글 상세의 조회수 증가처럼 markWrite 없이 쓰기 트랜잭션을 실행하면
+                assertThat(applicationName(readWrite)).isEqualTo("board-interactive-write");
+
+                // Then: 이어지는 읽기는 복제본으로 간다
+                assertThat(applicationName(readOnly)).isEqualTo("board-interactive-read");
+            } finally {
+                // Then: 세션에 쓰기 시각을 남기지 않는다
+                assertThat(ReadYourWrites.end()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 최근에 쓴 세션의 요청은 처음부터 읽기도 주 DB를 쓴다")
+        void recentlyWroteSession_PinsReadsToPrimary() {
+            // Given
+            ReadYourWrites.begin(true);
+            try {
+                // When & Then
+                assertThat(applicationName(readOnly)).isEqualTo("board-interactive-write");
+            } finally {
+                assertThat(ReadYourWrites.end()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 요청이 끝나면 상태가 지워져 읽기 전용 트랜잭션은 다시 복제본을 쓴다")
+        void afterEnd_ReadsGoToReplica() {
+            // Given
+            ReadYourWrites.begin(true);
+            ReadYourWrites.end();
+            double readsBefore = routed("interactive-read", "read-only");
+
+            // When & Then
+            assertThat(applicationName(readOnly)).isEqualTo("board-interactive-read");
+            assertThat(routed("interactive-read", "read-only")).isEqualTo(readsBefore + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("격리")
+    class IsolationTest {
+
+        @Test
+        @DisplayName("성공: batch 풀이 모두 사용 중이어도 읽기 요청은 바로 커넥션을 받고, 다른 배경 작업만 대기 시간 후 실패한다")
+        void exhaustedBatchPool_DoesNotBlockReads() throws Exception {
+            // Given: 배경 작업 하나가 batch 풀의 유일한 커넥션을 붙잡고 있다
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Void> batchJob = CompletableFuture.runAsync(() -> {
+                Bulkhead previous = BulkheadContext.enter(Bulkhead.BATCH);
+                try {
+                    readWrite.executeWithoutResult(status -> {
+                        applicationName();
+                        holding.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } finally {
+                    BulkheadContext.restore(previous);
+                }
+            });
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                // When & Then: 사용자 읽기는 영향 없음
+                assertThat(applicationName(readOnly)).isEqualTo("board-interactive-read");
+
+                // When & Then: 두 번째 배경 작업은 batch 풀 대기 시간(250ms) 뒤 실패
+                Bulkhead previous = BulkheadContext.enter(Bulkhead.BATCH);
+                try {
+                    assertThatThrownBy(() -> readOnly.execute(status -> applicationName()))
+                            .isInstanceOf(DataAccessException.class)
+                            .hasCauseInstanceOf(SQLTransientConnectionException.class);
+                } finally {
+                    BulkheadContext.restore(previous);
+                }
+            } finally {
+                release.countDown();
+                batchJob.get(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
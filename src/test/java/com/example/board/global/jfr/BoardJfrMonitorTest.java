@@ -0,0 +1,116 @@
+package com.example.board.global.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoardJfrMonitor 단위 테스트
+ *
+ * Narrative: 스트림으로 받은 도메인 이벤트는 작업별 최근 구간에서 백분위와 할당량으로 요약되고,
+ *            임계값을 넘은 이벤트는 게시글/사용자 ID와 함께 최근 느린 작업 목록에 남는다.
+ */
+@DisplayName("BoardJfrMonitor 단위 테스트")
+class BoardJfrMonitorTest {
+
+    private final BoardJfrMonitor monitor =
+            new BoardJfrMonitor(100, Duration.ofMillis(200), Duration.ofSeconds(1), 2);
+
+    private void record(String operation, long millis, long allocatedBytes) {
+        monitor.record(operation, Duration.ofMillis(millis).toNanos(), allocatedBytes,
+                1L, 0L, "http-nio-8080-exec-1", Instant.now());
+    }
+
+    private JfrStatsResponse.Operation stats(String operation) {
+        return monitor.snapshot().getOperations().stream()
+                .filter(o -> o.getOperation().equals(operation))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("작업별 통계")
+    class WindowTest {
+
+        @Test
+        @DisplayName("성공: 최근 이벤트로 p50/p99/최대 지연과 평균/최대 할당량을 계산한다")
+        void snapshot_SummarizesWindow() {
+            // Given
+            for (int i = 1; i <= 100; i++) {
+                record("PostRead", i, i * 1000L);
+            }
+
+            // When
+            JfrStatsResponse.Operation postRead = stats("PostRead");
+
+            // Then
+            assertThat(postRead.getCount()).isEqualTo(100);
+            assertThat(postRead.getSamples()).isEqualTo(100);
+            assertThat(postRead.getP50Ms()).isEqualTo(50.0);
+            assertThat(postRead.getP99Ms()).isEqualTo(99.0);
+            assertThat(postRead.getMaxMs()).isEqualTo(100.0);
+            assertThat(postRead.getAvgAllocatedBytes()).isEqualTo(50_500L);
+            assertThat(postRead.getMaxAllocatedBytes()).isEqualTo(100_000L);
+        }
+
+        @Test
+        @DisplayName("성공: 구간 크기를 넘으면 오래된 이벤트는 통계에서 빠지고 누적 수만 남는다")
+        void snapshot_KeepsOnlyRecentEvents() {
+            // Given: 느린 이벤트 100개 뒤에 빠른 이벤트 100개
+            for (int i = 0; i < 100; i++) {
+                record("CommentPage", 150, 0L);
+            }
+            for (int i = 0; i < 100; i++) {
+                record("CommentPage", 5, 0L);
+            }
+
+            // When
+            JfrStatsResponse.Operation commentPage = stats("CommentPage");
+
+            // Then
+            assertThat(commentPage.getCount()).isEqualTo(200);
+            assertThat(commentPage.getSamples()).isEqualTo(100);
+            assertThat(commentPage.getMaxMs()).isEqualTo(5.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("느린 작업")
+    class SlowOperationTest {
+
+        @Test
+        @DisplayName("성공: 임계값을 넘은 작업만 최근 것부터 최대 개수까지 보관한다")
+        void record_KeepsRecentSlowOperations() {
+            // Given
+            record("PostRead", 10, 0L);
+            record("PostRead", 250, 0L);
+            record("ReactionToggle", 300, 0L);
+            record("BookmarkToggle", 400, 0L);
+
+            // When
+            JfrStatsResponse snapshot = monitor.snapshot();
+
+            // Then
+            assertThat(snapshot.getSlowOperations())
+                    .extracting(JfrStatsResponse.SlowOperation::getOperation)
+                    .containsExactly("BookmarkToggle", "ReactionToggle");
+            assertThat(stats("PostRead").getSlowCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 비밀번호 해시는 별도 임계값을 적용한다")
+        void record_UsesPasswordHashThreshold() {
+            // When
+            record("PasswordHash.login", 500, 0L);
+
+            // Then
+            assertThat(monitor.snapshot().getSlowOperations()).isEmpty();
+            assertThat(stats("PasswordHash.login").getSlowCount()).isZero();
+        }
+    }
+}
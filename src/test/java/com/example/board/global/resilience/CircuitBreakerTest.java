@@ -0,0 +1,129 @@
+package com.example.board.global.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreaker 단위 테스트
+ *
+ * Narrative: 최근 호출의 실패율이 기준을 넘으면 일정 시간 호출을 막고,
+ *            그 뒤 시험 호출 하나의 결과로 다시 닫을지 열어 둘지 정한다.
+ */
+@DisplayName("CircuitBreaker 단위 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    // 최근 4번 중 최소 4번, 실패율 50% 이상이면 10초간 연다
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 4, 50, Duration.ofSeconds(10), now::get);
+
+    private void call(boolean fail) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (fail) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    @Nested
+    @DisplayName("열림")
+    class OpenTest {
+
+        @Test
+        @DisplayName("성공: 최소 호출 수가 쌓이기 전에는 실패가 이어져도 닫혀 있다")
+        void belowMinimumCalls_StaysClosed() {
+            // When
+            call(true);
+            call(true);
+            call(true);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("성공: 최근 창의 실패율이 기준 이상이면 열리고 호출을 거절한다")
+        void failureRateReached_Opens() {
+            // When
+            call(false);
+            call(true);
+            call(false);
+            call(true);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquire()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 창 밖으로 밀려난 오래된 실패는 세지 않는다")
+        void oldFailures_SlideOut() {
+            // Given
+            call(true);
+            call(false);
+            call(false);
+            call(false);
+
+            // When: 첫 실패가 밀려나고 새 실패 하나 (4번 중 1번)
+            call(true);
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("반열림")
+    class HalfOpenTest {
+
+        private void trip() {
+            for (int i = 0; i < 4; i++) {
+                call(true);
+            }
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("성공: 열린 시간이 지나면 시험 호출 하나만 통과시키고, 성공하면 닫는다")
+        void probeSucceeds_Closes() {
+            // Given
+            trip();
+            now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // When
+            assertThat(breaker.tryAcquire()).isTrue();
+            assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출 중에는 다른 호출을 막는다
+            breaker.onSuccess();
+
+            // Then: 기록이 초기화되어 실패 3번으로는 다시 열리지 않는다
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            call(true);
+            call(true);
+            call(true);
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("성공: 시험 호출이 실패하면 다시 열린 시간만큼 막는다")
+        void probeFails_Reopens() {
+            // Given
+            trip();
+            now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // When
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+
+            // Then
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            now.addAndGet(Duration.ofSeconds(9).toNanos());
+            assertThat(breaker.tryAcquire()).isFalse();
+        }
+    }
+}
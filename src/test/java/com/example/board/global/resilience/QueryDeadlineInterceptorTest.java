@@ -0,0 +1,59 @@
+package com.example.board.global.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * QueryDeadlineInterceptor 단위 테스트
+ *
+ * Narrative: 요청이 끝나거나 비동기 처리로 넘어가 컨테이너 스레드가 풀로 돌아갈 때
+ *            그 스레드에 쿼리 마감 시각이 남아 있으면 안 된다.
+ */
+@DisplayName("QueryDeadlineInterceptor 단위 테스트")
+class QueryDeadlineInterceptorTest {
+
+    private final QueryDeadlineInterceptor interceptor =
+            new QueryDeadlineInterceptor(new MockEnvironment(), Duration.ofSeconds(1));
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        QueryDeadlineContext.clear();
+    }
+
+    @Test
+    @DisplayName("성공: 비동기 처리가 시작되면 요청 스레드의 마감 시각을 지운다")
+    void afterConcurrentHandlingStarted_ClearsDeadline() {
+        // Given: 핸들러 진입으로 마감 시각이 정해졌을 때
+        interceptor.preHandle(request, response, new Object());
+        assertThat(QueryDeadlineContext.active()).isTrue();
+
+        // When: 핸들러가 비동기 처리로 넘어가면
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // Then: 컨테이너 스레드에는 마감 시각이 남지 않는다
+        assertThat(QueryDeadlineContext.active()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 요청이 끝나면 마감 시각을 지운다")
+    void afterCompletion_ClearsDeadline() {
+        // Given: 핸들러 진입으로 마감 시각이 정해졌을 때
+        interceptor.preHandle(request, response, new Object());
+
+        // When: 요청이 끝나면
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Then: 마감 시각이 지워진다
+        assertThat(QueryDeadlineContext.active()).isFalse();
+    }
+}
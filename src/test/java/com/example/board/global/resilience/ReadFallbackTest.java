@@ -0,0 +1,164 @@
+package com.example.board.global.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ReadFallback 단위 테스트
+ *
+ * Narrative: DB가 멈추면 홈 목록과 인기 게시글은 마지막으로 성공한 결과를 stale 표시와 함께 보여주고,
+ *            차단기가 열린 동안에는 DB를 부르지 않는다. 보관본이 없으면 503으로 바로 실패한다.
+ */
+@DisplayName("ReadFallback 단위 테스트")
+class ReadFallbackTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // 최근 2번 모두 실패하면 10초간 연다
+    private final ReadFallback readFallback = new ReadFallback(
+            new CircuitBreaker(2, 2, 100, Duration.ofSeconds(10), now::get), 2, CLOCK, registry);
+
+    private static Supplier<List<String>> timingOut() {
+        return () -> {
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        };
+    }
+
+    private double count(String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).counter().count();
+    }
+
+    @Nested
+    @DisplayName("대체 응답")
+    class FallbackTest {
+
+        @Test
+        @DisplayName("성공: DB 오류가 나면 마지막으로 성공한 결과를 stale 표시와 보관 시각과 함께 준다")
+        void databaseFailure_ServesLastGoodSnapshot() {
+            // Given
+            ReadFallback.Result<List<String>> fresh = readFallback.read("home", () -> List.of("첫 글", "둘째 글"));
+
+            // When
+            ReadFallback.Result<List<String>> stale = readFallback.read("home", timingOut());
+
+            // Then
+            assertThat(fresh.stale()).isFalse();
+            assertThat(stale.stale()).isTrue();
+            assertThat(stale.value()).containsExactly("첫 글", "둘째 글");
+            assertThat(stale.capturedAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0));
+            assertThat(count("board.stale.served", "result", "hit")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패: 보관본이 없으면 DatabaseUnavailableException을 던진다")
+        void noSnapshot_Throws() {
+            // When & Then
+            assertThatThrownBy(() -> readFallback.read("home", timingOut()))
+                    .isInstanceOf(DatabaseUnavailableException.class)
+                    .hasCauseInstanceOf(QueryTimeoutException.class);
+            assertThat(count("board.stale.served", "result", "miss")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 보관 변환이 null을 돌려주면 (인기 글이 아니면) 보관하지 않는다")
+        void snapshotFilter_SkipsColdEntries() {
+            // Given
+            readFallback.read("post:1", () -> List.of("식은 글"), value -> null);
+
+            // When & Then
+            assertThatThrownBy(() -> readFallback.read("post:1", timingOut()))
+                    .isInstanceOf(DatabaseUnavailableException.class);
+        }
+
+        @Test
+        @DisplayName("성공: 보관본은 최근에 쓴 max-entries개만 남긴다")
+        void snapshots_AreBounded() {
+            // Given
+            readFallback.read("a", () -> List.of("a"));
+            readFallback.read("b", () -> List.of("b"));
+            readFallback.read("c", () -> List.of("c"));
+
+            // When & Then
+            assertThatThrownBy(() -> readFallback.read("a", timingOut()))
+                    .isInstanceOf(DatabaseUnavailableException.class);
+            assertThat(readFallback.read("c", timingOut()).value()).containsExactly("c");
+        }
+
+        @Test
+        @DisplayName("성공: 업무 예외는 DB 장애로 세지 않고 그대로 던진다")
+        void businessException_PassesThrough() {
+            // When & Then
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> readFallback.read("post:404", () -> {
+                    throw new IllegalArgumentException("존재하지 않는 게시글입니다.");
+                })).isInstanceOf(IllegalArgumentException.class);
+            }
+            assertThat(readFallback.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+    }
+
+    @Nested
+    @DisplayName("회로 차단")
+    class BreakerTest {
+
+        @Test
+        @DisplayName("성공: 차단기가 열린 동안에는 DB를 부르지 않고 보관본을 준다")
+        void open_SkipsLoader() {
+            // Given: 보관본을 만든 뒤 연속 실패로 연다
+            readFallback.read("home", () -> List.of("글"));
+            readFallback.read("home", timingOut());
+            readFallback.read("home", timingOut());
+            assertThat(readFallback.degraded()).isTrue();
+
+            // When
+            AtomicInteger loads = new AtomicInteger();
+            ReadFallback.Result<List<String>> result = readFallback.read("home", () -> {
+                loads.incrementAndGet();
+                return List.of("새 글");
+            });
+
+            // Then
+            assertThat(loads).hasValue(0);
+            assertThat(result.stale()).isTrue();
+            assertThat(result.value()).containsExactly("글");
+            assertThat(count("board.db.circuit.calls", "outcome", "rejected")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공: 열린 시간이 지나 시험 호출이 성공하면 다시 새 결과를 준다")
+        void afterOpenDuration_Recovers() {
+            // Given
+            readFallback.read("home", () -> List.of("글"));
+            readFallback.read("home", timingOut());
+            readFallback.read("home", timingOut());
+
+            // When
+            now.addAndGet(Duration.ofSeconds(10).toNanos());
+            ReadFallback.Result<List<String>> result = readFallback.read("home", () -> List.of("새 글"));
+
+            // Then
+            assertThat(result.stale()).isFalse();
+            assertThat(result.value()).containsExactly("새 글");
+            assertThat(readFallback.degraded()).isFalse();
+            assertThat(registry.get("board.db.circuit.state").gauge().value()).isZero();
+        }
+    }
+}
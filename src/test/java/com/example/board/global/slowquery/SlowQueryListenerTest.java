@@ -0,0 +1,162 @@
+package com.example.board.global.slowquery;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * SlowQueryListener 단위 테스트
+ *
+ * Narrative: 임계값을 넘은 문장은 항상, 빠른 문장은 초당 정해진 수만 로그 한 줄로 만들어지고,
+ *            그 줄에는 문장을 부른 위치가 들어가 SQL 전체 출력 없이도 원인을 찾을 수 있다.
+ *            바인딩된 값은 느린 문장에만 남기며, 비밀번호/로그인 ID/본문 컬럼 값은 가린다.
+ */
+@DisplayName("SlowQueryListener 단위 테스트")
+class SlowQueryListenerTest {
+
+    private final SlowQueryWriter writer = new SlowQueryWriter(16);
+    private final SlowQueryListener listener =
+            new SlowQueryListener(Duration.ofMillis(100), 2, 40, 5, List.of("password", "login_id", "content"), writer);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.close();
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+
+    private static QueryInfo query(String sql, Object... values) throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        List<ParameterSetOperation> operations = new java.util.ArrayList<>();
+        // 바인딩 순서와 상관없이 인덱스 순으로 남는지 보려고 거꾸로 넣는다
+        for (int i = values.length - 1; i >= 0; i--) {
+            operations.add(values[i] == null
+                    ? new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                            new Object[] {i + 1, java.sql.Types.VARCHAR})
+                    : new ParameterSetOperation(PreparedStatement.class.getMethod("setObject", int.class, Object.class),
+                            new Object[] {i + 1, values[i]}));
+        }
+        queryInfo.getParametersList().add(operations);
+        return queryInfo;
+    }
+
+    @Nested
+    @DisplayName("로그 줄")
+    class FormatTest {
+
+        @Test
+        @DisplayName("성공: 소요 시간, 호출 위치, 한 줄로 접은 SQL, 인덱스 순 파라미터를 남긴다")
+        void format_IncludesParametersAndOrigin() throws Exception {
+            // Given
+            QueryInfo queryInfo = query("select *\n  from post\n where post_id = ? and title = ? and category_id = ?",
+                    42L, "긴 제목입니다 정말로", null);
+
+            // When
+            String line = listener.format("slow", execution(150), List.of(queryInfo),
+                    new SlowQueryListener.Origin("PostService.getPost:80", "PostController.postDetail:45"));
+
+            // Then
+            assertThat(line).startsWith("slow-query kind=slow elapsedMs=150 success=true");
+            assertThat(line).contains("origin=PostService.getPost:80 handler=PostController.postDetail:45");
+            assertThat(line).contains("sql=\"select * from post where post_id = ? and...\"");
+            assertThat(line).endsWith("params=[42, '긴 제목입...', null]");
+        }
+
+        @Test
+        @DisplayName("성공: 바이트 배열 파라미터는 내용 대신 크기만 남긴다")
+        void format_SummarizesBinaryParameters() throws Exception {
+            // When
+            String line = listener.format("slow", execution(300), List.of(query("insert into attachment values (?)", new byte[2048])),
+                    new SlowQueryListener.Origin("-", "-"));
+
+            // Then
+            assertThat(line).endsWith("params=[<2048 bytes>]");
+        }
+
+        @Test
+        @DisplayName("성공: 표본으로 남긴 빠른 문장에는 파라미터 값을 남기지 않는다")
+        void format_Sample_OmitsParameters() throws Exception {
+            // When
+            String line = listener.format("sample", execution(3), List.of(query("select * from post where post_id = ?", 42L)),
+                    new SlowQueryListener.Origin("-", "-"));
+
+            // Then
+            assertThat(line).startsWith("slow-query kind=sample").doesNotContain("params=");
+        }
+
+        @Test
+        @DisplayName("성공: 느린 문장이라도 가릴 컬럼에 바인딩된 값은 <redacted>로 남긴다")
+        void format_Slow_RedactsSensitiveColumns() throws Exception {
+            // Given: UPDATE SET, WHERE 조건, INSERT 컬럼 목록에 가릴 컬럼이 섞여 있을 때
+            QueryInfo login = query("select u1_0.user_id from users u1_0 where u1_0.login_id=? and u1_0.role = ?",
+                    "alice", "USER");
+            QueryInfo insert = query("insert into users (created_at,login_id,password,role) values (?,?,?,?)",
+                    "2025-01-01", "alice", "{bcrypt}hash", "USER");
+            QueryInfo update = query("update comment set content=?,updated_at=? where comment_id=?", "본문", "2025-01-01", 7L);
+
+            // When
+            SlowQueryListener.Origin origin = new SlowQueryListener.Origin("-", "-");
+            String loginLine = listener.format("slow", execution(150), List.of(login), origin);
+            String insertLine = listener.format("slow", execution(150), List.of(insert), origin);
+            String updateLine = listener.format("slow", execution(150), List.of(update), origin);
+
+            // Then: 그 밖의 값은 그대로 남는다
+            assertThat(loginLine).endsWith("params=[<redacted>, 'USER']");
+            assertThat(insertLine).endsWith("params=['2025-...', <redacted>, <redacted>, 'USER']");
+            assertThat(updateLine).endsWith("params=[<redacted>, '2025-...', 7]");
+        }
+
+        @Test
+        @DisplayName("성공: 파라미터마다 바인딩되는 컬럼을 찾는다 (IN 목록, 문자열 리터럴 안의 ?는 제외)")
+        void parameterColumns_ResolvesColumns() {
+            // When
+            List<String> columns = SlowQueryListener.parameterColumns(
+                    "select * from post p where p.title like ? and p.post_id in (?, ?) and p.note = '?' and ? < 3");
+
+            // Then
+            assertThat(columns).containsExactly("title", "post_id", "post_id", null);
+        }
+
+        @Test
+        @DisplayName("성공: 호출 위치는 이 패키지를 건너뛴 가장 안쪽 애플리케이션 프레임이다")
+        void origin_SkipsOwnPackage() {
+            // When: 테스트 클래스 자체가 가장 안쪽 애플리케이션 프레임
+            SlowQueryListener.Origin origin = SlowQueryListener.origin();
+
+            // Then: 같은 패키지라 건너뛰므로 잡히는 프레임이 없다
+            assertThat(origin.caller()).isEqualTo("-");
+            assertThat(origin.handler()).isEqualTo("-");
+        }
+    }
+
+    @Nested
+    @DisplayName("빠른 쿼리 표본")
+    class SampleTest {
+
+        @Test
+        @DisplayName("성공: 같은 초에는 한도만큼만 통과하고, 다음 초가 되면 다시 센다")
+        void trySample_LimitsPerSecond() {
+            // When & Then
+            assertThat(listener.trySample(100)).isTrue();
+            assertThat(listener.trySample(100)).isTrue();
+            assertThat(listener.trySample(100)).isFalse();
+            assertThat(listener.trySample(101)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.board.global.sqlstats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * QueryStatsRegistry 단위 테스트
+ *
+ * Narrative: 요청별 SQL 통계는 핸들러 메서드 단위로 누적되고, 같은 모양의 문장을
+ *            값만 바꿔 반복하는 요청(N+1)과 문장 수 임계값을 넘은 요청을 따로 센다.
+ */
+@DisplayName("QueryStatsRegistry 단위 테스트")
+class QueryStatsRegistryTest {
+
+    private final QueryStatsRegistry registry =
+            new QueryStatsRegistry(10, Duration.ofSeconds(1), 3, Duration.ZERO);
+
+    private static RequestQueryStats request(String... statements) {
+        RequestQueryStats stats = new RequestQueryStats();
+        for (String sql : statements) {
+            stats.statementStarted();
+            stats.statementFinished(sql);
+        }
+        return stats;
+    }
+
+    @Nested
+    @DisplayName("문장 모양")
+    class ShapeTest {
+
+        @Test
+        @DisplayName("성공: 공백, 대소문자, 리터럴, IN 목록 길이가 달라도 같은 모양이 된다")
+        void of_IgnoresValues() {
+            // When
+            String first = SqlShape.of("SELECT * FROM users\n  WHERE user_id = 1 AND name = 'a' AND id IN (?, ?)");
+            String second = SqlShape.of("select * from users where user_id = 42 and name = 'it''s' and id in (?,?,?,?)");
+
+            // Then
+            assertThat(first).isEqualTo(second);
+            assertThat(first).isEqualTo("select * from users where user_id = ? and name = ? and id in (?...)");
+        }
+
+        @Test
+        @DisplayName("성공: 같은 문장은 다시 정규화하지 않고, 종류가 많아도 캐시는 상한을 넘지 않는다")
+        void of_CachesUpToLimit() {
+            // Given
+            String sql = "select p from post p where p.id = ?";
+            String shape = SqlShape.of(sql);
+
+            // When: 같은 문장과 상한보다 많은 종류의 리터럴 문장이 들어오면
+            String again = SqlShape.of(sql);
+            for (int i = 0; i <= SqlShape.MAX_CACHED; i++) {
+                assertThat(SqlShape.of("select * from post where title = 'title " + i + "'"))
+                        .isEqualTo("select * from post where title = ?");
+            }
+
+            // Then: 캐시된 같은 결과를 돌려주고, 캐시 크기는 상한 안에 머문다
+            assertThat(again).isSameAs(shape);
+            assertThat(SqlShape.cachedCount()).isLessThanOrEqualTo(SqlShape.MAX_CACHED);
+        }
+    }
+
+    @Nested
+    @DisplayName("핸들러별 집계")
+    class AggregateTest {
+
+        @Test
+        @DisplayName("성공: 요청 수, 평균/최대 문장 수를 핸들러별로 누적한다")
+        void record_AggregatesPerHandler() {
+            // Given
+            registry.record("PostController.postDetail", "GET", "/posts/1", 200,
+                    request("select p from post where id=?", "select u from users where id=?"));
+            registry.record("PostController.postDetail", "GET", "/posts/2", 200,
+                    request("select p from post where id=?", "select u from users where id=?",
+                            "select c from category where id=?", "select count(*) from comment"));
+            registry.record("HomeController.home", "GET", "/", 200, request("select p from post"));
+
+            // When
+            List<HandlerQueryStatsResponse> stats = registry.snapshot();
+
+            // Then: 전체 문장 수가 많은 핸들러가 앞선다
+            assertThat(stats).extracting(HandlerQueryStatsResponse::getHandler)
+                    .containsExactly("PostController.postDetail", "HomeController.home");
+            HandlerQueryStatsResponse detail = stats.get(0);
+            assertThat(detail.getRequests()).isEqualTo(2);
+            assertThat(detail.getAvgStatements()).isEqualTo(3.0);
+            assertThat(detail.getMaxStatements()).isEqualTo(4);
+            assertThat(detail.getFlaggedRequests()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: SQL을 실행하지 않은 요청은 세지 않는다")
+        void record_NoStatements_Ignored() {
+            // When
+            registry.record("HomeController.home", "GET", "/css/app.css", 200, request());
+
+            // Then
+            assertThat(registry.snapshot()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("임계값 초과 감지")
+    class FlagTest {
+
+        @Test
+        @DisplayName("성공: 같은 모양을 임계값 이상 반복한 요청은 N+1 의심으로 센다")
+        void record_RepeatedShape_Flagged() {
+            // Given: 게시글마다 작성자를 따로 조회
+            registry.record("HomeController.home", "GET", "/", 200, request(
+                    "select p from post",
+                    "select u from users where user_id = 1",
+                    "select u from users where user_id = 2",
+                    "select u from users where user_id = 3"));
+
+            // When
+            HandlerQueryStatsResponse home = registry.snapshot().get(0);
+
+            // Then
+            assertThat(home.getFlaggedRequests()).isEqualTo(1);
+            assertThat(home.getRepeatedShapeRequests()).isEqualTo(1);
+            assertThat(home.getLastRepeatedShape()).isEqualTo("select u from users where user_id = ?");
+            assertThat(home.getLastRepeatedCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("성공: 문장 수 임계값을 넘으면 반복이 없어도 경고 대상이다")
+        void record_TooManyStatements_Flagged() {
+            // Given
+            String[] statements = new String[11];
+            for (int i = 0; i < statements.length; i++) {
+                statements[i] = "select * from t" + (char) ('a' + i);
+            }
+            registry.record("PostController.postList", "GET", "/posts", 200, request(statements));
+
+            // When
+            HandlerQueryStatsResponse list = registry.snapshot().get(0);
+
+            // Then
+            assertThat(list.getFlaggedRequests()).isEqualTo(1);
+            assertThat(list.getRepeatedShapeRequests()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 초기화하면 누적 통계가 비워진다")
+        void reset_ClearsStats() {
+            // Given
+            registry.record("HomeController.home", "GET", "/", 200, request("select 1"));
+
+            // When
+            registry.reset();
+
+            // Then
+            assertThat(registry.snapshot()).isEmpty();
+        }
+    }
+}
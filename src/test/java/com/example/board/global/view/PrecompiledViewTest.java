@@ -0,0 +1,270 @@
+package com.example.board.global.view;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.example.board.domain.category.dto.CategoryResponse;
+import com.example.board.domain.comment.dto.CommentResponse;
+import com.example.board.domain.post.dto.PostResponse;
+import com.example.board.domain.user.entity.Role;
+import com.example.board.domain.user.entity.User;
+
+import gg.jte.ContentType;
+import gg.jte.TemplateEngine;
+
+/**
+ * PrecompiledView 출력 비교 테스트
+ *
+ * Narrative: 홈과 게시글 상세를 미리 컴파일한 템플릿으로 바꿔 그려도
+ *            사용자가 받는 HTML은 Thymeleaf 템플릿이 만들던 것과 한 글자도 달라지면 안 된다.
+ */
+@DisplayName("PrecompiledView 출력 비교 테스트")
+class PrecompiledViewTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 31, 9, 5, 7);
+    private static final long WRITER_ID = 7L;
+
+    private final SpringTemplateEngine thymeleaf = thymeleaf();
+    private final TemplateEngine jte = TemplateEngine.createPrecompiled(ContentType.Plain);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final Map<String, Object> model = new HashMap<>();
+
+    // ThymeleafAutoConfiguration과 같은 위치/모드로 templates/*.html을 읽는다
+    private static SpringTemplateEngine thymeleaf() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    private void assertSameOutput(String viewName) {
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+        String expected = thymeleaf.process(viewName, new WebContext(exchange, Locale.KOREA, model));
+
+        StringWriter actual = new StringWriter();
+        new PrecompiledView(jte, viewName + ".jte").render(model, request, response, actual);
+
+        assertThat(actual.toString()).isEqualTo(expected);
+    }
+
+    private void login() {
+        request.getSession().setAttribute("loginUserId", WRITER_ID);
+        model.put("loginUser", User.builder()
+                .loginId("writer")
+                .password("password")
+                .username("작성자 <관리자>")
+                .role(Role.USER)
+                .build());
+    }
+
+    private static PostResponse listed(long id, String title, String excerpt, String categoryName) {
+        return PostResponse.builder()
+                .id(id)
+                .title(title)
+                .excerpt(excerpt)
+                .writer("작성자")
+                .viewCount(id * 10)
+                .likeCount(id)
+                .categoryId(categoryName != null ? 1L : null)
+                .categoryName(categoryName)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    private static PostResponse detail(boolean owner, String categoryName) {
+        return PostResponse.builder()
+                .id(42L)
+                .title("제목 \"따옴표\" & <태그>")
+                .content("첫 줄\n<script>alert('x')</script>\n마지막 줄")
+                .writer("작성자")
+                .viewCount(128L)
+                .likeCount(3L)
+                .dislikeCount(null)
+                .categoryId(categoryName != null ? 1L : null)
+                .categoryName(categoryName)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .isOwner(owner)
+                .build();
+    }
+
+    private static CommentResponse comment(long id, long writerId, boolean deleted, List<CommentResponse> replies) {
+        return CommentResponse.builder()
+                .id(id)
+                .content(deleted ? "삭제된 댓글입니다." : "댓글 " + id + " <b>굵게</b> & 'quote'")
+                .writerName("댓글러" + id)
+                .writerId(writerId)
+                .createdAt(CREATED_AT.plusMinutes(id))
+                .isDeleted(deleted)
+                .isOwner(writerId == WRITER_ID)
+                .replies(replies)
+                .build();
+    }
+
+    private static Page<CommentResponse> page(int number, int totalPages) {
+        List<CommentResponse> content = List.of(comment(number * 10L + 1, 1L, false, null));
+        return new PageImpl<>(content, PageRequest.of(number, 10), totalPages * 10L);
+    }
+
+    @Nested
+    @DisplayName("홈")
+    class IndexTest {
+
+        @Test
+        @DisplayName("성공: 비로그인 상태에서 게시글과 카테고리가 없을 때 같은 HTML을 그린다")
+        void anonymousEmpty_SameOutput() {
+            // Given
+            model.put("posts", List.of());
+            model.put("categories", List.of());
+
+            // When & Then
+            assertSameOutput("index");
+        }
+
+        @Test
+        @DisplayName("성공: 로그인 사용자가 카테고리와 탭으로 거른 목록을 볼 때 같은 HTML을 그린다")
+        void loggedInFiltered_SameOutput() {
+            // Given
+            login();
+            model.put("posts", List.of(
+                    listed(3L, "<b>태그</b> & \"따옴표\" 'quote'", "요약 <i>본문</i>", "공지 & 안내"),
+                    listed(2L, "요약 없는 글", "   ", null),
+                    listed(1L, "카테고리 없는 글", null, "")));
+            model.put("categories", List.of(
+                    CategoryResponse.builder().id(1L).name("공지 & 안내").build(),
+                    CategoryResponse.builder().id(2L).name("<자유>").build()));
+            model.put("selectedCategoryId", 1L);
+            model.put("selectedTab", "hot");
+
+            // When & Then
+            assertSameOutput("index");
+        }
+
+        @Test
+        @DisplayName("성공: 컨텍스트 경로가 있고 주간 탭만 고른 경우에도 링크가 같다")
+        void contextPath_SameLinks() {
+            // Given
+            request.setContextPath("/board");
+            request.setRequestURI("/board/");
+            model.put("posts", List.of(listed(1L, "게시글", "요약", null)));
+            model.put("categories", List.of(CategoryResponse.builder().id(5L).name("질문").build()));
+            model.put("selectedTab", "weekly");
+
+            // When & Then
+            assertSameOutput("index");
+        }
+
+        @Test
+        @DisplayName("성공: 장애 중 마지막 성공 결과를 보여줄 때 안내 문구까지 같다")
+        void stale_SameOutput() {
+            // Given
+            request.getSession().setAttribute("loginUserId", WRITER_ID);
+            model.put("posts", List.of(listed(1L, "보관된 게시글", "요약", "공지")));
+            model.put("categories", List.of(CategoryResponse.builder().id(1L).name("공지").build()));
+            model.put("stale", true);
+            model.put("staleAt", CREATED_AT);
+
+            // When & Then
+            assertSameOutput("index");
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 상세")
+    class DetailTest {
+
+        @Test
+        @DisplayName("성공: 비로그인 상태에서 댓글이 없는 게시글을 볼 때 같은 HTML을 그린다")
+        void anonymousNoComments_SameOutput() {
+            // Given
+            model.put("post", detail(false, null));
+            model.put("loginUser", null);
+            model.put("isBookmarked", false);
+            model.put("comments", Page.<CommentResponse>empty(PageRequest.of(0, 10)));
+            model.put("totalCommentCount", 0L);
+
+            // When & Then
+            assertSameOutput("post/detail");
+        }
+
+        @Test
+        @DisplayName("성공: 작성자가 답글과 삭제된 댓글이 섞인 게시글을 볼 때 같은 HTML을 그린다")
+        void ownerWithReplies_SameOutput() {
+            // Given
+            login();
+            CommentResponse withReplies = comment(1L, WRITER_ID, false, List.of(
+                    comment(2L, 1L, false, null),
+                    comment(3L, WRITER_ID, true, null),
+                    comment(4L, WRITER_ID, false, null)));
+            CommentResponse deleted = comment(5L, WRITER_ID, true, null);
+            CommentResponse others = comment(6L, 1L, false, null);
+            model.put("post", detail(true, "공지 & 안내"));
+            model.put("isBookmarked", true);
+            model.put("comments", new PageImpl<>(List.of(withReplies, deleted, others), PageRequest.of(0, 10), 3));
+            model.put("totalCommentCount", 6L);
+
+            // When & Then
+            assertSameOutput("post/detail");
+        }
+
+        @Test
+        @DisplayName("성공: 댓글 페이지가 여럿일 때 처음/중간/마지막 페이지의 페이징이 같다")
+        void pagination_SameOutput() {
+            // Given
+            login();
+            model.put("post", detail(false, "자유"));
+            model.put("isBookmarked", false);
+            model.put("totalCommentCount", 60L);
+
+            // When & Then
+            for (int number : new int[] {0, 1, 3, 5}) {
+                model.put("comments", page(number, 6));
+                assertSameOutput("post/detail");
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 장애 중 보관된 게시글을 댓글 없이 보여줄 때 같은 HTML을 그린다")
+        void stale_SameOutput() {
+            // Given
+            request.getSession().setAttribute("loginUserId", WRITER_ID);
+            model.put("post", detail(false, "공지"));
+            model.put("stale", true);
+            model.put("staleAt", CREATED_AT);
+            model.put("loginUser", null);
+            model.put("isBookmarked", false);
+            model.put("comments", Page.<CommentResponse>empty(PageRequest.of(0, 10)));
+            model.put("totalCommentCount", 0L);
+
+            // When & Then
+            assertSameOutput("post/detail");
+        }
+    }
+}
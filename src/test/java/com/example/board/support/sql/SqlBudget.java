@@ -0,0 +1,37 @@
+package com.example.board.support.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 메서드 한 번이 실행할 수 있는 SQL 문 수 상한
+ *
+ * 테스트 메서드 본문 실행 중(@BeforeEach 준비 작업 제외) 현재 스레드가 실행한 문장을 종류별로 세어
+ * 상한을 넘으면 실패하고, 실행된 문장을 순서대로 출력한다. 지정하지 않은 종류의 상한은 0이다.
+ * 메서드에 붙인 값이 클래스(바깥 클래스 포함)에 붙인 값보다 우선한다.
+ *
+ * 문장은 SqlBudgetConfiguration이 감싼 DataSource를 거쳐야 기록되므로,
+ * 스프링 통합 테스트는 @Import(SqlBudgetConfiguration.class)를 함께 선언한다.
+ * Mockito 단위 테스트는 JDBC를 거치지 않으므로 붙이지 않는다.
+ *
+ * 예: @SqlBudget(select = 2, update = 1)
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    int select() default 0;
+
+    int insert() default 0;
+
+    int update() default 0;
+
+    int delete() default 0;
+}
@@ -0,0 +1,40 @@
+package com.example.board.support.sql;
+
+import java.util.List;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * 통합 테스트용 SQL 기록 리스너 (datasource-proxy)
+ *
+ * 실행되는 모든 JDBC 문장을 SqlStatementLog에 넘긴다. @SqlBudget과 함께 @Import해서 쓴다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlBudgetConfiguration {
+
+    // 앱의 공용 DataSource 프록시(DataSourceProxyConfig)가 다른 리스너와 함께 붙인다
+    @Bean
+    static QueryExecutionListener sqlBudgetListener() {
+        return new RecordingListener();
+    }
+
+    // 실행이 끝난 문장을 기록 (PreparedStatement 배치는 묶인 파라미터 수를 함께 남긴다)
+    private static final class RecordingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                SqlStatementLog.record(queryInfo.getQuery(), Math.max(queryInfo.getParametersList().size(), 1));
+            }
+        }
+    }
+}
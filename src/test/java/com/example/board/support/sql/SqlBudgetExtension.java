@@ -0,0 +1,77 @@
+package com.example.board.support.sql;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * @SqlBudget 검사 (테스트 메서드 본문 전후로 기록을 시작/종료하고 상한과 비교)
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementLog.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<SqlStatementLog.Statement> statements = SqlStatementLog.stop();
+        Optional<SqlBudget> budget = findBudget(context);
+        if (budget.isEmpty() || context.getExecutionException().isPresent()) {
+            return; // 이미 실패한 테스트는 원래 실패 원인을 가리지 않는다
+        }
+
+        Map<SqlStatementLog.Type, Integer> counts = new EnumMap<>(SqlStatementLog.Type.class);
+        statements.forEach(statement -> counts.merge(statement.type(), 1, Integer::sum));
+
+        StringBuilder violations = new StringBuilder();
+        check(violations, SqlStatementLog.Type.SELECT, budget.get().select(), counts);
+        check(violations, SqlStatementLog.Type.INSERT, budget.get().insert(), counts);
+        check(violations, SqlStatementLog.Type.UPDATE, budget.get().update(), counts);
+        check(violations, SqlStatementLog.Type.DELETE, budget.get().delete(), counts);
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder("SQL 문 수가 @SqlBudget 상한을 넘었습니다:")
+                .append(violations)
+                .append(System.lineSeparator())
+                .append("실행된 문장:");
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator())
+                    .append(String.format("  %2d. [%s] %s", i + 1, statements.get(i).type(), statements.get(i)));
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    private static void check(StringBuilder violations, SqlStatementLog.Type type, int limit,
+                              Map<SqlStatementLog.Type, Integer> counts) {
+        int actual = counts.getOrDefault(type, 0);
+        if (actual > limit) {
+            violations.append(String.format(" %s %d건 (상한 %d)", type, actual, limit));
+        }
+    }
+
+    // 메서드 -> 테스트 클래스 -> @Nested 바깥 클래스 순으로 찾는다
+    private static Optional<SqlBudget> findBudget(ExtensionContext context) {
+        Optional<SqlBudget> onMethod = context.getTestMethod()
+                .flatMap(method -> AnnotationSupport.findAnnotation(method, SqlBudget.class));
+        if (onMethod.isPresent()) {
+            return onMethod;
+        }
+        for (Class<?> type = context.getRequiredTestClass(); type != null; type = type.getEnclosingClass()) {
+            Optional<SqlBudget> onClass = AnnotationSupport.findAnnotation(type, SqlBudget.class);
+            if (onClass.isPresent()) {
+                return onClass;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.board.support.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 테스트 스레드별 SQL 실행 기록
+ *
+ * 기록은 start()를 호출한 스레드에서만 쌓인다. 기동 시 색인 구축이나 스케줄러처럼
+ * 다른 스레드가 실행한 문장은 테스트의 문장 수에 섞이지 않는다.
+ */
+public final class SqlStatementLog {
+    private static final ThreadLocal<List<Statement>> RECORDING = new ThreadLocal<>();
+
+    private SqlStatementLog() {
+    }
+
+    public enum Type {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        // 첫 키워드로 분류 (WITH ... SELECT는 조회로 본다)
+        static Type of(String sql) {
+            String trimmed = sql.stripLeading();
+            while (trimmed.startsWith("(")) {
+                trimmed = trimmed.substring(1).stripLeading();
+            }
+            int end = 0;
+            while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+                end++;
+            }
+            return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+                case "select", "with" -> SELECT;
+                case "insert" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+
+    // 실행된 문장 (배치는 한 번의 실행으로 세고 묶인 건수를 함께 남긴다)
+    public record Statement(Type type, String sql, int batchSize) {
+        @Override
+        public String toString() {
+            return batchSize > 1 ? sql + " (batch " + batchSize + ")" : sql;
+        }
+    }
+
+    public static void start() {
+        RECORDING.set(new ArrayList<>());
+    }
+
+    public static List<Statement> stop() {
+        List<Statement> statements = RECORDING.get();
+        RECORDING.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    static void record(String sql, int batchSize) {
+        List<Statement> statements = RECORDING.get();
+        if (statements != null) {
+            statements.add(new Statement(Type.of(sql), sql, batchSize));
+        }
+    }
+}